@@ -0,0 +1,64 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
+import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
+
+/**
+ * Filters the {@link RouteProgress} updates down to the ones which change what's displayed.
+ * <p>
+ * Most progress updates don't change the rounded step distance or the current instruction, so the
+ * instruction model is only created again when one of them changes.  The check compares rounded
+ * values, without formatting any text.
+ */
+class DisplayedProgressFilter {
+
+  private static final int NO_INDEX = -1;
+
+  private final RouteUtils routeUtils;
+  private int legIndex = NO_INDEX;
+  private int stepIndex = NO_INDEX;
+  private double stepDistanceRemaining;
+  private BannerInstructions currentBannerInstructions;
+
+  DisplayedProgressFilter(RouteUtils routeUtils) {
+    this.routeUtils = routeUtils;
+  }
+
+  /**
+   * The instruction model shows the step distance remaining and updates the instruction list
+   * when the current instruction changes.
+   *
+   * @param distanceFormatter used to display the distances
+   * @param routeProgress     with the latest progress
+   * @return true if the instruction model should be updated
+   */
+  boolean shouldUpdateInstruction(DistanceFormatter distanceFormatter, RouteProgress routeProgress) {
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    double newStepDistanceRemaining = legProgress.currentStepProgress().distanceRemaining();
+    BannerInstructions newBannerInstructions = routeUtils.findCurrentBannerInstructions(
+      legProgress.currentStep(), newStepDistanceRemaining
+    );
+    boolean isSameInstruction = legIndex == routeProgress.legIndex()
+      && stepIndex == legProgress.stepIndex()
+      && currentBannerInstructions == newBannerInstructions
+      && distanceFormatter.formatsToSameDistance(stepDistanceRemaining, newStepDistanceRemaining);
+    legIndex = routeProgress.legIndex();
+    stepIndex = legProgress.stepIndex();
+    stepDistanceRemaining = newStepDistanceRemaining;
+    currentBannerInstructions = newBannerInstructions;
+    return !isSameInstruction;
+  }
+
+  /**
+   * Lets the next progress update through, for when the displayed values have been cleared
+   * or are formatted differently.
+   */
+  void reset() {
+    legIndex = NO_INDEX;
+    stepIndex = NO_INDEX;
+    currentBannerInstructions = null;
+  }
+}
@@ -26,6 +26,7 @@ import com.mapbox.services.android.navigation.ui.v5.location.LocationEngineCondu
 import com.mapbox.services.android.navigation.ui.v5.route.OffRouteEvent;
 import com.mapbox.services.android.navigation.ui.v5.route.ViewRouteFetcher;
 import com.mapbox.services.android.navigation.ui.v5.route.ViewRouteListener;
+import com.mapbox.services.android.navigation.ui.v5.summary.SummaryCalculator;
 import com.mapbox.services.android.navigation.ui.v5.summary.SummaryModel;
 import com.mapbox.services.android.navigation.ui.v5.voice.NavigationSpeechPlayer;
 import com.mapbox.services.android.navigation.ui.v5.voice.SpeechAnnouncement;
@@ -50,16 +51,12 @@ import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
 import com.mapbox.services.android.navigation.v5.utils.LocaleUtils;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 
-import java.io.File;
 import java.util.List;
 
-import okhttp3.Cache;
-
 public class NavigationViewModel extends AndroidViewModel {
 
   private static final String EMPTY_STRING = "";
-  private static final String OKHTTP_INSTRUCTION_CACHE = "okhttp-instruction-cache";
-  private static final long TEN_MEGABYTE_CACHE_SIZE = 10 * 1024 * 1024;
+  private static final double ONE_SECOND_IN_MILLIS = 1000d;
 
   public final MutableLiveData<InstructionModel> instructionModel = new MutableLiveData<>();
   public final MutableLiveData<BannerInstructionModel> bannerInstructionModel = new MutableLiveData<>();
@@ -77,13 +74,16 @@ public class NavigationViewModel extends AndroidViewModel {
   private SpeechPlayer speechPlayer;
   private VoiceInstructionLoader voiceInstructionLoader;
   private VoiceInstructionCache voiceInstructionCache;
-  private int voiceInstructionsToAnnounce = 0;
+  private VoiceInstructionMilestone voiceInstructionMilestone;
   private ConnectivityManager connectivityManager;
   private RouteProgress routeProgress;
   private String feedbackId;
   private String screenshot;
   private String language;
   private RouteUtils routeUtils;
+  private DisplayedProgressFilter displayedProgressFilter;
+  private SummaryCalculator summaryCalculator;
+  private BannerInstructions bannerInstructions;
   private LocaleUtils localeUtils;
   private DistanceFormatter distanceFormatter;
   private String accessToken;
@@ -99,6 +99,7 @@ public class NavigationViewModel extends AndroidViewModel {
     initializeNavigationRouteEngine();
     initializeNavigationLocationEngine();
     routeUtils = new RouteUtils();
+    displayedProgressFilter = new DisplayedProgressFilter(routeUtils);
     localeUtils = new LocaleUtils();
   }
 
@@ -195,6 +196,7 @@ public class NavigationViewModel extends AndroidViewModel {
       LocationEngine locationEngine = initializeLocationEngineFrom(options);
       initializeNavigation(getApplication(), navigationOptions, locationEngine);
       addMilestones(options);
+      initializeVoiceInstructionMilestone();
     }
     initializeNavigationSpeechPlayer(options);
     routeFetcher.extractRouteOptions(options);
@@ -258,6 +260,8 @@ public class NavigationViewModel extends AndroidViewModel {
     String unitType = initializeUnitType(options);
     int roundingIncrement = initializeRoundingIncrement(options);
     distanceFormatter = new DistanceFormatter(getApplication(), language, unitType, roundingIncrement);
+    displayedProgressFilter.reset();
+    summaryCalculator = new SummaryCalculator(getApplication(), distanceFormatter, timeFormatType);
   }
 
   private void initializeNavigationSpeechPlayer(NavigationViewOptions options) {
@@ -269,14 +273,12 @@ public class NavigationViewModel extends AndroidViewModel {
     boolean isVoiceLanguageSupported = options.directionsRoute().voiceLanguage() != null;
     SpeechPlayerProvider speechPlayerProvider = initializeSpeechPlayerProvider(isVoiceLanguageSupported);
     this.speechPlayer = new NavigationSpeechPlayer(speechPlayerProvider);
-    this.voiceInstructionCache = new VoiceInstructionCache(navigation, voiceInstructionLoader);
+    this.voiceInstructionCache = new VoiceInstructionCache(voiceInstructionLoader);
   }
 
   @NonNull
   private SpeechPlayerProvider initializeSpeechPlayerProvider(boolean voiceLanguageSupported) {
-    Cache cache = new Cache(new File(getApplication().getCacheDir(), OKHTTP_INSTRUCTION_CACHE),
-      TEN_MEGABYTE_CACHE_SIZE);
-    voiceInstructionLoader = new VoiceInstructionLoader(getApplication(), accessToken, cache);
+    voiceInstructionLoader = new VoiceInstructionLoader(getApplication(), accessToken);
     return new SpeechPlayerProvider(getApplication(), language, voiceLanguageSupported, voiceInstructionLoader);
   }
 
@@ -307,13 +309,32 @@ public class NavigationViewModel extends AndroidViewModel {
     }
   }
 
+  /**
+   * Found up front, so the announcement lead distance applies from the first progress update.
+   */
+  private void initializeVoiceInstructionMilestone() {
+    for (Milestone milestone : navigation.getMilestones()) {
+      if (milestone instanceof VoiceInstructionMilestone) {
+        voiceInstructionMilestone = (VoiceInstructionMilestone) milestone;
+        return;
+      }
+    }
+  }
+
   private ProgressChangeListener progressChangeListener = new ProgressChangeListener() {
     @Override
     public void onProgressChange(Location location, RouteProgress routeProgress) {
       NavigationViewModel.this.routeProgress = routeProgress;
-      instructionModel.setValue(new InstructionModel(distanceFormatter, routeProgress));
-      summaryModel.setValue(new SummaryModel(getApplication(), distanceFormatter, routeProgress, timeFormatType));
+      if (displayedProgressFilter.shouldUpdateInstruction(distanceFormatter, routeProgress)) {
+        instructionModel.setValue(new InstructionModel(distanceFormatter, routeProgress));
+      }
+      SummaryModel model = summaryCalculator.calculate(routeProgress);
+      if (model != summaryModel.getValue()) {
+        summaryModel.setValue(model);
+      }
       navigationLocation.setValue(location);
+      voiceInstructionCache.preloadUpcomingInstructions(routeProgress);
+      updateAnnouncementLeadDistance(location);
       sendEventArrival(routeProgress);
     }
   };
@@ -332,7 +353,6 @@ public class NavigationViewModel extends AndroidViewModel {
   private MilestoneEventListener milestoneEventListener = new MilestoneEventListener() {
     @Override
     public void onMilestoneEvent(RouteProgress routeProgress, String instruction, Milestone milestone) {
-      voiceInstructionCache.cache();
       playVoiceAnnouncement(milestone);
       updateBannerInstruction(routeProgress, milestone);
     }
@@ -381,6 +401,12 @@ public class NavigationViewModel extends AndroidViewModel {
   };
 
   private void updateRoute(DirectionsRoute route) {
+    // The views are cleared while rerouting, so the new route is displayed in full
+    displayedProgressFilter.reset();
+    if (summaryCalculator != null) {
+      summaryCalculator.reset();
+    }
+    bannerInstructions = null;
     this.route.setValue(route);
     startNavigation(route);
     updateSimulatedRoute(route);
@@ -400,7 +426,6 @@ public class NavigationViewModel extends AndroidViewModel {
   private void startNavigation(DirectionsRoute route) {
     if (route != null) {
       navigation.startNavigation(route);
-      voiceInstructionsToAnnounce = 0;
       voiceInstructionCache.preCache(route);
     }
   }
@@ -427,10 +452,23 @@ public class NavigationViewModel extends AndroidViewModel {
     }
   }
 
+  /**
+   * Announcements are triggered the distance travelled at the current speed while the
+   * speech player prepares them ahead of time, so they start playing on time.
+   */
+  private void updateAnnouncementLeadDistance(Location location) {
+    boolean canMeasureLatency = speechPlayer instanceof NavigationSpeechPlayer;
+    if (voiceInstructionMilestone == null || !canMeasureLatency || !location.hasSpeed()) {
+      return;
+    }
+    long latencyMillis = ((NavigationSpeechPlayer) speechPlayer).retrieveAnnouncementLatency();
+    double leadDistance = location.getSpeed() * latencyMillis / ONE_SECOND_IN_MILLIS;
+    voiceInstructionMilestone.updateAnnouncementLeadDistance(leadDistance);
+  }
+
   private void playVoiceAnnouncement(Milestone milestone) {
     if (milestone instanceof VoiceInstructionMilestone) {
-      voiceInstructionsToAnnounce++;
-      voiceInstructionCache.update(voiceInstructionsToAnnounce);
+      voiceInstructionMilestone = (VoiceInstructionMilestone) milestone;
       SpeechAnnouncement announcement = SpeechAnnouncement.builder()
         .voiceInstructionMilestone((VoiceInstructionMilestone) milestone).build();
       announcement = retrieveAnnouncementFromSpeechEvent(announcement);
@@ -442,7 +480,8 @@ public class NavigationViewModel extends AndroidViewModel {
     if (milestone instanceof BannerInstructionMilestone) {
       BannerInstructions instructions = ((BannerInstructionMilestone) milestone).getBannerInstructions();
       instructions = retrieveInstructionsFromBannerEvent(instructions);
-      if (instructions != null) {
+      if (instructions != null && !instructions.equals(bannerInstructions)) {
+        bannerInstructions = instructions;
         BannerInstructionModel model = new BannerInstructionModel(distanceFormatter, routeProgress, instructions);
         bannerInstructionModel.setValue(model);
       }
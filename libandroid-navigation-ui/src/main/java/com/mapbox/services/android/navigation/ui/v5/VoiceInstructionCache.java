@@ -5,69 +5,64 @@ import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.VoiceInstructions;
 import com.mapbox.services.android.navigation.ui.v5.voice.VoiceInstructionLoader;
-import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Hands every voice instruction of a route to the {@link VoiceInstructionLoader} at once,
+ * which skips the ones already stored from previous routes.
+ * <p>
+ * As each step starts, the instructions of the current and upcoming step are preloaded into memory.
+ */
 class VoiceInstructionCache {
 
-  private static final int MAX_VOICE_INSTRUCTIONS_TO_CACHE = 10;
-  private static final int VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD = 5;
-  private final MapboxNavigation navigation;
+  private static final int NO_STEP = -1;
+
   private final VoiceInstructionLoader voiceInstructionLoader;
-  private int totalVoiceInstructions = 0;
-  private int currentVoiceInstructionsCachedIndex = 0;
-  private boolean isVoiceInstructionsToCacheThresholdReached = false;
+  private int preloadedLegIndex = NO_STEP;
+  private int preloadedStepIndex = NO_STEP;
 
-  VoiceInstructionCache(MapboxNavigation navigation, VoiceInstructionLoader voiceInstructionLoader) {
-    this.navigation = navigation;
+  VoiceInstructionCache(VoiceInstructionLoader voiceInstructionLoader) {
     this.voiceInstructionLoader = voiceInstructionLoader;
   }
 
   void preCache(DirectionsRoute route) {
-    totalVoiceInstructions = 0;
-    currentVoiceInstructionsCachedIndex = 0;
-    isVoiceInstructionsToCacheThresholdReached = false;
+    preloadedLegIndex = NO_STEP;
+    preloadedStepIndex = NO_STEP;
+    List<String> voiceInstructionsToCache = new ArrayList<>();
     for (int i = 0; i < route.legs().size(); i++) {
       RouteLeg leg = route.legs().get(i);
       for (int j = 0; j < leg.steps().size(); j++) {
-        LegStep step = leg.steps().get(j);
-        for (VoiceInstructions ignored : step.voiceInstructions()) {
-          totalVoiceInstructions++;
-        }
-      }
-    }
-    List<String> voiceInstructionsToCache = new ArrayList<>();
-    for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-      voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-      currentVoiceInstructionsCachedIndex++;
-      if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-        break;
+        addVoiceInstructions(leg.steps().get(j), voiceInstructionsToCache);
       }
     }
     voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
   }
 
-  void cache() {
-    if (isVoiceInstructionsToCacheThresholdReached) {
-      isVoiceInstructionsToCacheThresholdReached = false;
-      voiceInstructionLoader.evictVoiceInstructions();
-      List<String> voiceInstructionsToCache = new ArrayList<>();
-      for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-        voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-        currentVoiceInstructionsCachedIndex++;
-        if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-          break;
-        }
-      }
-      voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
+  void preloadUpcomingInstructions(RouteProgress routeProgress) {
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    int legIndex = routeProgress.legIndex();
+    int stepIndex = legProgress.stepIndex();
+    if (legIndex == preloadedLegIndex && stepIndex == preloadedStepIndex) {
+      return;
     }
+    preloadedLegIndex = legIndex;
+    preloadedStepIndex = stepIndex;
+    List<String> voiceInstructionsToPreload = new ArrayList<>();
+    addVoiceInstructions(legProgress.currentStep(), voiceInstructionsToPreload);
+    addVoiceInstructions(legProgress.upComingStep(), voiceInstructionsToPreload);
+    voiceInstructionLoader.preloadInstructions(voiceInstructionsToPreload);
   }
 
-  void update(int voiceInstructionsToAnnounce) {
-    if (voiceInstructionsToAnnounce % VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD == 0) {
-      isVoiceInstructionsToCacheThresholdReached = true;
+  private void addVoiceInstructions(LegStep step, List<String> instructions) {
+    if (step == null || step.voiceInstructions() == null) {
+      return;
+    }
+    for (VoiceInstructions voiceInstruction : step.voiceInstructions()) {
+      instructions.add(voiceInstruction.ssmlAnnouncement());
     }
   }
 }
@@ -6,7 +6,6 @@ import android.support.annotation.NonNull;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
-import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 import com.mapbox.services.android.navigation.v5.navigation.NavigationConstants;
@@ -14,15 +13,14 @@ import com.mapbox.services.android.navigation.v5.navigation.camera.RouteInformat
 import com.mapbox.services.android.navigation.v5.navigation.camera.SimpleCamera;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class DynamicCamera extends SimpleCamera {
 
   private static final double MAX_CAMERA_TILT = 60d;
   private static final double MIN_CAMERA_TILT = 45d;
   private static final double MAX_CAMERA_ZOOM = 16d;
   private static final double MIN_CAMERA_ZOOM = 12d;
+  private static final double NO_ZOOM_TARGET = -1d;
+  private static final int[] NO_PADDING = {0, 0, 0, 0};
 
   private MapboxMap mapboxMap;
   private LegStep currentStep;
@@ -31,6 +29,7 @@ public class DynamicCamera extends SimpleCamera {
   private boolean hasPassedHighAlertLevel;
   private boolean forceUpdateZoom;
   private boolean isShutdown = false;
+  private double zoomTarget = NO_ZOOM_TARGET;
 
   public DynamicCamera(@NonNull MapboxMap mapboxMap) {
     this.mapboxMap = mapboxMap;
@@ -56,8 +55,13 @@ public class DynamicCamera extends SimpleCamera {
       return DEFAULT_ZOOM;
     }
 
-    if (validLocationAndProgress(routeInformation) && shouldUpdateZoom(routeInformation)) {
-      return createZoom(routeInformation);
+    boolean isValidLocationAndProgress = validLocationAndProgress(routeInformation);
+    if (isValidLocationAndProgress && shouldUpdateZoom(routeInformation)) {
+      zoomTarget = createZoom(routeInformation);
+      return zoomTarget;
+    } else if (isValidLocationAndProgress && zoomTarget != NO_ZOOM_TARGET) {
+      // Zoom targets only change on step and alert transitions
+      return zoomTarget;
     } else if (routeInformation.route() != null) {
       return super.zoom(routeInformation);
     }
@@ -75,6 +79,7 @@ public class DynamicCamera extends SimpleCamera {
 
   public void clearMap() {
     isShutdown = true;
+    zoomTarget = NO_ZOOM_TARGET;
     mapboxMap = null;
   }
 
@@ -129,23 +134,22 @@ public class DynamicCamera extends SimpleCamera {
     LegStep upComingStep = routeProgress.currentLegProgress().upComingStep();
     if (upComingStep != null) {
       Point stepManeuverPoint = upComingStep.maneuver().location();
+      double latitude = location.getLatitude();
+      double longitude = location.getLongitude();
+      double maneuverLatitude = stepManeuverPoint.latitude();
+      double maneuverLongitude = stepManeuverPoint.longitude();
 
-      List<LatLng> latLngs = new ArrayList<>();
-      LatLng currentLatLng = new LatLng(location);
-      LatLng maneuverLatLng = new LatLng(stepManeuverPoint.latitude(), stepManeuverPoint.longitude());
-      latLngs.add(currentLatLng);
-      latLngs.add(maneuverLatLng);
-
-      if (latLngs.size() < 1 || currentLatLng.equals(maneuverLatLng)) {
+      if (latitude == maneuverLatitude && longitude == maneuverLongitude) {
         return mapboxMap.getCameraPosition();
       }
 
-      LatLngBounds cameraBounds = new LatLngBounds.Builder()
-        .includes(latLngs)
-        .build();
-
-      int[] padding = {0, 0, 0, 0};
-      return mapboxMap.getCameraForLatLngBounds(cameraBounds, padding);
+      LatLngBounds cameraBounds = LatLngBounds.from(
+        Math.max(latitude, maneuverLatitude),
+        Math.max(longitude, maneuverLongitude),
+        Math.min(latitude, maneuverLatitude),
+        Math.min(longitude, maneuverLongitude)
+      );
+      return mapboxMap.getCameraForLatLngBounds(cameraBounds, NO_PADDING);
     }
     return mapboxMap.getCameraPosition();
   }
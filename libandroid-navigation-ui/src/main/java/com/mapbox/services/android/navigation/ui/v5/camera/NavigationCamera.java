@@ -6,6 +6,7 @@ import android.arch.lifecycle.OnLifecycleEvent;
 import android.location.Location;
 import android.support.annotation.IntDef;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.v4.app.FragmentActivity;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
@@ -13,7 +14,6 @@ import com.mapbox.geojson.Point;
 import com.mapbox.mapboxsdk.camera.CameraPosition;
 import com.mapbox.mapboxsdk.camera.CameraUpdate;
 import com.mapbox.mapboxsdk.camera.CameraUpdateFactory;
-import com.mapbox.mapboxsdk.geometry.LatLng;
 import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 import com.mapbox.mapboxsdk.location.LocationComponent;
 import com.mapbox.mapboxsdk.location.modes.CameraMode;
@@ -27,7 +27,6 @@ import com.mapbox.services.android.navigation.v5.utils.MathUtils;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
-import java.util.ArrayList;
 import java.util.List;
 
 import timber.log.Timber;
@@ -47,16 +46,26 @@ import static com.mapbox.services.android.navigation.v5.navigation.NavigationCon
 public class NavigationCamera implements LifecycleObserver {
 
   private static final int ONE_POINT = 1;
+  private static final double NO_TARGET = -1d;
+  private static final double MINIMUM_ZOOM_CHANGE = 0.01d;
+  private static final double MINIMUM_TILT_CHANGE = 0.5d;
 
   private MapboxMap mapboxMap;
   private LocationComponent locationComponent;
   private MapboxNavigation navigation;
   private RouteInformation currentRouteInformation;
   private RouteProgress currentRouteProgress;
+  private Location currentLocation;
+  private RouteOverview routeOverview;
+  private RouteOverviewTask routeOverviewTask;
+  private double zoomTarget = NO_TARGET;
+  private double tiltTarget = NO_TARGET;
   private ProgressChangeListener progressChangeListener = new ProgressChangeListener() {
     @Override
     public void onProgressChange(Location location, RouteProgress routeProgress) {
       currentRouteProgress = routeProgress;
+      currentLocation = location;
+      updateRouteOverview(routeProgress.directionsRoute());
       if (isTrackingEnabled()) {
         currentRouteInformation = buildRouteInformationFromLocation(location, routeProgress);
         adjustCameraFromLocation(currentRouteInformation);
@@ -64,6 +73,14 @@ public class NavigationCamera implements LifecycleObserver {
     }
   };
 
+  private OnRouteOverviewCalculatedCallback routeOverviewCallback = new OnRouteOverviewCalculatedCallback() {
+    @Override
+    public void onRouteOverviewCalculated(@NonNull RouteOverview routeOverview) {
+      NavigationCamera.this.routeOverview = routeOverview;
+      routeOverviewTask = null;
+    }
+  };
+
   @Retention(RetentionPolicy.SOURCE)
   @IntDef( {NAVIGATION_TRACKING_MODE_GPS,
     NAVIGATION_TRACKING_MODE_NORTH,
@@ -144,6 +161,7 @@ public class NavigationCamera implements LifecycleObserver {
   public void start(DirectionsRoute route) {
     if (route != null) {
       currentRouteInformation = buildRouteInformationFromRoute(route);
+      updateRouteOverview(route);
     }
     navigation.addProgressChangeListener(progressChangeListener);
   }
@@ -166,7 +184,11 @@ public class NavigationCamera implements LifecycleObserver {
    * @param trackingMode the tracking mode
    */
   public void updateCameraTrackingMode(@TrackingMode int trackingMode) {
+    if (trackingCameraMode != trackingMode) {
+      cancelRouteOverviewTask();
+    }
     trackingCameraMode = trackingMode;
+    resetTargets();
     setCameraMode();
   }
 
@@ -215,11 +237,40 @@ public class NavigationCamera implements LifecycleObserver {
    * @param padding in pixels around the bounding box of the overview (left, top, right, bottom)
    */
   public void showRouteOverview(int[] padding) {
+    cancelRouteOverviewTask();
     updateCameraTrackingMode(NAVIGATION_TRACKING_MODE_NONE);
+    DirectionsRoute route = currentRouteProgress == null ? null : currentRouteProgress.directionsRoute();
+    if (hasRouteOverviewFor(route) && navigation.getCameraEngine() instanceof DynamicCamera) {
+      animateMapboxMapForRouteOverview(padding, routeOverview.retrieveRouteBounds());
+      return;
+    }
     RouteInformation routeInformation = buildRouteInformationFromProgress(currentRouteProgress);
     animateCameraForRouteOverview(routeInformation, padding);
   }
 
+  /**
+   * This method stops the map camera from tracking the current location, and then zooms
+   * out to an overview of the part of the current route that's left to travel.
+   * <p>
+   * The overview is available once the route bounds have been calculated in the background
+   * after the first progress update, until then the full route overview is shown.
+   *
+   * @param padding in pixels around the bounding box of the overview (left, top, right, bottom)
+   * @since 0.24.0
+   */
+  public void showRemainingRouteOverview(int[] padding) {
+    cancelRouteOverviewTask();
+    DirectionsRoute route = currentRouteProgress == null ? null : currentRouteProgress.directionsRoute();
+    if (!hasRouteOverviewFor(route)) {
+      showRouteOverview(padding);
+      return;
+    }
+    updateCameraTrackingMode(NAVIGATION_TRACKING_MODE_NONE);
+    float fractionTraveled = currentRouteProgress.fractionTraveled();
+    animateMapboxMapForRouteOverview(padding,
+      routeOverview.retrieveRemainingBounds(fractionTraveled, currentLocation));
+  }
+
   /**
    * Call in {@link FragmentActivity#onStart()} to properly add the {@link ProgressChangeListener}
    * for the camera and prevent any leaks or further updates.
@@ -237,6 +288,7 @@ public class NavigationCamera implements LifecycleObserver {
    */
   @OnLifecycleEvent(Lifecycle.Event.ON_STOP)
   public void onStop() {
+    cancelRouteOverviewTask();
     if (navigation != null) {
       navigation.removeProgressChangeListener(progressChangeListener);
     }
@@ -297,6 +349,34 @@ public class NavigationCamera implements LifecycleObserver {
     return RouteInformation.create(routeProgress.directionsRoute(), null, null);
   }
 
+  /**
+   * Calculates the overview bounds in the background once per route, the
+   * route is compared by reference as it's the same instance for every progress update.
+   */
+  private void updateRouteOverview(DirectionsRoute route) {
+    boolean isCalculating = routeOverviewTask != null && routeOverviewTask.isFor(route);
+    if (route == null || hasRouteOverviewFor(route) || isCalculating) {
+      return;
+    }
+    cancelRouteOverviewTask();
+    routeOverviewTask = new RouteOverviewTask(route, routeOverviewCallback);
+    routeOverviewTask.execute();
+  }
+
+  /**
+   * A cancelled calculation is started again with the next progress update.
+   */
+  private void cancelRouteOverviewTask() {
+    if (routeOverviewTask != null) {
+      routeOverviewTask.cancel(true);
+      routeOverviewTask = null;
+    }
+  }
+
+  private boolean hasRouteOverviewFor(DirectionsRoute route) {
+    return route != null && routeOverview != null && routeOverview.isFor(route);
+  }
+
   private void animateCameraForRouteOverview(RouteInformation routeInformation, int[] padding) {
     Camera cameraEngine = navigation.getCameraEngine();
     List<Point> routePoints = cameraEngine.overview(routeInformation);
@@ -309,8 +389,15 @@ public class NavigationCamera implements LifecycleObserver {
     if (routePoints.size() <= ONE_POINT) {
       return;
     }
+    animateMapboxMapForRouteOverview(padding, convertRoutePointsToLatLngBounds(routePoints));
+  }
+
+  private void animateMapboxMapForRouteOverview(int[] padding, LatLngBounds routeBounds) {
+    if (routeBounds == null) {
+      return;
+    }
     CameraUpdate resetUpdate = buildResetCameraUpdate();
-    final CameraUpdate overviewUpdate = buildOverviewCameraUpdate(padding, routePoints);
+    final CameraUpdate overviewUpdate = buildOverviewCameraUpdate(padding, routeBounds);
     mapboxMap.animateCamera(resetUpdate, 150,
       new CameraOverviewCancelableCallback(overviewUpdate, mapboxMap)
     );
@@ -323,21 +410,29 @@ public class NavigationCamera implements LifecycleObserver {
   }
 
   @NonNull
-  private CameraUpdate buildOverviewCameraUpdate(int[] padding, List<Point> routePoints) {
-    final LatLngBounds routeBounds = convertRoutePointsToLatLngBounds(routePoints);
+  private CameraUpdate buildOverviewCameraUpdate(int[] padding, LatLngBounds routeBounds) {
     return CameraUpdateFactory.newLatLngBounds(
       routeBounds, padding[0], padding[1], padding[2], padding[3]
     );
   }
 
+  @Nullable
   private LatLngBounds convertRoutePointsToLatLngBounds(List<Point> routePoints) {
-    List<LatLng> latLngs = new ArrayList<>();
-    for (Point routePoint : routePoints) {
-      latLngs.add(new LatLng(routePoint.latitude(), routePoint.longitude()));
+    double maxLatitude = -Double.MAX_VALUE;
+    double maxLongitude = -Double.MAX_VALUE;
+    double minLatitude = Double.MAX_VALUE;
+    double minLongitude = Double.MAX_VALUE;
+    for (int i = 0; i < routePoints.size(); i++) {
+      Point routePoint = routePoints.get(i);
+      maxLatitude = Math.max(maxLatitude, routePoint.latitude());
+      maxLongitude = Math.max(maxLongitude, routePoint.longitude());
+      minLatitude = Math.min(minLatitude, routePoint.latitude());
+      minLongitude = Math.min(minLongitude, routePoint.longitude());
+    }
+    if (maxLatitude == minLatitude && maxLongitude == minLongitude) {
+      return null;
     }
-    return new LatLngBounds.Builder()
-      .includes(latLngs)
-      .build();
+    return LatLngBounds.from(maxLatitude, maxLongitude, minLatitude, minLongitude);
   }
 
   private void setCameraMode() {
@@ -360,6 +455,10 @@ public class NavigationCamera implements LifecycleObserver {
 
   /**
    * Updates the camera's zoom and tilt while tracking.
+   * <p>
+   * The {@link LocationComponent} interpolates the target and bearing between location updates
+   * and animates zoom and tilt on the display frame clock. New animations are only started when
+   * the target has changed, so a progress update doesn't restart an animation that's in flight.
    *
    * @param routeInformation with location data
    */
@@ -369,8 +468,19 @@ public class NavigationCamera implements LifecycleObserver {
     float tilt = (float) cameraEngine.tilt(routeInformation);
     double zoom = cameraEngine.zoom(routeInformation);
 
-    locationComponent.zoomWhileTracking(zoom, getZoomAnimationDuration(zoom));
-    locationComponent.tiltWhileTracking(tilt, getTiltAnimationDuration(tilt));
+    if (zoomTarget == NO_TARGET || Math.abs(zoomTarget - zoom) >= MINIMUM_ZOOM_CHANGE) {
+      zoomTarget = zoom;
+      locationComponent.zoomWhileTracking(zoom, getZoomAnimationDuration(zoom));
+    }
+    if (tiltTarget == NO_TARGET || Math.abs(tiltTarget - tilt) >= MINIMUM_TILT_CHANGE) {
+      tiltTarget = tilt;
+      locationComponent.tiltWhileTracking(tilt, getTiltAnimationDuration(tilt));
+    }
+  }
+
+  private void resetTargets() {
+    zoomTarget = NO_TARGET;
+    tiltTarget = NO_TARGET;
   }
 
   private long getZoomAnimationDuration(double zoom) {
@@ -0,0 +1,7 @@
+package com.mapbox.services.android.navigation.ui.v5.camera;
+
+import android.support.annotation.NonNull;
+
+interface OnRouteOverviewCalculatedCallback {
+  void onRouteOverviewCalculated(@NonNull RouteOverview routeOverview);
+}
@@ -0,0 +1,159 @@
+package com.mapbox.services.android.navigation.ui.v5.camera;
+
+import android.location.Location;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import java.util.List;
+
+/**
+ * Bounds of a {@link DirectionsRoute} used to show the route overview.
+ * <p>
+ * The bounds of the full route are calculated once from the decoded geometry. For the remaining
+ * route, a simplified polyline is kept along with the bounds of every suffix of it, so the bounds
+ * from any point along the route to the destination are found with a binary search.
+ */
+class RouteOverview {
+
+  private static final int FIRST = 0;
+  private static final int TWO_POINTS = 2;
+  // Roughly 10 meters, small enough to not be visible with overview padding
+  private static final double SIMPLIFY_TOLERANCE = 0.0001;
+
+  private final DirectionsRoute route;
+  private final LatLngBounds routeBounds;
+  private final double[] distances;
+  private final double[] north;
+  private final double[] east;
+  private final double[] south;
+  private final double[] west;
+
+  RouteOverview(DirectionsRoute route) {
+    this.route = route;
+    List<Point> routePoints = PolylineUtils.decode(route.geometry(), Constants.PRECISION_6);
+    routeBounds = buildBounds(routePoints);
+    List<Point> simplifiedPoints = routePoints.size() < TWO_POINTS
+      ? routePoints : PolylineUtils.simplify(routePoints, SIMPLIFY_TOLERANCE, false);
+    int size = simplifiedPoints.size();
+    distances = new double[size];
+    north = new double[size];
+    east = new double[size];
+    south = new double[size];
+    west = new double[size];
+    buildDistances(simplifiedPoints);
+    buildSuffixBounds(simplifiedPoints);
+  }
+
+  boolean isFor(DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  /**
+   * @return bounds of the full route, or null if it doesn't have two distinct points
+   */
+  @Nullable
+  LatLngBounds retrieveRouteBounds() {
+    return routeBounds;
+  }
+
+  /**
+   * @param fractionTraveled of the route
+   * @param location         of the user, included in the bounds if not null
+   * @return bounds of the route left to travel, or null if there's nothing left to show
+   */
+  @Nullable
+  LatLngBounds retrieveRemainingBounds(float fractionTraveled, @Nullable Location location) {
+    int size = distances.length;
+    if (size < TWO_POINTS) {
+      return null;
+    }
+    int index = findNextIndex(fractionTraveled * distances[size - 1]);
+    if (index == size) {
+      return null;
+    }
+    double maxLatitude = north[index];
+    double maxLongitude = east[index];
+    double minLatitude = south[index];
+    double minLongitude = west[index];
+    if (location != null) {
+      maxLatitude = Math.max(maxLatitude, location.getLatitude());
+      maxLongitude = Math.max(maxLongitude, location.getLongitude());
+      minLatitude = Math.min(minLatitude, location.getLatitude());
+      minLongitude = Math.min(minLongitude, location.getLongitude());
+    }
+    if (maxLatitude == minLatitude && maxLongitude == minLongitude) {
+      return null;
+    }
+    return LatLngBounds.from(maxLatitude, maxLongitude, minLatitude, minLongitude);
+  }
+
+  @Nullable
+  private LatLngBounds buildBounds(List<Point> points) {
+    if (points.size() < TWO_POINTS) {
+      return null;
+    }
+    double maxLatitude = -Double.MAX_VALUE;
+    double maxLongitude = -Double.MAX_VALUE;
+    double minLatitude = Double.MAX_VALUE;
+    double minLongitude = Double.MAX_VALUE;
+    for (int i = 0; i < points.size(); i++) {
+      Point point = points.get(i);
+      maxLatitude = Math.max(maxLatitude, point.latitude());
+      maxLongitude = Math.max(maxLongitude, point.longitude());
+      minLatitude = Math.min(minLatitude, point.latitude());
+      minLongitude = Math.min(minLongitude, point.longitude());
+    }
+    if (maxLatitude == minLatitude && maxLongitude == minLongitude) {
+      return null;
+    }
+    return LatLngBounds.from(maxLatitude, maxLongitude, minLatitude, minLongitude);
+  }
+
+  /**
+   * Distances are only compared with each other, so an equirectangular approximation in degrees
+   * is enough.
+   */
+  private void buildDistances(List<Point> points) {
+    for (int i = 1; i < points.size(); i++) {
+      Point previous = points.get(i - 1);
+      Point current = points.get(i);
+      double latitudeScale = Math.cos(Math.toRadians((previous.latitude() + current.latitude()) / 2));
+      double dx = (current.longitude() - previous.longitude()) * latitudeScale;
+      double dy = current.latitude() - previous.latitude();
+      distances[i] = distances[i - 1] + Math.hypot(dx, dy);
+    }
+  }
+
+  private void buildSuffixBounds(List<Point> points) {
+    for (int i = points.size() - 1; i >= FIRST; i--) {
+      Point point = points.get(i);
+      boolean isLast = i == points.size() - 1;
+      north[i] = isLast ? point.latitude() : Math.max(north[i + 1], point.latitude());
+      east[i] = isLast ? point.longitude() : Math.max(east[i + 1], point.longitude());
+      south[i] = isLast ? point.latitude() : Math.min(south[i + 1], point.latitude());
+      west[i] = isLast ? point.longitude() : Math.min(west[i + 1], point.longitude());
+    }
+  }
+
+  /**
+   * @return index of the first point further along than the given distance
+   */
+  private int findNextIndex(double distanceTraveled) {
+    int low = 0;
+    int high = distances.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (distances[middle] <= distanceTraveled) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
@@ -0,0 +1,31 @@
+package com.mapbox.services.android.navigation.ui.v5.camera;
+
+import android.os.AsyncTask;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+
+class RouteOverviewTask extends AsyncTask<Void, Void, RouteOverview> {
+
+  private final DirectionsRoute route;
+  private final OnRouteOverviewCalculatedCallback callback;
+
+  RouteOverviewTask(DirectionsRoute route, OnRouteOverviewCalculatedCallback callback) {
+    this.route = route;
+    this.callback = callback;
+  }
+
+  boolean isFor(DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  @Override
+  protected RouteOverview doInBackground(Void... voids) {
+    return new RouteOverview(route);
+  }
+
+  @Override
+  protected void onPostExecute(RouteOverview routeOverview) {
+    super.onPostExecute(routeOverview);
+    callback.onRouteOverviewCalculated(routeOverview);
+  }
+}
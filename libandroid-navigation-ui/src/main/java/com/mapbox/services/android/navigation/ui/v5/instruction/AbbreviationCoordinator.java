@@ -1,5 +1,7 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction;
 
+import android.graphics.Typeface;
+import android.support.v4.util.LruCache;
 import android.widget.TextView;
 
 import com.mapbox.api.directions.v5.models.BannerComponents;
@@ -16,19 +18,32 @@ import java.util.Map;
  * This class allows text to be constructed to fit a given TextView, given specified
  * BannerComponents containing abbreviation information and given a list of BannerComponentNodes,
  * constructed by InstructionLoader.
+ * <p>
+ * Measuring text is expensive, so the number of abbreviation priorities needed for a banner is
+ * cached per banner components, text size, typeface and available width.  A banner is measured at
+ * most once for a given layout, after which its abbreviations are applied without measuring.
  */
 class AbbreviationCoordinator {
   private static final String SINGLE_SPACE = " ";
+  private static final int MAX_CACHED_BANNERS = 32;
+  private static final LruCache<AbbreviationKey, Integer> BANNER_ABBREVIATIONS =
+    new LruCache<>(MAX_CACHED_BANNERS);
   private Map<Integer, List<Integer>> abbreviations;
   private TextViewUtils textViewUtils;
+  private LruCache<AbbreviationKey, Integer> bannerAbbreviations;
 
-  AbbreviationCoordinator(TextViewUtils textViewUtils) {
+  AbbreviationCoordinator(TextViewUtils textViewUtils, LruCache<AbbreviationKey, Integer> bannerAbbreviations) {
     this.abbreviations = new HashMap<>();
     this.textViewUtils = textViewUtils;
+    this.bannerAbbreviations = bannerAbbreviations;
+  }
+
+  AbbreviationCoordinator(TextViewUtils textViewUtils) {
+    this(textViewUtils, new LruCache<AbbreviationKey, Integer>(MAX_CACHED_BANNERS));
   }
 
   AbbreviationCoordinator() {
-    this(new TextViewUtils());
+    this(new TextViewUtils(), BANNER_ABBREVIATIONS);
   }
 
   /**
@@ -62,14 +77,28 @@ class AbbreviationCoordinator {
       return bannerText;
     }
 
-    bannerText = abbreviateUntilTextFits(textView, bannerText, bannerComponentNodes);
+    // Before the first layout there's no width to measure against, so nothing is cached
+    AbbreviationKey key = textView.getWidth() > 0 ? new AbbreviationKey(bannerComponentNodes, textView) : null;
+    Integer cachedPriorities = key == null ? null : bannerAbbreviations.get(key);
+    if (cachedPriorities != null) {
+      bannerText = abbreviateUpToPriority(bannerComponentNodes, cachedPriorities);
+    } else {
+      int abbreviatedPriorities = abbreviateUntilTextFits(textView, bannerText, bannerComponentNodes);
+      bannerText = join(bannerComponentNodes);
+      if (key != null) {
+        bannerAbbreviations.put(key, abbreviatedPriorities);
+      }
+    }
 
     abbreviations.clear();
     return bannerText;
   }
 
-  private String abbreviateUntilTextFits(TextView textView, String startingText,
-                                         List<BannerComponentNode> bannerComponentNodes) {
+  /**
+   * @return the number of abbreviation priorities applied to make the text fit
+   */
+  private int abbreviateUntilTextFits(TextView textView, String startingText,
+                                      List<BannerComponentNode> bannerComponentNodes) {
     int currAbbreviationPriority = 0;
     int maxAbbreviationPriority = Collections.max(abbreviations.keySet());
     String bannerText = startingText;
@@ -84,7 +113,14 @@ class AbbreviationCoordinator {
       }
     }
 
-    return bannerText;
+    return currAbbreviationPriority;
+  }
+
+  private String abbreviateUpToPriority(List<BannerComponentNode> bannerComponentNodes, int abbreviatedPriorities) {
+    for (int priority = 0; priority < abbreviatedPriorities; priority++) {
+      abbreviateAtAbbreviationPriority(bannerComponentNodes, abbreviations.get(priority));
+    }
+    return join(bannerComponentNodes);
   }
 
   private boolean shouldKeepAbbreviating(TextView textView, String bannerText,
@@ -130,6 +166,50 @@ class AbbreviationCoordinator {
     return stringBuilder.toString();
   }
 
+  /**
+   * Identifies the layout a banner was abbreviated for.
+   */
+  static class AbbreviationKey {
+    private final List<BannerComponents> bannerComponents;
+    private final float textSize;
+    private final Typeface typeface;
+    private final int width;
+
+    AbbreviationKey(List<BannerComponentNode> bannerComponentNodes, TextView textView) {
+      bannerComponents = new ArrayList<>(bannerComponentNodes.size());
+      for (BannerComponentNode bannerComponentNode : bannerComponentNodes) {
+        bannerComponents.add(bannerComponentNode.bannerComponents);
+      }
+      textSize = textView.getTextSize();
+      typeface = textView.getTypeface();
+      width = textView.getWidth();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+      if (!(object instanceof AbbreviationKey)) {
+        return false;
+      }
+      AbbreviationKey other = (AbbreviationKey) object;
+      return width == other.width
+        && Float.compare(textSize, other.textSize) == 0
+        && (typeface == null ? other.typeface == null : typeface.equals(other.typeface))
+        && bannerComponents.equals(other.bannerComponents);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = bannerComponents.hashCode();
+      result = 31 * result + Float.floatToIntBits(textSize);
+      result = 31 * result + (typeface == null ? 0 : typeface.hashCode());
+      result = 31 * result + width;
+      return result;
+    }
+  }
+
   /**
    * Class used by InstructionLoader to determine that a BannerComponent contains an abbreviation
    */
@@ -10,12 +10,28 @@ import android.widget.TextView;
 import com.mapbox.api.directions.v5.models.BannerComponents;
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.ui.v5.instruction.InstructionLoader.BannerComponentNode;
+import com.squareup.picasso.Callback;
+import com.squareup.picasso.LruCache;
+import com.squareup.picasso.OkHttp3Downloader;
 import com.squareup.picasso.Picasso;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.CacheControl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
 
 /**
  * Utility class that can be used to load a given {@link BannerText} into the provided
@@ -26,15 +42,27 @@ import java.util.List;
  * <p>
  * If a shield URL is found, {@link Picasso} is used to load the image.  Then, once the image is loaded,
  * a new {@link ImageSpan} is created and set to the appropriate position of the {@link Spannable}
+ * <p>
+ * Shield images are kept in a memory cache backed by a disk cache. A shield URL always points to the
+ * same image, so cached shields are treated as fresh and can be shown without a network connection.
  */
 public class ImageCoordinator {
 
+  private static final String SHIELD_CACHE_DIRECTORY = "mapbox-navigation-shield-cache";
+  private static final long SHIELD_DISK_CACHE_SIZE = 10 * 1024 * 1024;
+  private static final int SHIELD_MEMORY_CACHE_SIZE = 2 * 1024 * 1024;
+  private static final int SHIELD_MAX_AGE_DAYS = 30;
+  private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+  private static final String PRAGMA_HEADER = "Pragma";
+
   private static ImageCoordinator instance;
   private boolean isInitialized;
   private Picasso picassoImageLoader;
   private List<InstructionTarget> targets;
   private UrlDensityMap urlDensityMap;
   private List<BannerShield> bannerShieldList;
+  private Set<String> prefetchedUrls;
+  private DirectionsRoute prefetchedRoute;
 
   private ImageCoordinator() {
   }
@@ -92,8 +120,36 @@ public class ImageCoordinator {
     fetchInstructions(legStep);
   }
 
+  /**
+   * Will pre-fetch the images for every {@link BannerInstructions} of the given {@link DirectionsRoute}.
+   * <p>
+   * Each image is only requested once, and the route is only walked once, so this can be
+   * called with every progress update.  The images will then be available for the rest of the route,
+   * including areas without a network connection.
+   *
+   * @param route providing the image Urls
+   * @since 0.24.0
+   */
+  public void prefetchImageCache(DirectionsRoute route) {
+    checkIsInitialized();
+    if (route == null || route == prefetchedRoute || route.legs() == null) {
+      return;
+    }
+    prefetchedRoute = route;
+    for (RouteLeg leg : route.legs()) {
+      if (leg.steps() == null) {
+        continue;
+      }
+      for (LegStep legStep : leg.steps()) {
+        fetchInstructions(legStep);
+      }
+    }
+  }
+
   public void shutdown() {
     targets.clear();
+    prefetchedUrls.clear();
+    prefetchedRoute = null;
   }
 
   /**
@@ -115,14 +171,41 @@ public class ImageCoordinator {
   }
 
   private void initializePicasso(Context context) {
-    Picasso.Builder builder = new Picasso.Builder(context);
+    File cacheDirectory = new File(context.getApplicationContext().getCacheDir(), SHIELD_CACHE_DIRECTORY);
+    OkHttpClient shieldClient = new OkHttpClient.Builder()
+      .cache(new Cache(cacheDirectory, SHIELD_DISK_CACHE_SIZE))
+      .addNetworkInterceptor(provideShieldCacheInterceptor())
+      .build();
+    Picasso.Builder builder = new Picasso.Builder(context)
+      .memoryCache(new LruCache(SHIELD_MEMORY_CACHE_SIZE))
+      .downloader(new OkHttp3Downloader(shieldClient));
     picassoImageLoader = builder.build();
   }
 
+  private Interceptor provideShieldCacheInterceptor() {
+    return new Interceptor() {
+      @Override
+      public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        if (!response.isSuccessful()) {
+          return response;
+        }
+        CacheControl cacheControl = new CacheControl.Builder()
+          .maxAge(SHIELD_MAX_AGE_DAYS, TimeUnit.DAYS)
+          .build();
+        return response.newBuilder()
+          .removeHeader(PRAGMA_HEADER)
+          .header(CACHE_CONTROL_HEADER, cacheControl.toString())
+          .build();
+      }
+    };
+  }
+
   private void initializeData(Context context) {
     urlDensityMap = new UrlDensityMap(context);
     targets = new ArrayList<>();
     bannerShieldList = new ArrayList<>();
+    prefetchedUrls = new HashSet<>();
   }
 
   private void fetchInstructions(LegStep legStep) {
@@ -131,14 +214,16 @@ public class ImageCoordinator {
       return;
     }
 
-    List<BannerInstructions> bannerInstructionList = new ArrayList<>(legStep.bannerInstructions());
-    for (BannerInstructions instructions : bannerInstructionList) {
+    for (BannerInstructions instructions : legStep.bannerInstructions()) {
       if (hasComponents(instructions.primary())) {
         fetchImageBaseUrls(instructions.primary());
       }
       if (hasComponents(instructions.secondary())) {
         fetchImageBaseUrls(instructions.secondary());
       }
+      if (hasComponents(instructions.sub())) {
+        fetchImageBaseUrls(instructions.sub());
+      }
     }
   }
 
@@ -158,14 +243,17 @@ public class ImageCoordinator {
 
   /**
    * Takes a given {@link BannerText} and fetches a valid
-   * imageBaseUrl if one is found.
+   * imageBaseUrl if one is found and it hasn't been fetched or isn't being fetched yet.
    *
    * @param bannerText to provide the base URL
    */
   private void fetchImageBaseUrls(BannerText bannerText) {
     for (BannerComponents components : bannerText.components()) {
       if (hasImageUrl(components)) {
-        picassoImageLoader.load(urlDensityMap.get(components.imageBaseUrl())).fetch();
+        String imageUrl = urlDensityMap.get(components.imageBaseUrl());
+        if (prefetchedUrls.add(imageUrl)) {
+          picassoImageLoader.load(imageUrl).fetch(new PrefetchCallback(imageUrl));
+        }
       }
     }
   }
@@ -201,6 +289,29 @@ public class ImageCoordinator {
     }
   }
 
+  /**
+   * A failed image is fetched again with the next prefetch, the route is walked again for it.
+   */
+  private class PrefetchCallback implements Callback {
+
+    private final String imageUrl;
+
+    PrefetchCallback(String imageUrl) {
+      this.imageUrl = imageUrl;
+    }
+
+    @Override
+    public void onSuccess() {
+      // Kept in prefetchedUrls, the image is now cached
+    }
+
+    @Override
+    public void onError(Exception exception) {
+      prefetchedUrls.remove(imageUrl);
+      prefetchedRoute = null;
+    }
+  }
+
   static class ImageNode extends BannerComponentNode {
 
     ImageNode(BannerComponents bannerComponents, int startIndex) {
@@ -32,7 +32,7 @@ class InstructionListTransitionListener extends TransitionListenerAdapter {
 
   private void onAnimationFinished() {
     rvInstructions.stopScroll();
-    instructionListAdapter.notifyDataSetChanged();
+    instructionListAdapter.onListShown();
     rvInstructions.smoothScrollToPosition(TOP);
   }
 }
@@ -24,11 +24,15 @@ import java.util.List;
  * <p>
  * If a shield URL is found, {@link Picasso} is used to load the image.  Then, once the image is loaded,
  * a new {@link ImageSpan} is created and set to the appropriate position of the {@link Spannable}/
+ * <p>
+ * The loaded components are kept as the tag of the {@link TextView}, so the same banner isn't
+ * abbreviated and its shields loaded again while it's still shown.
  */
 class InstructionLoader {
   private ImageCoordinator imageCoordinator;
   private AbbreviationCoordinator abbreviationCoordinator;
   private TextView textView;
+  private List<BannerComponents> bannerComponents;
   private List<BannerComponentNode> bannerComponentNodes;
 
   InstructionLoader(TextView textView, @NonNull List<BannerComponents> bannerComponents) {
@@ -39,6 +43,7 @@ class InstructionLoader {
                     ImageCoordinator imageCoordinator, AbbreviationCoordinator abbreviationCoordinator) {
     this.abbreviationCoordinator = abbreviationCoordinator;
     this.textView = textView;
+    this.bannerComponents = bannerComponents;
     bannerComponentNodes = new ArrayList<>();
     this.imageCoordinator = imageCoordinator;
 
@@ -51,8 +56,27 @@ class InstructionLoader {
    * into the given {@link TextView}.
    */
   void loadInstruction() {
-    setText(textView, bannerComponentNodes);
+    String text = setText(textView, bannerComponentNodes);
     loadImages(textView, bannerComponentNodes);
+    textView.setTag(new LoadedBannerText(bannerComponents, textView.getWidth(), text));
+  }
+
+  /**
+   * @param textView         to check
+   * @param bannerComponents to be loaded
+   * @return true if the components are still shown in the {@link TextView} as they were loaded
+   * for its current width
+   */
+  static boolean isLoadedInto(TextView textView, List<BannerComponents> bannerComponents) {
+    Object tag = textView.getTag();
+    if (!(tag instanceof LoadedBannerText)) {
+      return false;
+    }
+    LoadedBannerText loadedBannerText = (LoadedBannerText) tag;
+    CharSequence text = textView.getText();
+    return loadedBannerText.width == textView.getWidth()
+      && text != null && text.toString().equals(loadedBannerText.text)
+      && loadedBannerText.bannerComponents.equals(bannerComponents);
   }
 
   private List<BannerComponentNode> parseBannerComponents(List<BannerComponents> bannerComponents) {
@@ -89,9 +113,10 @@ class InstructionLoader {
     imageCoordinator.loadImages(textView, bannerComponentNodes);
   }
 
-  private void setText(TextView textView, List<BannerComponentNode> bannerComponentNodes) {
+  private String setText(TextView textView, List<BannerComponentNode> bannerComponentNodes) {
     String text = getAbbreviatedBannerText(textView, bannerComponentNodes);
     textView.setText(text);
+    return text;
   }
 
   private String getAbbreviatedBannerText(TextView textView, List<BannerComponentNode> bannerComponentNodes) {
@@ -106,6 +131,18 @@ class InstructionLoader {
     return !TextUtils.isEmpty(components.imageBaseUrl());
   }
 
+  private static class LoadedBannerText {
+    private final List<BannerComponents> bannerComponents;
+    private final int width;
+    private final String text;
+
+    LoadedBannerText(List<BannerComponents> bannerComponents, int width, String text) {
+      this.bannerComponents = bannerComponents;
+      this.width = width;
+      this.text = text;
+    }
+  }
+
   /**
    * Class used to construct a list of BannerComponents to be populated into a TextView
    */
@@ -30,6 +30,7 @@ import android.widget.TextView;
 import com.mapbox.api.directions.v5.models.BannerComponents;
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.services.android.navigation.ui.v5.FeedbackButton;
 import com.mapbox.services.android.navigation.ui.v5.NavigationButton;
@@ -629,10 +630,7 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
       if (roundaboutAngle != null) {
         subManeuverView.setRoundaboutAngle(roundaboutAngle.floatValue());
       }
-      InstructionLoader instructionLoader = createInstructionLoader(subStepText, subText);
-      if (instructionLoader != null) {
-        instructionLoader.loadInstruction();
-      }
+      loadTextWith(subText, subStepText);
       showSubLayout();
       return;
     } else {
@@ -737,8 +735,8 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
     updateDistanceText(model);
     updateInstructionList(model);
     if (newStep(model.retrieveProgress())) {
-      LegStep upComingStep = model.retrieveProgress().currentLegProgress().upComingStep();
-      ImageCoordinator.getInstance().prefetchImageCache(upComingStep);
+      DirectionsRoute route = model.retrieveProgress().directionsRoute();
+      ImageCoordinator.getInstance().prefetchImageCache(route);
     }
   }
 
@@ -770,6 +768,9 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
   }
 
   private void loadTextWith(BannerText bannerText, TextView textView) {
+    if (hasComponents(bannerText) && InstructionLoader.isLoadedInto(textView, bannerText.components())) {
+      return;
+    }
     InstructionLoader instructionLoader = createInstructionLoader(textView, bannerText);
     if (instructionLoader != null) {
       instructionLoader.loadInstruction();
@@ -1,13 +1,15 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction;
 
-import android.graphics.Paint;
 import android.widget.TextView;
 
 class TextViewUtils {
 
+  /**
+   * Measures with the paint of the {@link TextView} itself, measuring doesn't modify the paint
+   * so there's no need to copy it.
+   */
   boolean textFits(TextView textView, String text) {
-    Paint paint = new Paint(textView.getPaint());
-    float width = paint.measureText(text);
+    float width = textView.getPaint().measureText(text);
     return width < textView.getWidth();
   }
 }
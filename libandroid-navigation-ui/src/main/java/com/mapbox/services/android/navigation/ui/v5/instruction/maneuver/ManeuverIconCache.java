@@ -0,0 +1,70 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.support.annotation.Nullable;
+import android.support.v4.util.LruCache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_TYPE_EXIT_ROTARY;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_TYPE_ROTARY;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_TYPE_ROUNDABOUT;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants
+  .STEP_MANEUVER_TYPE_ROUNDABOUT_TURN;
+
+/**
+ * Keeps the rendered maneuver icons, so the {@link ManeuversStyleKit} paths are only drawn
+ * once for each icon instead of on every {@link ManeuverView#onDraw(Canvas)}.
+ * <p>
+ * A single instance is shared by the banner and the instruction list rows.
+ */
+class ManeuverIconCache {
+
+  private static final int MAX_SIZE_IN_BYTES = 4 * 1024 * 1024;
+  private static final String KEY_SEPARATOR = "|";
+  private static final Set<String> ROUNDABOUT_ICON_TYPES = new HashSet<String>() {
+    {
+      add(STEP_MANEUVER_TYPE_ROTARY);
+      add(STEP_MANEUVER_TYPE_ROUNDABOUT);
+      add(STEP_MANEUVER_TYPE_ROUNDABOUT_TURN);
+      add(STEP_MANEUVER_TYPE_EXIT_ROTARY);
+    }
+  };
+
+  private final LruCache<String, Bitmap> icons = new LruCache<String, Bitmap>(MAX_SIZE_IN_BYTES) {
+    @Override
+    protected int sizeOf(String key, Bitmap icon) {
+      return icon.getByteCount();
+    }
+  };
+
+  @Nullable
+  Bitmap get(String key) {
+    return icons.get(key);
+  }
+
+  void put(String key, Bitmap icon) {
+    icons.put(key, icon);
+  }
+
+  /**
+   * The roundabout angle is only part of the key for roundabout icons, as it's
+   * kept from the last roundabout while other maneuvers are shown.
+   */
+  static String buildKey(@Nullable String iconType, @Nullable String iconModifier, int primaryColor,
+                         int secondaryColor, int width, int height, float roundaboutAngle) {
+    StringBuilder key = new StringBuilder()
+      .append(iconType).append(KEY_SEPARATOR)
+      .append(iconModifier).append(KEY_SEPARATOR)
+      .append(primaryColor).append(KEY_SEPARATOR)
+      .append(secondaryColor).append(KEY_SEPARATOR)
+      .append(width).append(KEY_SEPARATOR)
+      .append(height);
+    if (ROUNDABOUT_ICON_TYPES.contains(iconType)) {
+      key.append(KEY_SEPARATOR).append(roundaboutAngle);
+    }
+    return key.toString();
+  }
+}
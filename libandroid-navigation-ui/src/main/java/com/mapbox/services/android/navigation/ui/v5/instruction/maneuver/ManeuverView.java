@@ -1,6 +1,7 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.PointF;
 import android.support.annotation.NonNull;
@@ -46,6 +47,7 @@ public class ManeuverView extends View {
   private static final float BOTTOM_ROUNDABOUT_ANGLE_LIMIT = 60f;
   private static final float DEFAULT_ROUNDABOUT_ANGLE = 180f;
   private static final Map<Pair<String, String>, ManeuverViewUpdate> MANEUVER_VIEW_UPDATE_MAP = new ManeuverViewMap();
+  private static final ManeuverIconCache ICON_CACHE = new ManeuverIconCache();
   private static final Set<String> SHOULD_FLIP_MODIFIERS = new HashSet<String>() {
     {
       add(STEP_MANEUVER_MODIFIER_SLIGHT_LEFT);
@@ -81,6 +83,8 @@ public class ManeuverView extends View {
   private int secondaryColor;
   private float roundaboutAngle = DEFAULT_ROUNDABOUT_ANGLE;
   private PointF size;
+  // Built on the next draw once the maneuver, colors, angle or size change
+  private String iconKey;
 
   public ManeuverView(Context context) {
     super(context);
@@ -105,6 +109,7 @@ public class ManeuverView extends View {
     if (isNewTypeOrModifier(maneuverType, maneuverModifier)) {
       this.maneuverType = maneuverType;
       this.maneuverModifier = maneuverModifier;
+      iconKey = null;
       if (checkManeuverTypeWithNullModifier(maneuverType)) {
         return;
       }
@@ -117,6 +122,7 @@ public class ManeuverView extends View {
   public void setRoundaboutAngle(float roundaboutAngle) {
     if (ROUNDABOUT_MANEUVER_TYPES.contains(maneuverType) && this.roundaboutAngle != roundaboutAngle) {
       updateRoundaboutAngle(roundaboutAngle);
+      iconKey = null;
       invalidate();
     }
   }
@@ -126,6 +132,7 @@ public class ManeuverView extends View {
     super.onMeasure(widthMeasureSpec, heightMeasureSpec);
     if (size == null) {
       size = new PointF(getMeasuredWidth(), getMeasuredHeight());
+      iconKey = null;
     }
   }
 
@@ -145,17 +152,37 @@ public class ManeuverView extends View {
 
     ManeuverViewUpdate maneuverViewUpdate = MANEUVER_VIEW_UPDATE_MAP.get(maneuverTypeAndModifier);
     if (maneuverViewUpdate != null) {
-      maneuverViewUpdate.updateManeuverView(canvas, primaryColor, secondaryColor, size, roundaboutAngle);
+      drawManeuverIcon(canvas, maneuverViewUpdate);
     }
     boolean flip = SHOULD_FLIP_MODIFIERS.contains(maneuverModifier);
     setScaleX(flip ? -1 : 1);
   }
 
+  private void drawManeuverIcon(Canvas canvas, ManeuverViewUpdate maneuverViewUpdate) {
+    int width = (int) size.x;
+    int height = (int) size.y;
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    if (iconKey == null) {
+      iconKey = ManeuverIconCache.buildKey(maneuverTypeAndModifier.first, maneuverTypeAndModifier.second,
+        primaryColor, secondaryColor, width, height, roundaboutAngle);
+    }
+    Bitmap icon = ICON_CACHE.get(iconKey);
+    if (icon == null) {
+      icon = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+      maneuverViewUpdate.updateManeuverView(new Canvas(icon), primaryColor, secondaryColor, size, roundaboutAngle);
+      ICON_CACHE.put(iconKey, icon);
+    }
+    canvas.drawBitmap(icon, 0, 0, null);
+  }
+
   private void initManeuverColor() {
     this.primaryColor = ThemeSwitcher.retrieveThemeColor(getContext(),
       R.attr.navigationViewBannerManeuverPrimary);
     this.secondaryColor = ThemeSwitcher.retrieveThemeColor(getContext(),
       R.attr.navigationViewBannerManeuverSecondary);
+    iconKey = null;
   }
 
   private boolean isNewTypeOrModifier(String maneuverType, String maneuverModifier) {
@@ -0,0 +1,39 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.turnlane;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.support.annotation.Nullable;
+import android.support.v4.util.LruCache;
+
+/**
+ * Keeps the rendered lane icons, so the {@link LanesStyleKit} paths are only drawn
+ * once for each icon instead of on every {@link TurnLaneView#onDraw(Canvas)}.
+ * <p>
+ * A single instance is shared by all of the {@link TurnLaneAdapter} rows.
+ */
+class TurnLaneIconCache {
+
+  private static final int MAX_SIZE_IN_BYTES = 1024 * 1024;
+  private static final String KEY_SEPARATOR = "|";
+
+  private final LruCache<String, Bitmap> icons = new LruCache<String, Bitmap>(MAX_SIZE_IN_BYTES) {
+    @Override
+    protected int sizeOf(String key, Bitmap icon) {
+      return icon.getByteCount();
+    }
+  };
+
+  @Nullable
+  Bitmap get(String key) {
+    return icons.get(key);
+  }
+
+  void put(String key, Bitmap icon) {
+    icons.put(key, icon);
+  }
+
+  static String buildKey(String drawMethod, int primaryColor, int secondaryColor, int width, int height) {
+    return drawMethod + KEY_SEPARATOR + primaryColor + KEY_SEPARATOR + secondaryColor
+      + KEY_SEPARATOR + width + KEY_SEPARATOR + height;
+  }
+}
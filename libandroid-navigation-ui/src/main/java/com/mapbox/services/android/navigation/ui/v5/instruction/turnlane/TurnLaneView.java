@@ -1,6 +1,7 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction.turnlane;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.PointF;
 import android.support.annotation.NonNull;
@@ -22,11 +23,15 @@ import static com.mapbox.services.android.navigation.ui.v5.instruction.turnlane.
 
 public class TurnLaneView extends View {
 
+  private static final TurnLaneIconCache ICON_CACHE = new TurnLaneIconCache();
+
   private TurnLaneViewData drawData;
   private PointF size;
   private boolean isActive;
   private int primaryColor;
   private int secondaryColor;
+  // Built on the next draw once the lane, colors or size change
+  private String iconKey;
 
   public TurnLaneView(Context context) {
     super(context);
@@ -52,6 +57,7 @@ public class TurnLaneView extends View {
     super.onMeasure(widthMeasureSpec, heightMeasureSpec);
     if (size == null) {
       size = new PointF(getMeasuredWidth(), getMeasuredHeight());
+      iconKey = null;
     }
   }
 
@@ -68,7 +74,48 @@ public class TurnLaneView extends View {
       return;
     }
 
-    switch (drawData.getDrawMethod()) {
+    drawLaneIcon(canvas, drawData.getDrawMethod());
+
+    setAlpha(!isActive ? 0.4f : 1.0f);
+
+    setScaleX(drawData.shouldBeFlipped() ? -1 : 1);
+  }
+
+  public void updateLaneView(@NonNull BannerComponents lane, @NonNull String maneuverModifier) {
+    if (hasInvalidData(lane)) {
+      return;
+    }
+    StringBuilder builder = new StringBuilder();
+    for (String indication : lane.directions()) {
+      builder.append(indication);
+    }
+    String laneIndications = builder.toString();
+    this.drawData = new TurnLaneViewData(laneIndications, maneuverModifier);
+    this.isActive = lane.active();
+    iconKey = null;
+    invalidate();
+  }
+
+  private void drawLaneIcon(Canvas canvas, String drawMethod) {
+    int width = (int) size.x;
+    int height = (int) size.y;
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    if (iconKey == null) {
+      iconKey = TurnLaneIconCache.buildKey(drawMethod, primaryColor, secondaryColor, width, height);
+    }
+    Bitmap icon = ICON_CACHE.get(iconKey);
+    if (icon == null) {
+      icon = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+      drawLane(new Canvas(icon), drawMethod);
+      ICON_CACHE.put(iconKey, icon);
+    }
+    canvas.drawBitmap(icon, 0, 0, null);
+  }
+
+  private void drawLane(Canvas canvas, String drawMethod) {
+    switch (drawMethod) {
       case DRAW_LANE_STRAIGHT:
         LanesStyleKit.drawLaneStraight(canvas, primaryColor, size);
         break;
@@ -91,24 +138,6 @@ public class TurnLaneView extends View {
         LanesStyleKit.drawLaneStraight(canvas, primaryColor, size);
         break;
     }
-
-    setAlpha(!isActive ? 0.4f : 1.0f);
-
-    setScaleX(drawData.shouldBeFlipped() ? -1 : 1);
-  }
-
-  public void updateLaneView(@NonNull BannerComponents lane, @NonNull String maneuverModifier) {
-    if (hasInvalidData(lane)) {
-      return;
-    }
-    StringBuilder builder = new StringBuilder();
-    for (String indication : lane.directions()) {
-      builder.append(indication);
-    }
-    String laneIndications = builder.toString();
-    this.drawData = new TurnLaneViewData(laneIndications, maneuverModifier);
-    this.isActive = lane.active();
-    invalidate();
   }
 
   private boolean hasInvalidData(@NonNull BannerComponents lane) {
@@ -120,5 +149,6 @@ public class TurnLaneView extends View {
       R.attr.navigationViewBannerManeuverPrimary);
     this.secondaryColor = ThemeSwitcher.retrieveThemeColor(getContext(),
       R.attr.navigationViewBannerManeuverSecondary);
+    iconKey = null;
   }
 }
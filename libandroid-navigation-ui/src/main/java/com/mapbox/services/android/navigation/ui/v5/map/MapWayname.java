@@ -4,7 +4,9 @@ import android.graphics.Bitmap;
 import android.graphics.PointF;
 import android.location.Location;
 import android.os.AsyncTask;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.Point;
@@ -15,7 +17,9 @@ import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.iconImage;
@@ -26,18 +30,33 @@ import static com.mapbox.services.android.navigation.v5.navigation.NavigationCon
 class MapWayname {
 
   private static final String NAME_PROPERTY = "name";
+  private static final long MINIMUM_QUERY_INTERVAL_MILLIS = 500;
+  private static final float MINIMUM_QUERY_DISTANCE_METERS = 5f;
+  private static final double CACHE_CELL_DEGREES = 0.0001;
+  private static final int MAXIMUM_CACHED_SEGMENTS = 64;
   private final MapWaynameProgressChangeListener progressChangeListener = new MapWaynameProgressChangeListener(this);
   private final Set<OnWayNameChangedListener> onWayNameChangedListeners;
   private WaynameLayoutProvider layoutProvider;
   private MapLayerInteractor layerInteractor;
   private WaynameFeatureFinder featureInteractor;
   private List<Point> currentStepPoints = new ArrayList<>();
+  private String currentStepKey = "";
   private Location currentLocation = null;
   private MapboxNavigation navigation;
   private boolean isAutoQueryEnabled;
   private boolean isVisible;
   private FeatureFilterTask filterTask;
+  private PendingFilter pendingFilter;
   private String wayname = "";
+  private Location queriedLocation;
+  private String queriedStepKey;
+  private long lastQueryMillis = -MINIMUM_QUERY_INTERVAL_MILLIS;
+  private final Map<String, Feature> segmentFeatureCache = new LinkedHashMap<String, Feature>() {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Feature> eldest) {
+      return size() > MAXIMUM_CACHED_SEGMENTS;
+    }
+  };
 
   MapWayname(WaynameLayoutProvider layoutProvider, MapLayerInteractor layerInteractor,
              WaynameFeatureFinder featureInteractor, MapPaddingAdjustor paddingAdjustor) {
@@ -49,7 +68,12 @@ class MapWayname {
   }
 
   void updateWaynameWithPoint(PointF point, SymbolLayer waynameLayer) {
-    if (!isAutoQueryEnabled) {
+    if (!isAutoQueryEnabled || !shouldQueryWayname()) {
+      return;
+    }
+    Feature cachedFeature = findCachedSegmentFeature();
+    if (cachedFeature != null) {
+      updateWaynameLayerWithNameProperty(waynameLayer, cachedFeature);
       return;
     }
     List<Feature> roadLabelFeatures = findRoadLabelFeatures(point);
@@ -67,10 +91,13 @@ class MapWayname {
     }
   }
 
-  void updateProgress(Location currentLocation, List<Point> currentStepPoints) {
-    if (!this.currentStepPoints.equals(currentStepPoints)) {
-      this.currentStepPoints = currentStepPoints;
-    }
+  /**
+   * The step key identifies the current step (leg and step index), the step points are decoded
+   * into a new list on every progress update and can't be used to tell steps apart.
+   */
+  void updateProgress(Location currentLocation, List<Point> currentStepPoints, String currentStepKey) {
+    this.currentStepPoints = currentStepPoints;
+    this.currentStepKey = currentStepKey;
     if (this.currentLocation == null || !this.currentLocation.equals(currentLocation)) {
       this.currentLocation = currentLocation;
     }
@@ -113,6 +140,7 @@ class MapWayname {
   }
 
   void onStop() {
+    pendingFilter = null;
     if (isTaskRunning()) {
       filterTask.cancel(true);
     }
@@ -126,20 +154,81 @@ class MapWayname {
     return featureInteractor.queryRenderedFeatures(point, layerIds);
   }
 
-  private void executeFeatureFilterTask(List<Feature> roadFeatures, final SymbolLayer waynameLayer) {
+  /**
+   * Rendered features are queried on the main thread, so queries are limited to when the
+   * user has moved or started a new step, and at most every {@link #MINIMUM_QUERY_INTERVAL_MILLIS}.
+   */
+  private boolean shouldQueryWayname() {
+    if (!hasValidProgressData()) {
+      return true;
+    }
+    boolean isNewStep = !currentStepKey.equals(queriedStepKey);
+    boolean hasMoved = queriedLocation == null
+      || queriedLocation.distanceTo(currentLocation) >= MINIMUM_QUERY_DISTANCE_METERS;
+    long currentMillis = SystemClock.uptimeMillis();
+    boolean isIntervalElapsed = currentMillis - lastQueryMillis >= MINIMUM_QUERY_INTERVAL_MILLIS;
+    if (!isNewStep && !(hasMoved && isIntervalElapsed)) {
+      return false;
+    }
+    queriedStepKey = currentStepKey;
+    queriedLocation = currentLocation;
+    lastQueryMillis = currentMillis;
+    return true;
+  }
+
+  @Nullable
+  private Feature findCachedSegmentFeature() {
+    if (!hasValidProgressData()) {
+      return null;
+    }
+    return segmentFeatureCache.get(buildSegmentKey(currentLocation, currentStepKey));
+  }
+
+  /**
+   * A road segment is identified by the current step and the location rounded to a ~10 meter cell.
+   */
+  private String buildSegmentKey(Location location, String stepKey) {
+    long latitudeCell = Math.round(location.getLatitude() / CACHE_CELL_DEGREES);
+    long longitudeCell = Math.round(location.getLongitude() / CACHE_CELL_DEGREES);
+    return stepKey + ":" + latitudeCell + ":" + longitudeCell;
+  }
+
+  /**
+   * Only one filter runs at a time, newer queries replace the pending one and are filtered once
+   * the running filter has finished.
+   */
+  private void executeFeatureFilterTask(List<Feature> roadFeatures, SymbolLayer waynameLayer) {
+    if (!hasValidProgressData()) {
+      return;
+    }
+    PendingFilter filter = new PendingFilter(roadFeatures, currentLocation, currentStepPoints,
+      currentStepKey, waynameLayer);
     if (isTaskRunning()) {
-      filterTask.cancel(true);
+      pendingFilter = filter;
+      return;
     }
+    executeFilter(filter);
+  }
 
-    if (hasValidProgressData()) {
-      filterTask = new FeatureFilterTask(roadFeatures, currentLocation, currentStepPoints,
-        new OnFeatureFilteredCallback() {
-          @Override
-          public void onFeatureFiltered(@NonNull Feature feature) {
-            updateWaynameLayerWithNameProperty(waynameLayer, feature);
-          }
-        });
-      filterTask.execute();
+  private void executeFilter(final PendingFilter filter) {
+    final String segmentKey = buildSegmentKey(filter.location, filter.stepKey);
+    filterTask = new FeatureFilterTask(filter.roadFeatures, filter.location, filter.stepPoints,
+      new OnFeatureFilteredCallback() {
+        @Override
+        public void onFeatureFiltered(@NonNull Feature feature) {
+          segmentFeatureCache.put(segmentKey, feature);
+          updateWaynameLayerWithNameProperty(filter.waynameLayer, feature);
+          executePendingFilter();
+        }
+      });
+    filterTask.execute();
+  }
+
+  private void executePendingFilter() {
+    if (pendingFilter != null) {
+      PendingFilter filter = pendingFilter;
+      pendingFilter = null;
+      executeFilter(filter);
     }
   }
 
@@ -205,4 +294,22 @@ class MapWayname {
       listener.onWayNameChanged(currentWayName);
     }
   }
+
+  private static class PendingFilter {
+
+    private final List<Feature> roadFeatures;
+    private final Location location;
+    private final List<Point> stepPoints;
+    private final String stepKey;
+    private final SymbolLayer waynameLayer;
+
+    PendingFilter(List<Feature> roadFeatures, Location location, List<Point> stepPoints, String stepKey,
+                  SymbolLayer waynameLayer) {
+      this.roadFeatures = roadFeatures;
+      this.location = location;
+      this.stepPoints = stepPoints;
+      this.stepKey = stepKey;
+      this.waynameLayer = waynameLayer;
+    }
+  }
 }
@@ -15,6 +15,7 @@ class MapWaynameProgressChangeListener implements ProgressChangeListener {
 
   @Override
   public void onProgressChange(Location location, RouteProgress routeProgress) {
-    mapWayname.updateProgress(location, routeProgress.currentStepPoints());
+    String stepKey = routeProgress.legIndex() + ":" + routeProgress.currentLegProgress().stepIndex();
+    mapWayname.updateProgress(location, routeProgress.currentStepPoints(), stepKey);
   }
 }
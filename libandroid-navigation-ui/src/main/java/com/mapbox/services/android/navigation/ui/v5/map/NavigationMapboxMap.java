@@ -363,6 +363,19 @@ public class NavigationMapboxMap {
     mapCamera.showRouteOverview(padding);
   }
 
+  /**
+   * Adjusts the map camera to the part of the {@link DirectionsRoute} that's left to travel.
+   * <p>
+   * Also includes the given padding.
+   *
+   * @param padding for creating the overview camera position
+   * @since 0.24.0
+   */
+  public void showRemainingRouteOverview(int[] padding) {
+    mapPaddingAdjustor.updatePaddingWith(ZERO_MAP_PADDING);
+    mapCamera.showRemainingRouteOverview(padding);
+  }
+
   /**
    * Set the text of the way name chip underneath the location icon.
    * <p>
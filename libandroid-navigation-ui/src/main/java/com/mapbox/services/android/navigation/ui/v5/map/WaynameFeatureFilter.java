@@ -9,33 +9,48 @@ import com.mapbox.geojson.Geometry;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.MultiLineString;
 import com.mapbox.geojson.Point;
-import com.mapbox.turf.TurfMeasurement;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 
-import static com.mapbox.turf.TurfConstants.UNIT_METRES;
-import static com.mapbox.turf.TurfMeasurement.along;
-import static com.mapbox.turf.TurfMisc.lineSlice;
-import static com.mapbox.turf.TurfMisc.lineSliceAlong;
-
+/**
+ * Picks the road label feature the user is travelling along.
+ * <p>
+ * All coordinates are projected onto a local planar frame in meters centered on the user,
+ * which is accurate at the scale of a rendered feature query. The point 10 meters ahead of the
+ * user on the current step is compared with the points 10 meters ahead and behind the user on
+ * each candidate line, and the closest candidate wins.
+ */
 class WaynameFeatureFilter {
 
   private static final int FIRST = 0;
   private static final int ONE_FEATURE = 1;
   private static final int TWO_POINTS = 2;
-  private static final double ZERO_METERS = 0d;
-  private static final double TEN = 10d;
+  private static final double TEN_METERS = 10d;
+  private static final double EARTH_RADIUS_METERS = 6371008.8;
+  private static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180d;
+  private static final double FORWARD = 1d;
+  private static final double BACKWARD = -1d;
+
   private final List<Feature> queriedFeatures;
   private final Point currentPoint;
-  private final LineString currentStepLineString;
+  private final List<Point> currentStepPoints;
+  private final double originLongitude;
+  private final double originLatitude;
+  private final double metersPerDegreeLongitude;
+
+  // Result of the last nearest point and walk calculation, reused across candidates
+  private int nearestSegment;
+  private double nearestFraction;
+  private double walkX;
+  private double walkY;
 
   WaynameFeatureFilter(List<Feature> queriedFeatures, Location currentLocation, List<Point> currentStepPoints) {
-    this.queriedFeatures = new ArrayList<>(new HashSet<>(queriedFeatures));
+    this.queriedFeatures = queriedFeatures;
     this.currentPoint = Point.fromLngLat(currentLocation.getLongitude(), currentLocation.getLatitude());
-    this.currentStepLineString = LineString.fromLngLats(currentStepPoints);
+    this.currentStepPoints = currentStepPoints;
+    originLongitude = currentPoint.longitude();
+    originLatitude = currentPoint.latitude();
+    metersPerDegreeLongitude = METERS_PER_DEGREE * Math.cos(Math.toRadians(originLatitude));
   }
 
   @NonNull
@@ -49,89 +64,44 @@ class WaynameFeatureFilter {
     if (queriedFeatures.size() == ONE_FEATURE) {
       return filteredFeature;
     }
+    int stepCoordinatesSize = currentStepPoints.size();
+    if (stepCoordinatesSize < TWO_POINTS) {
+      return filteredFeature;
+    }
+    if (currentPoint.equals(currentStepPoints.get(stepCoordinatesSize - 1))) {
+      return filteredFeature;
+    }
+    findNearestPoint(currentStepPoints);
+    walkAlong(currentStepPoints, TEN_METERS, FORWARD);
+    double aheadUserX = walkX;
+    double aheadUserY = walkY;
+
     double smallestUserDistanceToFeature = Double.POSITIVE_INFINITY;
-    for (Feature feature : queriedFeatures) {
+    for (int i = 0; i < queriedFeatures.size(); i++) {
+      Feature feature = queriedFeatures.get(i);
       Geometry featureGeometry = feature.geometry();
-      if (featureGeometry == null) {
-        continue;
-      }
-      List<LineString> featureLineStrings = new ArrayList<>();
+      double distanceToFeature = Double.POSITIVE_INFINITY;
       if (featureGeometry instanceof LineString) {
-        featureLineStrings.add((LineString) featureGeometry);
+        distanceToFeature = calculateDistanceToLine(((LineString) featureGeometry).coordinates(),
+          aheadUserX, aheadUserY);
       } else if (featureGeometry instanceof MultiLineString) {
-        featureLineStrings = ((MultiLineString) featureGeometry).lineStrings();
-      }
-
-      for (LineString featureLineString : featureLineStrings) {
-        List<Point> currentStepCoordinates = currentStepLineString.coordinates();
-        int stepCoordinatesSize = currentStepCoordinates.size();
-        if (stepCoordinatesSize < TWO_POINTS) {
-          return filteredFeature;
-        }
-        int lastStepCoordinate = stepCoordinatesSize - 1;
-        Point lastStepPoint = currentStepCoordinates.get(lastStepCoordinate);
-        if (currentPoint.equals(lastStepPoint)) {
-          return filteredFeature;
-        }
-        List<Point> lineCoordinates = featureLineString.coordinates();
-        int lineCoordinatesSize = lineCoordinates.size();
-        if (lineCoordinatesSize < TWO_POINTS) {
-          return filteredFeature;
-        }
-        int lastLineCoordinate = lineCoordinatesSize - 1;
-        Point lastLinePoint = lineCoordinates.get(lastLineCoordinate);
-        if (currentPoint.equals(lastLinePoint)) {
-          return filteredFeature;
-        }
-
-        Point firstLinePoint = lineCoordinates.get(FIRST);
-        if (currentPoint.equals(firstLinePoint)) {
-          return filteredFeature;
-        }
-
-        LineString stepSliceFromCurrentPoint = lineSlice(currentPoint, lastStepPoint, currentStepLineString);
-        Point pointAheadUserOnStep = along(stepSliceFromCurrentPoint, TEN, UNIT_METRES);
-        LineString reversedFeatureLine = reverseFeatureLineStringCoordinates(featureLineString);
-        LineString currentAheadLine = reversedFeatureLine;
-        LineString currentBehindLine = featureLineString;
-
-        Point currentDirectionAhead = firstLinePoint;
-        Point currentDirectionBehind = lastLinePoint;
-
-        double distanceCurrentFirst = calculateDistance(currentPoint, firstLinePoint);
-        double distanceAheadFirst = calculateDistance(pointAheadUserOnStep, firstLinePoint);
-        if (distanceAheadFirst >= distanceCurrentFirst) {
-          currentAheadLine = featureLineString;
-          currentBehindLine = reversedFeatureLine;
-          currentDirectionAhead = lastLinePoint;
-          currentDirectionBehind = firstLinePoint;
-        }
-
-        LineString sliceFromCurrentPoint = lineSlice(currentPoint, currentDirectionAhead, currentAheadLine);
-        Point pointAheadFeature = along(sliceFromCurrentPoint, TEN, UNIT_METRES);
-        LineString reverseSliceFromCurrentPoint = lineSlice(currentPoint, currentDirectionBehind, currentBehindLine);
-        Point pointBehindFeature = along(reverseSliceFromCurrentPoint, TEN, UNIT_METRES);
-
-        double userDistanceToAheadFeature = calculateDistance(pointAheadUserOnStep, pointAheadFeature);
-        double userDistanceToBehindFeature = calculateDistance(pointAheadUserOnStep, pointBehindFeature);
-        double minDistanceToFeature = Math.min(userDistanceToAheadFeature, userDistanceToBehindFeature);
-
-        if (minDistanceToFeature < smallestUserDistanceToFeature) {
-          smallestUserDistanceToFeature = minDistanceToFeature;
-          filteredFeature = feature;
+        List<List<Point>> lines = ((MultiLineString) featureGeometry).coordinates();
+        for (int line = 0; line < lines.size(); line++) {
+          distanceToFeature = Math.min(distanceToFeature,
+            calculateDistanceToLine(lines.get(line), aheadUserX, aheadUserY));
         }
       }
+      if (distanceToFeature < smallestUserDistanceToFeature) {
+        smallestUserDistanceToFeature = distanceToFeature;
+        filteredFeature = feature;
+      }
     }
     return filteredFeature;
   }
 
-  private double calculateDistance(Point lhs, Point rhs) {
-    if (lhs == null || rhs == null) {
-      return Double.POSITIVE_INFINITY;
-    }
-    return TurfMeasurement.distance(lhs, rhs);
-  }
-
+  /**
+   * @return closest point on the line to the current point, or null if the line is invalid
+   */
   @Nullable
   Point findPointFromCurrentPoint(Point currentPoint, LineString lineString) {
     List<Point> lineStringCoordinates = lineString.coordinates();
@@ -143,19 +113,97 @@ class WaynameFeatureFilter {
     if (currentPoint == null || currentPoint.equals(lastLinePoint)) {
       return null;
     }
-    LineString sliceFromCurrentPoint = lineSlice(currentPoint, lastLinePoint, lineString);
-    LineString meterSlice = lineSliceAlong(sliceFromCurrentPoint, ZERO_METERS, (double) 10, UNIT_METRES);
-    List<Point> slicePoints = meterSlice.coordinates();
-    if (slicePoints.isEmpty()) {
-      return null;
+    findNearestPoint(lineStringCoordinates, projectX(currentPoint), projectY(currentPoint));
+    walkAlong(lineStringCoordinates, 0, FORWARD);
+    return Point.fromLngLat(
+      originLongitude + walkX / metersPerDegreeLongitude,
+      originLatitude + walkY / METERS_PER_DEGREE
+    );
+  }
+
+  private double calculateDistanceToLine(List<Point> lineCoordinates, double aheadUserX, double aheadUserY) {
+    if (lineCoordinates.size() < TWO_POINTS) {
+      return Double.POSITIVE_INFINITY;
     }
-    return slicePoints.get(FIRST);
+    findNearestPoint(lineCoordinates);
+    int segment = nearestSegment;
+    double fraction = nearestFraction;
+
+    walkAlong(lineCoordinates, TEN_METERS, FORWARD);
+    double distanceAhead = Math.hypot(walkX - aheadUserX, walkY - aheadUserY);
+
+    nearestSegment = segment;
+    nearestFraction = fraction;
+    walkAlong(lineCoordinates, TEN_METERS, BACKWARD);
+    double distanceBehind = Math.hypot(walkX - aheadUserX, walkY - aheadUserY);
+    return Math.min(distanceAhead, distanceBehind);
   }
 
-  @NonNull
-  private LineString reverseFeatureLineStringCoordinates(LineString featureLineString) {
-    List<Point> reversedFeatureCoordinates = new ArrayList<>(featureLineString.coordinates());
-    Collections.reverse(reversedFeatureCoordinates);
-    return LineString.fromLngLats(reversedFeatureCoordinates);
+  private void findNearestPoint(List<Point> coordinates) {
+    // The frame is centered on the current point
+    findNearestPoint(coordinates, 0, 0);
+  }
+
+  private void findNearestPoint(List<Point> coordinates, double x, double y) {
+    double smallestDistance = Double.POSITIVE_INFINITY;
+    double startX = projectX(coordinates.get(FIRST));
+    double startY = projectY(coordinates.get(FIRST));
+    for (int i = 0; i < coordinates.size() - 1; i++) {
+      double endX = projectX(coordinates.get(i + 1));
+      double endY = projectY(coordinates.get(i + 1));
+      double dx = endX - startX;
+      double dy = endY - startY;
+      double lengthSquared = dx * dx + dy * dy;
+      double fraction = 0;
+      if (lengthSquared > 0) {
+        fraction = Math.max(0, Math.min(1, ((x - startX) * dx + (y - startY) * dy) / lengthSquared));
+      }
+      double distance = Math.hypot(x - (startX + fraction * dx), y - (startY + fraction * dy));
+      if (distance < smallestDistance) {
+        smallestDistance = distance;
+        nearestSegment = i;
+        nearestFraction = fraction;
+      }
+      startX = endX;
+      startY = endY;
+    }
+  }
+
+  /**
+   * Walks the given distance from the nearest point along the line, stopping at its ends.
+   */
+  private void walkAlong(List<Point> coordinates, double distance, double direction) {
+    int segment = nearestSegment;
+    double startX = projectX(coordinates.get(segment));
+    double startY = projectY(coordinates.get(segment));
+    double endX = projectX(coordinates.get(segment + 1));
+    double endY = projectY(coordinates.get(segment + 1));
+    walkX = startX + nearestFraction * (endX - startX);
+    walkY = startY + nearestFraction * (endY - startY);
+    double remaining = distance;
+    int index = direction == FORWARD ? segment + 1 : segment;
+    while (remaining > 0 && index >= 0 && index < coordinates.size()) {
+      double nextX = projectX(coordinates.get(index));
+      double nextY = projectY(coordinates.get(index));
+      double length = Math.hypot(nextX - walkX, nextY - walkY);
+      if (length >= remaining) {
+        double ratio = remaining / length;
+        walkX += (nextX - walkX) * ratio;
+        walkY += (nextY - walkY) * ratio;
+        return;
+      }
+      remaining -= length;
+      walkX = nextX;
+      walkY = nextY;
+      index += (int) direction;
+    }
+  }
+
+  private double projectX(Point point) {
+    return (point.longitude() - originLongitude) * metersPerDegreeLongitude;
+  }
+
+  private double projectY(Point point) {
+    return (point.latitude() - originLatitude) * METERS_PER_DEGREE;
   }
 }
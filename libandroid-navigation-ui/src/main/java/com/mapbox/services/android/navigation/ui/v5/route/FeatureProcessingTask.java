@@ -0,0 +1,54 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.os.AsyncTask;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class FeatureProcessingTask extends AsyncTask<Void, Void, Void> {
+
+  private final List<DirectionsRoute> routes;
+  private final int primaryRouteIndex;
+  private final OnRouteFeaturesProcessedCallback callback;
+  private final RouteFeatureBuilder featureBuilder = new RouteFeatureBuilder();
+  private final List<FeatureCollection> featureCollections = new ArrayList<>();
+  private final List<LineString> routeLineStrings = new ArrayList<>();
+  private final List<RouteStepFractions> routeStepFractions = new ArrayList<>();
+  private RouteSegmentIndex routeSegmentIndex;
+
+  FeatureProcessingTask(List<DirectionsRoute> routes, int primaryRouteIndex,
+                        OnRouteFeaturesProcessedCallback callback) {
+    this.routes = new ArrayList<>(routes);
+    this.primaryRouteIndex = primaryRouteIndex;
+    this.callback = callback;
+  }
+
+  @Override
+  protected Void doInBackground(Void... voids) {
+    // Each route contains traffic information and should be recreated considering this traffic
+    // information.
+    for (int i = 0; i < routes.size(); i++) {
+      if (isCancelled()) {
+        return null;
+      }
+      DirectionsRoute route = routes.get(i);
+      featureCollections.add(featureBuilder.buildRouteFeatureCollection(route, i));
+      routeLineStrings.add(featureBuilder.retrieveRouteLineString());
+      routeStepFractions.add(featureBuilder.buildStepFractions(route));
+    }
+    routeSegmentIndex = new RouteSegmentIndex(routeLineStrings);
+    // Add the waypoint geometries to represent them as an icon
+    featureCollections.add(featureBuilder.buildWaypointFeatureCollection(routes.get(primaryRouteIndex)));
+    return null;
+  }
+
+  @Override
+  protected void onPostExecute(Void result) {
+    super.onPostExecute(result);
+    callback.onRouteFeaturesProcessed(featureCollections, routeSegmentIndex, routeStepFractions);
+  }
+}
@@ -0,0 +1,40 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMisc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Calculates the upcoming maneuver arrow: the last stretch of the current step followed by
+ * the first stretch of the upcoming step.
+ */
+class ManeuverArrowGeometry {
+
+  private static final int ARROW_LENGTH_METERS = 30;
+
+  @NonNull
+  List<Point> calculateArrowPoints(List<Point> currentStepPoints, List<Point> upcomingStepPoints) {
+    List<Point> reversedCurrent = new ArrayList<>(currentStepPoints);
+    Collections.reverse(reversedCurrent);
+
+    LineString arrowLineCurrent = LineString.fromLngLats(reversedCurrent);
+    LineString arrowLineUpcoming = LineString.fromLngLats(upcomingStepPoints);
+
+    LineString arrowCurrentSliced = TurfMisc.lineSliceAlong(arrowLineCurrent, 0,
+      ARROW_LENGTH_METERS, TurfConstants.UNIT_METERS);
+    LineString arrowUpcomingSliced = TurfMisc.lineSliceAlong(arrowLineUpcoming, 0,
+      ARROW_LENGTH_METERS, TurfConstants.UNIT_METERS);
+
+    List<Point> combined = new ArrayList<>(arrowCurrentSliced.coordinates());
+    Collections.reverse(combined);
+    combined.addAll(arrowUpcomingSliced.coordinates());
+    return combined;
+  }
+}
@@ -0,0 +1,35 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.os.AsyncTask;
+
+import com.mapbox.geojson.Point;
+
+import java.util.List;
+
+class ManeuverArrowTask extends AsyncTask<Void, Void, List<Point>> {
+
+  private final ManeuverArrowGeometry arrowGeometry = new ManeuverArrowGeometry();
+  private final long stepKey;
+  private final List<Point> currentStepPoints;
+  private final List<Point> upcomingStepPoints;
+  private final OnManeuverArrowCalculatedCallback callback;
+
+  ManeuverArrowTask(long stepKey, List<Point> currentStepPoints, List<Point> upcomingStepPoints,
+                    OnManeuverArrowCalculatedCallback callback) {
+    this.stepKey = stepKey;
+    this.currentStepPoints = currentStepPoints;
+    this.upcomingStepPoints = upcomingStepPoints;
+    this.callback = callback;
+  }
+
+  @Override
+  protected List<Point> doInBackground(Void... voids) {
+    return arrowGeometry.calculateArrowPoints(currentStepPoints, upcomingStepPoints);
+  }
+
+  @Override
+  protected void onPostExecute(List<Point> arrowPoints) {
+    super.onPostExecute(arrowPoints);
+    callback.onManeuverArrowCalculated(stepKey, arrowPoints);
+  }
+}
@@ -27,6 +27,7 @@ class MapRouteProgressChangeListener implements ProgressChangeListener {
     int primaryRouteIndex = mapRoute.retrievePrimaryRouteIndex();
     addNewRoute(currentRoute, directionsRoutes, primaryRouteIndex);
     mapRoute.addUpcomingManeuverArrow(routeProgress);
+    mapRoute.updateRouteTraveledProgress(routeProgress);
   }
 
   void updateVisibility(boolean isVisible) {
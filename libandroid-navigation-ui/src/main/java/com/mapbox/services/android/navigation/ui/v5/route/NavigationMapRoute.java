@@ -7,6 +7,8 @@ import android.content.Context;
 import android.content.res.TypedArray;
 import android.graphics.Bitmap;
 import android.graphics.drawable.Drawable;
+import android.os.AsyncTask;
+import android.os.SystemClock;
 import android.support.annotation.ColorInt;
 import android.support.annotation.DrawableRes;
 import android.support.annotation.NonNull;
@@ -18,8 +20,6 @@ import android.support.v4.graphics.drawable.DrawableCompat;
 import android.support.v7.content.res.AppCompatResources;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
-import com.mapbox.api.directions.v5.models.RouteLeg;
-import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
@@ -41,24 +41,26 @@ import com.mapbox.services.android.navigation.ui.v5.utils.MapImageUtils;
 import com.mapbox.services.android.navigation.ui.v5.utils.MapUtils;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
-import com.mapbox.turf.TurfConstants;
 import com.mapbox.turf.TurfMeasurement;
-import com.mapbox.turf.TurfMisc;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import static com.mapbox.mapboxsdk.style.expressions.Expression.color;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.exponential;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.get;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.has;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.interpolate;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.linear;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.literal;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.match;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.not;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.step;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.stop;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.zoom;
@@ -87,18 +89,24 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
  */
 public class NavigationMapRoute implements LifecycleObserver {
 
-  private static final String CONGESTION_KEY = "congestion";
-  private static final String SOURCE_KEY = "source";
-  private static final String INDEX_KEY = "index";
-
-  private static final String GENERIC_ROUTE_SOURCE_ID = "mapbox-navigation-route-source";
+  static final String CONGESTION_KEY = "congestion";
+  static final String CONGESTION_START_KEY = "congestion-start";
+  static final String CONGESTION_END_KEY = "congestion-end";
+  private static final String MODERATE_CONGESTION = "moderate";
+  private static final String HEAVY_CONGESTION = "heavy";
+  private static final String SEVERE_CONGESTION = "severe";
+  static final String SOURCE_KEY = "source";
+  static final String INDEX_KEY = "index";
+  static final String WAYPOINT_KEY = "waypoint";
+
+  static final String GENERIC_ROUTE_SOURCE_ID = "mapbox-navigation-route-source";
   private static final String GENERIC_ROUTE_LAYER_ID = "mapbox-navigation-route-layer";
-  private static final String WAYPOINT_SOURCE_ID = "mapbox-navigation-waypoint-source";
+  static final String WAYPOINT_SOURCE_ID = "mapbox-navigation-waypoint-source";
   private static final String WAYPOINT_LAYER_ID = "mapbox-navigation-waypoint-layer";
-  private static final String ID_FORMAT = "%s-%d";
+  static final String ID_FORMAT = "%s-%d";
   private static final String GENERIC_ROUTE_SHIELD_LAYER_ID = "mapbox-navigation-route-shield-layer";
   private static final int TWO_POINTS = 2;
-  private static final int THIRTY = 30;
+  private static final long INVALID_STEP_KEY = -1;
   private static final String ARROW_BEARING = "mapbox-navigation-arrow-bearing";
   private static final String ARROW_SHAFT_SOURCE_ID = "mapbox-navigation-arrow-shaft-source";
   private static final String ARROW_HEAD_SOURCE_ID = "mapbox-navigation-arrow-head-source";
@@ -145,6 +153,9 @@ public class NavigationMapRoute implements LifecycleObserver {
   @ColorInt
   private int routeShieldColor;
   @ColorInt
+  private int routeTraveledColor;
+  private boolean isRouteTraveledColorSet;
+  @ColorInt
   private int arrowColor;
   @ColorInt
   private int arrowBorderColor;
@@ -155,7 +166,7 @@ public class NavigationMapRoute implements LifecycleObserver {
 
   private MapboxNavigation navigation;
   private final MapboxMap mapboxMap;
-  private final HashMap<LineString, DirectionsRoute> routeLineStrings;
+  private RouteSegmentIndex routeSegmentIndex;
   private final List<FeatureCollection> featureCollections;
   private final List<DirectionsRoute> directionsRoutes;
   private final List<String> layerIds;
@@ -176,6 +187,13 @@ public class NavigationMapRoute implements LifecycleObserver {
   private boolean isMapClickListenerAdded = false;
   private MapView.OnDidFinishLoadingStyleListener didFinishLoadingStyleListener;
   private boolean isDidFinishLoadingStyleListenerAdded = false;
+  private FeatureProcessingTask featureProcessingTask;
+  private final RouteLineTraveledProgress traveledProgress = new RouteLineTraveledProgress();
+  private RouteLineGradient primaryRouteGradient;
+  private final List<RouteStepFractions> routeStepFractions = new ArrayList<>();
+  private final HashMap<Long, List<Point>> arrowPointsCache = new HashMap<>();
+  private ManeuverArrowTask maneuverArrowTask;
+  private long arrowStepKey = INVALID_STEP_KEY;
 
   /**
    * Construct an instance of {@link NavigationMapRoute}.
@@ -264,7 +282,6 @@ public class NavigationMapRoute implements LifecycleObserver {
     this.belowLayer = belowLayer;
     featureCollections = new ArrayList<>();
     directionsRoutes = new ArrayList<>();
-    routeLineStrings = new HashMap<>();
     layerIds = new ArrayList<>();
     initialize();
     addListeners();
@@ -283,7 +300,6 @@ public class NavigationMapRoute implements LifecycleObserver {
     this.belowLayer = belowLayer;
     featureCollections = new ArrayList<>();
     directionsRoutes = new ArrayList<>();
-    routeLineStrings = new HashMap<>();
     layerIds = new ArrayList<>();
     this.mapClickListener = mapClickListener;
     this.didFinishLoadingStyleListener = didFinishLoadingStyleListener;
@@ -319,9 +335,7 @@ public class NavigationMapRoute implements LifecycleObserver {
     this.directionsRoutes.addAll(directionsRoutes);
     primaryRouteIndex = 0;
     alternativesVisible = directionsRoutes.size() > 1;
-    generateFeatureCollectionList(directionsRoutes);
-    drawRoutes();
-    addDirectionWaypoints();
+    executeFeatureProcessingTask(directionsRoutes);
   }
 
   /**
@@ -363,20 +377,50 @@ public class NavigationMapRoute implements LifecycleObserver {
     }
   }
 
+  /**
+   * The arrow geometry only changes with the current step, so it's calculated once per step
+   * transition on a background thread and cached for the lifetime of the route.
+   */
   void addUpcomingManeuverArrow(RouteProgress routeProgress) {
     boolean invalidUpcomingStepPoints = routeProgress.upcomingStepPoints() == null
       || routeProgress.upcomingStepPoints().size() < TWO_POINTS;
     boolean invalidCurrentStepPoints = routeProgress.currentStepPoints().size() < TWO_POINTS;
     if (invalidUpcomingStepPoints || invalidCurrentStepPoints) {
+      arrowStepKey = INVALID_STEP_KEY;
       updateArrowLayersVisibilityTo(false);
       return;
     }
-    updateArrowLayersVisibilityTo(true);
+    long stepKey = buildStepKey(routeProgress);
+    if (stepKey == arrowStepKey) {
+      return;
+    }
+    arrowStepKey = stepKey;
 
-    List<Point> maneuverPoints = obtainArrowPointsFrom(routeProgress);
+    List<Point> maneuverPoints = arrowPointsCache.get(stepKey);
+    if (maneuverPoints != null) {
+      updateArrowWith(maneuverPoints);
+      return;
+    }
+    updateArrowLayersVisibilityTo(false);
+    executeManeuverArrowTask(stepKey, routeProgress);
+  }
 
-    updateArrowShaftWith(maneuverPoints);
-    updateArrowHeadWith(maneuverPoints);
+  /**
+   * Draws the traveled portion of the primary route line with a line-gradient stop, so the
+   * route source doesn't need to be re-uploaded on each progress update.  Only applies when
+   * the style sets a routeTraveledColor.
+   */
+  void updateRouteTraveledProgress(RouteProgress routeProgress) {
+    if (primaryRouteGradient == null || primaryRouteIndex >= routeStepFractions.size()) {
+      return;
+    }
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    float traveledFraction = routeStepFractions.get(primaryRouteIndex).calculateTraveledFraction(
+      routeProgress.legIndex(), legProgress.stepIndex(), legProgress.currentStepProgress().fractionTraveled());
+    if (!traveledProgress.update(traveledFraction, SystemClock.uptimeMillis())) {
+      return;
+    }
+    updatePrimaryRouteGradient();
   }
 
   List<DirectionsRoute> retrieveDirectionsRoutes() {
@@ -418,9 +462,11 @@ public class NavigationMapRoute implements LifecycleObserver {
     // Add all the sources, the list is traversed backwards to ensure the primary route always gets
     // drawn on top of the others since it initially has a index of zero.
     for (int i = featureCollections.size() - 1; i >= 0; i--) {
+      // Line metrics are required for the line-progress based traveled route gradient
       MapUtils.updateMapSourceFromFeatureCollection(
         mapboxMap, featureCollections.get(i),
-        featureCollections.get(i).features().get(0).getStringProperty(SOURCE_KEY)
+        featureCollections.get(i).features().get(0).getStringProperty(SOURCE_KEY),
+        new GeoJsonOptions().withMaxZoom(16).withLineMetrics(true)
       );
 
       // Get some required information for the next step
@@ -438,39 +484,47 @@ public class NavigationMapRoute implements LifecycleObserver {
       addRouteShieldLayer(layerIds.get(layerIds.size() - 2), sourceId, index);
       addRouteLayer(layerIds.get(layerIds.size() - 1), sourceId, index);
     }
+    drawPrimaryRouteGradient();
     progressChangeListener.updateVisibility(true);
   }
 
   private void clearRoutes() {
+    cancelFeatureProcessingTask();
+    cancelManeuverArrowTask();
+    arrowPointsCache.clear();
+    arrowStepKey = INVALID_STEP_KEY;
     removeLayerIds();
     clearRouteListData();
+    primaryRouteGradient = null;
     updateArrowLayersVisibilityTo(false);
     progressChangeListener.updateVisibility(false);
   }
 
-  private void generateFeatureCollectionList(List<DirectionsRoute> directionsRoutes) {
-    // Each route contains traffic information and should be recreated considering this traffic
-    // information.
-    for (int i = 0; i < directionsRoutes.size(); i++) {
-      featureCollections.add(addTrafficToSource(directionsRoutes.get(i), i));
-    }
-
-    // Add the waypoint geometries to represent them as an icon
-    featureCollections.add(
-      waypointFeatureCollection(directionsRoutes.get(primaryRouteIndex))
-    );
-  }
-
   /**
-   * The routes also display an icon for each waypoint in the route, we use symbol layers for this.
+   * Building the route features scales with the route geometry size, so it's done on a
+   * background thread and the routes are drawn once the features are ready.
    */
-  private FeatureCollection waypointFeatureCollection(DirectionsRoute route) {
-    final List<Feature> waypointFeatures = new ArrayList<>();
-    for (RouteLeg leg : route.legs()) {
-      waypointFeatures.add(getPointFromLineString(leg, 0));
-      waypointFeatures.add(getPointFromLineString(leg, leg.steps().size() - 1));
+  private void executeFeatureProcessingTask(List<DirectionsRoute> directionsRoutes) {
+    featureProcessingTask = new FeatureProcessingTask(directionsRoutes, primaryRouteIndex,
+      new OnRouteFeaturesProcessedCallback() {
+        @Override
+        public void onRouteFeaturesProcessed(@NonNull List<FeatureCollection> featureCollections,
+                                             @NonNull RouteSegmentIndex routeSegmentIndex,
+                                             @NonNull List<RouteStepFractions> routeStepFractions) {
+          NavigationMapRoute.this.featureCollections.addAll(featureCollections);
+          NavigationMapRoute.this.routeSegmentIndex = routeSegmentIndex;
+          NavigationMapRoute.this.routeStepFractions.addAll(routeStepFractions);
+          drawRoutes();
+          addDirectionWaypoints();
+        }
+      });
+    featureProcessingTask.execute();
+  }
+
+  private void cancelFeatureProcessingTask() {
+    if (featureProcessingTask != null && featureProcessingTask.getStatus() != AsyncTask.Status.FINISHED) {
+      featureProcessingTask.cancel(true);
     }
-    return FeatureCollection.fromFeatures(waypointFeatures);
   }
 
   private void addDirectionWaypoints() {
@@ -495,22 +549,37 @@ public class NavigationMapRoute implements LifecycleObserver {
     }
   }
 
-  private List<Point> obtainArrowPointsFrom(RouteProgress routeProgress) {
-    List<Point> reversedCurrent = new ArrayList<>(routeProgress.currentStepPoints());
-    Collections.reverse(reversedCurrent);
-
-    LineString arrowLineCurrent = LineString.fromLngLats(reversedCurrent);
-    LineString arrowLineUpcoming = LineString.fromLngLats(routeProgress.upcomingStepPoints());
+  private long buildStepKey(RouteProgress routeProgress) {
+    long legIndex = routeProgress.legIndex();
+    long stepIndex = routeProgress.currentLegProgress().stepIndex();
+    return (legIndex << Integer.SIZE) | stepIndex;
+  }
 
-    LineString arrowCurrentSliced = TurfMisc.lineSliceAlong(arrowLineCurrent, 0, THIRTY, TurfConstants.UNIT_METERS);
-    LineString arrowUpcomingSliced = TurfMisc.lineSliceAlong(arrowLineUpcoming, 0, THIRTY, TurfConstants.UNIT_METERS);
+  private void executeManeuverArrowTask(long stepKey, RouteProgress routeProgress) {
+    cancelManeuverArrowTask();
+    maneuverArrowTask = new ManeuverArrowTask(stepKey, routeProgress.currentStepPoints(),
+      routeProgress.upcomingStepPoints(), new OnManeuverArrowCalculatedCallback() {
+        @Override
+        public void onManeuverArrowCalculated(long calculatedStepKey, @NonNull List<Point> arrowPoints) {
+          arrowPointsCache.put(calculatedStepKey, arrowPoints);
+          if (calculatedStepKey == arrowStepKey) {
+            updateArrowWith(arrowPoints);
+          }
+        }
+      });
+    maneuverArrowTask.execute();
+  }
 
-    Collections.reverse(arrowCurrentSliced.coordinates());
+  private void cancelManeuverArrowTask() {
+    if (maneuverArrowTask != null && maneuverArrowTask.getStatus() != AsyncTask.Status.FINISHED) {
+      maneuverArrowTask.cancel(true);
+    }
+  }
 
-    List<Point> combined = new ArrayList<>();
-    combined.addAll(arrowCurrentSliced.coordinates());
-    combined.addAll(arrowUpcomingSliced.coordinates());
-    return combined;
+  private void updateArrowWith(List<Point> maneuverPoints) {
+    updateArrowLayersVisibilityTo(true);
+    updateArrowShaftWith(maneuverPoints);
+    updateArrowHeadWith(maneuverPoints);
   }
 
   private void updateArrowShaftWith(List<Point> points) {
@@ -527,6 +596,7 @@ public class NavigationMapRoute implements LifecycleObserver {
   }
 
   private void initializeUpcomingManeuverArrow() {
+    arrowStepKey = INVALID_STEP_KEY;
     arrowShaftGeoJsonSource = (GeoJsonSource) mapboxMap.getSource(ARROW_SHAFT_SOURCE_ID);
     arrowHeadGeoJsonSource = (GeoJsonSource) mapboxMap.getSource(ARROW_HEAD_SOURCE_ID);
 
@@ -710,18 +780,13 @@ public class NavigationMapRoute implements LifecycleObserver {
     Layer layer = mapboxMap.getLayer(layerId);
     if (layer != null) {
       layer.setProperties(
-        PropertyFactory.lineColor(match(
-          Expression.toString(get(CONGESTION_KEY)),
-          color(index == primaryRouteIndex ? routeDefaultColor : alternativeRouteDefaultColor),
-          stop("moderate", color(index == primaryRouteIndex ? routeModerateColor : alternativeRouteModerateColor)),
-          stop("heavy", color(index == primaryRouteIndex ? routeSevereColor : alternativeRouteSevereColor)),
-          stop("severe", color(index == primaryRouteIndex ? routeSevereColor : alternativeRouteSevereColor))
-          )
-        )
+        PropertyFactory.lineColor(buildRouteColorExpression(index))
       );
       if (index == primaryRouteIndex) {
         mapboxMap.removeLayer(layer);
         mapboxMap.addLayerBelow(layer, WAYPOINT_LAYER_ID);
+      } else {
+        clearRouteGradient(layer);
       }
     }
   }
@@ -735,6 +800,8 @@ public class NavigationMapRoute implements LifecycleObserver {
       if (index == primaryRouteIndex) {
         mapboxMap.removeLayer(layer);
         mapboxMap.addLayerBelow(layer, WAYPOINT_LAYER_ID);
+      } else {
+        clearRouteGradient(layer);
       }
     }
   }
@@ -757,18 +824,92 @@ public class NavigationMapRoute implements LifecycleObserver {
         stop(22f, 18f * scale)
         )
       ),
-      PropertyFactory.lineColor(match(
-        Expression.toString(get(CONGESTION_KEY)),
-        color(index == primaryRouteIndex ? routeDefaultColor : alternativeRouteDefaultColor),
-        stop("moderate", color(index == primaryRouteIndex ? routeModerateColor : alternativeRouteModerateColor)),
-        stop("heavy", color(index == primaryRouteIndex ? routeSevereColor : alternativeRouteSevereColor)),
-        stop("severe", color(index == primaryRouteIndex ? routeSevereColor : alternativeRouteSevereColor))
-        )
-      )
+      PropertyFactory.lineColor(buildRouteColorExpression(index))
     );
     MapUtils.addLayerToMap(mapboxMap, routeLayer, belowLayer);
   }
 
+  private Expression buildRouteColorExpression(int index) {
+    Map<String, Integer> congestionColors = buildCongestionColors(index);
+    Expression.Stop[] stops = new Expression.Stop[congestionColors.size()];
+    int stopIndex = 0;
+    for (Map.Entry<String, Integer> congestionColor : congestionColors.entrySet()) {
+      stops[stopIndex++] = stop(congestionColor.getKey(), color(congestionColor.getValue()));
+    }
+    return match(
+      Expression.toString(get(CONGESTION_KEY)),
+      color(index == primaryRouteIndex ? routeDefaultColor : alternativeRouteDefaultColor),
+      stops
+    );
+  }
+
+  /**
+   * The congestion colors of a route, shared by its line color and its line-gradient.
+   */
+  private Map<String, Integer> buildCongestionColors(int index) {
+    boolean isPrimary = index == primaryRouteIndex;
+    Map<String, Integer> congestionColors = new LinkedHashMap<>();
+    congestionColors.put(MODERATE_CONGESTION, isPrimary ? routeModerateColor : alternativeRouteModerateColor);
+    congestionColors.put(HEAVY_CONGESTION, isPrimary ? routeSevereColor : alternativeRouteSevereColor);
+    congestionColors.put(SEVERE_CONGESTION, isPrimary ? routeSevereColor : alternativeRouteSevereColor);
+    return congestionColors;
+  }
+
+  /**
+   * When the style sets a routeTraveledColor, the primary route and its shield are drawn with a line-gradient,
+   * so their traveled portion can be drawn without updating the route source.  Only the full route feature
+   * is drawn, since line-progress is measured per feature and would restart on each congestion run, the
+   * gradient draws the congestion with the same colors as the route line color.
+   */
+  private void drawPrimaryRouteGradient() {
+    traveledProgress.reset();
+    if (!isRouteTraveledColorSet || primaryRouteIndex < 0 || primaryRouteIndex >= directionsRoutes.size()) {
+      primaryRouteGradient = null;
+      return;
+    }
+    primaryRouteGradient = new RouteLineGradient(featureCollections.get(primaryRouteIndex),
+      routeDefaultColor, buildCongestionColors(primaryRouteIndex));
+    Expression routeFeatureFilter = not(has(CONGESTION_KEY));
+    updateLayerFilter(buildRouteLayerId(GENERIC_ROUTE_LAYER_ID, primaryRouteIndex), routeFeatureFilter);
+    updateLayerFilter(buildRouteLayerId(GENERIC_ROUTE_SHIELD_LAYER_ID, primaryRouteIndex), routeFeatureFilter);
+    updatePrimaryRouteGradient();
+  }
+
+  private void updatePrimaryRouteGradient() {
+    float traveledFraction = traveledProgress.retrieveFraction();
+    Layer routeLayer = mapboxMap.getLayer(buildRouteLayerId(GENERIC_ROUTE_LAYER_ID, primaryRouteIndex));
+    if (routeLayer != null) {
+      routeLayer.setProperties(PropertyFactory.lineGradient(
+        primaryRouteGradient.build(traveledFraction, routeTraveledColor)));
+    }
+    Layer shieldLayer = mapboxMap.getLayer(buildRouteLayerId(GENERIC_ROUTE_SHIELD_LAYER_ID, primaryRouteIndex));
+    if (shieldLayer != null) {
+      shieldLayer.setProperties(PropertyFactory.lineGradient(
+        RouteLineGradient.buildSolid(traveledFraction, routeTraveledColor, routeShieldColor)));
+    }
+  }
+
+  /**
+   * An alternative route is drawn with its line color and congestion features again.
+   */
+  private void clearRouteGradient(Layer layer) {
+    layer.setProperties(PropertyFactory.lineGradient((Expression) null));
+    if (layer instanceof LineLayer) {
+      ((LineLayer) layer).setFilter(literal(true));
+    }
+  }
+
+  private void updateLayerFilter(String layerId, Expression filter) {
+    Layer layer = mapboxMap.getLayer(layerId);
+    if (layer instanceof LineLayer) {
+      ((LineLayer) layer).setFilter(filter);
+    }
+  }
+
+  private String buildRouteLayerId(String genericLayerId, int index) {
+    return String.format(Locale.US, ID_FORMAT, genericLayerId, index);
+  }
+
   private void removeLayerIds() {
     if (!layerIds.isEmpty()) {
       for (String id : layerIds) {
@@ -781,9 +922,8 @@ public class NavigationMapRoute implements LifecycleObserver {
     if (!directionsRoutes.isEmpty()) {
       directionsRoutes.clear();
     }
-    if (!routeLineStrings.isEmpty()) {
-      routeLineStrings.clear();
-    }
+    routeSegmentIndex = null;
+    routeStepFractions.clear();
     if (!featureCollections.isEmpty()) {
       featureCollections.clear();
     }
@@ -831,6 +971,9 @@ public class NavigationMapRoute implements LifecycleObserver {
       ContextCompat.getColor(context, R.color.mapbox_navigation_route_layer_congestion_red));
     routeShieldColor = typedArray.getColor(R.styleable.NavigationMapRoute_routeShieldColor,
       ContextCompat.getColor(context, R.color.mapbox_navigation_route_shield_layer_color));
+    isRouteTraveledColorSet = typedArray.hasValue(R.styleable.NavigationMapRoute_routeTraveledColor);
+    routeTraveledColor = typedArray.getColor(R.styleable.NavigationMapRoute_routeTraveledColor,
+      routeDefaultColor);
     routeScale = typedArray.getFloat(R.styleable.NavigationMapRoute_routeScale, 1.0f);
 
     // Secondary Routes attributes
@@ -894,7 +1037,7 @@ public class NavigationMapRoute implements LifecycleObserver {
 
       waypointLayer = new SymbolLayer(WAYPOINT_LAYER_ID, WAYPOINT_SOURCE_ID).withProperties(
         PropertyFactory.iconImage(match(
-          Expression.toString(get("waypoint")), literal("originMarker"),
+          Expression.toString(get(WAYPOINT_KEY)), literal("originMarker"),
           stop("origin", literal("originMarker")),
           stop("destination", literal("destinationMarker"))
           )
@@ -915,18 +1058,6 @@ public class NavigationMapRoute implements LifecycleObserver {
     }
   }
 
-  private Feature getPointFromLineString(RouteLeg leg, int index) {
-    Feature feature = Feature.fromGeometry(Point.fromLngLat(
-      leg.steps().get(index).maneuver().location().longitude(),
-      leg.steps().get(index).maneuver().location().latitude()
-    ));
-    feature.addStringProperty(SOURCE_KEY, WAYPOINT_SOURCE_ID);
-    feature.addStringProperty("waypoint",
-      index == 0 ? "origin" : "destination"
-    );
-    return feature;
-  }
-
   private void initialize() {
     alternativesVisible = true;
     getAttributes();
@@ -1000,45 +1131,19 @@ public class NavigationMapRoute implements LifecycleObserver {
   }
 
   private boolean invalidMapClick() {
-    return routeLineStrings == null || routeLineStrings.isEmpty() || !alternativesVisible;
+    return routeSegmentIndex == null || routeSegmentIndex.isEmpty() || !alternativesVisible;
   }
 
   private boolean findClickedRoute(@NonNull LatLng point) {
-    HashMap<Double, DirectionsRoute> routeDistancesAwayFromClick = new HashMap<>();
-
     Point clickPoint = Point.fromLngLat(point.getLongitude(), point.getLatitude());
-
-    if (calculateClickDistancesFromRoutes(routeDistancesAwayFromClick, clickPoint)) {
+    int clickedRouteIndex = routeSegmentIndex.findNearestRouteIndex(clickPoint);
+    if (clickedRouteIndex == RouteSegmentIndex.NO_ROUTE) {
       return true;
     }
-    List<Double> distancesAwayFromClick = new ArrayList<>(routeDistancesAwayFromClick.keySet());
-    Collections.sort(distancesAwayFromClick);
-
-    DirectionsRoute clickedRoute = routeDistancesAwayFromClick.get(distancesAwayFromClick.get(0));
-    primaryRouteIndex = directionsRoutes.indexOf(clickedRoute);
-    return false;
-  }
-
-  private boolean calculateClickDistancesFromRoutes(HashMap<Double, DirectionsRoute> routeDistancesAwayFromClick,
-                                                    Point clickPoint) {
-    for (LineString lineString : routeLineStrings.keySet()) {
-      Point pointOnLine = findPointOnLine(clickPoint, lineString);
-
-      if (pointOnLine == null) {
-        return true;
-      }
-      double distance = TurfMeasurement.distance(clickPoint, pointOnLine, TurfConstants.UNIT_METERS);
-      routeDistancesAwayFromClick.put(distance, routeLineStrings.get(lineString));
-    }
+    primaryRouteIndex = clickedRouteIndex;
     return false;
   }
 
-  private Point findPointOnLine(Point clickPoint, LineString lineString) {
-    List<Point> linePoints = lineString.coordinates();
-    Feature feature = TurfMisc.nearestPointOnLine(clickPoint, linePoints);
-    return (Point) feature.geometry();
-  }
-
   private void checkNewRouteFound(int currentRouteIndex) {
     if (currentRouteIndex != primaryRouteIndex) {
       updateRoute();
@@ -1062,6 +1167,7 @@ public class NavigationMapRoute implements LifecycleObserver {
           index), index);
       }
     }
+    drawPrimaryRouteGradient();
   }
 
   /**
@@ -1091,55 +1197,4 @@ public class NavigationMapRoute implements LifecycleObserver {
   public void onStop() {
     removeListeners();
   }
-
-  /**
-   * If the {@link DirectionsRoute} request contains congestion information via annotations, breakup
-   * the source into pieces so data-driven styling can be used to change the route colors
-   * accordingly.
-   */
-  private FeatureCollection addTrafficToSource(DirectionsRoute route, int index) {
-    final List<Feature> features = new ArrayList<>();
-    LineString originalGeometry = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
-    buildRouteFeatureFromGeometry(index, features, originalGeometry);
-    routeLineStrings.put(originalGeometry, route);
-
-    LineString lineString = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
-    buildTrafficFeaturesFromRoute(route, index, features, lineString);
-    return FeatureCollection.fromFeatures(features);
-  }
-
-  private void buildRouteFeatureFromGeometry(int index, List<Feature> features, LineString originalGeometry) {
-    Feature feat = Feature.fromGeometry(originalGeometry);
-    feat.addStringProperty(SOURCE_KEY, String.format(Locale.US, ID_FORMAT, GENERIC_ROUTE_SOURCE_ID, index));
-    feat.addNumberProperty(INDEX_KEY, index);
-    features.add(feat);
-  }
-
-  private void buildTrafficFeaturesFromRoute(DirectionsRoute route, int index,
-                                             List<Feature> features, LineString lineString) {
-    for (RouteLeg leg : route.legs()) {
-      if (leg.annotation() != null && leg.annotation().congestion() != null) {
-        for (int i = 0; i < leg.annotation().congestion().size(); i++) {
-          // See https://github.com/mapbox/mapbox-navigation-android/issues/353
-          if (leg.annotation().congestion().size() + 1 <= lineString.coordinates().size()) {
-
-            List<Point> points = new ArrayList<>();
-            points.add(lineString.coordinates().get(i));
-            points.add(lineString.coordinates().get(i + 1));
-
-            LineString congestionLineString = LineString.fromLngLats(points);
-            Feature feature = Feature.fromGeometry(congestionLineString);
-            feature.addStringProperty(CONGESTION_KEY, leg.annotation().congestion().get(i));
-            feature.addStringProperty(SOURCE_KEY, String.format(Locale.US, ID_FORMAT,
-              GENERIC_ROUTE_SOURCE_ID, index));
-            feature.addNumberProperty(INDEX_KEY, index);
-            features.add(feature);
-          }
-        }
-      } else {
-        Feature feature = Feature.fromGeometry(lineString);
-        features.add(feature);
-      }
-    }
-  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.geojson.Point;
+
+import java.util.List;
+
+interface OnManeuverArrowCalculatedCallback {
+  void onManeuverArrowCalculated(long stepKey, @NonNull List<Point> arrowPoints);
+}
@@ -0,0 +1,13 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.geojson.FeatureCollection;
+
+import java.util.List;
+
+interface OnRouteFeaturesProcessedCallback {
+  void onRouteFeaturesProcessed(@NonNull List<FeatureCollection> featureCollections,
+                                @NonNull RouteSegmentIndex routeSegmentIndex,
+                                @NonNull List<RouteStepFractions> routeStepFractions);
+}
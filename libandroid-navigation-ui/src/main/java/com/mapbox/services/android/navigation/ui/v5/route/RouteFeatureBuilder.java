@@ -0,0 +1,227 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.CONGESTION_END_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.CONGESTION_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.CONGESTION_START_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.GENERIC_ROUTE_SOURCE_ID;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.ID_FORMAT;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.INDEX_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.SOURCE_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.WAYPOINT_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.WAYPOINT_SOURCE_ID;
+
+/**
+ * Builds the GeoJSON used to draw a {@link DirectionsRoute} with {@link NavigationMapRoute}.
+ * <p>
+ * Consecutive geometry segments sharing the same congestion value are merged into a single
+ * {@link LineString}, so the number of features scales with congestion changes along the
+ * route rather than with its coordinate count.  Each run also records where it starts and ends,
+ * as a fraction of the route length, so its congestion can be drawn with a line-progress gradient.
+ */
+class RouteFeatureBuilder {
+
+  private static final int UNKNOWN_SEGMENT_COUNT = -1;
+  private static final String ORIGIN = "origin";
+  private static final String DESTINATION = "destination";
+
+  private LineString routeLineString;
+
+  /**
+   * Creates the route {@link FeatureCollection}: a base feature with the full geometry followed
+   * by one feature per congestion run.
+   *
+   * @param route to build features from
+   * @param index of the route in the list provided to {@link NavigationMapRoute}
+   * @return collection ready to be added to a source
+   */
+  @NonNull
+  FeatureCollection buildRouteFeatureCollection(DirectionsRoute route, int index) {
+    routeLineString = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+    String sourceId = String.format(Locale.US, ID_FORMAT, GENERIC_ROUTE_SOURCE_ID, index);
+    List<Feature> features = new ArrayList<>();
+
+    Feature routeFeature = Feature.fromGeometry(routeLineString);
+    routeFeature.addStringProperty(SOURCE_KEY, sourceId);
+    routeFeature.addNumberProperty(INDEX_KEY, index);
+    features.add(routeFeature);
+
+    buildCongestionFeatures(route, sourceId, index, features);
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  /**
+   * The geometry decoded by the last call to {@link #buildRouteFeatureCollection(DirectionsRoute, int)}.
+   *
+   * @return decoded route geometry
+   */
+  LineString retrieveRouteLineString() {
+    return routeLineString;
+  }
+
+  /**
+   * Measures the step geometries of the route, so the traveled fraction of the route line can follow
+   * its line-progress.
+   *
+   * @param route to measure
+   * @return step boundaries as fractions of the route geometry length
+   */
+  @NonNull
+  RouteStepFractions buildStepFractions(DirectionsRoute route) {
+    List<double[]> legStepFractions = new ArrayList<>();
+    double length = 0;
+    for (RouteLeg leg : route.legs()) {
+      List<LegStep> steps = leg.steps();
+      double[] stepFractions = new double[steps.size() + 1];
+      for (int i = 0; i < steps.size(); i++) {
+        stepFractions[i] = length;
+        length += calculateStepLength(steps.get(i));
+      }
+      stepFractions[steps.size()] = length;
+      legStepFractions.add(stepFractions);
+    }
+    if (length > 0) {
+      for (double[] stepFractions : legStepFractions) {
+        for (int i = 0; i < stepFractions.length; i++) {
+          stepFractions[i] /= length;
+        }
+      }
+    }
+    return new RouteStepFractions(legStepFractions);
+  }
+
+  /**
+   * The routes also display an icon for each waypoint in the route, we use symbol layers for this.
+   */
+  @NonNull
+  FeatureCollection buildWaypointFeatureCollection(DirectionsRoute route) {
+    List<Feature> waypointFeatures = new ArrayList<>();
+    for (RouteLeg leg : route.legs()) {
+      waypointFeatures.add(buildWaypointFeature(leg, 0));
+      waypointFeatures.add(buildWaypointFeature(leg, leg.steps().size() - 1));
+    }
+    return FeatureCollection.fromFeatures(waypointFeatures);
+  }
+
+  private void buildCongestionFeatures(DirectionsRoute route, String sourceId, int index,
+                                       List<Feature> features) {
+    List<Point> coordinates = routeLineString.coordinates();
+    double[] fractions = null;
+    int legOffset = 0;
+    for (RouteLeg leg : route.legs()) {
+      int segmentCount = findSegmentCount(leg);
+      if (segmentCount == UNKNOWN_SEGMENT_COUNT) {
+        // Without annotations the leg offset into the route geometry is unknown,
+        // remaining legs fall back to the base route feature
+        return;
+      }
+      // See https://github.com/mapbox/mapbox-navigation-android/issues/353
+      if (legOffset + segmentCount + 1 > coordinates.size()) {
+        return;
+      }
+      List<String> congestion = leg.annotation().congestion();
+      if (congestion != null && congestion.size() == segmentCount) {
+        if (fractions == null) {
+          fractions = calculateCoordinateFractions(coordinates);
+        }
+        buildCongestionRuns(congestion, coordinates, fractions, legOffset, sourceId, index, features);
+      }
+      legOffset += segmentCount;
+    }
+  }
+
+  private void buildCongestionRuns(List<String> congestion, List<Point> coordinates, double[] fractions,
+                                   int legOffset, String sourceId, int index, List<Feature> features) {
+    int runStart = 0;
+    for (int i = 1; i <= congestion.size(); i++) {
+      boolean isRunEnd = i == congestion.size() || !congestion.get(i).equals(congestion.get(runStart));
+      if (isRunEnd) {
+        List<Point> runPoints = new ArrayList<>(
+          coordinates.subList(legOffset + runStart, legOffset + i + 1)
+        );
+        Feature feature = Feature.fromGeometry(LineString.fromLngLats(runPoints));
+        feature.addStringProperty(CONGESTION_KEY, congestion.get(runStart));
+        feature.addNumberProperty(CONGESTION_START_KEY, fractions[legOffset + runStart]);
+        feature.addNumberProperty(CONGESTION_END_KEY, fractions[legOffset + i]);
+        feature.addStringProperty(SOURCE_KEY, sourceId);
+        feature.addNumberProperty(INDEX_KEY, index);
+        features.add(feature);
+        runStart = i;
+      }
+    }
+  }
+
+  /**
+   * Line-progress is measured along the geometry, so the fractions are too.
+   */
+  private double[] calculateCoordinateFractions(List<Point> coordinates) {
+    double[] fractions = new double[coordinates.size()];
+    for (int i = 1; i < coordinates.size(); i++) {
+      fractions[i] = fractions[i - 1]
+        + TurfMeasurement.distance(coordinates.get(i - 1), coordinates.get(i), TurfConstants.UNIT_METERS);
+    }
+    double length = fractions[fractions.length - 1];
+    if (length > 0) {
+      for (int i = 0; i < fractions.length; i++) {
+        fractions[i] /= length;
+      }
+    }
+    return fractions;
+  }
+
+  private double calculateStepLength(LegStep step) {
+    if (step.geometry() == null) {
+      return 0;
+    }
+    List<Point> coordinates = LineString.fromPolyline(step.geometry(), Constants.PRECISION_6).coordinates();
+    double length = 0;
+    for (int i = 1; i < coordinates.size(); i++) {
+      length += TurfMeasurement.distance(coordinates.get(i - 1), coordinates.get(i), TurfConstants.UNIT_METERS);
+    }
+    return length;
+  }
+
+  private int findSegmentCount(RouteLeg leg) {
+    LegAnnotation annotation = leg.annotation();
+    if (annotation == null) {
+      return UNKNOWN_SEGMENT_COUNT;
+    }
+    if (annotation.congestion() != null) {
+      return annotation.congestion().size();
+    }
+    if (annotation.distance() != null) {
+      return annotation.distance().size();
+    }
+    if (annotation.duration() != null) {
+      return annotation.duration().size();
+    }
+    return UNKNOWN_SEGMENT_COUNT;
+  }
+
+  private Feature buildWaypointFeature(RouteLeg leg, int index) {
+    Feature feature = Feature.fromGeometry(Point.fromLngLat(
+      leg.steps().get(index).maneuver().location().longitude(),
+      leg.steps().get(index).maneuver().location().latitude()
+    ));
+    feature.addStringProperty(SOURCE_KEY, WAYPOINT_SOURCE_ID);
+    feature.addStringProperty(WAYPOINT_KEY, index == 0 ? ORIGIN : DESTINATION);
+    return feature;
+  }
+}
@@ -0,0 +1,145 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.support.annotation.ColorInt;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.mapboxsdk.style.expressions.Expression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.mapbox.mapboxsdk.style.expressions.Expression.color;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.lineProgress;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.step;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.stop;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.CONGESTION_END_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.CONGESTION_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.CONGESTION_START_KEY;
+
+/**
+ * Builds the line-gradient of the primary route line, with its traveled portion in the traveled color.
+ * <p>
+ * A line-gradient replaces the line color, so the congestion runs built by {@link RouteFeatureBuilder}
+ * are drawn as gradient steps along the full route feature instead of as separate features.
+ */
+class RouteLineGradient {
+
+  private static final float MAXIMUM_PROGRESS = 1f;
+
+  private final int defaultColor;
+  private final float[] runStarts;
+  private final float[] runEnds;
+  private final int[] runColors;
+
+  /**
+   * @param routeFeatures    with the congestion runs of the route, in the order along the route
+   * @param defaultColor     where the route has no congestion color
+   * @param congestionColors by congestion value, the same colors the route layer matches on
+   */
+  RouteLineGradient(FeatureCollection routeFeatures, @ColorInt int defaultColor,
+                    Map<String, Integer> congestionColors) {
+    this.defaultColor = defaultColor;
+    List<Feature> runs = new ArrayList<>();
+    for (Feature feature : routeFeatures.features()) {
+      if (feature.hasProperty(CONGESTION_KEY) && feature.hasProperty(CONGESTION_START_KEY)) {
+        runs.add(feature);
+      }
+    }
+    runStarts = new float[runs.size()];
+    runEnds = new float[runs.size()];
+    runColors = new int[runs.size()];
+    for (int i = 0; i < runs.size(); i++) {
+      Feature run = runs.get(i);
+      runStarts[i] = run.getNumberProperty(CONGESTION_START_KEY).floatValue();
+      runEnds[i] = run.getNumberProperty(CONGESTION_END_KEY).floatValue();
+      Integer congestionColor = congestionColors.get(run.getStringProperty(CONGESTION_KEY));
+      runColors[i] = congestionColor != null ? congestionColor : defaultColor;
+    }
+  }
+
+  /**
+   * @param traveledFraction of the route, from 0 to 1
+   * @param traveledColor    of the route before the traveled fraction
+   * @return step expression over the line-progress
+   */
+  Expression build(float traveledFraction, @ColorInt int traveledColor) {
+    List<Float> stopValues = new ArrayList<>();
+    List<Integer> stopColors = new ArrayList<>();
+    calculateStops(traveledFraction, stopValues, stopColors);
+    Expression.Stop[] stops = new Expression.Stop[stopValues.size()];
+    for (int i = 0; i < stops.length; i++) {
+      stops[i] = stop(stopValues.get(i), color(stopColors.get(i)));
+    }
+    return step(lineProgress(), color(traveledColor), stops);
+  }
+
+  /**
+   * Evaluates the steps of {@link #build(float, int)} at the given progress.
+   *
+   * @param progress         along the route, from 0 to 1
+   * @param traveledFraction of the route, from 0 to 1
+   * @param traveledColor    of the route before the traveled fraction
+   * @return the color the gradient draws at the given progress
+   */
+  @ColorInt
+  int colorAt(float progress, float traveledFraction, @ColorInt int traveledColor) {
+    List<Float> stopValues = new ArrayList<>();
+    List<Integer> stopColors = new ArrayList<>();
+    calculateStops(traveledFraction, stopValues, stopColors);
+    int color = traveledColor;
+    for (int i = 0; i < stopValues.size() && progress >= stopValues.get(i); i++) {
+      color = stopColors.get(i);
+    }
+    return color;
+  }
+
+  /**
+   * @param traveledFraction of the route, from 0 to 1
+   * @param traveledColor    of the route before the traveled fraction
+   * @param color            of the rest of the route
+   * @return step expression over the line-progress, for a route drawn in a single color
+   */
+  static Expression buildSolid(float traveledFraction, @ColorInt int traveledColor, @ColorInt int color) {
+    return step(lineProgress(), color(traveledColor), stop(traveledFraction, color(color)));
+  }
+
+  private void calculateStops(float traveledFraction, List<Float> stopValues, List<Integer> stopColors) {
+    stopValues.add(traveledFraction);
+    stopColors.add(findRunColor(traveledFraction));
+    for (int i = 0; i < runStarts.length; i++) {
+      if (runStarts[i] > traveledFraction) {
+        addStop(stopValues, stopColors, runStarts[i], runColors[i]);
+      }
+      boolean isFollowedByRun = i + 1 < runStarts.length && runStarts[i + 1] <= runEnds[i];
+      if (runEnds[i] > traveledFraction && runEnds[i] < MAXIMUM_PROGRESS && !isFollowedByRun) {
+        addStop(stopValues, stopColors, runEnds[i], defaultColor);
+      }
+    }
+  }
+
+  @ColorInt
+  private int findRunColor(float progress) {
+    for (int i = 0; i < runStarts.length; i++) {
+      if (progress >= runStarts[i] && progress < runEnds[i]) {
+        return runColors[i];
+      }
+    }
+    return defaultColor;
+  }
+
+  /**
+   * Step stops must be strictly ascending, a run of zero length is replaced by the following one.
+   */
+  private static void addStop(List<Float> stopValues, List<Integer> stopColors, float value, @ColorInt int color) {
+    int last = stopValues.size() - 1;
+    float lastValue = stopValues.get(last);
+    if (value > lastValue) {
+      stopValues.add(value);
+      stopColors.add(color);
+    } else if (value == lastValue) {
+      stopColors.set(last, color);
+    }
+  }
+}
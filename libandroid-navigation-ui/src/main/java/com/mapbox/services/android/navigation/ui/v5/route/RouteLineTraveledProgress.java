@@ -0,0 +1,37 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+/**
+ * Tracks the traveled fraction of the primary route used for the route line gradient.
+ * <p>
+ * Updates are only accepted when the fraction has changed and at most once per display frame,
+ * so the style expression isn't rebuilt more often than it can be rendered.
+ */
+class RouteLineTraveledProgress {
+
+  private static final long FRAME_INTERVAL_MILLIS = 16;
+  private static final float MINIMUM_FRACTION = 0f;
+  private static final float MAXIMUM_FRACTION = 1f;
+
+  private float fraction = MINIMUM_FRACTION;
+  private long lastUpdateMillis = -FRAME_INTERVAL_MILLIS;
+
+  boolean update(float traveledFraction, long currentMillis) {
+    float updatedFraction = Math.max(MINIMUM_FRACTION, Math.min(MAXIMUM_FRACTION, traveledFraction));
+    boolean isWithinFrame = currentMillis - lastUpdateMillis < FRAME_INTERVAL_MILLIS;
+    if (updatedFraction == fraction || isWithinFrame) {
+      return false;
+    }
+    fraction = updatedFraction;
+    lastUpdateMillis = currentMillis;
+    return true;
+  }
+
+  float retrieveFraction() {
+    return fraction;
+  }
+
+  void reset() {
+    fraction = MINIMUM_FRACTION;
+    lastUpdateMillis = -FRAME_INTERVAL_MILLIS;
+  }
+}
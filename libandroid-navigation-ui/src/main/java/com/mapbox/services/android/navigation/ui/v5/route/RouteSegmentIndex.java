@@ -0,0 +1,233 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.support.annotation.Nullable;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Sparse grid of route segments used to hit-test map clicks against the drawn routes.
+ * <p>
+ * Coordinates are projected onto a local equirectangular plane, which is accurate enough at the
+ * scale of a click. A query visits the grid in rings around the query point and stops once no
+ * unvisited cell can contain a closer segment, so it only looks at segments near the point
+ * instead of every coordinate of every route.
+ * <p>
+ * Queries reuse internal state and are expected to run on a single thread.
+ */
+class RouteSegmentIndex {
+
+  static final int NO_ROUTE = -1;
+  private static final int ANY_ROUTE = -1;
+  private static final int GRID_DIVISIONS = 256;
+  private static final double MINIMUM_CELL_SIZE = 0.0005;
+
+  private final double[][] xs;
+  private final double[][] ys;
+  private final HashMap<Long, List<Integer>> cells = new HashMap<>();
+  private final List<Integer> segmentRoutes = new ArrayList<>();
+  private final List<Integer> segmentStarts = new ArrayList<>();
+  private final double longitudeScale;
+  private double minX = Double.MAX_VALUE;
+  private double minY = Double.MAX_VALUE;
+  private double maxX = -Double.MAX_VALUE;
+  private double maxY = -Double.MAX_VALUE;
+  private double cellSize;
+
+  private int bestSegment;
+  private double bestDistance;
+  private double bestX;
+  private double bestY;
+
+  /**
+   * @param routeLines with the route index matching the list index
+   */
+  RouteSegmentIndex(List<LineString> routeLines) {
+    xs = new double[routeLines.size()][];
+    ys = new double[routeLines.size()][];
+    longitudeScale = Math.cos(Math.toRadians(findCenterLatitude(routeLines)));
+    projectCoordinates(routeLines);
+    cellSize = Math.max(MINIMUM_CELL_SIZE, Math.max(maxX - minX, maxY - minY) / GRID_DIVISIONS);
+    indexSegments();
+  }
+
+  boolean isEmpty() {
+    return segmentRoutes.isEmpty();
+  }
+
+  /**
+   * @param point to search from
+   * @return index of the route closest to the point, or {@link #NO_ROUTE} if there's none
+   */
+  int findNearestRouteIndex(Point point) {
+    if (!search(point, ANY_ROUTE)) {
+      return NO_ROUTE;
+    }
+    return segmentRoutes.get(bestSegment);
+  }
+
+  /**
+   * @param point      to search from
+   * @param routeIndex of the route to search
+   * @return closest point on the given route, or null if the route isn't indexed
+   */
+  @Nullable
+  Point findNearestPointOnRoute(Point point, int routeIndex) {
+    if (!search(point, routeIndex)) {
+      return null;
+    }
+    return Point.fromLngLat(bestX / longitudeScale, bestY);
+  }
+
+  private double findCenterLatitude(List<LineString> routeLines) {
+    double minLatitude = Double.MAX_VALUE;
+    double maxLatitude = -Double.MAX_VALUE;
+    for (LineString line : routeLines) {
+      for (Point coordinate : line.coordinates()) {
+        minLatitude = Math.min(minLatitude, coordinate.latitude());
+        maxLatitude = Math.max(maxLatitude, coordinate.latitude());
+      }
+    }
+    return minLatitude > maxLatitude ? 0 : (minLatitude + maxLatitude) / 2;
+  }
+
+  private void projectCoordinates(List<LineString> routeLines) {
+    for (int route = 0; route < routeLines.size(); route++) {
+      List<Point> coordinates = routeLines.get(route).coordinates();
+      xs[route] = new double[coordinates.size()];
+      ys[route] = new double[coordinates.size()];
+      for (int i = 0; i < coordinates.size(); i++) {
+        double x = coordinates.get(i).longitude() * longitudeScale;
+        double y = coordinates.get(i).latitude();
+        xs[route][i] = x;
+        ys[route][i] = y;
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
+      }
+    }
+  }
+
+  private void indexSegments() {
+    for (int route = 0; route < xs.length; route++) {
+      for (int i = 0; i < xs[route].length - 1; i++) {
+        int segment = segmentRoutes.size();
+        segmentRoutes.add(route);
+        segmentStarts.add(i);
+        int startColumn = toCell(Math.min(xs[route][i], xs[route][i + 1]), minX);
+        int endColumn = toCell(Math.max(xs[route][i], xs[route][i + 1]), minX);
+        int startRow = toCell(Math.min(ys[route][i], ys[route][i + 1]), minY);
+        int endRow = toCell(Math.max(ys[route][i], ys[route][i + 1]), minY);
+        for (int column = startColumn; column <= endColumn; column++) {
+          for (int row = startRow; row <= endRow; row++) {
+            addToCell(column, row, segment);
+          }
+        }
+      }
+    }
+  }
+
+  private void addToCell(int column, int row, int segment) {
+    long key = toKey(column, row);
+    List<Integer> cell = cells.get(key);
+    if (cell == null) {
+      cell = new ArrayList<>();
+      cells.put(key, cell);
+    }
+    cell.add(segment);
+  }
+
+  private boolean search(Point point, int routeFilter) {
+    bestSegment = NO_ROUTE;
+    bestDistance = Double.MAX_VALUE;
+    if (isEmpty()) {
+      return false;
+    }
+    double x = point.longitude() * longitudeScale;
+    double y = point.latitude();
+    int column = toCell(x, minX);
+    int row = toCell(y, minY);
+    int lastColumn = toCell(maxX, minX);
+    int lastRow = toCell(maxY, minY);
+    // Rings closer than the grid bounds are empty, rings further away than it contain nothing
+    int firstRing = Math.max(Math.max(-column, column - lastColumn), Math.max(Math.max(-row, row - lastRow), 0));
+    int lastRing = Math.max(Math.max(column, lastColumn - column), Math.max(row, lastRow - row));
+    for (int ring = firstRing; ring <= lastRing; ring++) {
+      // Anything in this ring or further out is at least this far away from the point
+      if (bestSegment != NO_ROUTE && bestDistance <= (ring - 1) * cellSize) {
+        break;
+      }
+      searchRing(x, y, column, row, ring, lastColumn, lastRow, routeFilter);
+    }
+    return bestSegment != NO_ROUTE;
+  }
+
+  private void searchRing(double x, double y, int column, int row, int ring,
+                          int lastColumn, int lastRow, int routeFilter) {
+    int firstRow = Math.max(row - ring, 0);
+    int finalRow = Math.min(row + ring, lastRow);
+    for (int c = Math.max(column - ring, 0); c <= Math.min(column + ring, lastColumn); c++) {
+      boolean isEdgeColumn = Math.abs(c - column) == ring;
+      if (isEdgeColumn) {
+        for (int r = firstRow; r <= finalRow; r++) {
+          searchCell(x, y, c, r, routeFilter);
+        }
+      } else {
+        searchCell(x, y, c, row - ring, routeFilter);
+        if (ring > 0) {
+          searchCell(x, y, c, row + ring, routeFilter);
+        }
+      }
+    }
+  }
+
+  private void searchCell(double x, double y, int column, int row, int routeFilter) {
+    List<Integer> cell = cells.get(toKey(column, row));
+    if (cell == null) {
+      return;
+    }
+    for (int i = 0; i < cell.size(); i++) {
+      int segment = cell.get(i);
+      int route = segmentRoutes.get(segment);
+      if (routeFilter != ANY_ROUTE && route != routeFilter) {
+        continue;
+      }
+      int start = segmentStarts.get(segment);
+      measureSegment(x, y, segment, xs[route][start], ys[route][start],
+        xs[route][start + 1], ys[route][start + 1]);
+    }
+  }
+
+  private void measureSegment(double x, double y, int segment,
+                              double startX, double startY, double endX, double endY) {
+    double dx = endX - startX;
+    double dy = endY - startY;
+    double lengthSquared = dx * dx + dy * dy;
+    double fraction = 0;
+    if (lengthSquared > 0) {
+      fraction = Math.max(0, Math.min(1, ((x - startX) * dx + (y - startY) * dy) / lengthSquared));
+    }
+    double nearestX = startX + fraction * dx;
+    double nearestY = startY + fraction * dy;
+    double distance = Math.hypot(x - nearestX, y - nearestY);
+    if (distance < bestDistance) {
+      bestDistance = distance;
+      bestSegment = segment;
+      bestX = nearestX;
+      bestY = nearestY;
+    }
+  }
+
+  private int toCell(double value, double origin) {
+    return (int) Math.floor((value - origin) / cellSize);
+  }
+
+  private long toKey(int column, int row) {
+    return ((long) column << Integer.SIZE) | (row & 0xffffffffL);
+  }
+}
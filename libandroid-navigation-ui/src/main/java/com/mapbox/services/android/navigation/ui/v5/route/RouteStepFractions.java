@@ -0,0 +1,44 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import java.util.List;
+
+/**
+ * Where each step of a route starts along the route geometry, as a fraction of the geometry length.
+ * <p>
+ * Line-progress is measured along the drawn geometry, which doesn't match the route distance, so the
+ * traveled fraction is interpolated between the step boundaries rather than derived from the distance traveled.
+ */
+class RouteStepFractions {
+
+  private static final double MINIMUM_FRACTION = 0d;
+  private static final double MAXIMUM_FRACTION = 1d;
+
+  private final List<double[]> legStepFractions;
+
+  /**
+   * @param legStepFractions for each leg, the start fraction of each step followed by the end of the leg
+   */
+  RouteStepFractions(List<double[]> legStepFractions) {
+    this.legStepFractions = legStepFractions;
+  }
+
+  /**
+   * @param legIndex             of the current leg
+   * @param stepIndex            of the current step
+   * @param stepFractionTraveled of the current step, from 0 to 1
+   * @return traveled fraction of the route geometry, from 0 to 1
+   */
+  float calculateTraveledFraction(int legIndex, int stepIndex, double stepFractionTraveled) {
+    if (legIndex < 0 || legIndex >= legStepFractions.size()) {
+      return (float) MINIMUM_FRACTION;
+    }
+    double[] stepFractions = legStepFractions.get(legIndex);
+    if (stepIndex < 0 || stepIndex + 1 >= stepFractions.length) {
+      return (float) stepFractions[stepFractions.length - 1];
+    }
+    double stepStart = stepFractions[stepIndex];
+    double stepEnd = stepFractions[stepIndex + 1];
+    double clampedFraction = Math.max(MINIMUM_FRACTION, Math.min(MAXIMUM_FRACTION, stepFractionTraveled));
+    return (float) (stepStart + (stepEnd - stepStart) * clampedFraction);
+  }
+}
@@ -44,6 +44,8 @@ public class SummaryBottomSheet extends FrameLayout {
   @NavigationTimeFormat.Type
   private int timeFormatType;
   private DistanceFormatter distanceFormatter;
+  private SummaryCalculator summaryCalculator;
+  private SummaryModel shownSummaryModel;
 
   public SummaryBottomSheet(Context context) {
     this(context, null);
@@ -74,9 +76,7 @@ public class SummaryBottomSheet extends FrameLayout {
       @Override
       public void onChanged(@Nullable SummaryModel summaryModel) {
         if (summaryModel != null && !isRerouting) {
-          arrivalTimeText.setText(summaryModel.getArrivalTime());
-          timeRemainingText.setText(summaryModel.getTimeRemaining());
-          distanceRemainingText.setText(summaryModel.getDistanceRemaining());
+          showSummary(summaryModel);
         }
       }
     });
@@ -96,8 +96,8 @@ public class SummaryBottomSheet extends FrameLayout {
   }
 
   /**
-   * Called in {@link ProgressChangeListener}, creates a new model and then
-   * uses it to update the views.
+   * Called in {@link ProgressChangeListener}, updates the views when
+   * the displayed summary changes.
    *
    * @param routeProgress used to provide navigation / routeProgress data
    * @since 0.6.2
@@ -105,10 +105,7 @@ public class SummaryBottomSheet extends FrameLayout {
   @SuppressWarnings("UnusedDeclaration")
   public void update(RouteProgress routeProgress) {
     if (routeProgress != null && !isRerouting) {
-      SummaryModel model = new SummaryModel(getContext(), distanceFormatter, routeProgress, timeFormatType);
-      arrivalTimeText.setText(model.getArrivalTime());
-      timeRemainingText.setText(model.getTimeRemaining());
-      distanceRemainingText.setText(model.getDistanceRemaining());
+      showSummary(summaryCalculator.calculate(routeProgress));
     }
   }
 
@@ -141,6 +138,7 @@ public class SummaryBottomSheet extends FrameLayout {
    */
   public void setTimeFormat(@NavigationTimeFormat.Type int type) {
     this.timeFormatType = type;
+    summaryCalculator.updateTimeFormat(type);
   }
 
   /**
@@ -151,6 +149,7 @@ public class SummaryBottomSheet extends FrameLayout {
   public void setDistanceFormatter(DistanceFormatter distanceFormatter) {
     if (distanceFormatter != null && !distanceFormatter.equals(this.distanceFormatter)) {
       this.distanceFormatter = distanceFormatter;
+      summaryCalculator.updateDistanceFormatter(distanceFormatter);
     }
   }
 
@@ -168,6 +167,7 @@ public class SummaryBottomSheet extends FrameLayout {
     String unitType = localeUtils.getUnitTypeForDeviceLocale(getContext());
     int roundingIncrement = NavigationConstants.ROUNDING_INCREMENT_FIFTY;
     distanceFormatter = new DistanceFormatter(getContext(), language, unitType, roundingIncrement);
+    summaryCalculator = new SummaryCalculator(getContext(), distanceFormatter, timeFormatType);
   }
 
   /**
@@ -186,10 +186,22 @@ public class SummaryBottomSheet extends FrameLayout {
     routeOverviewBtn.setImageDrawable(ThemeSwitcher.retrieveThemeOverviewDrawable(getContext()));
   }
 
+  private void showSummary(SummaryModel summaryModel) {
+    if (summaryModel == shownSummaryModel) {
+      return;
+    }
+    shownSummaryModel = summaryModel;
+    arrivalTimeText.setText(summaryModel.getArrivalTime());
+    timeRemainingText.setText(summaryModel.getTimeRemaining());
+    distanceRemainingText.setText(summaryModel.getDistanceRemaining());
+  }
+
   /**
-   * Clears all {@link View}s.
+   * Clears all {@link View}s, the next summary is shown in full.
    */
   private void clearViews() {
+    shownSummaryModel = null;
+    summaryCalculator.reset();
     arrivalTimeText.setText(EMPTY_STRING);
     timeRemainingText.setText(EMPTY_STRING);
     distanceRemainingText.setText(EMPTY_STRING);
@@ -0,0 +1,144 @@
+package com.mapbox.services.android.navigation.ui.v5.summary;
+
+import android.content.Context;
+import android.text.SpannableStringBuilder;
+import android.text.format.DateFormat;
+
+import com.mapbox.services.android.navigation.v5.navigation.NavigationTimeFormat;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+import static com.mapbox.services.android.navigation.v5.utils.time.TimeFormatter.formatTime;
+import static com.mapbox.services.android.navigation.v5.utils.time.TimeFormatter.formatTimeRemaining;
+import static com.mapbox.services.android.navigation.v5.utils.time.TimeFormatter.formatsToSameTimeRemaining;
+
+/**
+ * Creates the {@link SummaryModel} for each progress update, reusing the values already formatted.
+ * <p>
+ * Each value is only formatted again when what's displayed changes: the distance remaining when it's
+ * rounded to a different increment, and the time remaining and arrival time when they change by the
+ * minute.  If none of them change, the previous model is returned.
+ *
+ * @since 0.24.0
+ */
+public class SummaryCalculator {
+
+  private static final long SECOND_IN_MILLIS = TimeUnit.SECONDS.toMillis(1);
+  private static final long MINUTE_IN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private final Context context;
+  private final SummaryClock clock;
+  private final Calendar time = Calendar.getInstance();
+  private DistanceFormatter distanceFormatter;
+  @NavigationTimeFormat.Type
+  private int timeFormatType;
+  private SummaryModel summaryModel;
+  private double distanceRemaining;
+  private double legDurationRemaining;
+  private long arrivalMinute;
+  private String distanceRemainingText;
+  private SpannableStringBuilder timeRemainingText;
+  private String arrivalTimeText;
+
+  /**
+   * Creates a calculator formatting the summary with the given formatter and time format.
+   *
+   * @param context           for the localized units and the device time format
+   * @param distanceFormatter for the distance remaining
+   * @param timeFormatType    for the arrival time
+   * @since 0.24.0
+   */
+  public SummaryCalculator(Context context, DistanceFormatter distanceFormatter,
+                           @NavigationTimeFormat.Type int timeFormatType) {
+    this(context, distanceFormatter, timeFormatType, new SystemSummaryClock());
+  }
+
+  // Package private (no modifier) for testing purposes
+  SummaryCalculator(Context context, DistanceFormatter distanceFormatter,
+                    @NavigationTimeFormat.Type int timeFormatType, SummaryClock clock) {
+    this.context = context;
+    this.distanceFormatter = distanceFormatter;
+    this.timeFormatType = timeFormatType;
+    this.clock = clock;
+  }
+
+  /**
+   * @param progress with the latest distance and duration remaining
+   * @return the summary of the progress, the same instance as the last one if nothing displayed changed
+   * @since 0.24.0
+   */
+  public SummaryModel calculate(RouteProgress progress) {
+    double newDistanceRemaining = progress.distanceRemaining();
+    double newLegDurationRemaining = progress.currentLegProgress().durationRemaining();
+    long now = clock.currentTimeMillis();
+    // The arrival time is formatted from the whole seconds remaining
+    long newArrivalMinute = (now + (long) newLegDurationRemaining * SECOND_IN_MILLIS) / MINUTE_IN_MILLIS;
+    boolean hasSummary = summaryModel != null;
+    boolean isSameDistance = hasSummary
+      && distanceFormatter.formatsToSameDistance(distanceRemaining, newDistanceRemaining);
+    boolean isSameTimeRemaining = hasSummary
+      && formatsToSameTimeRemaining(legDurationRemaining, newLegDurationRemaining);
+    boolean isSameArrivalTime = hasSummary && arrivalMinute == newArrivalMinute;
+    distanceRemaining = newDistanceRemaining;
+    legDurationRemaining = newLegDurationRemaining;
+    arrivalMinute = newArrivalMinute;
+    if (isSameDistance && isSameTimeRemaining && isSameArrivalTime) {
+      return summaryModel;
+    }
+    if (!isSameDistance) {
+      distanceRemainingText = distanceFormatter.formatDistance(newDistanceRemaining).toString();
+    }
+    if (!isSameTimeRemaining) {
+      timeRemainingText = formatTimeRemaining(context, newLegDurationRemaining);
+    }
+    if (!isSameArrivalTime) {
+      arrivalTimeText = formatArrivalTime(now, newLegDurationRemaining);
+    }
+    summaryModel = new SummaryModel(distanceRemainingText, timeRemainingText, arrivalTimeText);
+    return summaryModel;
+  }
+
+  /**
+   * @param distanceFormatter for the distance remaining from the next progress update
+   * @since 0.24.0
+   */
+  public void updateDistanceFormatter(DistanceFormatter distanceFormatter) {
+    if (distanceFormatter != null && !distanceFormatter.equals(this.distanceFormatter)) {
+      this.distanceFormatter = distanceFormatter;
+      reset();
+    }
+  }
+
+  /**
+   * @param timeFormatType for the arrival time from the next progress update
+   * @since 0.24.0
+   */
+  public void updateTimeFormat(@NavigationTimeFormat.Type int timeFormatType) {
+    if (this.timeFormatType != timeFormatType) {
+      this.timeFormatType = timeFormatType;
+      reset();
+    }
+  }
+
+  /**
+   * Formats every value again with the next progress update, for when the displayed summary
+   * has been cleared.
+   *
+   * @since 0.24.0
+   */
+  public void reset() {
+    summaryModel = null;
+  }
+
+  /**
+   * The device time format is only checked when the arrival time changes.
+   */
+  private String formatArrivalTime(long now, double legDurationRemaining) {
+    time.setTimeInMillis(now);
+    boolean isTwentyFourHourFormat = DateFormat.is24HourFormat(context);
+    return formatTime(time, legDurationRemaining, timeFormatType, isTwentyFourHourFormat);
+  }
+}
@@ -29,6 +29,12 @@ public class SummaryModel {
     arrivalTime = formatTime(time, legDurationRemaining, timeFormatType, isTwentyFourHourFormat);
   }
 
+  SummaryModel(String distanceRemaining, SpannableStringBuilder timeRemaining, String arrivalTime) {
+    this.distanceRemaining = distanceRemaining;
+    this.timeRemaining = timeRemaining;
+    this.arrivalTime = arrivalTime;
+  }
+
   String getDistanceRemaining() {
     return distanceRemaining;
   }
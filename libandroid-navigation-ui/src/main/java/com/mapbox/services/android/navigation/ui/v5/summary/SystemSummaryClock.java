@@ -0,0 +1,9 @@
+package com.mapbox.services.android.navigation.ui.v5.summary;
+
+class SystemSummaryClock implements SummaryClock {
+
+  @Override
+  public long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+}
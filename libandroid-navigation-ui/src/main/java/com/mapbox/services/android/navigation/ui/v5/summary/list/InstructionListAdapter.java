@@ -14,9 +14,16 @@ import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 public class InstructionListAdapter extends RecyclerView.Adapter<InstructionViewHolder> {
 
   private final InstructionListPresenter presenter;
+  private boolean hasUnnotifiedUpdates;
 
   public InstructionListAdapter(RouteUtils routeUtils, DistanceFormatter distanceFormatter) {
-    presenter = new InstructionListPresenter(routeUtils, distanceFormatter);
+    this(new InstructionListPresenter(routeUtils, distanceFormatter));
+  }
+
+  // Package private (no modifier) for testing purposes
+  InstructionListAdapter(InstructionListPresenter presenter) {
+    this.presenter = presenter;
+    setHasStableIds(true);
   }
 
   @NonNull
@@ -37,19 +44,50 @@ public class InstructionListAdapter extends RecyclerView.Adapter<InstructionView
     return presenter.retrieveBannerInstructionListSize();
   }
 
+  @Override
+  public long getItemId(int position) {
+    return presenter.retrieveInstructionId(position);
+  }
+
   @Override
   public void onViewDetachedFromWindow(@NonNull InstructionViewHolder holder) {
     super.onViewDetachedFromWindow(holder);
     holder.itemView.clearAnimation();
   }
 
+  /**
+   * Passed instructions are removed from the top of the list, only the whole list is refreshed when
+   * the leg changes or when it was updated while hidden.
+   *
+   * @param routeProgress for the current instruction
+   * @param isListShowing true if the list is visible
+   */
   public void updateBannerListWith(RouteProgress routeProgress, boolean isListShowing) {
     boolean didUpdate = presenter.updateBannerListWith(routeProgress);
-    if (didUpdate && isListShowing) {
+    if (!didUpdate) {
+      return;
+    }
+    if (!isListShowing) {
+      hasUnnotifiedUpdates = true;
+      return;
+    }
+    int removedInstructionCount = presenter.retrieveRemovedInstructionCount();
+    if (hasUnnotifiedUpdates || removedInstructionCount == InstructionListPresenter.ALL_INSTRUCTIONS) {
+      hasUnnotifiedUpdates = false;
       notifyDataSetChanged();
+    } else {
+      notifyItemRangeRemoved(0, removedInstructionCount);
     }
   }
 
+  /**
+   * Refreshes the whole list once it's been shown, which includes the updates made while it was hidden.
+   */
+  public void onListShown() {
+    hasUnnotifiedUpdates = false;
+    notifyDataSetChanged();
+  }
+
   public void updateDistanceFormatter(DistanceFormatter distanceFormatter) {
     presenter.updateDistanceFormatter(distanceFormatter);
   }
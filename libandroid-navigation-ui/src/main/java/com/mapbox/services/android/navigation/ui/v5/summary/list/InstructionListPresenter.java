@@ -13,40 +13,80 @@ import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Provides the banner instructions of the current leg still ahead of the user.
+ * <p>
+ * The instructions of a leg are indexed once, with an id built from their leg, step and position in
+ * the step which stays the same while they're shown.  Passed instructions are dropped from the head
+ * of the list, so each update only reports how many instructions were removed instead of replacing
+ * the whole list.
+ */
 class InstructionListPresenter {
 
+  static final int ALL_INSTRUCTIONS = -1;
   private static final int TWO_LINES = 2;
   private static final int ONE_LINE = 1;
   private static final float TWO_LINE_BIAS = 0.65f;
   private static final float ONE_LINE_BIAS = 0.5f;
   private static final int FIRST_INSTRUCTION_INDEX = 0;
+  private static final int NOT_FOUND = -1;
+  private static final int LEG_SHIFT = 32;
+  private static final int STEP_SHIFT = 16;
   private final RouteUtils routeUtils;
   private DistanceFormatter distanceFormatter;
   private List<BannerInstructions> instructions;
+  private long[] instructionIds;
+  private long legId;
+  private int firstInstruction;
+  private int removedInstructionCount;
   private RouteLeg currentLeg;
 
   InstructionListPresenter(RouteUtils routeUtils, DistanceFormatter distanceFormatter) {
     this.routeUtils = routeUtils;
     this.distanceFormatter = distanceFormatter;
     instructions = new ArrayList<>();
+    instructionIds = new long[0];
   }
 
   void onBindInstructionListViewAtPosition(int position, @NonNull InstructionListView listView) {
-    BannerInstructions bannerInstructions = instructions.get(position);
+    BannerInstructions bannerInstructions = instructions.get(firstInstruction + position);
     double distance = bannerInstructions.distanceAlongGeometry();
     SpannableString distanceText = distanceFormatter.formatDistance(distance);
     updateListView(listView, bannerInstructions, distanceText);
   }
 
   int retrieveBannerInstructionListSize() {
-    return instructions.size();
+    return instructions.size() - firstInstruction;
+  }
+
+  /**
+   * @param position in the list
+   * @return id of the instruction, which doesn't change while the instruction is in the list
+   */
+  long retrieveInstructionId(int position) {
+    return instructionIds[firstInstruction + position];
+  }
+
+  /**
+   * @return number of instructions removed from the head of the list by the last update,
+   * or {@link #ALL_INSTRUCTIONS} if the list was replaced
+   */
+  int retrieveRemovedInstructionCount() {
+    return removedInstructionCount;
   }
 
   boolean updateBannerListWith(RouteProgress routeProgress) {
-    addBannerInstructions(routeProgress);
-    return updateInstructionList(routeProgress);
+    boolean hadInstructions = retrieveBannerInstructionListSize() > 0;
+    boolean isNewLeg = addBannerInstructions(routeProgress);
+    boolean didUpdate = updateInstructionList(routeProgress);
+    if (!isNewLeg) {
+      return didUpdate;
+    }
+    removedInstructionCount = ALL_INSTRUCTIONS;
+    return hadInstructions || retrieveBannerInstructionListSize() > 0;
   }
 
   void updateDistanceFormatter(DistanceFormatter distanceFormatter) {
@@ -108,26 +148,43 @@ class InstructionListPresenter {
     }
   }
 
-  private void addBannerInstructions(RouteProgress routeProgress) {
-    if (isNewLeg(routeProgress)) {
-      instructions = new ArrayList<>();
-      currentLeg = routeProgress.currentLeg();
-      List<LegStep> steps = currentLeg.steps();
-      for (LegStep step : steps) {
-        List<BannerInstructions> bannerInstructions = step.bannerInstructions();
-        if (bannerInstructions != null && !bannerInstructions.isEmpty()) {
-          instructions.addAll(bannerInstructions);
-        }
+  private boolean addBannerInstructions(RouteProgress routeProgress) {
+    if (!isNewLeg(routeProgress)) {
+      return false;
+    }
+    instructions = new ArrayList<>();
+    currentLeg = routeProgress.currentLeg();
+    legId = (long) routeProgress.legIndex() << LEG_SHIFT;
+    List<Long> ids = new ArrayList<>();
+    List<LegStep> steps = currentLeg.steps();
+    for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+      List<BannerInstructions> bannerInstructions = steps.get(stepIndex).bannerInstructions();
+      if (bannerInstructions == null) {
+        continue;
       }
+      for (int i = 0; i < bannerInstructions.size(); i++) {
+        instructions.add(bannerInstructions.get(i));
+        ids.add(legId | ((long) stepIndex << STEP_SHIFT) | i);
+      }
+    }
+    instructionIds = new long[ids.size()];
+    for (int i = 0; i < instructionIds.length; i++) {
+      instructionIds[i] = ids.get(i);
     }
+    firstInstruction = FIRST_INSTRUCTION_INDEX;
+    return true;
   }
 
+  /**
+   * The legs of a route don't change, so a different instance means a different leg.
+   */
   private boolean isNewLeg(RouteProgress routeProgress) {
-    return currentLeg == null || !currentLeg.equals(routeProgress.currentLeg());
+    return currentLeg != routeProgress.currentLeg();
   }
 
   private boolean updateInstructionList(RouteProgress routeProgress) {
-    if (instructions.isEmpty()) {
+    removedInstructionCount = 0;
+    if (retrieveBannerInstructionListSize() == 0) {
       return false;
     }
     RouteLegProgress legProgress = routeProgress.currentLegProgress();
@@ -136,21 +193,39 @@ class InstructionListPresenter {
     BannerInstructions currentBannerInstructions = routeUtils.findCurrentBannerInstructions(
       currentStep, stepDistanceRemaining
     );
-    if (!instructions.contains(currentBannerInstructions)) {
+    int currentInstructionIndex = findInstructionIndex(legProgress.stepIndex(), currentStep,
+      currentBannerInstructions);
+    if (currentInstructionIndex == NOT_FOUND) {
       return false;
     }
-    int currentInstructionIndex = instructions.indexOf(currentBannerInstructions);
-    return removeInstructionsFrom(currentInstructionIndex);
+    return removeInstructionsFrom(currentInstructionIndex - firstInstruction);
+  }
+
+  /**
+   * Looks the instruction up by its id, instead of comparing it with every instruction of the leg.
+   *
+   * @return index of the instruction in the list, or {@link #NOT_FOUND} if it has already been removed
+   */
+  private int findInstructionIndex(int stepIndex, LegStep currentStep, BannerInstructions currentBannerInstructions) {
+    if (currentBannerInstructions == null || currentStep.bannerInstructions() == null) {
+      return NOT_FOUND;
+    }
+    int bannerIndex = currentStep.bannerInstructions().indexOf(currentBannerInstructions);
+    if (bannerIndex == NOT_FOUND) {
+      return NOT_FOUND;
+    }
+    long instructionId = legId | ((long) stepIndex << STEP_SHIFT) | bannerIndex;
+    int index = Arrays.binarySearch(instructionIds, firstInstruction, instructionIds.length, instructionId);
+    return index < 0 ? NOT_FOUND : index;
   }
 
   private boolean removeInstructionsFrom(int currentInstructionIndex) {
     if (currentInstructionIndex == FIRST_INSTRUCTION_INDEX) {
-      instructions.remove(FIRST_INSTRUCTION_INDEX);
-      return true;
-    } else if (currentInstructionIndex <= instructions.size()) {
-      instructions.subList(FIRST_INSTRUCTION_INDEX, currentInstructionIndex).clear();
-      return true;
+      removedInstructionCount = 1;
+    } else {
+      removedInstructionCount = currentInstructionIndex;
     }
-    return false;
+    firstInstruction += removedInstructionCount;
+    return true;
   }
 }
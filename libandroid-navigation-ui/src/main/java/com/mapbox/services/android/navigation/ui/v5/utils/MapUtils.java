@@ -33,14 +33,31 @@ public final class MapUtils {
   public static void updateMapSourceFromFeatureCollection(@NonNull MapboxMap mapboxMap,
                                                           @Nullable FeatureCollection collection,
                                                           @NonNull String sourceId) {
+    GeoJsonOptions routeGeoJsonOptions = new GeoJsonOptions().withMaxZoom(16);
+    updateMapSourceFromFeatureCollection(mapboxMap, collection, sourceId, routeGeoJsonOptions);
+  }
+
+  /**
+   * Takes a {@link FeatureCollection} and creates a map GeoJson source using the sourceId and
+   * options also provided. The options are only used if the source doesn't exist yet.
+   *
+   * @param mapboxMap  that the current mapView is using
+   * @param collection the feature collection to be added to the map style
+   * @param sourceId   the source's id for identifying it when adding layers
+   * @param options    used when creating a new source
+   * @since 0.24.0
+   */
+  public static void updateMapSourceFromFeatureCollection(@NonNull MapboxMap mapboxMap,
+                                                          @Nullable FeatureCollection collection,
+                                                          @NonNull String sourceId,
+                                                          @NonNull GeoJsonOptions options) {
     if (collection == null) {
       collection = FeatureCollection.fromFeatures(new Feature[] {});
     }
 
     GeoJsonSource source = mapboxMap.getSourceAs(sourceId);
     if (source == null) {
-      GeoJsonOptions routeGeoJsonOptions = new GeoJsonOptions().withMaxZoom(16);
-      GeoJsonSource routeSource = new GeoJsonSource(sourceId, collection, routeGeoJsonOptions);
+      GeoJsonSource routeSource = new GeoJsonSource(sourceId, collection, options);
       mapboxMap.addSource(routeSource);
     } else {
       source.setGeoJson(collection);
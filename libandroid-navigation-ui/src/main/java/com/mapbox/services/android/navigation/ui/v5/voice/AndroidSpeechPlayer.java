@@ -35,6 +35,7 @@ class AndroidSpeechPlayer implements SpeechPlayer {
    * @since 0.6.0
    */
   AndroidSpeechPlayer(Context context, final String language, final SpeechListener speechListener) {
+    this.speechListener = speechListener;
     textToSpeech = new TextToSpeech(context, new TextToSpeech.OnInitListener() {
       @Override
       public void onInit(int status) {
@@ -56,10 +57,14 @@ class AndroidSpeechPlayer implements SpeechPlayer {
    */
   @Override
   public void play(SpeechAnnouncement speechAnnouncement) {
+    if (isMuted) {
+      return;
+    }
     boolean isValidAnnouncement = speechAnnouncement != null
       && !TextUtils.isEmpty(speechAnnouncement.announcement());
-    boolean canPlay = isValidAnnouncement && languageSupported && !isMuted;
+    boolean canPlay = isValidAnnouncement && languageSupported;
     if (!canPlay) {
+      speechListener.onSkipped();
       return;
     }
 
@@ -0,0 +1,41 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.media.MediaDataSource;
+import android.os.Build;
+import android.support.annotation.RequiresApi;
+
+/**
+ * Plays a synthesized instruction straight from memory, without the {@link android.media.MediaPlayer}
+ * opening the stored file.
+ */
+@RequiresApi(api = Build.VERSION_CODES.M)
+class Api23InstructionDataSource extends MediaDataSource {
+
+  private static final int END_OF_STREAM = -1;
+
+  private final byte[] instructionAudio;
+
+  Api23InstructionDataSource(byte[] instructionAudio) {
+    this.instructionAudio = instructionAudio;
+  }
+
+  @Override
+  public int readAt(long position, byte[] buffer, int offset, int size) {
+    if (position >= instructionAudio.length) {
+      return END_OF_STREAM;
+    }
+    int bytesToRead = (int) Math.min(size, instructionAudio.length - position);
+    System.arraycopy(instructionAudio, (int) position, buffer, offset, bytesToRead);
+    return bytesToRead;
+  }
+
+  @Override
+  public long getSize() {
+    return instructionAudio.length;
+  }
+
+  @Override
+  public void close() {
+    // Nothing to close, the audio is only held in memory
+  }
+}
@@ -0,0 +1,54 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.media.MediaPlayer;
+import android.os.Build;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A synthesized instruction ready to be played, from memory when its audio is still held there
+ * and from the {@link VoiceInstructionStore} otherwise.
+ * <p>
+ * A freshly synthesized instruction can be played from memory before it's written to the store,
+ * its file is then null.
+ */
+class LoadedInstruction {
+
+  private static final String MISSING_FILE_ERROR = "The voice instruction hasn't been stored yet.";
+
+  private final File instructionFile;
+  private final byte[] instructionAudio;
+
+  LoadedInstruction(@Nullable File instructionFile, @Nullable byte[] instructionAudio) {
+    this.instructionFile = instructionFile;
+    this.instructionAudio = instructionAudio;
+  }
+
+  /**
+   * @return true if instructions held in memory can be played without their stored file
+   */
+  static boolean canPlayFromMemory() {
+    return Build.VERSION.SDK_INT >= Build.VERSION_CODES.M;
+  }
+
+  @Nullable
+  File getInstructionFile() {
+    return instructionFile;
+  }
+
+  boolean isInMemory() {
+    return instructionAudio != null;
+  }
+
+  void setDataSourceOn(MediaPlayer mediaPlayer) throws IOException {
+    if (isInMemory() && canPlayFromMemory()) {
+      mediaPlayer.setDataSource(new Api23InstructionDataSource(instructionAudio));
+    } else if (instructionFile != null) {
+      mediaPlayer.setDataSource(instructionFile.getPath());
+    } else {
+      throw new IOException(MISSING_FILE_ERROR);
+    }
+  }
+}
@@ -2,38 +2,37 @@ package com.mapbox.services.android.navigation.ui.v5.voice;
 
 import android.content.Context;
 import android.media.MediaPlayer;
-import android.os.AsyncTask;
 import android.support.annotation.NonNull;
 import android.support.v4.util.Pair;
 import android.text.TextUtils;
 
-import java.io.File;
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
-import okhttp3.ResponseBody;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 import timber.log.Timber;
 
 /**
  * <p>
  * Will retrieve synthesized speech mp3s from Mapbox's API Voice.
  * </p>
+ * <p>
+ * While an instruction is playing, the next queued instruction is already prepared in a second
+ * {@link MediaPlayer}, so it starts as soon as the current one completes.
+ * </p>
  */
 class MapboxSpeechPlayer implements SpeechPlayer {
 
-  private static final String MAPBOX_INSTRUCTION_CACHE = "mapbox_instruction_cache";
   private static final String ERROR_TEXT = "Unable to set data source for the media mediaPlayer! %s";
   private static final SpeechAnnouncementMap SPEECH_ANNOUNCEMENT_MAP = new SpeechAnnouncementMap();
 
   private SpeechAnnouncement announcement;
   private SpeechListener speechListener;
   private MediaPlayer mediaPlayer;
-  private Queue<File> instructionQueue;
-  private File mapboxCache;
+  private MediaPlayer nextMediaPlayer;
+  private boolean isNextPrepared;
+  private Queue<LoadedInstruction> instructionQueue;
   private boolean isPlaying;
   private boolean isMuted;
   private VoiceInstructionLoader voiceInstructionLoader;
@@ -41,14 +40,13 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   /**
    * Construct an instance of {@link MapboxSpeechPlayer}
    *
-   * @param context                to setup the caches
+   * @param context                to setup the player
    * @param voiceInstructionLoader voice instruction loader
    */
   MapboxSpeechPlayer(Context context, @NonNull SpeechListener speechListener,
                      VoiceInstructionLoader voiceInstructionLoader) {
     this.speechListener = speechListener;
     this.voiceInstructionLoader = voiceInstructionLoader;
-    setupCaches(context);
     instructionQueue = new ConcurrentLinkedQueue();
   }
 
@@ -61,6 +59,7 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   public void play(SpeechAnnouncement announcement) {
     boolean isInvalidAnnouncement = announcement == null;
     if (isInvalidAnnouncement) {
+      speechListener.onSkipped();
       return;
     }
     this.announcement = announcement;
@@ -87,12 +86,6 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   @Override
   public void onDestroy() {
     stopMediaPlayerPlaying();
-    voiceInstructionLoader.flushCache();
-  }
-
-  private void setupCaches(Context context) {
-    mapboxCache = new File(context.getCacheDir(), MAPBOX_INSTRUCTION_CACHE);
-    mapboxCache.mkdir();
   }
 
   private void playAnnouncementTextAndTypeFrom(SpeechAnnouncement announcement) {
@@ -114,6 +107,7 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   }
 
   private void stopMediaPlayerPlaying() {
+    releaseNextMediaPlayer();
     if (isPlaying) {
       isPlaying = false;
       mediaPlayer.stop();
@@ -123,28 +117,25 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   }
 
   private void downloadVoiceFile(final String instruction, String textType) {
+    if (isMuted) {
+      return;
+    }
     boolean isInvalidInstruction = TextUtils.isEmpty(instruction);
-    if (isMuted || isInvalidInstruction) {
+    if (isInvalidInstruction) {
+      speechListener.onSkipped();
       return;
     }
 
-    voiceInstructionLoader.requestInstruction(instruction, textType, new Callback<ResponseBody>() {
+    voiceInstructionLoader.requestInstruction(instruction, textType, new OnInstructionLoadedCallback() {
       @Override
-      public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
-        if (response.isSuccessful()) {
-          executeInstructionTask(response.body());
-        } else {
-          try {
-            onError(response.errorBody().string());
-          } catch (IOException exception) {
-            onError(exception.getLocalizedMessage());
-          }
-        }
+      public void onInstructionLoaded(@NonNull LoadedInstruction loadedInstruction) {
+        instructionQueue.add(loadedInstruction);
+        playOrPrepareInstruction(loadedInstruction);
       }
 
       @Override
-      public void onFailure(Call<ResponseBody> call, Throwable throwable) {
-        onError(throwable.getLocalizedMessage());
+      public void onInstructionError(String errorText) {
+        onError(errorText);
       }
     });
   }
@@ -153,45 +144,62 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     speechListener.onError(errorText, announcement);
   }
 
-  private void playInstruction(@NonNull File instruction) {
-    setupMediaPlayer(instruction.getPath());
+  private void playOrPrepareInstruction(LoadedInstruction instruction) {
+    int queueSize = instructionQueue.size();
+    if (queueSize == 1) {
+      playInstruction(instruction);
+    } else if (queueSize == 2) {
+      prepareNextInstruction(instruction);
+    }
   }
 
-  private void setupMediaPlayer(String instructionPath) {
-    if (TextUtils.isEmpty(instructionPath)) {
-      return;
+  private void playInstruction(@NonNull LoadedInstruction instruction) {
+    mediaPlayer = setupMediaPlayer(instruction);
+    if (mediaPlayer == null) {
+      speechListener.onSkipped();
+      onInstructionFinishedPlaying();
     }
-    mediaPlayer = new MediaPlayer();
-    setDataSource(instructionPath);
-    mediaPlayer.prepareAsync();
-    addListeners();
   }
 
-  private void pauseInstruction() {
-    if (isPlaying) {
-      isPlaying = false;
-      mediaPlayer.stop();
-    }
+  private void prepareNextInstruction(@NonNull LoadedInstruction instruction) {
+    isNextPrepared = false;
+    nextMediaPlayer = setupMediaPlayer(instruction);
   }
 
-  private void setDataSource(String instruction) {
+  private MediaPlayer setupMediaPlayer(LoadedInstruction instruction) {
+    MediaPlayer player = new MediaPlayer();
     try {
-      mediaPlayer.setDataSource(instruction);
+      instruction.setDataSourceOn(player);
     } catch (IOException ioException) {
       Timber.e(ERROR_TEXT, ioException.getMessage());
+      player.release();
+      return null;
+    }
+    addListeners(player);
+    player.prepareAsync();
+    return player;
+  }
+
+  private void pauseInstruction() {
+    releaseNextMediaPlayer();
+    if (isPlaying) {
+      isPlaying = false;
+      mediaPlayer.stop();
     }
   }
 
-  private void addListeners() {
-    mediaPlayer.setOnPreparedListener(new MediaPlayer.OnPreparedListener() {
+  private void addListeners(MediaPlayer player) {
+    player.setOnPreparedListener(new MediaPlayer.OnPreparedListener() {
       @Override
       public void onPrepared(MediaPlayer mp) {
-        speechListener.onStart();
-        isPlaying = true;
-        mp.start();
+        if (mp == mediaPlayer) {
+          startMediaPlayer(mp);
+        } else {
+          isNextPrepared = true;
+        }
       }
     });
-    mediaPlayer.setOnCompletionListener(new MediaPlayer.OnCompletionListener() {
+    player.setOnCompletionListener(new MediaPlayer.OnCompletionListener() {
       @Override
       public void onCompletion(MediaPlayer mp) {
         mp.release();
@@ -202,47 +210,59 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     });
   }
 
+  private void startMediaPlayer(MediaPlayer mp) {
+    speechListener.onStart();
+    isPlaying = true;
+    mp.start();
+  }
+
   private void onInstructionFinishedPlaying() {
-    deleteLastInstructionPlayed();
+    removeLastInstructionPlayed();
     startNextInstruction();
   }
 
-  private void deleteLastInstructionPlayed() {
+  /**
+   * Instruction files are owned by the {@link VoiceInstructionStore}, so they're kept to be played again.
+   */
+  private void removeLastInstructionPlayed() {
     if (!instructionQueue.isEmpty()) {
-      instructionQueue.poll().delete();
+      instructionQueue.poll();
     }
   }
 
   private void startNextInstruction() {
-    if (!instructionQueue.isEmpty()) {
+    if (instructionQueue.isEmpty()) {
+      return;
+    }
+    if (nextMediaPlayer == null) {
       playInstruction(instructionQueue.peek());
+      return;
     }
+    mediaPlayer = nextMediaPlayer;
+    nextMediaPlayer = null;
+    if (isNextPrepared) {
+      startMediaPlayer(mediaPlayer);
+    }
+    prepareInstructionAfterNext();
   }
 
-  private void clearInstructionUrls() {
-    while (!instructionQueue.isEmpty()) {
-      instructionQueue.remove().delete();
+  private void prepareInstructionAfterNext() {
+    Iterator<LoadedInstruction> instructions = instructionQueue.iterator();
+    instructions.next();
+    if (instructions.hasNext()) {
+      prepareNextInstruction(instructions.next());
     }
   }
 
-  private void executeInstructionTask(ResponseBody responseBody) {
-    new SpeechDownloadTask(mapboxCache.getPath(), new SpeechDownloadTask.TaskListener() {
-      @Override
-      public void onFinishedDownloading(@NonNull File instructionFile) {
-        playInstructionIfUpNext(instructionFile);
-        instructionQueue.add(instructionFile);
-      }
-
-      @Override
-      public void onErrorDownloading() {
-        onError("There was an error downloading the voice files.");
-      }
-    }).executeOnExecutor(AsyncTask.SERIAL_EXECUTOR, responseBody);
+  private void releaseNextMediaPlayer() {
+    if (nextMediaPlayer != null) {
+      nextMediaPlayer.release();
+      nextMediaPlayer = null;
+    }
+    isNextPrepared = false;
   }
 
-  private void playInstructionIfUpNext(File instructionFile) {
-    if (instructionQueue.isEmpty()) {
-      playInstruction(instructionFile);
-    }
+  private void clearInstructionUrls() {
+    instructionQueue.clear();
   }
 }
@@ -6,26 +6,38 @@ class NavigationSpeechListener implements SpeechListener {
 
   private SpeechPlayerProvider speechPlayerProvider;
   private SpeechAudioFocusManager audioFocusManager;
+  private SpeechLatencyTracker latencyTracker;
 
   NavigationSpeechListener(SpeechPlayerProvider speechPlayerProvider,
-                           SpeechAudioFocusManager audioFocusManager) {
+                           SpeechAudioFocusManager audioFocusManager, SpeechLatencyTracker latencyTracker) {
     this.speechPlayerProvider = speechPlayerProvider;
     this.audioFocusManager = audioFocusManager;
+    this.latencyTracker = latencyTracker;
   }
 
   @Override
   public void onStart() {
+    latencyTracker.onAnnouncementStarted();
     audioFocusManager.requestAudioFocus();
   }
 
   @Override
   public void onDone() {
+    latencyTracker.onAnnouncementDone();
     audioFocusManager.abandonAudioFocus();
   }
 
+  @Override
+  public void onSkipped() {
+    latencyTracker.onAnnouncementSkipped();
+  }
+
   @Override
   public void onError(String errorText, SpeechAnnouncement speechAnnouncement) {
     Timber.e(errorText);
-    speechPlayerProvider.retrieveAndroidSpeechPlayer().play(speechAnnouncement);
+    latencyTracker.onAnnouncementSkipped();
+    AndroidSpeechPlayer androidSpeechPlayer = speechPlayerProvider.retrieveAndroidSpeechPlayer();
+    latencyTracker.onAnnouncementRequested(androidSpeechPlayer);
+    androidSpeechPlayer.play(speechAnnouncement);
   }
 }
@@ -31,7 +31,26 @@ public class NavigationSpeechPlayer implements SpeechPlayer {
    */
   @Override
   public void play(SpeechAnnouncement speechAnnouncement) {
-    speechPlayerProvider.retrieveSpeechPlayer().play(speechAnnouncement);
+    SpeechPlayer speechPlayer = speechPlayerProvider.retrieveSpeechPlayer();
+    if (!isMuted) {
+      speechPlayerProvider.retrieveLatencyTracker().onAnnouncementRequested(speechPlayer);
+    }
+    speechPlayer.play(speechAnnouncement);
+  }
+
+  /**
+   * Returns the observed time from an announcement being played with this player until it
+   * is heard, i.e. while it's synthesized or prepared.
+   * <p>
+   * Multiplied by the current speed, this is the distance an announcement should be triggered early,
+   * see {@link com.mapbox.services.android.navigation.v5.milestone.VoiceInstructionMilestone}.
+   *
+   * @return announcement latency in milliseconds
+   * @since 0.24.0
+   */
+  public long retrieveAnnouncementLatency() {
+    SpeechPlayer speechPlayer = speechPlayerProvider.retrieveSpeechPlayer();
+    return speechPlayerProvider.retrieveLatencyTracker().retrieveLatencyMillis(speechPlayer);
   }
 
   /**
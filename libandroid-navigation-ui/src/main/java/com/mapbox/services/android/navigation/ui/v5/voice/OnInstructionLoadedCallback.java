@@ -0,0 +1,10 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.support.annotation.NonNull;
+
+interface OnInstructionLoadedCallback {
+
+  void onInstructionLoaded(@NonNull LoadedInstruction instruction);
+
+  void onInstructionError(String errorText);
+}
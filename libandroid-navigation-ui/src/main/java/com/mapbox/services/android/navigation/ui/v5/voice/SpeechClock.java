@@ -0,0 +1,6 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+interface SpeechClock {
+
+  long elapsedRealtime();
+}
@@ -0,0 +1,104 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the time from an announcement being handed to a {@link SpeechPlayer} until it starts
+ * playing, smoothed per player.
+ * <p>
+ * Announcements requested while another one is playing only wait in the queue, so they aren't
+ * measured.  Announcements which won't start, i.e. because they were empty or failed to load, are
+ * reported as skipped, so a later start isn't matched with them.  Unreported ones are dropped after a while.
+ * <p>
+ * Methods are synchronized, {@link android.speech.tts.TextToSpeech} reports progress from its own thread.
+ */
+class SpeechLatencyTracker {
+
+  static final long DEFAULT_LATENCY_MILLIS = 500;
+  private static final long MAX_PENDING_MILLIS = 10000;
+  private static final double SMOOTHING_FACTOR = 0.3;
+
+  private final SpeechClock clock;
+  private final ArrayDeque<PendingAnnouncement> pendingAnnouncements = new ArrayDeque<>();
+  private final Map<SpeechPlayer, Double> latencies = new HashMap<>();
+  private boolean isSpeaking;
+
+  SpeechLatencyTracker(SpeechClock clock) {
+    this.clock = clock;
+  }
+
+  synchronized void onAnnouncementRequested(SpeechPlayer player) {
+    long now = clock.elapsedRealtime();
+    removeExpiredAnnouncements(now);
+    boolean isMeasured = !isSpeaking && pendingAnnouncements.isEmpty();
+    pendingAnnouncements.add(new PendingAnnouncement(player, now, isMeasured));
+  }
+
+  synchronized void onAnnouncementStarted() {
+    isSpeaking = true;
+    long now = clock.elapsedRealtime();
+    removeExpiredAnnouncements(now);
+    PendingAnnouncement announcement = pendingAnnouncements.poll();
+    if (announcement == null || !announcement.isMeasured) {
+      return;
+    }
+    updateLatency(announcement.player, now - announcement.requestedAt);
+  }
+
+  /**
+   * Announcements are played in the order they're requested, so the oldest pending one is skipped.
+   */
+  synchronized void onAnnouncementSkipped() {
+    pendingAnnouncements.poll();
+  }
+
+  synchronized void onAnnouncementDone() {
+    isSpeaking = false;
+  }
+
+  synchronized void clearPendingAnnouncements() {
+    pendingAnnouncements.clear();
+  }
+
+  /**
+   * @param player to retrieve the latency for
+   * @return smoothed latency of the player, or {@link #DEFAULT_LATENCY_MILLIS} until it's been measured
+   */
+  synchronized long retrieveLatencyMillis(SpeechPlayer player) {
+    Double latency = latencies.get(player);
+    if (latency == null) {
+      return DEFAULT_LATENCY_MILLIS;
+    }
+    return Math.round(latency);
+  }
+
+  private void removeExpiredAnnouncements(long now) {
+    while (!pendingAnnouncements.isEmpty() && now - pendingAnnouncements.peek().requestedAt > MAX_PENDING_MILLIS) {
+      pendingAnnouncements.poll();
+    }
+  }
+
+  private void updateLatency(SpeechPlayer player, long latencyMillis) {
+    Double latency = latencies.get(player);
+    if (latency == null) {
+      latencies.put(player, (double) latencyMillis);
+    } else {
+      latencies.put(player, latency + SMOOTHING_FACTOR * (latencyMillis - latency));
+    }
+  }
+
+  private static class PendingAnnouncement {
+
+    private final SpeechPlayer player;
+    private final long requestedAt;
+    private final boolean isMeasured;
+
+    PendingAnnouncement(SpeechPlayer player, long requestedAt, boolean isMeasured) {
+      this.player = player;
+      this.requestedAt = requestedAt;
+      this.isMeasured = isMeasured;
+    }
+  }
+}
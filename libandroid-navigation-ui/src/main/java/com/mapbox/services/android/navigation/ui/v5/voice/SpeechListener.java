@@ -6,5 +6,7 @@ interface SpeechListener {
 
   void onDone();
 
+  void onSkipped();
+
   void onError(String errorText, SpeechAnnouncement speechAnnouncement);
 }
@@ -28,6 +28,7 @@ public class SpeechPlayerProvider {
 
   private AndroidSpeechPlayer androidSpeechPlayer;
   private List<SpeechPlayer> speechPlayers = new ArrayList<>(2);
+  private SpeechLatencyTracker latencyTracker = new SpeechLatencyTracker(new SystemSpeechClock());
 
   /**
    * Constructed when creating an instance of {@link NavigationSpeechPlayer}.
@@ -50,13 +51,19 @@ public class SpeechPlayerProvider {
     return androidSpeechPlayer;
   }
 
+  SpeechLatencyTracker retrieveLatencyTracker() {
+    return latencyTracker;
+  }
+
   void setMuted(boolean isMuted) {
+    latencyTracker.clearPendingAnnouncements();
     for (SpeechPlayer player : speechPlayers) {
       player.setMuted(isMuted);
     }
   }
 
   void onOffRoute() {
+    latencyTracker.clearPendingAnnouncements();
     for (SpeechPlayer player : speechPlayers) {
       player.onOffRoute();
     }
@@ -72,7 +79,7 @@ public class SpeechPlayerProvider {
                           boolean voiceLanguageSupported, VoiceInstructionLoader voiceInstructionLoader) {
     AudioFocusDelegateProvider provider = buildAudioFocusDelegateProvider(context);
     SpeechAudioFocusManager audioFocusManager = new SpeechAudioFocusManager(provider);
-    SpeechListener speechListener = new NavigationSpeechListener(this, audioFocusManager);
+    SpeechListener speechListener = new NavigationSpeechListener(this, audioFocusManager, latencyTracker);
     initMapboxSpeechPlayer(context, language, voiceLanguageSupported, speechListener, voiceInstructionLoader);
     initAndroidSpeechPlayer(context, language, speechListener);
   }
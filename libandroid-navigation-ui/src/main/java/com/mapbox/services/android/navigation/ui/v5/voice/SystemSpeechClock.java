@@ -0,0 +1,11 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.os.SystemClock;
+
+class SystemSpeechClock implements SpeechClock {
+
+  @Override
+  public long elapsedRealtime() {
+    return SystemClock.elapsedRealtime();
+  }
+}
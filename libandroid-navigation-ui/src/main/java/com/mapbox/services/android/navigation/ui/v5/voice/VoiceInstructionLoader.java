@@ -1,146 +1,343 @@
 package com.mapbox.services.android.navigation.ui.v5.voice;
 
 import android.content.Context;
-import android.net.ConnectivityManager;
-import android.net.NetworkInfo;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.support.annotation.Nullable;
+import android.support.v4.util.LruCache;
+import android.text.TextUtils;
 
 import com.mapbox.api.speech.v1.MapboxSpeech;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import okhttp3.Cache;
-import okhttp3.CacheControl;
-import okhttp3.Interceptor;
-import okhttp3.Request;
-import okhttp3.Response;
 import okhttp3.ResponseBody;
-import retrofit2.Call;
-import retrofit2.Callback;
+import retrofit2.Response;
 import timber.log.Timber;
 
+/**
+ * Loads synthesized voice instructions from the Mapbox Voice API into a persistent
+ * {@link VoiceInstructionStore}.
+ * <p>
+ * Instructions requested for playback, instructions cached ahead of time and instructions preloaded into
+ * memory are loaded on separate background threads, so an instruction about to be played never waits behind
+ * the pre-synthesis of the rest of the route. Instructions synthesized for playback or preloaded for the
+ * upcoming steps are also kept in memory for a while, so they can be played without reading them back
+ * from the store.
+ */
 public class VoiceInstructionLoader {
-  private static final int VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD = 4;
+
   private static final String SSML_TEXT_TYPE = "ssml";
-  private final ConnectivityManager connectivityManager;
+  private static final String VOICE_INSTRUCTION_STORE = "mapbox-navigation-voice-instructions";
+  private static final long MAX_STORE_SIZE_IN_BYTES = 25 * 1024 * 1024;
+  private static final long MAX_STORE_AGE_IN_MILLIS = TimeUnit.DAYS.toMillis(7);
+  private static final int MAX_MEMORY_SIZE_IN_BYTES = 1024 * 1024;
+  private static final long THREAD_KEEP_ALIVE_IN_SECONDS = 30;
+  private static final String NOT_SET_UP_ERROR = "Voice instructions can't be loaded without a voice language.";
+  private static final String LOADING_ERROR = "There was an error loading the voice instruction.";
+
   private final String accessToken;
-  private List<String> urlsCached;
-  private final Cache cache;
-  private MapboxSpeech.Builder mapboxSpeechBuilder = null;
+  private final VoiceInstructionStore store;
+  private final Executor requestExecutor;
+  private final Executor cacheExecutor;
+  private final Executor preloadExecutor;
+  private final AtomicInteger queuedRequests = new AtomicInteger();
+  private final Handler mainHandler;
+  private final LruCache<String, byte[]> memoryCache = new LruCache<String, byte[]>(MAX_MEMORY_SIZE_IN_BYTES) {
+    @Override
+    protected int sizeOf(String key, byte[] instructionAudio) {
+      return instructionAudio.length;
+    }
+  };
+  private final Set<String> keysBeingCached = Collections.synchronizedSet(new HashSet<String>());
+  private String language;
+
+  /**
+   * Creates a loader saving the voice instructions in the application cache directory.
+   *
+   * @param context     for the cache directory
+   * @param accessToken used for the Mapbox Voice API
+   * @since 0.24.0
+   */
+  public VoiceInstructionLoader(Context context, String accessToken) {
+    this(accessToken, new VoiceInstructionStore(new File(context.getCacheDir(), VOICE_INSTRUCTION_STORE),
+        MAX_STORE_SIZE_IN_BYTES, MAX_STORE_AGE_IN_MILLIS),
+      buildBackgroundExecutor(), buildBackgroundExecutor(), buildBackgroundExecutor(),
+      new Handler(Looper.getMainLooper()));
+  }
 
+  /**
+   * Creates a loader saving the voice instructions in the application cache directory.
+   *
+   * @param context     for the cache directory
+   * @param accessToken used for the Mapbox Voice API
+   * @param cache       no longer used, voice instructions are kept in their own store
+   * @deprecated use {@link #VoiceInstructionLoader(Context, String)}
+   */
+  @Deprecated
   public VoiceInstructionLoader(Context context, String accessToken, Cache cache) {
-    this.connectivityManager = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+    this(context, accessToken);
+  }
+
+  // Package private (no modifier) for testing purposes
+  VoiceInstructionLoader(String accessToken, VoiceInstructionStore store, Executor requestExecutor,
+                         Executor cacheExecutor, Executor preloadExecutor, Handler mainHandler) {
     this.accessToken = accessToken;
-    this.urlsCached = new ArrayList<>();
-    this.cache = cache;
-  }
-
-  public List<String> evictVoiceInstructions() {
-    List<String> urlsToRemove = new ArrayList<>();
-    for (int i = 0; i < urlsCached.size() && i < VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD; i++) {
-      String urlToRemove = urlsCached.get(i);
-      try {
-        Iterator<String> urlsCurrentlyCached = cache.urls();
-        for (Iterator<String> urlCached = urlsCurrentlyCached; urlCached.hasNext(); ) {
-          String url = urlCached.next();
-          if (url.equals(urlToRemove)) {
-            urlCached.remove();
-            urlsToRemove.add(urlToRemove);
-            break;
-          }
-        }
-      } catch (IOException exception) {
-        exception.printStackTrace();
-      }
-    }
-    urlsCached.removeAll(urlsToRemove);
-    return urlsToRemove;
+    this.store = store;
+    this.requestExecutor = requestExecutor;
+    this.cacheExecutor = cacheExecutor;
+    this.preloadExecutor = preloadExecutor;
+    this.mainHandler = mainHandler;
   }
 
+  /**
+   * Synthesizes the given SSML instructions in the background, skipping the ones already stored.
+   *
+   * @param instructions to be cached
+   */
   public void cacheInstructions(List<String> instructions) {
+    if (language == null) {
+      return;
+    }
     for (String instruction : instructions) {
       cacheInstruction(instruction);
     }
   }
 
-  // Package private (no modifier) for testing purposes
-  void addStubUrlsToCache(List<String> urlsToCache) {
-    this.urlsCached = urlsToCache;
+  /**
+   * Reads the given SSML instructions into memory in the background, if they're stored, so they
+   * can be played without opening their files.
+   * <p>
+   * Instructions that aren't stored yet are left to {@link #cacheInstructions(List)}.  Preloading runs
+   * at a low priority and stops while an instruction requested for playback is being loaded.
+   *
+   * @param instructions about to be played
+   * @since 0.24.0
+   */
+  public void preloadInstructions(List<String> instructions) {
+    if (language == null || !LoadedInstruction.canPlayFromMemory()) {
+      return;
+    }
+    final List<String> keys = new ArrayList<>();
+    for (String instruction : instructions) {
+      if (!TextUtils.isEmpty(instruction)) {
+        keys.add(VoiceInstructionStore.buildKey(instruction, SSML_TEXT_TYPE, language));
+      }
+    }
+    if (keys.isEmpty()) {
+      return;
+    }
+    preloadExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+        long now = System.currentTimeMillis();
+        for (String key : keys) {
+          if (queuedRequests.get() > 0) {
+            return;
+          }
+          store.initialize(now);
+          readIntoMemory(key, now);
+        }
+      }
+    });
   }
 
   void setupMapboxSpeechBuilder(String language) {
-    if (mapboxSpeechBuilder == null) {
-      mapboxSpeechBuilder = MapboxSpeech.builder()
-        .accessToken(accessToken)
-        .language(language)
-        .cache(cache)
-        .interceptor(provideOfflineCacheInterceptor());
+    this.language = language;
+  }
+
+  /**
+   * Retrieves the instruction from memory or the store if it's there, or synthesizes it otherwise.
+   * <p>
+   * The callback is always invoked on the main thread.
+   */
+  void requestInstruction(final String instruction, final String textType,
+                          final OnInstructionLoadedCallback callback) {
+    if (language == null) {
+      callback.onInstructionError(NOT_SET_UP_ERROR);
+      return;
+    }
+    final String key = VoiceInstructionStore.buildKey(instruction, textType, language);
+    LoadedInstruction loadedInstruction = retrieveInstruction(key);
+    if (loadedInstruction != null) {
+      callback.onInstructionLoaded(loadedInstruction);
+      return;
+    }
+    final String requestLanguage = language;
+    queuedRequests.incrementAndGet();
+    requestExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          loadRequestedInstruction(key, instruction, textType, requestLanguage, callback);
+        } finally {
+          queuedRequests.decrementAndGet();
+        }
+      }
+    });
+  }
+
+  private void cacheInstruction(final String instruction) {
+    if (TextUtils.isEmpty(instruction)) {
+      return;
+    }
+    final String key = VoiceInstructionStore.buildKey(instruction, SSML_TEXT_TYPE, language);
+    if (store.contains(key) || !keysBeingCached.add(key)) {
+      return;
+    }
+    final String cacheLanguage = language;
+    cacheExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        cacheMissingInstruction(key, instruction, cacheLanguage);
+        keysBeingCached.remove(key);
+      }
+    });
+  }
+
+  @Nullable
+  private LoadedInstruction retrieveInstruction(String key) {
+    byte[] instructionAudio = memoryCache.get(key);
+    File storedInstruction = store.retrieve(key, System.currentTimeMillis());
+    boolean isPlayableFromMemory = instructionAudio != null && LoadedInstruction.canPlayFromMemory();
+    if (storedInstruction == null && !isPlayableFromMemory) {
+      return null;
+    }
+    return new LoadedInstruction(storedInstruction, instructionAudio);
+  }
+
+  /**
+   * Runs on a background thread.
+   */
+  private void readIntoMemory(String key, long now) {
+    if (memoryCache.get(key) != null) {
+      return;
+    }
+    byte[] instructionAudio = store.read(key, now);
+    if (instructionAudio != null) {
+      memoryCache.put(key, instructionAudio);
     }
   }
 
-  void requestInstruction(String instruction, String textType, Callback<ResponseBody> callback) {
-    if (!cache.isClosed()) {
-      MapboxSpeech mapboxSpeech = mapboxSpeechBuilder
-        .instruction(instruction)
-        .textType(textType)
-        .build();
-      mapboxSpeech.enqueueCall(callback);
+  /**
+   * Runs on a background thread.
+   * <p>
+   * When the instruction can be played from memory, it's handed to the callback before it's written
+   * to the store, so playback doesn't wait for the disk.
+   */
+  private void loadRequestedInstruction(String key, String instruction, String textType, String language,
+                                        OnInstructionLoadedCallback callback) {
+    store.initialize(System.currentTimeMillis());
+    LoadedInstruction loadedInstruction = retrieveInstruction(key);
+    if (loadedInstruction != null) {
+      postResult(callback, loadedInstruction);
+      return;
+    }
+    byte[] instructionAudio = synthesizeInstruction(instruction, textType, language);
+    if (instructionAudio == null) {
+      postResult(callback, null);
+      return;
+    }
+    memoryCache.put(key, instructionAudio);
+    if (LoadedInstruction.canPlayFromMemory()) {
+      postResult(callback, new LoadedInstruction(null, instructionAudio));
+      storeInstruction(key, instructionAudio);
+    } else {
+      File instructionFile = storeInstruction(key, instructionAudio);
+      postResult(callback, instructionFile == null ? null : new LoadedInstruction(instructionFile, instructionAudio));
+    }
+  }
+
+  /**
+   * Runs on a background thread.
+   * <p>
+   * Instructions cached ahead of time aren't kept in memory, pre-synthesizing a long route
+   * would otherwise push out the instructions about to be played.
+   */
+  private void cacheMissingInstruction(String key, String instruction, String language) {
+    long now = System.currentTimeMillis();
+    store.initialize(now);
+    if (store.retrieve(key, now) != null) {
+      return;
+    }
+    byte[] instructionAudio = synthesizeInstruction(instruction, SSML_TEXT_TYPE, language);
+    if (instructionAudio != null) {
+      storeInstruction(key, instructionAudio);
     }
   }
 
-  void flushCache() {
+  /**
+   * Runs on a background thread.
+   */
+  @Nullable
+  private byte[] synthesizeInstruction(String instruction, String textType, String language) {
+    MapboxSpeech mapboxSpeech = MapboxSpeech.builder()
+      .accessToken(accessToken)
+      .language(language)
+      .instruction(instruction)
+      .textType(textType)
+      .build();
+    ResponseBody body = null;
     try {
-      if (cache.directory().listFiles() != null) {
-        cache.delete();
+      Response<ResponseBody> response = mapboxSpeech.executeCall();
+      body = response.body();
+      if (!response.isSuccessful() || body == null) {
+        Timber.e("Unable to synthesize the voice instruction: %s", response.message());
+        return null;
       }
+      // Instructions are small, holding one in memory avoids reading it back for playback
+      return body.bytes();
     } catch (IOException exception) {
       Timber.e(exception);
+      return null;
+    } finally {
+      if (body != null) {
+        body.close();
+      }
     }
   }
 
-  private void cacheInstruction(String instruction) {
-    requestInstruction(instruction, SSML_TEXT_TYPE, new Callback<ResponseBody>() {
-      @Override
-      public void onResponse(Call<ResponseBody> call, retrofit2.Response<ResponseBody> response) {
-        response.body().byteStream();
-        response.body().close();
-        urlsCached.add(call.request().url().toString());
-      }
-
-      @Override
-      public void onFailure(Call<ResponseBody> call, Throwable throwable) {
-        Timber.e("onFailure cache instruction");
-      }
-    });
+  @Nullable
+  private File storeInstruction(String key, byte[] instructionAudio) {
+    return store.store(key, new ByteArrayInputStream(instructionAudio), System.currentTimeMillis());
   }
 
-  private Interceptor provideOfflineCacheInterceptor() {
-    return new Interceptor() {
+  private void postResult(final OnInstructionLoadedCallback callback,
+                          @Nullable final LoadedInstruction loadedInstruction) {
+    mainHandler.post(new Runnable() {
       @Override
-      public Response intercept(Chain chain) throws IOException {
-        Request request = chain.request();
-        if (!hasNetworkConnection()) {
-          CacheControl cacheControl = new CacheControl.Builder()
-            .maxStale(3, TimeUnit.DAYS)
-            .build();
-          request = request.newBuilder()
-            .cacheControl(cacheControl)
-            .build();
+      public void run() {
+        if (loadedInstruction == null) {
+          callback.onInstructionError(LOADING_ERROR);
+        } else {
+          callback.onInstructionLoaded(loadedInstruction);
         }
-        return chain.proceed(request);
       }
-    };
+    });
   }
 
-  @SuppressWarnings( {"MissingPermission"})
-  private boolean hasNetworkConnection() {
-    if (connectivityManager == null) {
-      return false;
-    }
-    NetworkInfo activeNetwork = connectivityManager.getActiveNetworkInfo();
-    return activeNetwork != null && activeNetwork.isConnected();
+  /**
+   * A single thread working through its queue, which stops once it's been idle for a while.
+   */
+  private static Executor buildBackgroundExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, THREAD_KEEP_ALIVE_IN_SECONDS, TimeUnit.SECONDS,
+      new LinkedBlockingQueue<Runnable>());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 }
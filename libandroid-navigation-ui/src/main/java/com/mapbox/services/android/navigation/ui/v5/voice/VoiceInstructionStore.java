@@ -0,0 +1,290 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.support.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import timber.log.Timber;
+
+/**
+ * On-disk store of synthesized voice instructions.
+ * <p>
+ * Each instruction is saved in its own file, named after a hash of the instruction text, text type and
+ * language, so the same announcement is reused across routes and navigation sessions.  An in-memory
+ * index kept in least recently used order provides lookups without touching the file system and bounds
+ * the store by size and age.
+ * <p>
+ * Methods are synchronized, the store is written from a background thread and read from the main thread.
+ */
+class VoiceInstructionStore {
+
+  private static final String HASH_ALGORITHM = "SHA-1";
+  private static final String ENCODING = "UTF-8";
+  private static final String KEY_SEPARATOR = "\n";
+  private static final String MP3_EXTENSION = ".mp3";
+  private static final String TEMPORARY_EXTENSION = ".tmp";
+  private static final int BUFFER_SIZE = 8192;
+  private static final int END_OF_STREAM = -1;
+
+  private final File directory;
+  private final long maxSizeInBytes;
+  private final long maxAgeInMillis;
+  private final LinkedHashMap<String, StoredInstruction> index = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeInBytes;
+  private boolean isInitialized;
+
+  VoiceInstructionStore(File directory, long maxSizeInBytes, long maxAgeInMillis) {
+    this.directory = directory;
+    this.maxSizeInBytes = maxSizeInBytes;
+    this.maxAgeInMillis = maxAgeInMillis;
+  }
+
+  /**
+   * Builds the index from the files already in the store directory, oldest files first.
+   * <p>
+   * This reads the directory the first time it's called, so it should be called from a background thread.
+   *
+   * @param now current time in milliseconds
+   */
+  synchronized void initialize(long now) {
+    if (isInitialized) {
+      return;
+    }
+    isInitialized = true;
+    if (!directory.exists() && !directory.mkdirs()) {
+      Timber.e("Unable to create the voice instruction store in %s", directory);
+      return;
+    }
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    Arrays.sort(files, new Comparator<File>() {
+      @Override
+      public int compare(File first, File second) {
+        long difference = first.lastModified() - second.lastModified();
+        return difference < 0 ? -1 : (difference > 0 ? 1 : 0);
+      }
+    });
+    for (File file : files) {
+      String name = file.getName();
+      StoredInstruction instruction = new StoredInstruction(file.length(), file.lastModified());
+      if (!name.endsWith(MP3_EXTENSION) || instruction.isExpired(now, maxAgeInMillis)) {
+        file.delete();
+        continue;
+      }
+      index.put(name.substring(0, name.length() - MP3_EXTENSION.length()), instruction);
+      sizeInBytes += instruction.size;
+    }
+    evict();
+  }
+
+  /**
+   * @param key  from {@link #buildKey(String, String, String)}
+   * @param now  current time in milliseconds
+   * @return the stored instruction, or null if it isn't stored or has expired
+   */
+  @Nullable
+  synchronized File retrieve(String key, long now) {
+    StoredInstruction instruction = index.get(key);
+    if (instruction == null) {
+      return null;
+    }
+    if (instruction.isExpired(now, maxAgeInMillis)) {
+      remove(key);
+      return null;
+    }
+    return buildFile(key);
+  }
+
+  /**
+   * Reads the stored instruction, so it can be held in memory.
+   * <p>
+   * This reads the file, so it should be called from a background thread.
+   *
+   * @param key from {@link #buildKey(String, String, String)}
+   * @param now current time in milliseconds
+   * @return the audio of the stored instruction, or null if it isn't stored or couldn't be read
+   */
+  @Nullable
+  byte[] read(String key, long now) {
+    File file = retrieve(key, now);
+    if (file == null) {
+      return null;
+    }
+    InputStream inputStream = null;
+    try {
+      inputStream = new FileInputStream(file);
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream((int) file.length());
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int bytesRead;
+      while ((bytesRead = inputStream.read(buffer)) != END_OF_STREAM) {
+        outputStream.write(buffer, 0, bytesRead);
+      }
+      return outputStream.toByteArray();
+    } catch (IOException exception) {
+      // The instruction may have been evicted since it was retrieved
+      Timber.e(exception);
+      return null;
+    } finally {
+      closeQuietly(inputStream);
+    }
+  }
+
+  synchronized boolean contains(String key) {
+    return index.containsKey(key);
+  }
+
+  /**
+   * Writes the instruction to a temporary file first, so a partially written
+   * instruction is never returned from {@link #retrieve(String, long)}.
+   *
+   * @param key         from {@link #buildKey(String, String, String)}
+   * @param inputStream of the synthesized instruction, not closed by this method
+   * @param now         current time in milliseconds
+   * @return the stored instruction, or null if it couldn't be written
+   */
+  @Nullable
+  File store(String key, InputStream inputStream, long now) {
+    File temporaryFile;
+    try {
+      // Unique, as the same instruction can be requested for playback while it's being cached
+      temporaryFile = File.createTempFile(key, TEMPORARY_EXTENSION, directory);
+    } catch (IOException exception) {
+      Timber.e(exception);
+      return null;
+    }
+    File file = buildFile(key);
+    if (!write(inputStream, temporaryFile)) {
+      temporaryFile.delete();
+      return null;
+    }
+    synchronized (this) {
+      if (!temporaryFile.renameTo(file)) {
+        temporaryFile.delete();
+        return null;
+      }
+      file.setLastModified(now);
+      StoredInstruction previous = index.put(key, new StoredInstruction(file.length(), now));
+      if (previous != null) {
+        sizeInBytes -= previous.size;
+      }
+      sizeInBytes += file.length();
+      evict();
+    }
+    return file;
+  }
+
+  synchronized long retrieveSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  /**
+   * @param instruction text to be synthesized
+   * @param textType    of the instruction, text or SSML
+   * @param language    of the synthesized voice
+   * @return file name safe key unique to the given values
+   */
+  static String buildKey(String instruction, String textType, String language) {
+    String value = instruction + KEY_SEPARATOR + textType + KEY_SEPARATOR + language;
+    try {
+      MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+      byte[] hash = digest.digest(value.getBytes(ENCODING));
+      StringBuilder key = new StringBuilder(hash.length * 2);
+      for (byte hashByte : hash) {
+        key.append(Character.forDigit((hashByte >> 4) & 0xf, 16));
+        key.append(Character.forDigit(hashByte & 0xf, 16));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException | UnsupportedEncodingException exception) {
+      // Both are required to be available on every platform
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  private boolean write(InputStream inputStream, File file) {
+    OutputStream outputStream = null;
+    try {
+      outputStream = new FileOutputStream(file);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int bytesRead;
+      while ((bytesRead = inputStream.read(buffer)) != END_OF_STREAM) {
+        outputStream.write(buffer, 0, bytesRead);
+      }
+      outputStream.flush();
+      return true;
+    } catch (IOException exception) {
+      Timber.e(exception);
+      return false;
+    } finally {
+      closeQuietly(outputStream);
+    }
+  }
+
+  private void closeQuietly(Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+  }
+
+  /**
+   * Removes the least recently used instructions until the store fits its size,
+   * expired instructions are removed when they're retrieved.
+   */
+  private void evict() {
+    Iterator<Map.Entry<String, StoredInstruction>> entries = index.entrySet().iterator();
+    while (sizeInBytes > maxSizeInBytes && entries.hasNext()) {
+      Map.Entry<String, StoredInstruction> eldest = entries.next();
+      sizeInBytes -= eldest.getValue().size;
+      buildFile(eldest.getKey()).delete();
+      entries.remove();
+    }
+  }
+
+  private void remove(String key) {
+    StoredInstruction instruction = index.remove(key);
+    if (instruction != null) {
+      sizeInBytes -= instruction.size;
+      buildFile(key).delete();
+    }
+  }
+
+  private File buildFile(String key) {
+    return new File(directory, key + MP3_EXTENSION);
+  }
+
+  private static class StoredInstruction {
+
+    private final long size;
+    private final long storedAt;
+
+    StoredInstruction(long size, long storedAt) {
+      this.size = size;
+      this.storedAt = storedAt;
+    }
+
+    boolean isExpired(long now, long maxAgeInMillis) {
+      return now - storedAt > maxAgeInMillis;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
+import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DisplayedProgressFilterTest extends BaseTest {
+
+  @Test
+  public void shouldUpdateInstruction_firstProgressIsUpdated() throws Exception {
+    DisplayedProgressFilter filter = new DisplayedProgressFilter(new RouteUtils());
+    RouteProgress routeProgress = buildRouteProgress();
+
+    boolean shouldUpdate = filter.shouldUpdateInstruction(buildDistanceFormatter(true), routeProgress);
+
+    assertTrue(shouldUpdate);
+  }
+
+  @Test
+  public void shouldUpdateInstruction_sameDisplayedDistanceIsNotUpdated() throws Exception {
+    DisplayedProgressFilter filter = new DisplayedProgressFilter(new RouteUtils());
+    DistanceFormatter distanceFormatter = buildDistanceFormatter(true);
+    RouteProgress routeProgress = buildRouteProgress();
+    filter.shouldUpdateInstruction(distanceFormatter, routeProgress);
+
+    boolean shouldUpdate = filter.shouldUpdateInstruction(distanceFormatter, routeProgress);
+
+    assertFalse(shouldUpdate);
+  }
+
+  @Test
+  public void shouldUpdateInstruction_newDisplayedDistanceIsUpdated() throws Exception {
+    DisplayedProgressFilter filter = new DisplayedProgressFilter(new RouteUtils());
+    RouteProgress routeProgress = buildRouteProgress();
+    filter.shouldUpdateInstruction(buildDistanceFormatter(true), routeProgress);
+
+    boolean shouldUpdate = filter.shouldUpdateInstruction(buildDistanceFormatter(false), routeProgress);
+
+    assertTrue(shouldUpdate);
+  }
+
+  @Test
+  public void reset_nextProgressIsUpdated() throws Exception {
+    DisplayedProgressFilter filter = new DisplayedProgressFilter(new RouteUtils());
+    DistanceFormatter distanceFormatter = buildDistanceFormatter(true);
+    RouteProgress routeProgress = buildRouteProgress();
+    filter.shouldUpdateInstruction(distanceFormatter, routeProgress);
+
+    filter.reset();
+
+    assertTrue(filter.shouldUpdateInstruction(distanceFormatter, routeProgress));
+  }
+
+  private RouteProgress buildRouteProgress() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    return buildRouteProgress(route, 100, 100, 100, 0, 0);
+  }
+
+  private DistanceFormatter buildDistanceFormatter(boolean formatsToSameDistance) {
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    when(distanceFormatter.formatsToSameDistance(anyDouble(), anyDouble())).thenReturn(formatsToSameDistance);
+    return distanceFormatter;
+  }
+}
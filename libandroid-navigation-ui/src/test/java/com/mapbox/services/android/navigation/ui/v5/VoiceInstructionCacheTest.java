@@ -2,8 +2,9 @@ package com.mapbox.services.android.navigation.ui.v5;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.services.android.navigation.ui.v5.voice.VoiceInstructionLoader;
-import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -12,77 +13,67 @@ import java.io.IOException;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class VoiceInstructionCacheTest extends BaseTest {
 
   private static final String DIRECTIONS_PRECISION_6 = "directions_v5_precision_6.json";
 
   @Test
-  public void checksPreCachingCachesNineInstructions() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void checksPreCachingCachesAllRouteInstructions() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader);
     DirectionsRoute aRoute = buildDirectionsRoute();
     ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
 
     theVoiceInstructionCache.preCache(aRoute);
 
     verify(aVoiceInstructionLoader, times(1)).cacheInstructions(voiceInstructionsToCache.capture());
-    assertEquals(9, voiceInstructionsToCache.getValue().size());
+    assertEquals(21, voiceInstructionsToCache.getValue().size());
   }
 
   @Test
-  public void checksCacheIsNotCalledIfIsVoiceInstructionsToCacheThresholdNotReached() {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void preloadUpcomingInstructions_currentAndUpcomingStepInstructionsArePreloaded() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader);
+    DirectionsRoute aRoute = buildDirectionsRoute();
+    RouteProgress aRouteProgress = buildRouteProgress(aRoute, 100, 100, 100, 0, 0);
+    ArgumentCaptor<List> voiceInstructionsToPreload = ArgumentCaptor.forClass(List.class);
 
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.preloadUpcomingInstructions(aRouteProgress);
 
-    verifyZeroInteractions(aVoiceInstructionLoader);
+    verify(aVoiceInstructionLoader).preloadInstructions(voiceInstructionsToPreload.capture());
+    List<LegStep> steps = aRoute.legs().get(0).steps();
+    int expectedSize = steps.get(0).voiceInstructions().size() + steps.get(1).voiceInstructions().size();
+    assertEquals(expectedSize, voiceInstructionsToPreload.getValue().size());
   }
 
   @Test
-  public void checksCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void preloadUpcomingInstructions_sameStepIsPreloadedOnce() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader);
-    DirectionsRoute twentyOneInstructionsRoute = buildDirectionsRoute();
-    ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader);
+    DirectionsRoute aRoute = buildDirectionsRoute();
+    RouteProgress aRouteProgress = buildRouteProgress(aRoute, 100, 100, 100, 0, 0);
 
-    theVoiceInstructionCache.preCache(twentyOneInstructionsRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
-    theVoiceInstructionCache.update(10);
-    theVoiceInstructionCache.cache();
-
-    verify(aVoiceInstructionLoader, times(3)).cacheInstructions(voiceInstructionsToCache.capture());
-    List<List> capturedVoiceInstructionsToCache = voiceInstructionsToCache.getAllValues();
-    assertEquals(9, capturedVoiceInstructionsToCache.get(0).size());
-    assertEquals(10, capturedVoiceInstructionsToCache.get(1).size());
-    assertEquals(2, capturedVoiceInstructionsToCache.get(2).size());
+    theVoiceInstructionCache.preloadUpcomingInstructions(aRouteProgress);
+    theVoiceInstructionCache.preloadUpcomingInstructions(aRouteProgress);
+
+    verify(aVoiceInstructionLoader, times(1)).preloadInstructions(any(List.class));
   }
 
   @Test
-  public void checksEvictVoiceInstructionsIsCalledWhenCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void preloadUpcomingInstructions_nextStepIsPreloaded() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
-      aVoiceInstructionLoader);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aVoiceInstructionLoader);
     DirectionsRoute aRoute = buildDirectionsRoute();
 
-    theVoiceInstructionCache.preCache(aRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.preloadUpcomingInstructions(buildRouteProgress(aRoute, 100, 100, 100, 0, 0));
+    theVoiceInstructionCache.preloadUpcomingInstructions(buildRouteProgress(aRoute, 100, 100, 100, 1, 0));
 
-    verify(aVoiceInstructionLoader, times(1)).evictVoiceInstructions();
+    verify(aVoiceInstructionLoader, times(2)).preloadInstructions(any(List.class));
   }
 
   private DirectionsRoute buildDirectionsRoute() throws IOException {
@@ -12,6 +12,8 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.camera.CameraPosition;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 import com.mapbox.services.android.navigation.ui.v5.BaseTest;
 import com.mapbox.services.android.navigation.v5.navigation.camera.RouteInformation;
@@ -26,7 +28,11 @@ import java.util.List;
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DynamicCameraTest extends BaseTest {
@@ -117,6 +123,28 @@ public class DynamicCameraTest extends BaseTest {
     assertEquals(routePoints, overviewPoints);
   }
 
+  @Test
+  public void onSameStepProgress_cachedZoomTargetIsReturned() throws Exception {
+    MapboxMap mapboxMap = mock(MapboxMap.class);
+    CameraPosition position = new CameraPosition.Builder().zoom(14d).build();
+    when(mapboxMap.getCameraForLatLngBounds(any(LatLngBounds.class), any(int[].class))).thenReturn(position);
+    DynamicCamera cameraEngine = new DynamicCamera(mapboxMap);
+    RouteProgress routeProgress = buildDefaultRouteProgress(null);
+    Location location = buildDefaultLocationUpdate(-77.0, 38.9);
+    RouteInformation routeInformation = RouteInformation.create(null, location, routeProgress);
+    // Step and alert level transitions each create a new zoom target once
+    for (int i = 0; i < 4; i++) {
+      cameraEngine.zoom(routeInformation);
+    }
+    clearInvocations(mapboxMap);
+
+    double zoom = cameraEngine.zoom(routeInformation);
+
+    assertEquals(14d, zoom);
+    verify(mapboxMap, never()).getCameraForLatLngBounds(any(LatLngBounds.class), any(int[].class));
+    verify(mapboxMap, never()).getCameraPosition();
+  }
+
   @Test
   public void noRouteInformation_engineCreatesEmptyOverviewPointList() {
     DynamicCamera cameraEngine = buildDynamicCamera();
@@ -0,0 +1,86 @@
+package com.mapbox.services.android.navigation.ui.v5.camera;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.geometry.LatLngBounds;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RouteOverviewTest {
+
+  @Test
+  public void retrieveRouteBounds_includesAllRoutePoints() {
+    RouteOverview routeOverview = new RouteOverview(buildRoute());
+
+    LatLngBounds bounds = routeOverview.retrieveRouteBounds();
+
+    assertEquals(38.92, bounds.getLatNorth(), 1e-6);
+    assertEquals(-77.00, bounds.getLonEast(), 1e-6);
+    assertEquals(38.90, bounds.getLatSouth(), 1e-6);
+    assertEquals(-77.02, bounds.getLonWest(), 1e-6);
+  }
+
+  @Test
+  public void retrieveRemainingBounds_excludesTraveledPoints() {
+    RouteOverview routeOverview = new RouteOverview(buildRoute());
+
+    LatLngBounds bounds = routeOverview.retrieveRemainingBounds(0.6f, null);
+
+    assertEquals(38.92, bounds.getLatNorth(), 1e-6);
+    assertEquals(-77.02, bounds.getLonEast(), 1e-6);
+    assertEquals(38.90, bounds.getLatSouth(), 1e-6);
+    assertEquals(-77.02, bounds.getLonWest(), 1e-6);
+  }
+
+  @Test
+  public void retrieveRemainingBounds_includesLocation() {
+    RouteOverview routeOverview = new RouteOverview(buildRoute());
+    Location location = mock(Location.class);
+    when(location.getLatitude()).thenReturn(38.91);
+    when(location.getLongitude()).thenReturn(-77.005);
+
+    LatLngBounds bounds = routeOverview.retrieveRemainingBounds(0.6f, location);
+
+    assertEquals(-77.005, bounds.getLonEast(), 1e-6);
+  }
+
+  @Test
+  public void retrieveRemainingBounds_nullWhenRouteIsTraveled() {
+    RouteOverview routeOverview = new RouteOverview(buildRoute());
+
+    assertNull(routeOverview.retrieveRemainingBounds(1f, null));
+  }
+
+  @Test
+  public void isFor_comparesRouteInstance() {
+    DirectionsRoute route = buildRoute();
+    RouteOverview routeOverview = new RouteOverview(route);
+
+    assertTrue(routeOverview.isFor(route));
+  }
+
+  private DirectionsRoute buildRoute() {
+    // Square route: north, west and back south again
+    LineString lineString = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.00, 38.90),
+      Point.fromLngLat(-77.00, 38.92),
+      Point.fromLngLat(-77.02, 38.92),
+      Point.fromLngLat(-77.02, 38.90)
+    ));
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    when(route.geometry()).thenReturn(lineString.toPolyline(Constants.PRECISION_6));
+    return route;
+  }
+}
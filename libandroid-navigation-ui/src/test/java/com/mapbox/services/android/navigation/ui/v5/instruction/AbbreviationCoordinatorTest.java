@@ -1,5 +1,6 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction;
 
+import android.support.v4.util.LruCache;
 import android.widget.TextView;
 
 import com.mapbox.api.directions.v5.models.BannerComponents;
@@ -11,7 +12,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AbbreviationCoordinatorTest extends BaseTest {
@@ -59,4 +64,59 @@ public class AbbreviationCoordinatorTest extends BaseTest {
 
     assertEquals(text, abbreviatedTextFromCoordinator);
   }
+
+  @Test
+  public void onAbbreviateBannerText_sameLayoutIsNotMeasuredAgain() {
+    String abbreviation = "smtxt";
+    BannerComponents bannerComponents =
+      BannerComponentsFaker.bannerComponents()
+        .abbreviation(abbreviation)
+        .abbreviationPriority(0)
+        .build();
+    TextView textView = mock(TextView.class);
+    when(textView.getWidth()).thenReturn(100);
+    LruCache<AbbreviationCoordinator.AbbreviationKey, Integer> bannerAbbreviations = new LruCache<>(1);
+    TextViewUtils textViewUtils = mock(TextViewUtils.class);
+    when(textViewUtils.textFits(textView, abbreviation)).thenReturn(true);
+    abbreviate(new AbbreviationCoordinator(textViewUtils, bannerAbbreviations), bannerComponents, textView);
+    TextViewUtils secondTextViewUtils = mock(TextViewUtils.class);
+
+    String abbreviatedText = abbreviate(new AbbreviationCoordinator(secondTextViewUtils, bannerAbbreviations),
+      bannerComponents, textView);
+
+    assertEquals(abbreviation, abbreviatedText);
+    verify(secondTextViewUtils, never()).textFits(any(TextView.class), anyString());
+  }
+
+  @Test
+  public void onAbbreviateBannerText_newWidthIsMeasured() {
+    String abbreviation = "smtxt";
+    BannerComponents bannerComponents =
+      BannerComponentsFaker.bannerComponents()
+        .abbreviation(abbreviation)
+        .abbreviationPriority(0)
+        .build();
+    TextView textView = mock(TextView.class);
+    when(textView.getWidth()).thenReturn(100);
+    LruCache<AbbreviationCoordinator.AbbreviationKey, Integer> bannerAbbreviations = new LruCache<>(1);
+    TextViewUtils textViewUtils = mock(TextViewUtils.class);
+    when(textViewUtils.textFits(textView, abbreviation)).thenReturn(true);
+    abbreviate(new AbbreviationCoordinator(textViewUtils, bannerAbbreviations), bannerComponents, textView);
+    when(textView.getWidth()).thenReturn(1000);
+    TextViewUtils secondTextViewUtils = mock(TextViewUtils.class);
+    when(secondTextViewUtils.textFits(textView, bannerComponents.text())).thenReturn(true);
+
+    String abbreviatedText = abbreviate(new AbbreviationCoordinator(secondTextViewUtils, bannerAbbreviations),
+      bannerComponents, textView);
+
+    assertEquals(bannerComponents.text(), abbreviatedText);
+  }
+
+  private String abbreviate(AbbreviationCoordinator abbreviationCoordinator, BannerComponents bannerComponents,
+                            TextView textView) {
+    abbreviationCoordinator.addPriorityInfo(bannerComponents, 0);
+    List<InstructionLoader.BannerComponentNode> bannerComponentNodes = new ArrayList<>();
+    bannerComponentNodes.add(new AbbreviationCoordinator.AbbreviationNode(bannerComponents, 0));
+    return abbreviationCoordinator.abbreviateBannerText(bannerComponentNodes, textView);
+  }
 }
@@ -5,10 +5,13 @@ import android.widget.TextView;
 import com.mapbox.api.directions.v5.models.BannerComponents;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -87,4 +90,55 @@ public class InstructionLoaderTest {
 
     verify(imageCoordinator).loadImages(any(TextView.class), any(List.class));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void onLoadInstruction_sameInstructionIsLoaded() {
+    TextView textView = mock(TextView.class);
+    List<BannerComponents> bannerComponentsList = new ArrayList<>();
+    bannerComponentsList.add(BannerComponentsFaker.bannerComponents().build());
+    loadInstructionInto(textView, bannerComponentsList, "some text");
+
+    boolean isLoaded = InstructionLoader.isLoadedInto(textView, bannerComponentsList);
+
+    assertTrue(isLoaded);
+  }
+
+  @Test
+  public void onLoadInstruction_replacedTextIsNotLoaded() {
+    TextView textView = mock(TextView.class);
+    List<BannerComponents> bannerComponentsList = new ArrayList<>();
+    bannerComponentsList.add(BannerComponentsFaker.bannerComponents().build());
+    loadInstructionInto(textView, bannerComponentsList, "some text");
+    when(textView.getText()).thenReturn("other text");
+
+    boolean isLoaded = InstructionLoader.isLoadedInto(textView, bannerComponentsList);
+
+    assertFalse(isLoaded);
+  }
+
+  @Test
+  public void onLoadInstruction_resizedTextViewIsNotLoaded() {
+    TextView textView = mock(TextView.class);
+    List<BannerComponents> bannerComponentsList = new ArrayList<>();
+    bannerComponentsList.add(BannerComponentsFaker.bannerComponents().build());
+    loadInstructionInto(textView, bannerComponentsList, "some text");
+    when(textView.getWidth()).thenReturn(200);
+
+    boolean isLoaded = InstructionLoader.isLoadedInto(textView, bannerComponentsList);
+
+    assertFalse(isLoaded);
+  }
+
+  private void loadInstructionInto(TextView textView, List<BannerComponents> bannerComponentsList, String text) {
+    AbbreviationCoordinator abbreviationCoordinator = mock(AbbreviationCoordinator.class);
+    when(abbreviationCoordinator.abbreviateBannerText(any(List.class), any(TextView.class))).thenReturn(text);
+    when(textView.getWidth()).thenReturn(100);
+    InstructionLoader instructionLoader = new InstructionLoader(textView, bannerComponentsList,
+      mock(ImageCoordinator.class), abbreviationCoordinator);
+    instructionLoader.loadInstruction();
+    ArgumentCaptor<Object> tag = ArgumentCaptor.forClass(Object.class);
+    verify(textView).setTag(tag.capture());
+    when(textView.getTag()).thenReturn(tag.getValue());
+    when(textView.getText()).thenReturn(text);
+  }
+}
@@ -0,0 +1,86 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+
+import org.junit.Test;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_MODIFIER_LEFT;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_MODIFIER_RIGHT;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_TYPE_EXIT_ROTARY;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_TYPE_ROUNDABOUT;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.STEP_MANEUVER_TYPE_TURN;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class ManeuverIconCacheTest {
+
+  private static final int PRIMARY_COLOR = 0xFFFFFFFF;
+  private static final int SECONDARY_COLOR = 0x80FFFFFF;
+  private static final int SIZE = 64;
+
+  @Test
+  public void get_iconWithSameKeyIsReturned() {
+    ManeuverIconCache cache = new ManeuverIconCache();
+    Bitmap icon = mock(Bitmap.class);
+    cache.put(buildKey(STEP_MANEUVER_TYPE_TURN, STEP_MANEUVER_MODIFIER_LEFT, PRIMARY_COLOR, 180f), icon);
+
+    Bitmap cachedIcon = cache.get(buildKey(STEP_MANEUVER_TYPE_TURN, STEP_MANEUVER_MODIFIER_LEFT, PRIMARY_COLOR, 180f));
+
+    assertSame(icon, cachedIcon);
+  }
+
+  @Test
+  public void get_iconWithDifferentModifierIsMissing() {
+    ManeuverIconCache cache = new ManeuverIconCache();
+    cache.put(buildKey(STEP_MANEUVER_TYPE_TURN, STEP_MANEUVER_MODIFIER_LEFT, PRIMARY_COLOR, 180f),
+      mock(Bitmap.class));
+
+    Bitmap cachedIcon = cache.get(buildKey(STEP_MANEUVER_TYPE_TURN, STEP_MANEUVER_MODIFIER_RIGHT, PRIMARY_COLOR,
+      180f));
+
+    assertNull(cachedIcon);
+  }
+
+  @Test
+  public void get_iconWithDifferentColorIsMissing() {
+    ManeuverIconCache cache = new ManeuverIconCache();
+    cache.put(buildKey(STEP_MANEUVER_TYPE_TURN, STEP_MANEUVER_MODIFIER_LEFT, PRIMARY_COLOR, 180f),
+      mock(Bitmap.class));
+
+    Bitmap cachedIcon = cache.get(buildKey(STEP_MANEUVER_TYPE_TURN, STEP_MANEUVER_MODIFIER_LEFT, SECONDARY_COLOR,
+      180f));
+
+    assertNull(cachedIcon);
+  }
+
+  @Test
+  public void buildKey_roundaboutAngleIsIgnoredForOtherIcons() {
+    String firstKey = buildKey(STEP_MANEUVER_TYPE_TURN, STEP_MANEUVER_MODIFIER_LEFT, PRIMARY_COLOR, 90f);
+    String secondKey = buildKey(STEP_MANEUVER_TYPE_TURN, STEP_MANEUVER_MODIFIER_LEFT, PRIMARY_COLOR, 270f);
+
+    assertEquals(firstKey, secondKey);
+  }
+
+  @Test
+  public void buildKey_roundaboutAngleIsPartOfRoundaboutIcons() {
+    String firstKey = buildKey(STEP_MANEUVER_TYPE_ROUNDABOUT, null, PRIMARY_COLOR, 90f);
+    String secondKey = buildKey(STEP_MANEUVER_TYPE_ROUNDABOUT, null, PRIMARY_COLOR, 270f);
+
+    assertFalse(firstKey.equals(secondKey));
+  }
+
+  @Test
+  public void buildKey_roundaboutAngleIsPartOfExitRotaryIcons() {
+    String firstKey = buildKey(STEP_MANEUVER_TYPE_EXIT_ROTARY, null, PRIMARY_COLOR, 90f);
+    String secondKey = buildKey(STEP_MANEUVER_TYPE_EXIT_ROTARY, null, PRIMARY_COLOR, 270f);
+
+    assertFalse(firstKey.equals(secondKey));
+  }
+
+  private String buildKey(String type, String modifier, int primaryColor, float roundaboutAngle) {
+    return ManeuverIconCache.buildKey(type, modifier, primaryColor, SECONDARY_COLOR, SIZE, SIZE, roundaboutAngle);
+  }
+}
@@ -0,0 +1,54 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.turnlane;
+
+import android.graphics.Bitmap;
+
+import org.junit.Test;
+
+import static com.mapbox.services.android.navigation.ui.v5.instruction.turnlane.TurnLaneViewData.DRAW_LANE_RIGHT;
+import static com.mapbox.services.android.navigation.ui.v5.instruction.turnlane.TurnLaneViewData.DRAW_LANE_STRAIGHT;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class TurnLaneIconCacheTest {
+
+  private static final int PRIMARY_COLOR = 0xFFFFFFFF;
+  private static final int SECONDARY_COLOR = 0x80FFFFFF;
+  private static final int SIZE = 32;
+
+  @Test
+  public void get_iconWithSameKeyIsReturned() {
+    TurnLaneIconCache cache = new TurnLaneIconCache();
+    Bitmap icon = mock(Bitmap.class);
+    cache.put(TurnLaneIconCache.buildKey(DRAW_LANE_STRAIGHT, PRIMARY_COLOR, SECONDARY_COLOR, SIZE, SIZE), icon);
+
+    Bitmap cachedIcon = cache.get(TurnLaneIconCache.buildKey(DRAW_LANE_STRAIGHT, PRIMARY_COLOR, SECONDARY_COLOR,
+      SIZE, SIZE));
+
+    assertSame(icon, cachedIcon);
+  }
+
+  @Test
+  public void get_iconWithDifferentDrawMethodIsMissing() {
+    TurnLaneIconCache cache = new TurnLaneIconCache();
+    cache.put(TurnLaneIconCache.buildKey(DRAW_LANE_STRAIGHT, PRIMARY_COLOR, SECONDARY_COLOR, SIZE, SIZE),
+      mock(Bitmap.class));
+
+    Bitmap cachedIcon = cache.get(TurnLaneIconCache.buildKey(DRAW_LANE_RIGHT, PRIMARY_COLOR, SECONDARY_COLOR,
+      SIZE, SIZE));
+
+    assertNull(cachedIcon);
+  }
+
+  @Test
+  public void get_iconWithDifferentSizeIsMissing() {
+    TurnLaneIconCache cache = new TurnLaneIconCache();
+    cache.put(TurnLaneIconCache.buildKey(DRAW_LANE_STRAIGHT, PRIMARY_COLOR, SECONDARY_COLOR, SIZE, SIZE),
+      mock(Bitmap.class));
+
+    Bitmap cachedIcon = cache.get(TurnLaneIconCache.buildKey(DRAW_LANE_STRAIGHT, PRIMARY_COLOR, SECONDARY_COLOR,
+      2 * SIZE, 2 * SIZE));
+
+    assertNull(cachedIcon);
+  }
+}
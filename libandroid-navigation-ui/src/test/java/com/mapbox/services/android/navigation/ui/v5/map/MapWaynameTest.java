@@ -63,7 +63,7 @@ public class MapWaynameTest {
     MapWayname mapWayname = buildMapWayname(point, layoutProvider, waynameLayer, roads);
     List<Point> stepPoints = new ArrayList<>();
     stepPoints.add(mock(Point.class));
-    mapWayname.updateProgress(mock(Location.class), stepPoints);
+    mapWayname.updateProgress(mock(Location.class), stepPoints, "0:0");
     mapWayname.updateWaynameVisibility(true, waynameLayer);
 
     mapWayname.updateWaynameWithPoint(point, waynameLayer);
@@ -81,7 +81,7 @@ public class MapWaynameTest {
     MapWayname mapWayname = buildMapWayname(point, layoutProvider, waynameLayer, roads);
     List<Point> stepPoints = new ArrayList<>();
     stepPoints.add(mock(Point.class));
-    mapWayname.updateProgress(mock(Location.class), stepPoints);
+    mapWayname.updateProgress(mock(Location.class), stepPoints, "0:0");
     OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
     mapWayname.addOnWayNameChangedListener(listener);
 
@@ -101,7 +101,7 @@ public class MapWaynameTest {
     MapWayname mapWayname = buildMapWayname(point, layoutProvider, waynameLayer, roads);
     List<Point> stepPoints = new ArrayList<>();
     stepPoints.add(mock(Point.class));
-    mapWayname.updateProgress(mock(Location.class), stepPoints);
+    mapWayname.updateProgress(mock(Location.class), stepPoints, "0:0");
     OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
     mapWayname.addOnWayNameChangedListener(listener);
 
@@ -111,6 +111,67 @@ public class MapWaynameTest {
     verify(listener).onWayNameChanged(roadName);
   }
 
+  @Test
+  public void updateWaynameWithPoint_unchangedLocationAndStepSkipsQuery() {
+    PointF point = mock(PointF.class);
+    SymbolLayer waynameLayer = mock(SymbolLayer.class);
+    String[] layerIds = {"streetsLayer"};
+    WaynameFeatureFinder featureInteractor = mock(WaynameFeatureFinder.class);
+    when(featureInteractor.queryRenderedFeatures(point, layerIds)).thenReturn(buildRoadFeatureList("roadName"));
+    MapWayname mapWayname = buildMapWayname(featureInteractor, waynameLayer);
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(mock(Point.class));
+    mapWayname.updateProgress(mock(Location.class), stepPoints, "0:0");
+
+    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+
+    verify(featureInteractor, times(1)).queryRenderedFeatures(point, layerIds);
+  }
+
+  @Test
+  public void updateWaynameWithPoint_newStepQueriesAgain() {
+    PointF point = mock(PointF.class);
+    SymbolLayer waynameLayer = mock(SymbolLayer.class);
+    String[] layerIds = {"streetsLayer"};
+    WaynameFeatureFinder featureInteractor = mock(WaynameFeatureFinder.class);
+    when(featureInteractor.queryRenderedFeatures(point, layerIds)).thenReturn(buildRoadFeatureList("roadName"));
+    MapWayname mapWayname = buildMapWayname(featureInteractor, waynameLayer);
+    Location location = mock(Location.class);
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(mock(Point.class));
+    mapWayname.updateProgress(location, stepPoints, "0:0");
+    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+    mapWayname.updateProgress(location, stepPoints, "0:1");
+
+    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+
+    verify(featureInteractor, times(2)).queryRenderedFeatures(point, layerIds);
+  }
+
+  @Test
+  public void updateWaynameWithPoint_newStepPointsForSameStepSkipsQuery() {
+    PointF point = mock(PointF.class);
+    SymbolLayer waynameLayer = mock(SymbolLayer.class);
+    String[] layerIds = {"streetsLayer"};
+    WaynameFeatureFinder featureInteractor = mock(WaynameFeatureFinder.class);
+    when(featureInteractor.queryRenderedFeatures(point, layerIds)).thenReturn(buildRoadFeatureList("roadName"));
+    MapWayname mapWayname = buildMapWayname(featureInteractor, waynameLayer);
+    Location location = mock(Location.class);
+    Point stepPoint = mock(Point.class);
+    List<Point> stepPoints = new ArrayList<>();
+    stepPoints.add(stepPoint);
+    mapWayname.updateProgress(location, stepPoints, "0:0");
+    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+    List<Point> decodedStepPoints = new ArrayList<>();
+    decodedStepPoints.add(stepPoint);
+    mapWayname.updateProgress(location, decodedStepPoints, "0:0");
+
+    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+
+    verify(featureInteractor, times(1)).queryRenderedFeatures(point, layerIds);
+  }
+
   @Test
   public void addOnWayNameChangedListener_duplicateListenerIgnored() {
     String roadName = "roadName";
@@ -121,7 +182,7 @@ public class MapWaynameTest {
     MapWayname mapWayname = buildMapWayname(point, layoutProvider, waynameLayer, roads);
     List<Point> stepPoints = new ArrayList<>();
     stepPoints.add(mock(Point.class));
-    mapWayname.updateProgress(mock(Location.class), stepPoints);
+    mapWayname.updateProgress(mock(Location.class), stepPoints, "0:0");
     mapWayname.updateWaynameVisibility(true, waynameLayer);
     OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
 
@@ -141,7 +202,7 @@ public class MapWaynameTest {
     MapWayname mapWayname = buildMapWayname(point, layoutProvider, waynameLayer, roads);
     List<Point> stepPoints = new ArrayList<>();
     stepPoints.add(mock(Point.class));
-    mapWayname.updateProgress(mock(Location.class), stepPoints);
+    mapWayname.updateProgress(mock(Location.class), stepPoints, "0:0");
     mapWayname.updateWaynameVisibility(true, waynameLayer);
     OnWayNameChangedListener listener = mock(OnWayNameChangedListener.class);
 
@@ -232,7 +293,7 @@ public class MapWaynameTest {
     mapWayname.updateWaynameVisibility(true, waynameLayer);
     List<Point> stepPoints = new ArrayList<>();
     stepPoints.add(mock(Point.class));
-    mapWayname.updateProgress(mock(Location.class), stepPoints);
+    mapWayname.updateProgress(mock(Location.class), stepPoints, "0:0");
 
     mapWayname.updateWaynameWithPoint(point, waynameLayer);
 
@@ -306,6 +367,17 @@ public class MapWaynameTest {
     return mapWayname;
   }
 
+  @NonNull
+  private MapWayname buildMapWayname(WaynameFeatureFinder featureInteractor, SymbolLayer waynameLayer) {
+    WaynameLayoutProvider layoutProvider = mock(WaynameLayoutProvider.class);
+    MapLayerInteractor layerInteractor = mock(MapLayerInteractor.class);
+    when(waynameLayer.getVisibility()).thenReturn(visibility(Property.VISIBLE));
+    MapPaddingAdjustor paddingAdjustor = mock(MapPaddingAdjustor.class);
+    MapWayname mapWayname = new MapWayname(layoutProvider, layerInteractor, featureInteractor, paddingAdjustor);
+    mapWayname.updateWaynameQueryMap(true);
+    return mapWayname;
+  }
+
   @NonNull
   private List<Feature> buildRoadFeatureList(String roadName) {
     List<Feature> roads = new ArrayList<>();
@@ -11,13 +11,16 @@ import org.junit.Test;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
 
 import edu.emory.mathcs.backport.java.util.Collections;
 
+import static junit.framework.Assert.assertEquals;
 import static okhttp3.internal.Util.UTF_8;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class WaynameFeatureFilterTest {
 
@@ -30,6 +33,63 @@ public class WaynameFeatureFilterTest {
     Point featureAheadOfUser = waynameFeatureFilter.findPointFromCurrentPoint(currentPoint, (LineString) featureOne.geometry());
   }
 
+  @Test
+  public void filterFeatures_featureAlongStepIsSelected() {
+    Feature crossingRoad = Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.0000, 38.8990), Point.fromLngLat(-77.0000, 38.9010)
+    )));
+    Feature currentRoad = Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.0010, 38.90001), Point.fromLngLat(-76.9990, 38.90001)
+    )));
+    WaynameFeatureFilter filter = new WaynameFeatureFilter(Arrays.asList(crossingRoad, currentRoad),
+      buildLocation(-77.0005, 38.9), buildStepPoints());
+
+    Feature filteredFeature = filter.filterFeatures();
+
+    assertEquals(currentRoad, filteredFeature);
+  }
+
+  @Test
+  public void filterFeatures_reversedFeatureAlongStepIsSelected() {
+    Feature crossingRoad = Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.0000, 38.8990), Point.fromLngLat(-77.0000, 38.9010)
+    )));
+    Feature currentRoad = Feature.fromGeometry(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-76.9990, 38.90001), Point.fromLngLat(-77.0010, 38.90001)
+    )));
+    WaynameFeatureFilter filter = new WaynameFeatureFilter(Arrays.asList(crossingRoad, currentRoad),
+      buildLocation(-77.0005, 38.9), buildStepPoints());
+
+    Feature filteredFeature = filter.filterFeatures();
+
+    assertEquals(currentRoad, filteredFeature);
+  }
+
+  @Test
+  public void findPointFromCurrentPoint_returnsClosestPointOnLine() {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.0010, 38.9001), Point.fromLngLat(-76.9990, 38.9001)
+    ));
+    WaynameFeatureFilter filter = new WaynameFeatureFilter(new ArrayList<Feature>(),
+      buildLocation(-77.0005, 38.9), buildStepPoints());
+
+    Point pointOnLine = filter.findPointFromCurrentPoint(Point.fromLngLat(-77.0005, 38.9), line);
+
+    assertEquals(-77.0005, pointOnLine.longitude(), 1e-7);
+    assertEquals(38.9001, pointOnLine.latitude(), 1e-7);
+  }
+
+  private Location buildLocation(double longitude, double latitude) {
+    Location location = mock(Location.class);
+    when(location.getLongitude()).thenReturn(longitude);
+    when(location.getLatitude()).thenReturn(latitude);
+    return location;
+  }
+
+  private List<Point> buildStepPoints() {
+    return Arrays.asList(Point.fromLngLat(-77.0010, 38.9), Point.fromLngLat(-76.9990, 38.9));
+  }
+
   private List<Feature> buildQueriedFeatures() {
     List<Feature> queriedFeatures = new ArrayList<>();
     Feature featureOne = Feature.fromJson(loadJsonFixture("feature_one.json"));
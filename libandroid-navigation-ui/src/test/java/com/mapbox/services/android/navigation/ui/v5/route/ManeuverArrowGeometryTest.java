@@ -0,0 +1,65 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class ManeuverArrowGeometryTest {
+
+  private static final Point MANEUVER = Point.fromLngLat(-77.0300, 38.8900);
+
+  @Test
+  public void calculateArrowPoints_arrowStartsBeforeManeuver() {
+    ManeuverArrowGeometry arrowGeometry = new ManeuverArrowGeometry();
+
+    List<Point> arrowPoints = arrowGeometry.calculateArrowPoints(buildCurrentStepPoints(), buildUpcomingStepPoints());
+
+    double distance = TurfMeasurement.distance(arrowPoints.get(0), MANEUVER, TurfConstants.UNIT_METERS);
+    assertEquals(30d, distance, 1d);
+  }
+
+  @Test
+  public void calculateArrowPoints_arrowEndsAfterManeuver() {
+    ManeuverArrowGeometry arrowGeometry = new ManeuverArrowGeometry();
+
+    List<Point> arrowPoints = arrowGeometry.calculateArrowPoints(buildCurrentStepPoints(), buildUpcomingStepPoints());
+
+    Point arrowEnd = arrowPoints.get(arrowPoints.size() - 1);
+    double distance = TurfMeasurement.distance(MANEUVER, arrowEnd, TurfConstants.UNIT_METERS);
+    assertEquals(30d, distance, 1d);
+    assertEquals(MANEUVER.longitude(), arrowEnd.longitude(), 1e-6);
+  }
+
+  @Test
+  public void calculateArrowPoints_currentStepPointsAreNotModified() {
+    ManeuverArrowGeometry arrowGeometry = new ManeuverArrowGeometry();
+    List<Point> currentStepPoints = buildCurrentStepPoints();
+
+    arrowGeometry.calculateArrowPoints(currentStepPoints, buildUpcomingStepPoints());
+
+    assertEquals(MANEUVER, currentStepPoints.get(currentStepPoints.size() - 1));
+  }
+
+  private List<Point> buildCurrentStepPoints() {
+    List<Point> points = new ArrayList<>();
+    points.add(Point.fromLngLat(-77.0320, 38.8900));
+    points.add(Point.fromLngLat(-77.0310, 38.8900));
+    points.add(MANEUVER);
+    return points;
+  }
+
+  private List<Point> buildUpcomingStepPoints() {
+    List<Point> points = new ArrayList<>();
+    points.add(MANEUVER);
+    points.add(Point.fromLngLat(-77.0300, 38.8910));
+    points.add(Point.fromLngLat(-77.0300, 38.8920));
+    return points;
+  }
+}
@@ -7,6 +7,8 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+
 import edu.emory.mathcs.backport.java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.eq;
@@ -30,4 +32,19 @@ public class MapRouteProgressChangeListenerTest {
 
     verify(mapRoute).addRoute(eq(newRoute));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void onProgressChange_traveledProgressIsUpdated() {
+    NavigationMapRoute mapRoute = mock(NavigationMapRoute.class);
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    when(mapRoute.retrieveDirectionsRoutes()).thenReturn(Arrays.asList(route));
+    when(mapRoute.retrievePrimaryRouteIndex()).thenReturn(0);
+    MapRouteProgressChangeListener progressChangeListener = new MapRouteProgressChangeListener(mapRoute);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.directionsRoute()).thenReturn(route);
+
+    progressChangeListener.onProgressChange(mock(Location.class), routeProgress);
+
+    verify(mapRoute).updateRouteTraveledProgress(eq(routeProgress));
+  }
+}
@@ -0,0 +1,143 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RouteFeatureBuilderTest {
+
+  @Test
+  public void buildRouteFeatureCollection_mergesEqualCongestionIntoRuns() {
+    DirectionsRoute route = buildRoute(6, Arrays.asList(
+      Arrays.asList("low", "low", "heavy", "heavy", "low")
+    ));
+    RouteFeatureBuilder builder = new RouteFeatureBuilder();
+
+    FeatureCollection collection = builder.buildRouteFeatureCollection(route, 0);
+
+    // Base route feature plus three congestion runs
+    assertEquals(4, collection.features().size());
+    assertEquals("heavy", collection.features().get(2).getStringProperty("congestion"));
+  }
+
+  @Test
+  public void buildRouteFeatureCollection_runsContainAllSegmentPoints() {
+    DirectionsRoute route = buildRoute(6, Arrays.asList(
+      Arrays.asList("low", "low", "heavy", "heavy", "low")
+    ));
+    RouteFeatureBuilder builder = new RouteFeatureBuilder();
+
+    FeatureCollection collection = builder.buildRouteFeatureCollection(route, 0);
+
+    LineString firstRun = (LineString) collection.features().get(1).geometry();
+    LineString secondRun = (LineString) collection.features().get(2).geometry();
+    assertEquals(3, firstRun.coordinates().size());
+    assertEquals(3, secondRun.coordinates().size());
+    assertEquals(firstRun.coordinates().get(2).longitude(), secondRun.coordinates().get(0).longitude(), 1e-6);
+  }
+
+  @Test
+  public void buildRouteFeatureCollection_secondLegRunsStartAtLegOffset() {
+    DirectionsRoute route = buildRoute(6, Arrays.asList(
+      Arrays.asList("low", "low"),
+      Arrays.asList("severe", "severe", "severe")
+    ));
+    RouteFeatureBuilder builder = new RouteFeatureBuilder();
+
+    FeatureCollection collection = builder.buildRouteFeatureCollection(route, 1);
+
+    Feature secondLegRun = collection.features().get(2);
+    LineString runGeometry = (LineString) secondLegRun.geometry();
+    Point legStart = builder.retrieveRouteLineString().coordinates().get(2);
+    assertEquals(legStart.longitude(), runGeometry.coordinates().get(0).longitude(), 1e-6);
+    assertEquals(4, runGeometry.coordinates().size());
+    assertEquals(1, secondLegRun.getNumberProperty("index").intValue());
+    assertEquals("mapbox-navigation-route-source-1", secondLegRun.getStringProperty("source"));
+  }
+
+  @Test
+  public void buildRouteFeatureCollection_runsHaveFractionsAlongRoute() {
+    DirectionsRoute route = buildRoute(5, Arrays.asList(
+      Arrays.asList("low", "heavy", "heavy", "low")
+    ));
+    RouteFeatureBuilder builder = new RouteFeatureBuilder();
+
+    FeatureCollection collection = builder.buildRouteFeatureCollection(route, 0);
+
+    Feature heavyRun = collection.features().get(2);
+    assertEquals(0.25, heavyRun.getNumberProperty("congestion-start").doubleValue(), 1e-3);
+    assertEquals(0.75, heavyRun.getNumberProperty("congestion-end").doubleValue(), 1e-3);
+  }
+
+  @Test
+  public void buildRouteFeatureCollection_mismatchedCongestionOnlyAddsRouteFeature() {
+    DirectionsRoute route = buildRoute(3, Arrays.asList(
+      Arrays.asList("low", "moderate", "heavy", "severe")
+    ));
+    RouteFeatureBuilder builder = new RouteFeatureBuilder();
+
+    FeatureCollection collection = builder.buildRouteFeatureCollection(route, 0);
+
+    assertEquals(1, collection.features().size());
+  }
+
+  @Test
+  public void buildStepFractions_stepsAreMeasuredAlongGeometry() {
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    RouteLeg leg = mock(RouteLeg.class);
+    when(leg.steps()).thenReturn(Arrays.asList(buildStep(0, 1), buildStep(1, 4), buildStep(4, 4)));
+    when(route.legs()).thenReturn(Arrays.asList(leg));
+    RouteFeatureBuilder builder = new RouteFeatureBuilder();
+
+    RouteStepFractions stepFractions = builder.buildStepFractions(route);
+
+    assertEquals(0.125f, stepFractions.calculateTraveledFraction(0, 0, 0.5), 1e-3);
+    assertEquals(0.625f, stepFractions.calculateTraveledFraction(0, 1, 0.5), 1e-3);
+    assertEquals(1f, stepFractions.calculateTraveledFraction(0, 2, 0), 1e-3);
+  }
+
+  private LegStep buildStep(int startIndex, int endIndex) {
+    List<Point> points = new ArrayList<>();
+    for (int i = startIndex; i <= endIndex; i++) {
+      points.add(Point.fromLngLat(-77.03 + i * 0.001, 38.89));
+    }
+    LegStep step = mock(LegStep.class);
+    when(step.geometry()).thenReturn(LineString.fromLngLats(points).toPolyline(Constants.PRECISION_6));
+    return step;
+  }
+
+  private DirectionsRoute buildRoute(int coordinateCount, List<List<String>> legCongestion) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < coordinateCount; i++) {
+      points.add(Point.fromLngLat(-77.03 + i * 0.001, 38.89));
+    }
+    List<RouteLeg> legs = new ArrayList<>();
+    for (List<String> congestion : legCongestion) {
+      LegAnnotation annotation = mock(LegAnnotation.class);
+      when(annotation.congestion()).thenReturn(congestion);
+      RouteLeg leg = mock(RouteLeg.class);
+      when(leg.annotation()).thenReturn(annotation);
+      legs.add(leg);
+    }
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    when(route.geometry()).thenReturn(LineString.fromLngLats(points).toPolyline(Constants.PRECISION_6));
+    when(route.legs()).thenReturn(legs);
+    return route;
+  }
+}
@@ -0,0 +1,122 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static junit.framework.Assert.assertEquals;
+
+public class RouteLineGradientTest {
+
+  private static final int TRAVELED_COLOR = 0x00000000;
+  private static final int DEFAULT_COLOR = 0xFF0000FF;
+  private static final int MODERATE_COLOR = 0xFFFFFF00;
+  private static final int HEAVY_COLOR = 0xFFFF8000;
+  private static final int SEVERE_COLOR = 0xFFFF0000;
+
+  @Test
+  public void colorAt_traveledPortionIsDrawnInTraveledColor() {
+    RouteLineGradient gradient = buildGradient(new ArrayList<Feature>());
+
+    int color = gradient.colorAt(0.2f, 0.5f, TRAVELED_COLOR);
+
+    assertEquals(TRAVELED_COLOR, color);
+  }
+
+  @Test
+  public void colorAt_remainingPortionIsDrawnInRouteColor() {
+    RouteLineGradient gradient = buildGradient(new ArrayList<Feature>());
+
+    int color = gradient.colorAt(0.6f, 0.5f, TRAVELED_COLOR);
+
+    assertEquals(DEFAULT_COLOR, color);
+  }
+
+  @Test
+  public void colorAt_remainingCongestionIsDrawn() {
+    RouteLineGradient gradient = buildGradient(Arrays.asList(
+      buildRun("low", 0f, 0.4f),
+      buildRun("moderate", 0.4f, 0.7f),
+      buildRun("severe", 0.7f, 1f)
+    ));
+
+    assertEquals(TRAVELED_COLOR, gradient.colorAt(0.45f, 0.5f, TRAVELED_COLOR));
+    assertEquals(MODERATE_COLOR, gradient.colorAt(0.5f, 0.5f, TRAVELED_COLOR));
+    assertEquals(SEVERE_COLOR, gradient.colorAt(0.8f, 0.5f, TRAVELED_COLOR));
+  }
+
+  @Test
+  public void colorAt_traveledCongestionIsHidden() {
+    RouteLineGradient gradient = buildGradient(Arrays.asList(
+      buildRun("heavy", 0f, 0.3f),
+      buildRun("low", 0.3f, 1f)
+    ));
+
+    int color = gradient.colorAt(0.1f, 0.3f, TRAVELED_COLOR);
+
+    assertEquals(TRAVELED_COLOR, color);
+  }
+
+  @Test
+  public void colorAt_routeWithoutCongestionAfterRunIsDrawnInDefaultColor() {
+    RouteLineGradient gradient = buildGradient(Arrays.asList(
+      buildRun("severe", 0.2f, 0.4f)
+    ));
+
+    assertEquals(SEVERE_COLOR, gradient.colorAt(0.3f, 0f, TRAVELED_COLOR));
+    assertEquals(DEFAULT_COLOR, gradient.colorAt(0.5f, 0f, TRAVELED_COLOR));
+  }
+
+  @Test
+  public void colorAt_heavyCongestionIsDrawnInItsOwnColor() {
+    RouteLineGradient gradient = buildGradient(Arrays.asList(
+      buildRun("heavy", 0f, 0.5f),
+      buildRun("severe", 0.5f, 1f)
+    ));
+
+    assertEquals(HEAVY_COLOR, gradient.colorAt(0.2f, 0f, TRAVELED_COLOR));
+    assertEquals(SEVERE_COLOR, gradient.colorAt(0.7f, 0f, TRAVELED_COLOR));
+  }
+
+  @Test
+  public void colorAt_congestionWithoutColorIsDrawnInDefaultColor() {
+    RouteLineGradient gradient = buildGradient(Arrays.asList(
+      buildRun("unknown", 0f, 0.5f),
+      buildRun("moderate", 0.5f, 1f)
+    ));
+
+    assertEquals(DEFAULT_COLOR, gradient.colorAt(0.2f, 0f, TRAVELED_COLOR));
+  }
+
+  private RouteLineGradient buildGradient(List<Feature> runs) {
+    List<Feature> features = new ArrayList<>();
+    features.add(Feature.fromGeometry(buildLine()));
+    features.addAll(runs);
+    Map<String, Integer> congestionColors = new HashMap<>();
+    congestionColors.put("moderate", MODERATE_COLOR);
+    congestionColors.put("heavy", HEAVY_COLOR);
+    congestionColors.put("severe", SEVERE_COLOR);
+    return new RouteLineGradient(FeatureCollection.fromFeatures(features), DEFAULT_COLOR, congestionColors);
+  }
+
+  private Feature buildRun(String congestion, float start, float end) {
+    Feature run = Feature.fromGeometry(buildLine());
+    run.addStringProperty("congestion", congestion);
+    run.addNumberProperty("congestion-start", start);
+    run.addNumberProperty("congestion-end", end);
+    return run;
+  }
+
+  private LineString buildLine() {
+    return LineString.fromLngLats(Arrays.asList(Point.fromLngLat(-77.03, 38.89), Point.fromLngLat(-77.02, 38.89)));
+  }
+}
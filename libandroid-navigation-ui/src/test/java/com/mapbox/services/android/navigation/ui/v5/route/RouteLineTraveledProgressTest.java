@@ -0,0 +1,59 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteLineTraveledProgressTest {
+
+  @Test
+  public void update_fractionIsRetrieved() {
+    RouteLineTraveledProgress traveledProgress = new RouteLineTraveledProgress();
+
+    traveledProgress.update(0.25f, 100L);
+
+    assertEquals(0.25f, traveledProgress.retrieveFraction(), 0.0001f);
+  }
+
+  @Test
+  public void update_fractionIsClampedToRoute() {
+    RouteLineTraveledProgress traveledProgress = new RouteLineTraveledProgress();
+
+    traveledProgress.update(1.5f, 100L);
+
+    assertEquals(1f, traveledProgress.retrieveFraction(), 0.0001f);
+  }
+
+  @Test
+  public void update_unchangedFractionIsIgnored() {
+    RouteLineTraveledProgress traveledProgress = new RouteLineTraveledProgress();
+    traveledProgress.update(0.25f, 100L);
+
+    boolean isUpdated = traveledProgress.update(0.25f, 1100L);
+
+    assertFalse(isUpdated);
+  }
+
+  @Test
+  public void update_updatesWithinSameFrameAreIgnored() {
+    RouteLineTraveledProgress traveledProgress = new RouteLineTraveledProgress();
+    traveledProgress.update(0.25f, 100L);
+
+    boolean isUpdated = traveledProgress.update(0.26f, 105L);
+
+    assertFalse(isUpdated);
+    assertEquals(0.25f, traveledProgress.retrieveFraction(), 0.0001f);
+  }
+
+  @Test
+  public void update_updatesAfterFrameIntervalAreAccepted() {
+    RouteLineTraveledProgress traveledProgress = new RouteLineTraveledProgress();
+    traveledProgress.update(0.25f, 100L);
+
+    boolean isUpdated = traveledProgress.update(0.26f, 120L);
+
+    assertTrue(isUpdated);
+  }
+}
@@ -0,0 +1,117 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteSegmentIndexTest {
+
+  @Test
+  public void findNearestRouteIndex_returnsClosestRoute() {
+    RouteSegmentIndex index = new RouteSegmentIndex(buildParallelRoutes());
+
+    int routeIndex = index.findNearestRouteIndex(Point.fromLngLat(-77.015, 38.9015));
+
+    assertEquals(1, routeIndex);
+  }
+
+  @Test
+  public void findNearestRouteIndex_clickFarOutsideRoutesReturnsClosestRoute() {
+    RouteSegmentIndex index = new RouteSegmentIndex(buildParallelRoutes());
+
+    int routeIndex = index.findNearestRouteIndex(Point.fromLngLat(-77.05, 39.5));
+
+    assertEquals(3, routeIndex);
+  }
+
+  @Test
+  public void findNearestRouteIndex_emptyIndexReturnsNoRoute() {
+    RouteSegmentIndex index = new RouteSegmentIndex(new ArrayList<LineString>());
+
+    int routeIndex = index.findNearestRouteIndex(Point.fromLngLat(-77.015, 38.9));
+
+    assertTrue(index.isEmpty());
+    assertEquals(RouteSegmentIndex.NO_ROUTE, routeIndex);
+  }
+
+  @Test
+  public void findNearestPointOnRoute_returnsProjectedPoint() {
+    RouteSegmentIndex index = new RouteSegmentIndex(buildParallelRoutes());
+
+    Point nearestPoint = index.findNearestPointOnRoute(Point.fromLngLat(-77.015, 38.9015), 0);
+
+    assertEquals(-77.015, nearestPoint.longitude(), 1e-6);
+    assertEquals(38.9, nearestPoint.latitude(), 1e-6);
+  }
+
+  @Test
+  public void findNearestPointOnRoute_unknownRouteReturnsNull() {
+    RouteSegmentIndex index = new RouteSegmentIndex(buildParallelRoutes());
+
+    Point nearestPoint = index.findNearestPointOnRoute(Point.fromLngLat(-77.015, 38.9015), 5);
+
+    assertNull(nearestPoint);
+  }
+
+  @Test
+  public void findNearestRouteIndex_matchesExhaustiveSearch() {
+    List<LineString> routes = buildParallelRoutes();
+    RouteSegmentIndex index = new RouteSegmentIndex(routes);
+
+    for (int i = 0; i < 50; i++) {
+      Point clickPoint = Point.fromLngLat(-77.04 + i * 0.0013, 38.895 + (i % 7) * 0.0011);
+      assertEquals(findNearestRouteExhaustively(routes, clickPoint), index.findNearestRouteIndex(clickPoint));
+    }
+  }
+
+  private List<LineString> buildParallelRoutes() {
+    List<LineString> routes = new ArrayList<>();
+    for (int route = 0; route < 3; route++) {
+      double latitude = 38.9 + route * 0.002;
+      List<Point> points = new ArrayList<>();
+      for (int i = 0; i <= 30; i++) {
+        points.add(Point.fromLngLat(-77.03 + i * 0.001, latitude + (i % 2) * 0.0002));
+      }
+      routes.add(LineString.fromLngLats(points));
+    }
+    routes.add(LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.05, 38.89), Point.fromLngLat(-77.05, 38.92)
+    )));
+    return routes;
+  }
+
+  private int findNearestRouteExhaustively(List<LineString> routes, Point point) {
+    double longitudeScale = Math.cos(Math.toRadians(38.905));
+    int nearestRoute = RouteSegmentIndex.NO_ROUTE;
+    double nearestDistance = Double.MAX_VALUE;
+    for (int route = 0; route < routes.size(); route++) {
+      List<Point> points = routes.get(route).coordinates();
+      for (int i = 0; i < points.size() - 1; i++) {
+        double startX = points.get(i).longitude() * longitudeScale;
+        double endX = points.get(i + 1).longitude() * longitudeScale;
+        double startY = points.get(i).latitude();
+        double endY = points.get(i + 1).latitude();
+        double x = point.longitude() * longitudeScale;
+        double y = point.latitude();
+        double dx = endX - startX;
+        double dy = endY - startY;
+        double fraction = Math.max(0, Math.min(1, ((x - startX) * dx + (y - startY) * dy) / (dx * dx + dy * dy)));
+        double distance = Math.hypot(x - (startX + fraction * dx), y - (startY + fraction * dy));
+        if (distance < nearestDistance) {
+          nearestDistance = distance;
+          nearestRoute = route;
+        }
+      }
+    }
+    return nearestRoute;
+  }
+}
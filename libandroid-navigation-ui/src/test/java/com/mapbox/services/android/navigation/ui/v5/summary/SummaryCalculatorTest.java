@@ -0,0 +1,114 @@
+package com.mapbox.services.android.navigation.ui.v5.summary;
+
+import android.text.SpannableString;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.ui.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.navigation.NavigationTimeFormat;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class SummaryCalculatorTest extends BaseTest {
+
+  // Arrival times are counted from the start of this minute
+  private static final long START_OF_MINUTE = 1530000000000L;
+
+  @Test
+  public void calculate_sameDisplayedValuesReturnSameModel() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    long legDurationRemaining = (long) routeProgress.currentLegProgress().durationRemaining() * 1000;
+    FixedSummaryClock clock = new FixedSummaryClock(START_OF_MINUTE - legDurationRemaining);
+    SummaryCalculator calculator = buildCalculator(buildDistanceFormatter(true), clock);
+    SummaryModel firstModel = calculator.calculate(routeProgress);
+    clock.now += 1000;
+
+    SummaryModel secondModel = calculator.calculate(routeProgress);
+
+    assertSame(firstModel, secondModel);
+  }
+
+  @Test
+  public void calculate_newArrivalMinuteReturnsNewModel() throws Exception {
+    FixedSummaryClock clock = new FixedSummaryClock(START_OF_MINUTE);
+    DistanceFormatter distanceFormatter = buildDistanceFormatter(true);
+    SummaryCalculator calculator = buildCalculator(distanceFormatter, clock);
+    RouteProgress routeProgress = buildRouteProgress();
+    SummaryModel firstModel = calculator.calculate(routeProgress);
+    clock.now += 60000;
+
+    SummaryModel secondModel = calculator.calculate(routeProgress);
+
+    assertNotSame(firstModel, secondModel);
+  }
+
+  @Test
+  public void calculate_sameDisplayedDistanceIsNotFormattedAgain() throws Exception {
+    FixedSummaryClock clock = new FixedSummaryClock(START_OF_MINUTE);
+    DistanceFormatter distanceFormatter = buildDistanceFormatter(true);
+    SummaryCalculator calculator = buildCalculator(distanceFormatter, clock);
+    RouteProgress routeProgress = buildRouteProgress();
+    calculator.calculate(routeProgress);
+    clock.now += 60000;
+
+    calculator.calculate(routeProgress);
+
+    verify(distanceFormatter).formatDistance(anyDouble());
+  }
+
+  @Test
+  public void reset_nextProgressReturnsNewModel() throws Exception {
+    SummaryCalculator calculator = buildCalculator(buildDistanceFormatter(true),
+      new FixedSummaryClock(START_OF_MINUTE));
+    RouteProgress routeProgress = buildRouteProgress();
+    SummaryModel firstModel = calculator.calculate(routeProgress);
+
+    calculator.reset();
+    SummaryModel secondModel = calculator.calculate(routeProgress);
+
+    assertNotSame(firstModel, secondModel);
+  }
+
+  private SummaryCalculator buildCalculator(DistanceFormatter distanceFormatter, SummaryClock clock) {
+    return new SummaryCalculator(RuntimeEnvironment.application, distanceFormatter,
+      NavigationTimeFormat.TWENTY_FOUR_HOURS, clock);
+  }
+
+  private RouteProgress buildRouteProgress() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    return buildRouteProgress(route, 100, 100, 100, 0, 0);
+  }
+
+  private DistanceFormatter buildDistanceFormatter(boolean formatsToSameDistance) {
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    when(distanceFormatter.formatsToSameDistance(anyDouble(), anyDouble())).thenReturn(formatsToSameDistance);
+    when(distanceFormatter.formatDistance(anyDouble())).thenReturn(new SpannableString("100 ft"));
+    return distanceFormatter;
+  }
+
+  private static class FixedSummaryClock implements SummaryClock {
+
+    private long now;
+
+    FixedSummaryClock(long now) {
+      this.now = now;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+      return now;
+    }
+  }
+}
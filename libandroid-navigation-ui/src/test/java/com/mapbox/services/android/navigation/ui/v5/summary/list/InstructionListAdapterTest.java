@@ -0,0 +1,66 @@
+package com.mapbox.services.android.navigation.ui.v5.summary.list;
+
+import android.support.v7.widget.RecyclerView;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class InstructionListAdapterTest {
+
+  @Test
+  public void updateBannerListWhileHidden_listIsNotNotified() {
+    InstructionListAdapter adapter = new InstructionListAdapter(buildUpdatingPresenter());
+    RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+    adapter.registerAdapterDataObserver(observer);
+
+    adapter.updateBannerListWith(mock(RouteProgress.class), false);
+
+    verify(observer, never()).onChanged();
+    verify(observer, never()).onItemRangeRemoved(anyInt(), anyInt());
+  }
+
+  @Test
+  public void onListShownAfterHiddenUpdate_wholeListIsRefreshed() {
+    InstructionListAdapter adapter = new InstructionListAdapter(buildUpdatingPresenter());
+    RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+    adapter.registerAdapterDataObserver(observer);
+    adapter.updateBannerListWith(mock(RouteProgress.class), false);
+
+    adapter.onListShown();
+
+    verify(observer).onChanged();
+  }
+
+  @Test
+  public void updateBannerListAfterListShown_onlyRemovedInstructionsAreNotified() {
+    InstructionListAdapter adapter = new InstructionListAdapter(buildUpdatingPresenter());
+    RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+    adapter.registerAdapterDataObserver(observer);
+    adapter.updateBannerListWith(mock(RouteProgress.class), false);
+    adapter.onListShown();
+
+    adapter.updateBannerListWith(mock(RouteProgress.class), true);
+
+    verify(observer, times(1)).onChanged();
+    verify(observer).onItemRangeRemoved(0, 1);
+  }
+
+  private InstructionListPresenter buildUpdatingPresenter() {
+    InstructionListPresenter presenter = mock(InstructionListPresenter.class);
+    when(presenter.updateBannerListWith(any(RouteProgress.class))).thenReturn(true);
+    when(presenter.retrieveRemovedInstructionCount()).thenReturn(1);
+    return presenter;
+  }
+}
@@ -121,6 +121,43 @@ public class InstructionListPresenterTest extends BaseTest {
     assertFalse(didUpdate);
   }
 
+  @Test
+  public void updateBannerListWith_newLegReplacesAllInstructions() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    RouteUtils routeUtils = buildRouteUtils(routeProgress);
+    DistanceFormatter distanceFormatter = mock(DistanceFormatter.class);
+    InstructionListPresenter presenter = new InstructionListPresenter(routeUtils, distanceFormatter);
+
+    presenter.updateBannerListWith(routeProgress);
+
+    assertEquals(InstructionListPresenter.ALL_INSTRUCTIONS, presenter.retrieveRemovedInstructionCount());
+  }
+
+  @Test
+  public void updateBannerListWith_passedInstructionsAreRemovedWithSameIds() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress routeProgress = buildRouteProgress(route, 100, 100, 100, 0, 0);
+    RouteUtils routeUtils = buildRouteUtils(routeProgress);
+    InstructionListPresenter presenter = new InstructionListPresenter(routeUtils, mock(DistanceFormatter.class));
+    presenter.updateBannerListWith(routeProgress);
+    int listSize = presenter.retrieveBannerInstructionListSize();
+    long[] instructionIds = new long[listSize];
+    for (int i = 0; i < listSize; i++) {
+      instructionIds[i] = presenter.retrieveInstructionId(i);
+    }
+    RouteProgress nextStepProgress = buildRouteProgress(route, 100, 100, 100, 1, 0);
+    BannerInstructions nextInstructions = nextStepProgress.currentLegProgress().currentStep()
+      .bannerInstructions().get(FIRST);
+    when(routeUtils.findCurrentBannerInstructions(any(LegStep.class), anyDouble())).thenReturn(nextInstructions);
+
+    boolean didUpdate = presenter.updateBannerListWith(nextStepProgress);
+
+    int removedInstructionCount = presenter.retrieveRemovedInstructionCount();
+    assertTrue(didUpdate);
+    assertEquals(listSize - removedInstructionCount, presenter.retrieveBannerInstructionListSize());
+    assertEquals(instructionIds[removedInstructionCount], presenter.retrieveInstructionId(FIRST));
+  }
+
   @Test
   public void updateDistanceFormatter_newFormatterIsUsed() throws Exception {
     RouteProgress routeProgress = buildRouteProgress();
@@ -0,0 +1,49 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class Api23InstructionDataSourceTest {
+
+  @Test
+  public void readAt_bytesAreCopiedFromPosition() {
+    byte[] audio = {1, 2, 3, 4, 5};
+    Api23InstructionDataSource dataSource = new Api23InstructionDataSource(audio);
+    byte[] buffer = new byte[4];
+
+    int bytesRead = dataSource.readAt(2, buffer, 1, 3);
+
+    assertEquals(3, bytesRead);
+    assertEquals(3, buffer[1]);
+    assertEquals(5, buffer[3]);
+  }
+
+  @Test
+  public void readAt_readingPastTheEndIsLimited() {
+    byte[] audio = {1, 2, 3, 4, 5};
+    Api23InstructionDataSource dataSource = new Api23InstructionDataSource(audio);
+    byte[] buffer = new byte[10];
+
+    int bytesRead = dataSource.readAt(3, buffer, 0, 10);
+
+    assertEquals(2, bytesRead);
+  }
+
+  @Test
+  public void readAt_endOfStreamIsReported() {
+    byte[] audio = {1, 2, 3, 4, 5};
+    Api23InstructionDataSource dataSource = new Api23InstructionDataSource(audio);
+
+    int bytesRead = dataSource.readAt(5, new byte[4], 0, 4);
+
+    assertEquals(-1, bytesRead);
+  }
+
+  @Test
+  public void getSize_returnsAudioLength() {
+    Api23InstructionDataSource dataSource = new Api23InstructionDataSource(new byte[42]);
+
+    assertEquals(42, dataSource.getSize());
+  }
+}
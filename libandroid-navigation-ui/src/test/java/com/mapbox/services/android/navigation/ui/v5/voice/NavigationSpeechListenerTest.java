@@ -1,7 +1,9 @@
 package com.mapbox.services.android.navigation.ui.v5.voice;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -41,14 +43,52 @@ public class NavigationSpeechListenerTest {
     verify(androidSpeechPlayer).play(announcement);
   }
 
+  @Test
+  public void onStart_latencyTrackerIsNotified() {
+    SpeechLatencyTracker latencyTracker = mock(SpeechLatencyTracker.class);
+    NavigationSpeechListener navigationSpeechListener = new NavigationSpeechListener(
+      mock(SpeechPlayerProvider.class), mock(SpeechAudioFocusManager.class), latencyTracker);
+
+    navigationSpeechListener.onStart();
+
+    verify(latencyTracker).onAnnouncementStarted();
+  }
+
+  @Test
+  public void onError_failedAnnouncementIsSkippedAndFallbackIsRequested() {
+    SpeechPlayerProvider provider = mock(SpeechPlayerProvider.class);
+    AndroidSpeechPlayer androidSpeechPlayer = mock(AndroidSpeechPlayer.class);
+    when(provider.retrieveAndroidSpeechPlayer()).thenReturn(androidSpeechPlayer);
+    SpeechLatencyTracker latencyTracker = mock(SpeechLatencyTracker.class);
+    NavigationSpeechListener navigationSpeechListener = new NavigationSpeechListener(
+      provider, mock(SpeechAudioFocusManager.class), latencyTracker);
+
+    navigationSpeechListener.onError("Error text", buildAnnouncement());
+
+    InOrder inOrder = inOrder(latencyTracker);
+    inOrder.verify(latencyTracker).onAnnouncementSkipped();
+    inOrder.verify(latencyTracker).onAnnouncementRequested(androidSpeechPlayer);
+  }
+
+  @Test
+  public void onSkipped_latencyTrackerIsNotified() {
+    SpeechLatencyTracker latencyTracker = mock(SpeechLatencyTracker.class);
+    NavigationSpeechListener navigationSpeechListener = new NavigationSpeechListener(
+      mock(SpeechPlayerProvider.class), mock(SpeechAudioFocusManager.class), latencyTracker);
+
+    navigationSpeechListener.onSkipped();
+
+    verify(latencyTracker).onAnnouncementSkipped();
+  }
+
   private NavigationSpeechListener buildSpeechListener(SpeechAudioFocusManager audioFocusManager) {
     SpeechPlayerProvider provider = mock(SpeechPlayerProvider.class);
-    return new NavigationSpeechListener(provider, audioFocusManager);
+    return new NavigationSpeechListener(provider, audioFocusManager, mock(SpeechLatencyTracker.class));
   }
 
   private NavigationSpeechListener buildSpeechListener(SpeechPlayerProvider provider) {
     SpeechAudioFocusManager audioFocusManager = mock(SpeechAudioFocusManager.class);
-    return new NavigationSpeechListener(provider, audioFocusManager);
+    return new NavigationSpeechListener(provider, audioFocusManager, mock(SpeechLatencyTracker.class));
   }
 
   private SpeechAnnouncement buildAnnouncement() {
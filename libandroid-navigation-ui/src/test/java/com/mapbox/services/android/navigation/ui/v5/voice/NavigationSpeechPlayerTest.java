@@ -2,8 +2,10 @@ package com.mapbox.services.android.navigation.ui.v5.voice;
 
 import org.junit.Test;
 
+import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -71,9 +73,50 @@ public class NavigationSpeechPlayerTest {
     verify(provider).onOffRoute();
   }
 
+  @Test
+  public void onPlayAnnouncement_latencyTrackerIsGivenPlayer() {
+    SpeechPlayer speechPlayer = mock(SpeechPlayer.class);
+    SpeechLatencyTracker latencyTracker = mock(SpeechLatencyTracker.class);
+    NavigationSpeechPlayer navigationSpeechPlayer = buildNavigationSpeechPlayer(speechPlayer, latencyTracker);
+
+    navigationSpeechPlayer.play(mock(SpeechAnnouncement.class));
+
+    verify(latencyTracker).onAnnouncementRequested(speechPlayer);
+  }
+
+  @Test
+  public void onPlayAnnouncementWhileMuted_latencyTrackerIsNotGivenPlayer() {
+    SpeechPlayer speechPlayer = mock(SpeechPlayer.class);
+    SpeechLatencyTracker latencyTracker = mock(SpeechLatencyTracker.class);
+    NavigationSpeechPlayer navigationSpeechPlayer = buildNavigationSpeechPlayer(speechPlayer, latencyTracker);
+    navigationSpeechPlayer.setMuted(true);
+
+    navigationSpeechPlayer.play(mock(SpeechAnnouncement.class));
+
+    verify(latencyTracker, never()).onAnnouncementRequested(speechPlayer);
+  }
+
+  @Test
+  public void retrieveAnnouncementLatency_returnsCurrentPlayerLatency() {
+    SpeechPlayer speechPlayer = mock(SpeechPlayer.class);
+    SpeechLatencyTracker latencyTracker = mock(SpeechLatencyTracker.class);
+    when(latencyTracker.retrieveLatencyMillis(speechPlayer)).thenReturn(1200L);
+    NavigationSpeechPlayer navigationSpeechPlayer = buildNavigationSpeechPlayer(speechPlayer, latencyTracker);
+
+    long latency = navigationSpeechPlayer.retrieveAnnouncementLatency();
+
+    assertEquals(1200L, latency);
+  }
+
   private NavigationSpeechPlayer buildNavigationSpeechPlayer(SpeechPlayer speechPlayer) {
+    return buildNavigationSpeechPlayer(speechPlayer, mock(SpeechLatencyTracker.class));
+  }
+
+  private NavigationSpeechPlayer buildNavigationSpeechPlayer(SpeechPlayer speechPlayer,
+                                                             SpeechLatencyTracker latencyTracker) {
     SpeechPlayerProvider provider = mock(SpeechPlayerProvider.class);
     when(provider.retrieveSpeechPlayer()).thenReturn(speechPlayer);
+    when(provider.retrieveLatencyTracker()).thenReturn(latencyTracker);
     return new NavigationSpeechPlayer(provider);
   }
 }
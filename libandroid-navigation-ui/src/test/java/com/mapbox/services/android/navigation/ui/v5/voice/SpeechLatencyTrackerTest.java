@@ -0,0 +1,142 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class SpeechLatencyTrackerTest {
+
+  @Test
+  public void onUnmeasuredPlayer_defaultLatencyIsReturned() {
+    SpeechLatencyTracker tracker = new SpeechLatencyTracker(new FakeSpeechClock());
+
+    long latency = tracker.retrieveLatencyMillis(mock(SpeechPlayer.class));
+
+    assertEquals(SpeechLatencyTracker.DEFAULT_LATENCY_MILLIS, latency);
+  }
+
+  @Test
+  public void onAnnouncementStarted_latencyIsMeasured() {
+    FakeSpeechClock clock = new FakeSpeechClock();
+    SpeechLatencyTracker tracker = new SpeechLatencyTracker(clock);
+    SpeechPlayer player = mock(SpeechPlayer.class);
+
+    tracker.onAnnouncementRequested(player);
+    clock.advance(800);
+    tracker.onAnnouncementStarted();
+
+    assertEquals(800, tracker.retrieveLatencyMillis(player));
+  }
+
+  @Test
+  public void onSeveralAnnouncements_latencyIsSmoothed() {
+    FakeSpeechClock clock = new FakeSpeechClock();
+    SpeechLatencyTracker tracker = new SpeechLatencyTracker(clock);
+    SpeechPlayer player = mock(SpeechPlayer.class);
+
+    playAnnouncement(tracker, clock, player, 800);
+    playAnnouncement(tracker, clock, player, 1800);
+
+    assertEquals(1100, tracker.retrieveLatencyMillis(player));
+  }
+
+  @Test
+  public void onDifferentPlayers_latencyIsMeasuredPerPlayer() {
+    FakeSpeechClock clock = new FakeSpeechClock();
+    SpeechLatencyTracker tracker = new SpeechLatencyTracker(clock);
+    SpeechPlayer mapboxPlayer = mock(SpeechPlayer.class);
+    SpeechPlayer androidPlayer = mock(SpeechPlayer.class);
+
+    playAnnouncement(tracker, clock, mapboxPlayer, 900);
+    playAnnouncement(tracker, clock, androidPlayer, 200);
+
+    assertEquals(900, tracker.retrieveLatencyMillis(mapboxPlayer));
+    assertEquals(200, tracker.retrieveLatencyMillis(androidPlayer));
+  }
+
+  @Test
+  public void onAnnouncementQueuedWhileSpeaking_latencyIsNotMeasured() {
+    FakeSpeechClock clock = new FakeSpeechClock();
+    SpeechLatencyTracker tracker = new SpeechLatencyTracker(clock);
+    SpeechPlayer player = mock(SpeechPlayer.class);
+    tracker.onAnnouncementRequested(player);
+    clock.advance(400);
+    tracker.onAnnouncementStarted();
+
+    tracker.onAnnouncementRequested(player);
+    clock.advance(5000);
+    tracker.onAnnouncementDone();
+    tracker.onAnnouncementStarted();
+
+    assertEquals(400, tracker.retrieveLatencyMillis(player));
+  }
+
+  @Test
+  public void onAnnouncementNeverStarted_itIsDropped() {
+    FakeSpeechClock clock = new FakeSpeechClock();
+    SpeechLatencyTracker tracker = new SpeechLatencyTracker(clock);
+    SpeechPlayer player = mock(SpeechPlayer.class);
+    tracker.onAnnouncementRequested(player);
+    clock.advance(60000);
+
+    playAnnouncement(tracker, clock, player, 300);
+
+    assertEquals(300, tracker.retrieveLatencyMillis(player));
+  }
+
+  @Test
+  public void onPendingAnnouncementsCleared_nextStartIsNotMeasured() {
+    FakeSpeechClock clock = new FakeSpeechClock();
+    SpeechLatencyTracker tracker = new SpeechLatencyTracker(clock);
+    SpeechPlayer player = mock(SpeechPlayer.class);
+    tracker.onAnnouncementRequested(player);
+    tracker.clearPendingAnnouncements();
+
+    clock.advance(700);
+    tracker.onAnnouncementStarted();
+
+    assertEquals(SpeechLatencyTracker.DEFAULT_LATENCY_MILLIS, tracker.retrieveLatencyMillis(player));
+  }
+
+  @Test
+  public void onAnnouncementSkipped_nextStartIsMatchedWithItsOwnRequest() {
+    FakeSpeechClock clock = new FakeSpeechClock();
+    SpeechLatencyTracker tracker = new SpeechLatencyTracker(clock);
+    SpeechPlayer mapboxPlayer = mock(SpeechPlayer.class);
+    SpeechPlayer androidPlayer = mock(SpeechPlayer.class);
+    tracker.onAnnouncementRequested(mapboxPlayer);
+    clock.advance(3000);
+
+    tracker.onAnnouncementSkipped();
+    tracker.onAnnouncementRequested(androidPlayer);
+    clock.advance(200);
+    tracker.onAnnouncementStarted();
+
+    assertEquals(SpeechLatencyTracker.DEFAULT_LATENCY_MILLIS, tracker.retrieveLatencyMillis(mapboxPlayer));
+    assertEquals(200, tracker.retrieveLatencyMillis(androidPlayer));
+  }
+
+  private void playAnnouncement(SpeechLatencyTracker tracker, FakeSpeechClock clock,
+                                SpeechPlayer player, long latencyMillis) {
+    tracker.onAnnouncementRequested(player);
+    clock.advance(latencyMillis);
+    tracker.onAnnouncementStarted();
+    clock.advance(2000);
+    tracker.onAnnouncementDone();
+  }
+
+  private static class FakeSpeechClock implements SpeechClock {
+
+    private long elapsedRealtime = 1000;
+
+    @Override
+    public long elapsedRealtime() {
+      return elapsedRealtime;
+    }
+
+    void advance(long millis) {
+      elapsedRealtime += millis;
+    }
+  }
+}
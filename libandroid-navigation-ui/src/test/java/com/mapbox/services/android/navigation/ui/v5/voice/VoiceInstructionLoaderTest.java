@@ -1,64 +1,131 @@
 package com.mapbox.services.android.navigation.ui.v5.voice;
 
-import android.content.Context;
+import android.os.Handler;
 
 import com.mapbox.services.android.navigation.ui.v5.BaseTest;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.io.File;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
-import okhttp3.Cache;
-
-import static org.junit.Assert.assertEquals;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class VoiceInstructionLoaderTest extends BaseTest {
 
+  private static final String SSML_TEXT_TYPE = "ssml";
+  private static final String ENGLISH = "en";
+
+  @Test
+  public void requestInstruction_storedInstructionIsReturnedWithoutLoading() {
+    VoiceInstructionStore store = mock(VoiceInstructionStore.class);
+    File storedInstruction = mock(File.class);
+    String instruction = "<speak>Turn right</speak>";
+    String key = VoiceInstructionStore.buildKey(instruction, SSML_TEXT_TYPE, ENGLISH);
+    when(store.retrieve(eq(key), anyLong())).thenReturn(storedInstruction);
+    Executor requestExecutor = mock(Executor.class);
+    VoiceInstructionLoader loader = buildLoader(store, requestExecutor, mock(Executor.class));
+    loader.setupMapboxSpeechBuilder(ENGLISH);
+    OnInstructionLoadedCallback callback = mock(OnInstructionLoadedCallback.class);
+
+    loader.requestInstruction(instruction, SSML_TEXT_TYPE, callback);
+
+    ArgumentCaptor<LoadedInstruction> loadedInstruction = ArgumentCaptor.forClass(LoadedInstruction.class);
+    verify(callback).onInstructionLoaded(loadedInstruction.capture());
+    assertEquals(storedInstruction, loadedInstruction.getValue().getInstructionFile());
+    assertFalse(loadedInstruction.getValue().isInMemory());
+    verifyZeroInteractions(requestExecutor);
+  }
+
+  @Test
+  public void requestInstruction_missingInstructionIsLoadedInTheBackground() {
+    VoiceInstructionStore store = mock(VoiceInstructionStore.class);
+    Executor requestExecutor = mock(Executor.class);
+    VoiceInstructionLoader loader = buildLoader(store, requestExecutor, mock(Executor.class));
+    loader.setupMapboxSpeechBuilder(ENGLISH);
+    OnInstructionLoadedCallback callback = mock(OnInstructionLoadedCallback.class);
+
+    loader.requestInstruction("<speak>Turn right</speak>", SSML_TEXT_TYPE, callback);
+
+    verify(requestExecutor).execute(any(Runnable.class));
+  }
+
+  @Test
+  public void requestInstruction_withoutLanguageReturnsError() {
+    Executor requestExecutor = mock(Executor.class);
+    VoiceInstructionLoader loader = buildLoader(mock(VoiceInstructionStore.class), requestExecutor,
+      mock(Executor.class));
+    OnInstructionLoadedCallback callback = mock(OnInstructionLoadedCallback.class);
+
+    loader.requestInstruction("<speak>Turn right</speak>", SSML_TEXT_TYPE, callback);
+
+    verify(callback).onInstructionError(anyString());
+    verifyZeroInteractions(requestExecutor);
+  }
+
+  @Test
+  public void cacheInstructions_storedInstructionsAreSkipped() {
+    VoiceInstructionStore store = mock(VoiceInstructionStore.class);
+    String storedInstruction = "<speak>Turn right</speak>";
+    when(store.contains(VoiceInstructionStore.buildKey(storedInstruction, SSML_TEXT_TYPE, ENGLISH)))
+      .thenReturn(true);
+    Executor cacheExecutor = mock(Executor.class);
+    VoiceInstructionLoader loader = buildLoader(store, mock(Executor.class), cacheExecutor);
+    loader.setupMapboxSpeechBuilder(ENGLISH);
+    List<String> instructions = new ArrayList<>();
+    instructions.add(storedInstruction);
+    instructions.add("<speak>Turn left</speak>");
+
+    loader.cacheInstructions(instructions);
+
+    verify(cacheExecutor, times(1)).execute(any(Runnable.class));
+  }
+
   @Test
-  public void checksEvictFourInstructions() throws Exception {
-    Context anyContext = mock(Context.class);
-    Cache aCache = mock(Cache.class);
-    List<String> urlsToBeCached = buildUrlsToCache();
-    urlsToBeCached.remove(4);
-    Iterator<String> urlsCached = urlsToBeCached.iterator();
-    when(aCache.urls()).thenReturn(urlsCached);
-    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
-      aCache);
-    List<String> urlsToCache = buildUrlsToCache();
-    theVoiceInstructionLoader.addStubUrlsToCache(urlsToCache);
-
-    List<String> urlsEvicted = theVoiceInstructionLoader.evictVoiceInstructions();
-
-    assertEquals(4, urlsEvicted.size());
+  public void cacheInstructions_pendingInstructionsAreNotCachedTwice() {
+    Executor cacheExecutor = mock(Executor.class);
+    VoiceInstructionLoader loader = buildLoader(mock(VoiceInstructionStore.class), mock(Executor.class),
+      cacheExecutor);
+    loader.setupMapboxSpeechBuilder(ENGLISH);
+    List<String> instructions = new ArrayList<>();
+    instructions.add("<speak>Turn left</speak>");
+
+    loader.cacheInstructions(instructions);
+    loader.cacheInstructions(instructions);
+
+    verify(cacheExecutor, times(1)).execute(any(Runnable.class));
   }
 
-  private List<String> buildUrlsToCache() {
-    List<String> urlsCached = new ArrayList<>();
-    urlsCached.add("https://api.mapbox.com/voice/v1/speak/%3Cspeak%3E%3Camazon:effect%20name=%22drc%22%3E%3Cprosody" +
-      "%20rate=%221.08%22%3EIn%20200%20meters," +
-      "%20enter%20the%20traffic%20circle%20and%20take%20the%203rd%20exit%20onto%20%3Csay-as%20interpret-as=%22address" +
-      "%22%3E14th%3C%2Fsay-as%3E%20Street%20Northwest%3C%2Fprosody%3E%3C%2Famazon:effect%3E%3C%2Fspeak%3E?textType" +
-      "=ssml&language=en&access_token=pk.XXX");
-    urlsCached.add("https://api.mapbox.com/voice/v1/speak/%3Cspeak%3E%3Camazon:effect%20name=%22drc%22%3E%3Cprosody" +
-      "%20rate=%221.08%22%3EContinue%20on%20%3Csay-as%20interpret-as=%22address%22%3E14th%3C%2Fsay-as%3E%20Street" +
-      "%20Northwest%20for%20600%20meters%3C%2Fprosody%3E%3C%2Famazon:effect%3E%3C%2Fspeak%3E?textType=ssml&language" +
-      "=en&access_token=pk.XXX");
-    urlsCached.add("https://api.mapbox.com/voice/v1/speak/%3Cspeak%3E%3Camazon:effect%20name=%22drc%22%3E%3Cprosody" +
-      "%20rate=%221.08%22%3EIn%20200%20meters," +
-      "%20enter%20the%20traffic%20circle%20and%20take%20the%204th%20exit%20onto%20Rhode%20Island%20Avenue%20Northwest" +
-      "%3C%2Fprosody%3E%3C%2Famazon:effect%3E%3C%2Fspeak%3E?textType=ssml&language=en&access_token=pk.XXX");
-    urlsCached.add("https://api.mapbox.com/voice/v1/speak/%3Cspeak%3E%3Camazon:effect%20name=%22drc%22%3E%3Cprosody" +
-      "%20rate=%221.08%22%3ETurn%20right%20onto%20Rhode%20Island%20Avenue%20Northwest%3C%2Fprosody%3E%3C%2Famazon" +
-      ":effect%3E%3C%2Fspeak%3E?textType=ssml&language=en&access_token=pk.XXX");
-    urlsCached.add("https://api.mapbox.com/voice/v1/speak/%3Cspeak%3E%3Camazon:effect%20name=%22drc%22%3E%3Cprosody" +
-      "%20rate=%221.08%22%3EIn%20300%20meters," +
-      "%20turn%20right%20onto%20Rhode%20Island%20Avenue%20Northwest%3C%2Fprosody%3E%3C%2Famazon:effect%3E%3C%2Fspeak" +
-      "%3E?textType=ssml&language=en&access_token=pk.XXX");
-    return urlsCached;
+  @Test
+  public void cacheInstructions_withoutLanguageNothingIsCached() {
+    Executor cacheExecutor = mock(Executor.class);
+    VoiceInstructionLoader loader = buildLoader(mock(VoiceInstructionStore.class), mock(Executor.class),
+      cacheExecutor);
+    List<String> instructions = new ArrayList<>();
+    instructions.add("<speak>Turn left</speak>");
+
+    loader.cacheInstructions(instructions);
+
+    verify(cacheExecutor, never()).execute(any(Runnable.class));
   }
 
-}
\ No newline at end of file
+  private VoiceInstructionLoader buildLoader(VoiceInstructionStore store, Executor requestExecutor,
+                                             Executor cacheExecutor) {
+    return new VoiceInstructionLoader(ACCESS_TOKEN, store, requestExecutor, cacheExecutor, mock(Executor.class),
+      mock(Handler.class));
+  }
+}
@@ -0,0 +1,153 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class VoiceInstructionStoreTest {
+
+  private static final long MAX_SIZE_IN_BYTES = 100;
+  private static final long MAX_AGE_IN_MILLIS = 1000;
+  private static final long NOW = 10000;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void store_instructionCanBeRetrieved() throws IOException {
+    VoiceInstructionStore store = buildInitializedStore();
+
+    File storedFile = store.store("key", buildInstruction(10), NOW);
+
+    assertNotNull(storedFile);
+    assertEquals(storedFile, store.retrieve("key", NOW));
+    assertEquals(10, storedFile.length());
+    assertEquals(10, store.retrieveSizeInBytes());
+  }
+
+  @Test
+  public void retrieve_missingInstructionReturnsNull() throws IOException {
+    VoiceInstructionStore store = buildInitializedStore();
+
+    assertNull(store.retrieve("key", NOW));
+  }
+
+  @Test
+  public void store_replacingInstructionKeepsSizeAccurate() throws IOException {
+    VoiceInstructionStore store = buildInitializedStore();
+
+    store.store("key", buildInstruction(10), NOW);
+    store.store("key", buildInstruction(30), NOW);
+
+    assertEquals(30, store.retrieveSizeInBytes());
+  }
+
+  @Test
+  public void store_leastRecentlyUsedInstructionIsEvictedOverSize() throws IOException {
+    VoiceInstructionStore store = buildInitializedStore();
+    store.store("first", buildInstruction(40), NOW);
+    store.store("second", buildInstruction(40), NOW);
+    store.retrieve("first", NOW);
+
+    store.store("third", buildInstruction(40), NOW);
+
+    assertTrue(store.contains("first"));
+    assertFalse(store.contains("second"));
+    assertTrue(store.contains("third"));
+    assertEquals(80, store.retrieveSizeInBytes());
+  }
+
+  @Test
+  public void retrieve_expiredInstructionIsRemoved() throws IOException {
+    VoiceInstructionStore store = buildInitializedStore();
+    File storedFile = store.store("key", buildInstruction(10), NOW);
+
+    File retrievedFile = store.retrieve("key", NOW + MAX_AGE_IN_MILLIS + 1);
+
+    assertNull(retrievedFile);
+    assertFalse(storedFile.exists());
+    assertEquals(0, store.retrieveSizeInBytes());
+  }
+
+  @Test
+  public void read_storedInstructionIsRead() throws IOException {
+    VoiceInstructionStore store = buildInitializedStore();
+    byte[] instruction = {1, 2, 3};
+    store.store("key", new ByteArrayInputStream(instruction), NOW);
+
+    byte[] readInstruction = store.read("key", NOW);
+
+    assertTrue(Arrays.equals(instruction, readInstruction));
+  }
+
+  @Test
+  public void read_missingInstructionReturnsNull() throws IOException {
+    VoiceInstructionStore store = buildInitializedStore();
+
+    assertNull(store.read("key", NOW));
+  }
+
+  @Test
+  public void initialize_indexIsRebuiltFromStoredFiles() throws IOException {
+    File directory = folder.getRoot();
+    VoiceInstructionStore store = new VoiceInstructionStore(directory, MAX_SIZE_IN_BYTES, MAX_AGE_IN_MILLIS);
+    store.initialize(NOW);
+    store.store("key", buildInstruction(10), NOW);
+
+    VoiceInstructionStore restartedStore = new VoiceInstructionStore(directory, MAX_SIZE_IN_BYTES,
+      MAX_AGE_IN_MILLIS);
+    restartedStore.initialize(NOW);
+
+    assertNotNull(restartedStore.retrieve("key", NOW));
+    assertEquals(10, restartedStore.retrieveSizeInBytes());
+  }
+
+  @Test
+  public void initialize_partiallyWrittenFilesAreDeleted() throws IOException {
+    File partialFile = folder.newFile("key.tmp");
+    VoiceInstructionStore store = new VoiceInstructionStore(folder.getRoot(), MAX_SIZE_IN_BYTES,
+      MAX_AGE_IN_MILLIS);
+
+    store.initialize(NOW);
+
+    assertFalse(partialFile.exists());
+  }
+
+  @Test
+  public void buildKey_sameValuesBuildSameKey() {
+    String first = VoiceInstructionStore.buildKey("<speak>Turn right</speak>", "ssml", "en");
+    String second = VoiceInstructionStore.buildKey("<speak>Turn right</speak>", "ssml", "en");
+
+    assertEquals(first, second);
+  }
+
+  @Test
+  public void buildKey_differentLanguageBuildsDifferentKey() {
+    String english = VoiceInstructionStore.buildKey("<speak>Turn right</speak>", "ssml", "en");
+    String german = VoiceInstructionStore.buildKey("<speak>Turn right</speak>", "ssml", "de");
+
+    assertFalse(english.equals(german));
+  }
+
+  private VoiceInstructionStore buildInitializedStore() {
+    VoiceInstructionStore store = new VoiceInstructionStore(folder.getRoot(), MAX_SIZE_IN_BYTES,
+      MAX_AGE_IN_MILLIS);
+    store.initialize(NOW);
+    return store;
+  }
+
+  private ByteArrayInputStream buildInstruction(int size) {
+    return new ByteArrayInputStream(new byte[size]);
+  }
+}
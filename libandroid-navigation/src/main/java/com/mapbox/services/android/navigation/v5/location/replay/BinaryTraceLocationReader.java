@@ -0,0 +1,126 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.ACCURACY_PRECISION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.BEARING_PRECISION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.COORDINATE_PRECISION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.MAGIC;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.NO_VALUE;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.SPEED_PRECISION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.VERSION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.readSignedVarint;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.readVarint;
+
+/**
+ * Streams the locations of a binary trace written by {@link ReplayTraceWriter}.
+ * <p>
+ * Trace files are memory mapped, so locations are decoded lazily straight from the page cache.
+ */
+class BinaryTraceLocationReader implements ReplayLocationReader {
+
+  private static final String BINARY_TRACE_LOCATION_NAME = "ReplayTraceLocation";
+  private static final String READ_ONLY_MODE = "r";
+  private static final String INVALID_TRACE = "Not a replay trace";
+  private static final String UNSUPPORTED_VERSION = "Unsupported replay trace version: ";
+  private static final String TRUNCATED_TRACE = "Truncated replay trace";
+  private final ByteBuffer buffer;
+  private final RandomAccessFile file;
+  private final int channels;
+  private long lastTime;
+  private long lastLatitude;
+  private long lastLongitude;
+
+  BinaryTraceLocationReader(@NonNull File traceFile) throws IOException {
+    this.file = new RandomAccessFile(traceFile, READ_ONLY_MODE);
+    try {
+      FileChannel channel = file.getChannel();
+      this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      this.channels = readHeader(buffer);
+    } catch (IOException exception) {
+      file.close();
+      throw exception;
+    }
+  }
+
+  // For testing only
+  BinaryTraceLocationReader(@NonNull ByteBuffer buffer) throws IOException {
+    this.file = null;
+    this.buffer = buffer;
+    this.channels = readHeader(buffer);
+  }
+
+  @Nullable
+  @Override
+  public Location nextLocation() throws IOException {
+    if (!buffer.hasRemaining()) {
+      return null;
+    }
+    try {
+      return readLocation();
+    } catch (BufferUnderflowException exception) {
+      throw new IOException(TRUNCATED_TRACE, exception);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (file != null) {
+      file.close();
+    }
+  }
+
+  private int readHeader(ByteBuffer buffer) throws IOException {
+    try {
+      if (buffer.getInt() != MAGIC) {
+        throw new IOException(INVALID_TRACE);
+      }
+      int version = buffer.get();
+      if (version != VERSION) {
+        throw new IOException(UNSUPPORTED_VERSION + version);
+      }
+      return buffer.get();
+    } catch (BufferUnderflowException exception) {
+      throw new IOException(INVALID_TRACE, exception);
+    }
+  }
+
+  @NonNull
+  private Location readLocation() throws IOException {
+    lastTime += readSignedVarint(buffer);
+    lastLatitude += readSignedVarint(buffer);
+    lastLongitude += readSignedVarint(buffer);
+    Location location = new Location(BINARY_TRACE_LOCATION_NAME);
+    location.setTime(lastTime);
+    location.setLatitude(lastLatitude / COORDINATE_PRECISION);
+    location.setLongitude(lastLongitude / COORDINATE_PRECISION);
+    if ((channels & ReplayTraceWriter.CHANNEL_SPEED) != 0) {
+      long speed = readVarint(buffer);
+      if (speed != NO_VALUE) {
+        location.setSpeed((speed - 1) / SPEED_PRECISION);
+      }
+    }
+    if ((channels & ReplayTraceWriter.CHANNEL_BEARING) != 0) {
+      long bearing = readVarint(buffer);
+      if (bearing != NO_VALUE) {
+        location.setBearing((bearing - 1) / BEARING_PRECISION);
+      }
+    }
+    if ((channels & ReplayTraceWriter.CHANNEL_ACCURACY) != 0) {
+      long accuracy = readVarint(buffer);
+      if (accuracy != NO_VALUE) {
+        location.setAccuracy((accuracy - 1) / ACCURACY_PRECISION);
+      }
+    }
+    return location;
+  }
+}
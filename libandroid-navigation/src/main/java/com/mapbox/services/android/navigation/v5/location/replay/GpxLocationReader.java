@@ -0,0 +1,110 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Xml;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+
+/**
+ * Streams the track points of a GPX trace with a pull parser, one {@link Location} at a time.
+ */
+class GpxLocationReader implements ReplayLocationReader {
+
+  private static final String TAG_TRACK_POINT = "trkpt";
+  private static final String TAG_TIME = "time";
+  private static final String ATTR_LATITUDE = "lat";
+  private static final String ATTR_LONGITUDE = "lon";
+  private static final char NAMESPACE_SEPARATOR = ':';
+  private static final String GPX_LOCATION_NAME = "GPX Generated Location";
+  private static final String INVALID_TRACK_POINT = "Track point without lat / lon attributes";
+  private final InputStream inputStream;
+  private final XmlPullParser parser;
+  private final TimestampParser timestampParser = new TimestampParser();
+
+  GpxLocationReader(@NonNull InputStream inputStream) throws IOException {
+    this(inputStream, Xml.newPullParser());
+  }
+
+  GpxLocationReader(@NonNull InputStream inputStream, @NonNull XmlPullParser parser) throws IOException {
+    this.inputStream = inputStream;
+    this.parser = parser;
+    try {
+      parser.setInput(inputStream, null);
+    } catch (XmlPullParserException exception) {
+      throw new IOException(exception);
+    }
+  }
+
+  @Nullable
+  @Override
+  public Location nextLocation() throws IOException {
+    try {
+      return readNextTrackPoint();
+    } catch (XmlPullParserException | ParseException | NumberFormatException exception) {
+      throw new IOException(exception);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    inputStream.close();
+  }
+
+  @Nullable
+  private Location readNextTrackPoint() throws XmlPullParserException, IOException, ParseException {
+    int event = parser.getEventType();
+    while (event != XmlPullParser.END_DOCUMENT) {
+      if (event == XmlPullParser.START_TAG && TAG_TRACK_POINT.equals(parser.getName())) {
+        return readTrackPoint();
+      }
+      event = parser.next();
+    }
+    return null;
+  }
+
+  @NonNull
+  private Location readTrackPoint() throws XmlPullParserException, IOException, ParseException {
+    String latitude = parser.getAttributeValue(null, ATTR_LATITUDE);
+    String longitude = parser.getAttributeValue(null, ATTR_LONGITUDE);
+    if (latitude == null || longitude == null) {
+      throw new XmlPullParserException(INVALID_TRACK_POINT, parser, null);
+    }
+    long time = 0L;
+    int depth = parser.getDepth();
+    int event = parser.next();
+    while (!(event == XmlPullParser.END_TAG && parser.getDepth() == depth)
+      && event != XmlPullParser.END_DOCUMENT) {
+      if (event == XmlPullParser.START_TAG && isTag(parser.getName(), TAG_TIME)) {
+        time = timestampParser.parse(parser.nextText());
+      }
+      event = parser.next();
+    }
+    // Move past the closing track point tag so the next read starts fresh
+    parser.next();
+    return buildGpxLocation(Double.parseDouble(latitude), Double.parseDouble(longitude), time);
+  }
+
+  private boolean isTag(String name, String tag) {
+    if (name.equals(tag)) {
+      return true;
+    }
+    int prefixLength = name.length() - tag.length();
+    return prefixLength > 0 && name.endsWith(tag) && name.charAt(prefixLength - 1) == NAMESPACE_SEPARATOR;
+  }
+
+  @NonNull
+  private Location buildGpxLocation(double latitude, double longitude, long time) {
+    Location gpxLocation = new Location(GPX_LOCATION_NAME);
+    gpxLocation.setTime(time);
+    gpxLocation.setLatitude(latitude);
+    gpxLocation.setLongitude(longitude);
+    return gpxLocation;
+  }
+}
@@ -0,0 +1,146 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.text.ParseException;
+
+import timber.log.Timber;
+
+/**
+ * Streams the {@code locations} of a replay JSON trace (see {@link ReplayJsonRouteDto}), one
+ * {@link Location} at a time, without materializing the whole document.
+ * <p>
+ * Locations with a timestamp that can't be parsed are skipped, they can't be replayed in time.
+ */
+class JsonLocationReader implements ReplayLocationReader {
+
+  private static final String UTF_8 = "UTF-8";
+  private static final String LOCATIONS = "locations";
+  private static final String LONGITUDE = "lng";
+  private static final String LATITUDE = "lat";
+  private static final String HORIZONTAL_ACCURACY = "horizontalAccuracy";
+  private static final String VERTICAL_ACCURACY = "verticalAccuracy";
+  private static final String BEARING = "course";
+  private static final String SPEED = "speed";
+  private static final String ALTITUDE = "altitude";
+  private static final String TIMESTAMP = "timestamp";
+  private static final String REPLAY = "ReplayLocation";
+  private final JsonReader reader;
+  private final TimestampParser timestampParser = new TimestampParser();
+  private boolean isInsideLocations;
+  private boolean isFinished;
+
+  JsonLocationReader(@NonNull InputStream inputStream) throws IOException {
+    this.reader = new JsonReader(new InputStreamReader(inputStream, UTF_8));
+  }
+
+  @Nullable
+  @Override
+  public Location nextLocation() throws IOException {
+    if (isFinished) {
+      return null;
+    }
+    if (!isInsideLocations && !moveToLocations()) {
+      isFinished = true;
+      return null;
+    }
+    while (reader.hasNext()) {
+      Location location = readLocation();
+      if (location != null) {
+        return location;
+      }
+    }
+    reader.endArray();
+    isFinished = true;
+    return null;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private boolean moveToLocations() throws IOException {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if (LOCATIONS.equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        isInsideLocations = true;
+        return true;
+      }
+      reader.skipValue();
+    }
+    return false;
+  }
+
+  /**
+   * @return the location read or null if its timestamp is invalid
+   */
+  @Nullable
+  private Location readLocation() throws IOException {
+    Location location = new Location(REPLAY);
+    boolean hasValidTime = true;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        continue;
+      }
+      switch (name) {
+        case LONGITUDE:
+          location.setLongitude(reader.nextDouble());
+          break;
+        case LATITUDE:
+          location.setLatitude(reader.nextDouble());
+          break;
+        case HORIZONTAL_ACCURACY:
+          location.setAccuracy((float) reader.nextDouble());
+          break;
+        case VERTICAL_ACCURACY:
+          float verticalAccuracy = (float) reader.nextDouble();
+          if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            location.setVerticalAccuracyMeters(verticalAccuracy);
+          }
+          break;
+        case BEARING:
+          location.setBearing((float) reader.nextDouble());
+          break;
+        case SPEED:
+          location.setSpeed((float) reader.nextDouble());
+          break;
+        case ALTITUDE:
+          location.setAltitude(reader.nextDouble());
+          break;
+        case TIMESTAMP:
+          hasValidTime = readTime(location);
+          break;
+        default:
+          reader.skipValue();
+          break;
+      }
+    }
+    reader.endObject();
+    return hasValidTime ? location : null;
+  }
+
+  private boolean readTime(Location location) throws IOException {
+    String timestamp = reader.nextString();
+    try {
+      location.setTime(timestampParser.parse(timestamp));
+      return true;
+    } catch (ParseException exception) {
+      Timber.w(exception, "Skipping the replay location with the invalid timestamp %s", timestamp);
+      return false;
+    }
+  }
+}
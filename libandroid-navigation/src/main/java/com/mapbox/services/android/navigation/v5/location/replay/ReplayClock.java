@@ -0,0 +1,15 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+/**
+ * Source of time used while replaying locations.
+ * <p>
+ * Provide a custom implementation with {@link ReplayRouteLocationEngine#updateClock(ReplayClock)}
+ * to drive the replay from a deterministic time source (i.e. in tests).
+ */
+public interface ReplayClock {
+
+  /**
+   * @return the current time of this clock in milliseconds since epoch
+   */
+  long currentTimeMillis();
+}
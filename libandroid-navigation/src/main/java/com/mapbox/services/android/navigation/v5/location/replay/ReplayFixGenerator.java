@@ -0,0 +1,191 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates realistic GPS fixes along a route: correlated position noise (first-order Gauss-Markov),
+ * varying reported accuracy, speeds following the route annotations, urban canyon multipath jumps
+ * and dropouts (i.e. tunnels) during which no fix is emitted.
+ * <p>
+ * Randomness comes from the seed of {@link ReplayNoiseOptions}, so a route always generates the same fixes.
+ */
+class ReplayFixGenerator {
+
+  private static final String REPLAY_NOISE = "ReplayNoiseLocation";
+  private static final int ONE_SECOND_IN_MILLISECONDS = 1000;
+  private static final double ONE_KM_IN_METERS = 1000d;
+  private static final int ONE_HOUR_IN_SECONDS = 3600;
+  private static final double METERS_PER_DEGREE = 111319.49d;
+  private static final double MINIMUM_SPEED = 1d;
+  private static final float MINIMUM_ACCURACY = 1f;
+  private final ReplayNoiseOptions options;
+  private final Random random;
+  private double northError;
+  private double eastError;
+  private double multipathNorth;
+  private double multipathEast;
+  private int multipathFixesLeft;
+  private int dropoutFixesLeft;
+
+  ReplayFixGenerator(@NonNull ReplayNoiseOptions options) {
+    this.options = options;
+    this.random = new Random(options.seed());
+  }
+
+  /**
+   * @param route            to drive along
+   * @param speedInKmPerHour used where the route has no annotation speeds
+   * @param delayInSeconds   between two fixes
+   * @param startTime        of the first fix, in milliseconds
+   * @return the fixes for the whole route
+   */
+  @NonNull
+  List<Location> generate(DirectionsRoute route, int speedInKmPerHour, int delayInSeconds, long startTime) {
+    double defaultSpeed = (speedInKmPerHour * ONE_KM_IN_METERS) / ONE_HOUR_IN_SECONDS;
+    List<Location> fixes = new ArrayList<>();
+    long time = startTime;
+    for (RouteLeg leg : route.legs()) {
+      List<Point> coordinates = legCoordinates(leg);
+      List<Double> speeds = annotationSpeeds(leg, coordinates.size());
+      time = generateLeg(coordinates, speeds, defaultSpeed, delayInSeconds, time, fixes);
+    }
+    return fixes;
+  }
+
+  /**
+   * @param line             to drive along
+   * @param speedInKmPerHour of the fixes
+   * @param delayInSeconds   between two fixes
+   * @param startTime        of the first fix, in milliseconds
+   * @return the fixes for the whole line
+   */
+  @NonNull
+  List<Location> generate(LineString line, int speedInKmPerHour, int delayInSeconds, long startTime) {
+    double speed = (speedInKmPerHour * ONE_KM_IN_METERS) / ONE_HOUR_IN_SECONDS;
+    List<Location> fixes = new ArrayList<>();
+    generateLeg(line.coordinates(), null, speed, delayInSeconds, startTime, fixes);
+    return fixes;
+  }
+
+  private long generateLeg(List<Point> coordinates, @Nullable List<Double> speeds, double defaultSpeed,
+                           int delayInSeconds, long time, List<Location> fixes) {
+    int lastSegment = coordinates.size() - 2;
+    int segment = 0;
+    double offset = 0;
+    while (segment <= lastSegment) {
+      Point from = coordinates.get(segment);
+      Point to = coordinates.get(segment + 1);
+      double segmentLength = TurfMeasurement.distance(from, to, TurfConstants.UNIT_METERS);
+      if (offset >= segmentLength) {
+        offset -= segmentLength;
+        segment++;
+        continue;
+      }
+      double bearing = TurfMeasurement.bearing(from, to);
+      double speed = Math.max(MINIMUM_SPEED, speeds == null ? defaultSpeed : speeds.get(segment));
+      Point position = offset <= 0 ? from
+        : TurfMeasurement.destination(from, offset, bearing, TurfConstants.UNIT_METERS);
+      updateNoise(delayInSeconds);
+      Location fix = createFix(position, bearing, speed, time);
+      if (fix != null) {
+        fixes.add(fix);
+      }
+      time += delayInSeconds * ONE_SECOND_IN_MILLISECONDS;
+      offset += speed * delayInSeconds;
+    }
+    return time;
+  }
+
+  private void updateNoise(int delayInSeconds) {
+    double correlation = Math.exp(-delayInSeconds / Math.max(options.noiseCorrelationSeconds(), delayInSeconds));
+    double innovation = Math.sqrt(1 - correlation * correlation) * options.positionNoiseMeters();
+    northError = correlation * northError + innovation * random.nextGaussian();
+    eastError = correlation * eastError + innovation * random.nextGaussian();
+    if (multipathFixesLeft > 0) {
+      multipathFixesLeft--;
+    } else if (random.nextDouble() < options.multipathProbability()) {
+      double direction = random.nextDouble() * 2 * Math.PI;
+      multipathNorth = Math.cos(direction) * options.multipathJumpMeters();
+      multipathEast = Math.sin(direction) * options.multipathJumpMeters();
+      multipathFixesLeft = Math.max(1, options.multipathDurationSeconds() / delayInSeconds);
+    }
+    if (dropoutFixesLeft > 0) {
+      dropoutFixesLeft--;
+    } else if (random.nextDouble() < options.dropoutProbability()) {
+      dropoutFixesLeft = Math.max(1, options.dropoutDurationSeconds() / delayInSeconds);
+    }
+  }
+
+  @Nullable
+  private Location createFix(Point position, double bearing, double speed, long time) {
+    if (dropoutFixesLeft > 0) {
+      return null;
+    }
+    double north = northError;
+    double east = eastError;
+    if (multipathFixesLeft > 0) {
+      north += multipathNorth;
+      east += multipathEast;
+    }
+    double latitude = position.latitude() + north / METERS_PER_DEGREE;
+    double longitude = position.longitude()
+      + east / (METERS_PER_DEGREE * Math.cos(Math.toRadians(position.latitude())));
+    float accuracy = (float) (options.accuracyMeters() + options.accuracyVariationMeters() * random.nextGaussian());
+
+    Location fix = new Location(REPLAY_NOISE);
+    fix.setLatitude(latitude);
+    fix.setLongitude(longitude);
+    fix.setBearing((float) ((bearing + 360) % 360));
+    fix.setSpeed((float) speed);
+    fix.setAccuracy(Math.max(MINIMUM_ACCURACY, accuracy));
+    fix.setTime(time);
+    return fix;
+  }
+
+  /**
+   * Joins the step geometries of the leg, dropping the coordinate each step shares with the previous one,
+   * so that segments match the leg annotations.
+   */
+  @NonNull
+  private List<Point> legCoordinates(RouteLeg leg) {
+    List<Point> coordinates = new ArrayList<>();
+    for (LegStep step : leg.steps()) {
+      List<Point> stepCoordinates = LineString.fromPolyline(step.geometry(), Constants.PRECISION_6).coordinates();
+      for (Point point : stepCoordinates) {
+        if (coordinates.isEmpty() || !point.equals(coordinates.get(coordinates.size() - 1))) {
+          coordinates.add(point);
+        }
+      }
+    }
+    return coordinates;
+  }
+
+  @Nullable
+  private List<Double> annotationSpeeds(RouteLeg leg, int coordinatesSize) {
+    LegAnnotation annotation = leg.annotation();
+    if (!options.useAnnotationSpeeds() || annotation == null || annotation.speed() == null) {
+      return null;
+    }
+    List<Double> speeds = annotation.speed();
+    if (speeds.size() != coordinatesSize - 1) {
+      return null;
+    }
+    return speeds;
+  }
+}
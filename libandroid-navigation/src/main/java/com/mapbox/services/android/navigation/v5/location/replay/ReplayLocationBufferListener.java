@@ -0,0 +1,7 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+
+interface ReplayLocationBufferListener {
+
+  void onBufferLow(int locationsLeft);
+}
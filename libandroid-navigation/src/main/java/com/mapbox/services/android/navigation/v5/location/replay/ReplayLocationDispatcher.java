@@ -13,30 +13,49 @@ class ReplayLocationDispatcher implements Runnable {
   private static final String NON_NULL_AND_NON_EMPTY_LOCATION_LIST_REQUIRED = "Non-null and non-empty location list "
     + "required.";
   private static final int HEAD = 0;
+  private static final int LOW_BUFFER_THRESHOLD = 50;
   private List<Location> locationsToReplay;
   private Location current;
+  private long dispatchedTime;
+  private boolean hasRunOutOfLocations;
   private Handler handler;
+  private VirtualReplayClock clock;
   private CopyOnWriteArraySet<ReplayLocationListener> replayLocationListeners;
+  private ReplayLocationBufferListener bufferListener;
 
   ReplayLocationDispatcher(@NonNull List<Location> locationsToReplay) {
+    this(locationsToReplay, new VirtualReplayClock(new SystemReplayClock()));
+  }
+
+  ReplayLocationDispatcher(@NonNull List<Location> locationsToReplay, @NonNull VirtualReplayClock clock) {
     checkValidInput(locationsToReplay);
     this.locationsToReplay = new CopyOnWriteArrayList<>(locationsToReplay);
     initialize();
     this.replayLocationListeners = new CopyOnWriteArraySet<>();
     this.handler = new Handler();
+    this.clock = clock;
   }
 
   // For testing only
   ReplayLocationDispatcher(List<Location> locationsToReplay, Handler handler) {
+    this(locationsToReplay, handler, new VirtualReplayClock(new SystemReplayClock()));
+  }
+
+  // For testing only
+  ReplayLocationDispatcher(List<Location> locationsToReplay, Handler handler, VirtualReplayClock clock) {
     checkValidInput(locationsToReplay);
     this.locationsToReplay = locationsToReplay;
     initialize();
     this.replayLocationListeners = new CopyOnWriteArraySet<>();
     this.handler = handler;
+    this.clock = clock;
   }
 
   @Override
   public void run() {
+    if (hasRunOutOfLocations) {
+      return;
+    }
     dispatchLocation(current);
     scheduleNextDispatch();
   }
@@ -44,6 +63,7 @@ class ReplayLocationDispatcher implements Runnable {
   void stop() {
     clearLocations();
     stopDispatching();
+    hasRunOutOfLocations = true;
   }
 
   void pause() {
@@ -56,11 +76,15 @@ class ReplayLocationDispatcher implements Runnable {
     initialize();
   }
 
+  /**
+   * Appends locations to the replay.  A pending dispatch is kept, the replay is only rescheduled
+   * when it had run out of locations.
+   *
+   * @param toReplay locations following the ones already added
+   */
   void add(@NonNull List<Location> toReplay) {
-    boolean shouldRedispatch = locationsToReplay.isEmpty();
     addLocations(toReplay);
-    if (shouldRedispatch) {
-      stopDispatching();
+    if (hasRunOutOfLocations) {
       scheduleNextDispatch();
     }
   }
@@ -73,6 +97,16 @@ class ReplayLocationDispatcher implements Runnable {
     replayLocationListeners.remove(listener);
   }
 
+  /**
+   * Notified when few locations are left to replay, so more can be streamed in with
+   * {@link #add(List)} before the replay runs dry.
+   *
+   * @param bufferListener to be notified or null to stop notifying
+   */
+  void updateBufferListener(ReplayLocationBufferListener bufferListener) {
+    this.bufferListener = bufferListener;
+  }
+
   private void checkValidInput(List<Location> locations) {
     boolean isValidInput = locations == null || locations.isEmpty();
     if (isValidInput) {
@@ -82,6 +116,7 @@ class ReplayLocationDispatcher implements Runnable {
 
   private void initialize() {
     current = locationsToReplay.remove(HEAD);
+    hasRunOutOfLocations = false;
   }
 
   private void addLocations(List<Location> toReplay) {
@@ -89,6 +124,8 @@ class ReplayLocationDispatcher implements Runnable {
   }
 
   private void dispatchLocation(Location location) {
+    clock.anchorTo(location.getTime());
+    dispatchedTime = location.getTime();
     for (ReplayLocationListener listener : replayLocationListeners) {
       listener.onLocationReplay(location);
     }
@@ -97,13 +134,21 @@ class ReplayLocationDispatcher implements Runnable {
   private void scheduleNextDispatch() {
     if (locationsToReplay.isEmpty()) {
       stopDispatching();
+      hasRunOutOfLocations = true;
       return;
     }
-    long currentTime = current.getTime();
+    hasRunOutOfLocations = false;
     current = locationsToReplay.remove(HEAD);
-    long nextTime = current.getTime();
-    long diff = nextTime - currentTime;
-    handler.postDelayed(this, diff);
+    long diff = current.getTime() - dispatchedTime;
+    handler.postDelayed(this, clock.toRealDelay(diff));
+    checkBuffer();
+  }
+
+  private void checkBuffer() {
+    int locationsLeft = locationsToReplay.size();
+    if (bufferListener != null && locationsLeft <= LOW_BUFFER_THRESHOLD) {
+      bufferListener.onBufferLow(locationsLeft);
+    }
   }
 
   private void clearLocations() {
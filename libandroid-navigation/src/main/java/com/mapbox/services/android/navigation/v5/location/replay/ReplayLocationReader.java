@@ -0,0 +1,21 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.support.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads recorded locations one at a time, so a trace can be replayed without
+ * holding all of its locations in memory.
+ */
+interface ReplayLocationReader extends Closeable {
+
+  /**
+   * @return the next recorded location or null once the end of the trace has been reached
+   * @throws IOException if the trace can't be read
+   */
+  @Nullable
+  Location nextLocation() throws IOException;
+}
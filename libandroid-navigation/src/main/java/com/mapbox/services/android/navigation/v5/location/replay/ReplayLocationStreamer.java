@@ -0,0 +1,168 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import timber.log.Timber;
+
+/**
+ * Reads a trace with a {@link ReplayLocationReader} on a background thread, in chunks, so only a
+ * bounded amount of locations is held in memory while they're being replayed.
+ * <p>
+ * The next chunk is only read once the {@link ReplayLocationDispatcher} reports it's running low.
+ * Once stopped, chunks still being read are dropped instead of being delivered to the listener.
+ */
+class ReplayLocationStreamer implements ReplayLocationBufferListener {
+
+  private static final String REPLAY_READER_THREAD_NAME = "mapbox_replay_reader_thread";
+  private static final int CHUNK_SIZE = 200;
+  private final ReplayLocationReader reader;
+  private final Handler responseHandler;
+  private final Listener listener;
+  private HandlerThread readerThread;
+  private Handler readerHandler;
+  private boolean isReading;
+  private boolean isExhausted;
+  private boolean isStopped;
+
+  ReplayLocationStreamer(@NonNull ReplayLocationReader reader, @NonNull Handler responseHandler,
+                         @NonNull Listener listener) {
+    this(reader, responseHandler, null, listener);
+  }
+
+  // Package private (no modifier) for testing purposes
+  ReplayLocationStreamer(@NonNull ReplayLocationReader reader, @NonNull Handler responseHandler,
+                         @Nullable Handler readerHandler, @NonNull Listener listener) {
+    this.reader = reader;
+    this.responseHandler = responseHandler;
+    this.readerHandler = readerHandler;
+    this.listener = listener;
+  }
+
+  void start() {
+    if (readerHandler == null) {
+      readerThread = new HandlerThread(REPLAY_READER_THREAD_NAME, Process.THREAD_PRIORITY_BACKGROUND);
+      readerThread.start();
+      readerHandler = new Handler(readerThread.getLooper());
+    }
+    readNextChunk();
+  }
+
+  /**
+   * Stops reading the trace. A chunk being read when this is called is never delivered.
+   */
+  void stop() {
+    isExhausted = true;
+    isStopped = true;
+    if (readerHandler == null) {
+      return;
+    }
+    readerHandler.removeCallbacksAndMessages(null);
+    readerHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        closeReader();
+        if (readerThread != null) {
+          readerThread.quit();
+        }
+      }
+    });
+    responseHandler.removeCallbacksAndMessages(this);
+  }
+
+  @Override
+  public void onBufferLow(int locationsLeft) {
+    if (!isReading && !isExhausted) {
+      readNextChunk();
+    }
+  }
+
+  private void readNextChunk() {
+    isReading = true;
+    readerHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          List<Location> chunk = readChunk();
+          postChunk(chunk, chunk.size() < CHUNK_SIZE);
+        } catch (IOException exception) {
+          closeReader();
+          postError(exception);
+        }
+      }
+    });
+  }
+
+  @NonNull
+  private List<Location> readChunk() throws IOException {
+    List<Location> chunk = new ArrayList<>(CHUNK_SIZE);
+    while (chunk.size() < CHUNK_SIZE) {
+      Location location = reader.nextLocation();
+      if (location == null) {
+        closeReader();
+        break;
+      }
+      chunk.add(location);
+    }
+    return chunk;
+  }
+
+  private void postChunk(final List<Location> chunk, final boolean isLastChunk) {
+    responseHandler.postAtTime(new Runnable() {
+      @Override
+      public void run() {
+        if (isStopped) {
+          return;
+        }
+        isReading = false;
+        isExhausted = isExhausted || isLastChunk;
+        if (!chunk.isEmpty()) {
+          listener.onLocationsRead(chunk);
+        }
+        if (isLastChunk) {
+          listener.onReadComplete();
+        }
+      }
+    }, this, SystemClock.uptimeMillis());
+  }
+
+  private void postError(final IOException exception) {
+    responseHandler.postAtTime(new Runnable() {
+      @Override
+      public void run() {
+        if (isStopped) {
+          return;
+        }
+        isReading = false;
+        isExhausted = true;
+        listener.onReadError(exception);
+      }
+    }, this, SystemClock.uptimeMillis());
+  }
+
+  private void closeReader() {
+    try {
+      reader.close();
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+  }
+
+  interface Listener {
+
+    void onLocationsRead(@NonNull List<Location> locations);
+
+    void onReadComplete();
+
+    void onReadError(@NonNull Exception exception);
+  }
+}
@@ -0,0 +1,114 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * Configures the realistic GPS fixes generated by {@link ReplayRouteLocationEngine} when replaying a route,
+ * see {@link ReplayRouteLocationEngine#updateNoiseOptions(ReplayNoiseOptions)}.
+ * <p>
+ * The same {@link #seed()} always generates the same fixes for the same route, so benchmarks are reproducible.
+ * Immutable once built.
+ */
+@AutoValue
+public abstract class ReplayNoiseOptions {
+
+  /**
+   * @return seed of the random generator
+   */
+  public abstract long seed();
+
+  /**
+   * @return standard deviation of the position noise, in meters
+   */
+  public abstract double positionNoiseMeters();
+
+  /**
+   * @return how long the position error stays correlated between fixes, in seconds
+   */
+  public abstract double noiseCorrelationSeconds();
+
+  /**
+   * @return mean reported horizontal accuracy, in meters
+   */
+  public abstract float accuracyMeters();
+
+  /**
+   * @return standard deviation of the reported horizontal accuracy, in meters
+   */
+  public abstract float accuracyVariationMeters();
+
+  /**
+   * @return probability, for each fix, of an urban canyon multipath jump starting
+   */
+  public abstract double multipathProbability();
+
+  /**
+   * @return size of a multipath jump, in meters
+   */
+  public abstract double multipathJumpMeters();
+
+  /**
+   * @return how long a multipath jump lasts, in seconds
+   */
+  public abstract int multipathDurationSeconds();
+
+  /**
+   * @return probability, for each fix, of a dropout (i.e. a tunnel) starting
+   */
+  public abstract double dropoutProbability();
+
+  /**
+   * @return how long a dropout lasts, in seconds
+   */
+  public abstract int dropoutDurationSeconds();
+
+  /**
+   * @return true if the annotation speeds of the route, when requested, drive the replay speed
+   */
+  public abstract boolean useAnnotationSpeeds();
+
+  public abstract Builder toBuilder();
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+
+    public abstract Builder seed(long seed);
+
+    public abstract Builder positionNoiseMeters(double positionNoiseMeters);
+
+    public abstract Builder noiseCorrelationSeconds(double noiseCorrelationSeconds);
+
+    public abstract Builder accuracyMeters(float accuracyMeters);
+
+    public abstract Builder accuracyVariationMeters(float accuracyVariationMeters);
+
+    public abstract Builder multipathProbability(double multipathProbability);
+
+    public abstract Builder multipathJumpMeters(double multipathJumpMeters);
+
+    public abstract Builder multipathDurationSeconds(int multipathDurationSeconds);
+
+    public abstract Builder dropoutProbability(double dropoutProbability);
+
+    public abstract Builder dropoutDurationSeconds(int dropoutDurationSeconds);
+
+    public abstract Builder useAnnotationSpeeds(boolean useAnnotationSpeeds);
+
+    public abstract ReplayNoiseOptions build();
+  }
+
+  public static Builder builder() {
+    return new AutoValue_ReplayNoiseOptions.Builder()
+      .seed(0L)
+      .positionNoiseMeters(4d)
+      .noiseCorrelationSeconds(30d)
+      .accuracyMeters(8f)
+      .accuracyVariationMeters(3f)
+      .multipathProbability(0.005d)
+      .multipathJumpMeters(40d)
+      .multipathDurationSeconds(5)
+      .dropoutProbability(0.001d)
+      .dropoutDurationSeconds(30)
+      .useAnnotationSpeeds(true);
+  }
+}
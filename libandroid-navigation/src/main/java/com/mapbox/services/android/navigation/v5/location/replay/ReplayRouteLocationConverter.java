@@ -3,6 +3,8 @@ package com.mapbox.services.android.navigation.v5.location.replay;
 import android.location.Location;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
@@ -10,7 +12,6 @@ import com.mapbox.turf.TurfConstants;
 import com.mapbox.turf.TurfMeasurement;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 class ReplayRouteLocationConverter {
@@ -37,10 +38,12 @@ class ReplayRouteLocationConverter {
 
   void updateSpeed(int customSpeedInKmPerHour) {
     this.speed = customSpeedInKmPerHour;
+    this.distance = calculateDistancePerSec();
   }
 
   void updateDelay(int customDelayInSeconds) {
     this.delay = customDelayInSeconds;
+    this.distance = calculateDistancePerSec();
   }
 
   List<Location> toLocations() {
@@ -50,47 +53,78 @@ class ReplayRouteLocationConverter {
     return mockedLocations;
   }
 
+  /**
+   * Converts the whole route, leg after leg, up front instead of step by step
+   * with {@link #toLocations()}.
+   *
+   * @return the mocked locations of every step of the route
+   */
+  List<Location> toAllLocations() {
+    initialize();
+    List<Location> mockedLocations = new ArrayList<>();
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        LineString line = LineString.fromPolyline(step.geometry(), Constants.PRECISION_6);
+        mockedLocations.addAll(calculateMockLocations(sliceRoute(line)));
+      }
+    }
+    return mockedLocations;
+  }
+
   boolean isMultiLegRoute() {
     return route.legs().size() > 1;
   }
 
-  void initializeTime() {
-    time = System.currentTimeMillis();
+  void initializeTime(long startTime) {
+    time = startTime;
   }
 
   /**
    * Interpolates the route into even points along the route and adds these to the points list.
+   * <p>
+   * The geometry is walked a single time, segment by segment, so this runs in linear time
+   * regardless of how many points are sampled.
    *
    * @param lineString our route geometry.
    * @return list of sliced {@link Point}s.
    */
   List<Point> sliceRoute(LineString lineString) {
-    double distanceMeters = TurfMeasurement.length(lineString, TurfConstants.UNIT_METERS);
-    if (distanceMeters <= 0) {
-      return Collections.emptyList();
-    }
-
+    List<Point> coordinates = lineString.coordinates();
     List<Point> points = new ArrayList<>();
-    for (double i = 0; i < distanceMeters; i += distance) {
-      Point point = TurfMeasurement.along(lineString, i, TurfConstants.UNIT_METERS);
-      points.add(point);
+    double traveled = 0;
+    double nextSample = 0;
+    for (int i = 0; i < coordinates.size() - 1; i++) {
+      Point from = coordinates.get(i);
+      Point to = coordinates.get(i + 1);
+      double segmentDistance = TurfMeasurement.distance(from, to, TurfConstants.UNIT_METERS);
+      if (segmentDistance <= 0) {
+        continue;
+      }
+      double segmentBearing = TurfMeasurement.bearing(from, to);
+      while (nextSample < traveled + segmentDistance) {
+        double offset = nextSample - traveled;
+        points.add(offset <= 0 ? from
+          : TurfMeasurement.destination(from, offset, segmentBearing, TurfConstants.UNIT_METERS));
+        nextSample += distance;
+      }
+      traveled += segmentDistance;
     }
     return points;
   }
 
   List<Location> calculateMockLocations(List<Point> points) {
-    List<Point> pointsToCopy = new ArrayList<>(points);
-    List<Location> mockedLocations = new ArrayList<>();
-    for (Point point : points) {
+    List<Location> mockedLocations = new ArrayList<>(points.size());
+    int lastIndex = points.size() - 1;
+    for (int i = 0; i <= lastIndex; i++) {
+      Point point = points.get(i);
       Location mockedLocation = createMockLocationFrom(point);
 
-      if (pointsToCopy.size() >= 2) {
-        double bearing = TurfMeasurement.bearing(point, pointsToCopy.get(1));
+      if (i < lastIndex) {
+        double bearing = TurfMeasurement.bearing(point, points.get(i + 1));
         mockedLocation.setBearing((float) bearing);
       }
       time += delay * ONE_SECOND_IN_MILLISECONDS;
       mockedLocations.add(mockedLocation);
-      pointsToCopy.remove(point);
     }
 
     return mockedLocations;
@@ -12,12 +12,20 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import timber.log.Timber;
 
 public class ReplayRouteLocationEngine extends LocationEngine implements Runnable {
 
+  /**
+   * Replay rate dispatching the replayed locations as fast as possible, without waiting in between.
+   */
+  public static final float REPLAY_AS_FAST_AS_POSSIBLE = Float.POSITIVE_INFINITY;
   private static final int HEAD = 0;
   private static final int MOCKED_POINTS_LEFT_THRESHOLD = 5;
   private static final int ONE_SECOND_IN_MILLISECONDS = 1000;
@@ -29,13 +37,18 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
   private static final int ZERO = 0;
   private static final String SPEED_MUST_BE_GREATER_THAN_ZERO_KM_H = "Speed must be greater than 0 km/h.";
   private static final String DELAY_MUST_BE_GREATER_THAN_ZERO_SECONDS = "Delay must be greater than 0 seconds.";
+  private static final String RATE_MUST_BE_GREATER_THAN_ZERO = "Replay rate must be greater than 0.";
+  private static final String NON_NULL_CLOCK_REQUIRED = "Non-null clock required.";
   private static final String REPLAY_ROUTE = "ReplayRouteLocation";
   private ReplayRouteLocationConverter converter;
   private int speed = DEFAULT_SPEED;
   private int delay = DEFAULT_DELAY;
   private Handler handler;
+  private VirtualReplayClock replayClock = new VirtualReplayClock(new SystemReplayClock());
   private List<Location> mockedLocations;
   private ReplayLocationDispatcher dispatcher;
+  private ReplayLocationStreamer streamer;
+  private ReplayNoiseOptions noiseOptions;
   private Location lastLocation = null;
   private final ReplayLocationListener replayLocationListener = new ReplayLocationListener() {
     @Override
@@ -44,11 +57,35 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
         listener.onLocationChanged(location);
       }
       lastLocation = location;
-      if (!mockedLocations.isEmpty()) {
+      if (mockedLocations != null && !mockedLocations.isEmpty()) {
         mockedLocations.remove(HEAD);
       }
     }
   };
+  private final ReplayLocationStreamer.Listener traceListener = new ReplayLocationStreamer.Listener() {
+    @Override
+    public void onLocationsRead(@NonNull List<Location> locations) {
+      if (dispatcher == null) {
+        dispatcher = new ReplayLocationDispatcher(locations, replayClock);
+        dispatcher.addReplayLocationListener(replayLocationListener);
+        dispatcher.updateBufferListener(streamer);
+        dispatcher.run();
+      } else {
+        dispatcher.add(locations);
+      }
+    }
+
+    @Override
+    public void onReadComplete() {
+      // Remaining locations keep being dispatched until the end of the trace
+    }
+
+    @Override
+    public void onReadError(@NonNull Exception exception) {
+      Timber.e(exception, "Unable to read the replayed trace, stopping the replay");
+      deactivate();
+    }
+  };
 
   public ReplayRouteLocationEngine() {
     this.handler = new Handler();
@@ -59,10 +96,52 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
     start(route);
   }
 
+  /**
+   * Replays a recorded GPX trace, streaming its track points so that long recordings
+   * don't need to be loaded in memory at once.
+   * <p>
+   * The locations are replayed with the timing of their recorded timestamps, scaled by
+   * {@link #updateReplayRate(float)}. The input stream is closed once the trace has been read.
+   *
+   * @param gpxInputStream of the GPX trace to replay
+   * @throws IOException if the trace can't be opened
+   */
+  public void assignGpxTrace(@NonNull InputStream gpxInputStream) throws IOException {
+    startTrace(new GpxLocationReader(gpxInputStream));
+  }
+
+  /**
+   * Replays a recorded JSON trace (a {@code locations} array along with the {@code route} request),
+   * streaming its locations so that long recordings don't need to be loaded in memory at once.
+   * <p>
+   * The locations are replayed with the timing of their recorded timestamps, scaled by
+   * {@link #updateReplayRate(float)}. The input stream is closed once the trace has been read.
+   *
+   * @param jsonInputStream of the JSON trace to replay
+   * @throws IOException if the trace can't be opened
+   */
+  public void assignJsonTrace(@NonNull InputStream jsonInputStream) throws IOException {
+    startTrace(new JsonLocationReader(jsonInputStream));
+  }
+
+  /**
+   * Replays a binary trace recorded with {@link ReplayTraceWriter}. The trace file is memory mapped
+   * and its locations are decoded lazily while being replayed.
+   * <p>
+   * The locations are replayed with the timing of their recorded timestamps, scaled by
+   * {@link #updateReplayRate(float)}.
+   *
+   * @param traceFile binary trace to replay
+   * @throws IOException if the trace can't be opened or isn't a valid trace
+   */
+  public void assignBinaryTrace(@NonNull File traceFile) throws IOException {
+    startTrace(new BinaryTraceLocationReader(traceFile));
+  }
+
   @SuppressLint("MissingPermission")
   public void moveTo(Point point) {
     Location lastLocation = getLastLocation();
-    if (lastLocation == null) {
+    if (lastLocation == null || converter == null) {
       return;
     }
 
@@ -89,6 +168,60 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
     this.delay = customDelayInSeconds;
   }
 
+  /**
+   * Replays the locations faster (or slower) than real time, i.e. 10 replays ten seconds of the
+   * route per second. The timestamps of the replayed locations are not affected, they keep describing
+   * the route driven at the speed set with {@link #updateSpeed(int)}.
+   * <p>
+   * Use {@link #REPLAY_AS_FAST_AS_POSSIBLE} to dispatch the locations without waiting in between,
+   * the next assigned route is then converted up front rather than step by step.
+   *
+   * @param rate greater than 0, defaults to 1 (real time)
+   */
+  public void updateReplayRate(float rate) {
+    if (Float.isNaN(rate) || rate <= 0) {
+      throw new IllegalArgumentException(RATE_MUST_BE_GREATER_THAN_ZERO);
+    }
+    replayClock.updateRate(rate);
+  }
+
+  /**
+   * Generates realistic GPS fixes for the next assigned route, instead of perfect on-route locations:
+   * correlated position noise, varying accuracy, annotation speeds, multipath jumps and dropouts.
+   * The whole route is generated up front when assigned. Routes started with {@link #moveTo(Point)}
+   * are generated with the same noise, at the speed set with {@link #updateSpeed(int)}.
+   *
+   * @param noiseOptions configuring the fixes or null to replay perfect on-route locations
+   */
+  public void updateNoiseOptions(@Nullable ReplayNoiseOptions noiseOptions) {
+    this.noiseOptions = noiseOptions;
+  }
+
+  /**
+   * Replaces the clock the replay is scheduled against, defaults to the system clock.
+   *
+   * @param clock to be used for the next replayed route
+   */
+  public void updateClock(@NonNull ReplayClock clock) {
+    if (clock == null) {
+      throw new IllegalArgumentException(NON_NULL_CLOCK_REQUIRED);
+    }
+    float rate = replayClock.retrieveRate();
+    replayClock = new VirtualReplayClock(clock);
+    replayClock.updateRate(rate);
+  }
+
+  /**
+   * Clock following the time domain of the replayed locations. Time advances with each replayed
+   * location and, in between, at the pace set with {@link #updateReplayRate(float)}.
+   *
+   * @return the clock of the replayed locations
+   */
+  @NonNull
+  public ReplayClock obtainReplayClock() {
+    return replayClock;
+  }
+
   @Override
   public void run() {
     List<Location> nextMockedLocations = converter.toLocations();
@@ -120,6 +253,7 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
     if (dispatcher != null) {
       dispatcher.stop();
     }
+    stopStreaming();
     handler.removeCallbacks(this);
   }
 
@@ -168,20 +302,49 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
 
   private void start(DirectionsRoute route) {
     handler.removeCallbacks(this);
+    stopStreaming();
     converter = new ReplayRouteLocationConverter(route, speed, delay);
-    converter.initializeTime();
+    converter.initializeTime(replayClock.currentTimeMillis());
+    if (noiseOptions != null) {
+      startNoisyRoute(route);
+      return;
+    }
+    if (Float.isInfinite(replayClock.retrieveRate())) {
+      // Every location is dispatched right away, converting step by step would only add refills
+      mockedLocations = converter.toAllLocations();
+      startWholeRoute();
+      return;
+    }
     mockedLocations = converter.toLocations();
     dispatcher = obtainDispatcher();
     dispatcher.run();
     scheduleNextDispatch();
   }
 
-  private ReplayLocationDispatcher obtainDispatcher() {
-    if (dispatcher != null) {
-      dispatcher.stop();
-      dispatcher.removeReplayLocationListener(replayLocationListener);
+  private void startNoisyRoute(DirectionsRoute route) {
+    ReplayFixGenerator generator = new ReplayFixGenerator(noiseOptions);
+    mockedLocations = generator.generate(route, speed, delay, replayClock.currentTimeMillis());
+    startWholeRoute();
+  }
+
+  /**
+   * The locations cover the whole route, so nothing is refilled while they're dispatched.
+   */
+  private void startWholeRoute() {
+    if (mockedLocations.isEmpty()) {
+      // Nothing to replay, the previous route mustn't keep being replayed either
+      stopDispatcher();
+      mockedLocations = null;
+      return;
     }
-    dispatcher = new ReplayLocationDispatcher(mockedLocations);
+    dispatcher = obtainDispatcher();
+    mockedLocations = null;
+    dispatcher.run();
+  }
+
+  private ReplayLocationDispatcher obtainDispatcher() {
+    stopDispatcher();
+    dispatcher = new ReplayLocationDispatcher(mockedLocations, replayClock);
     dispatcher.addReplayLocationListener(replayLocationListener);
 
     return dispatcher;
@@ -189,15 +352,47 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
 
   private void startRoute(Point point, Location lastLocation) {
     handler.removeCallbacks(this);
+    stopStreaming();
     converter.updateSpeed(speed);
     converter.updateDelay(delay);
-    converter.initializeTime();
+    converter.initializeTime(replayClock.currentTimeMillis());
     LineString route = obtainRoute(point, lastLocation);
+    if (noiseOptions != null) {
+      ReplayFixGenerator generator = new ReplayFixGenerator(noiseOptions);
+      mockedLocations = generator.generate(route, speed, delay, replayClock.currentTimeMillis());
+      startWholeRoute();
+      return;
+    }
     mockedLocations = converter.calculateMockLocations(converter.sliceRoute(route));
     dispatcher = obtainDispatcher();
     dispatcher.run();
   }
 
+  private void startTrace(ReplayLocationReader reader) {
+    handler.removeCallbacks(this);
+    stopStreaming();
+    stopDispatcher();
+    converter = null;
+    mockedLocations = null;
+    streamer = new ReplayLocationStreamer(reader, handler, traceListener);
+    streamer.start();
+  }
+
+  private void stopDispatcher() {
+    if (dispatcher != null) {
+      dispatcher.stop();
+      dispatcher.removeReplayLocationListener(replayLocationListener);
+      dispatcher = null;
+    }
+  }
+
+  private void stopStreaming() {
+    if (streamer != null) {
+      streamer.stop();
+      streamer = null;
+    }
+  }
+
   @NonNull
   private LineString obtainRoute(Point point, Location lastLocation) {
     List<Point> pointList = new ArrayList<>();
@@ -211,9 +406,10 @@ public class ReplayRouteLocationEngine extends LocationEngine implements Runnabl
     if (currentMockedPoints == ZERO) {
       handler.postDelayed(this, DO_NOT_DELAY);
     } else if (currentMockedPoints <= MOCKED_POINTS_LEFT_THRESHOLD) {
-      handler.postDelayed(this, ONE_SECOND_IN_MILLISECONDS);
+      handler.postDelayed(this, replayClock.toRealDelay(ONE_SECOND_IN_MILLISECONDS));
     } else {
-      handler.postDelayed(this, (currentMockedPoints - MOCKED_POINTS_LEFT_THRESHOLD) * ONE_SECOND_IN_MILLISECONDS);
+      long delayInMillis = (currentMockedPoints - MOCKED_POINTS_LEFT_THRESHOLD) * ONE_SECOND_IN_MILLISECONDS;
+      handler.postDelayed(this, replayClock.toRealDelay(delayInMillis));
     }
   }
 
@@ -0,0 +1,63 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary trace of recorded locations.
+ * <p>
+ * The header holds a magic number, the format version and a mask of the recorded optional channels.
+ * Each location then follows as zigzag varint deltas to the previous location: time in milliseconds,
+ * latitude and longitude in fixed-point 1e-7 degrees. Enabled channels come after as unsigned varints
+ * offset by one, so that zero marks a missing value: speed in cm/s, bearing in 1/100 degrees and
+ * horizontal accuracy in centimeters.
+ */
+class ReplayTraceFormat {
+
+  static final int MAGIC = 0x4D425854;
+  static final int VERSION = 1;
+  static final double COORDINATE_PRECISION = 1e7;
+  static final float SPEED_PRECISION = 100f;
+  static final float BEARING_PRECISION = 100f;
+  static final float ACCURACY_PRECISION = 100f;
+  static final int NO_VALUE = 0;
+  private static final int VARINT_DATA_BITS = 0x7F;
+  private static final int VARINT_CONTINUATION_BIT = 0x80;
+  private static final int VARINT_SHIFT = 7;
+  private static final int MAX_VARINT_SHIFT = 63;
+  private static final String MALFORMED_VARINT = "Malformed varint in trace";
+
+  private ReplayTraceFormat() {
+    // Constants and encoding helpers only
+  }
+
+  static void writeVarint(OutputStream outputStream, long value) throws IOException {
+    while ((value & ~VARINT_DATA_BITS) != 0) {
+      outputStream.write((int) ((value & VARINT_DATA_BITS) | VARINT_CONTINUATION_BIT));
+      value >>>= VARINT_SHIFT;
+    }
+    outputStream.write((int) value);
+  }
+
+  static void writeSignedVarint(OutputStream outputStream, long value) throws IOException {
+    writeVarint(outputStream, (value << 1) ^ (value >> 63));
+  }
+
+  static long readVarint(ByteBuffer buffer) throws IOException {
+    long result = 0;
+    for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += VARINT_SHIFT) {
+      byte current = buffer.get();
+      result |= (long) (current & VARINT_DATA_BITS) << shift;
+      if ((current & VARINT_CONTINUATION_BIT) == 0) {
+        return result;
+      }
+    }
+    throw new IOException(MALFORMED_VARINT);
+  }
+
+  static long readSignedVarint(ByteBuffer buffer) throws IOException {
+    long encoded = readVarint(buffer);
+    return (encoded >>> 1) ^ -(encoded & 1);
+  }
+}
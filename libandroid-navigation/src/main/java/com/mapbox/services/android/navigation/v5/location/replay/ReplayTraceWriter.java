@@ -0,0 +1,134 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.ACCURACY_PRECISION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.BEARING_PRECISION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.COORDINATE_PRECISION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.MAGIC;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.NO_VALUE;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.SPEED_PRECISION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.VERSION;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.writeSignedVarint;
+import static com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceFormat.writeVarint;
+
+/**
+ * Records locations into a compact, delta-encoded binary trace, which can be replayed with
+ * {@link ReplayRouteLocationEngine#assignBinaryTrace(java.io.File)}.
+ * <p>
+ * Coordinates are stored with a precision of 1e-7 degrees (~1 cm) and timestamps to the millisecond;
+ * a location typically takes 6 to 12 bytes. Writes are buffered, {@link #close()} the writer
+ * once the recording is done.
+ */
+public class ReplayTraceWriter implements Closeable {
+
+  /**
+   * Records {@link Location#getSpeed()}.
+   */
+  public static final int CHANNEL_SPEED = 1;
+  /**
+   * Records {@link Location#getBearing()}.
+   */
+  public static final int CHANNEL_BEARING = 1 << 1;
+  /**
+   * Records {@link Location#getAccuracy()}.
+   */
+  public static final int CHANNEL_ACCURACY = 1 << 2;
+  /**
+   * Records all optional channels.
+   */
+  public static final int ALL_CHANNELS = CHANNEL_SPEED | CHANNEL_BEARING | CHANNEL_ACCURACY;
+  private static final int BUFFER_SIZE = 8192;
+  private final DataOutputStream outputStream;
+  private final int channels;
+  private boolean isHeaderWritten;
+  private long lastTime;
+  private long lastLatitude;
+  private long lastLongitude;
+
+  /**
+   * Creates a writer recording all optional channels.
+   *
+   * @param outputStream the trace is written to
+   */
+  public ReplayTraceWriter(@NonNull OutputStream outputStream) {
+    this(outputStream, ALL_CHANNELS);
+  }
+
+  /**
+   * @param outputStream the trace is written to
+   * @param channels     mask of the optional channels to record, i.e. {@link #CHANNEL_SPEED}
+   */
+  public ReplayTraceWriter(@NonNull OutputStream outputStream, int channels) {
+    this.outputStream = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+    this.channels = channels & ALL_CHANNELS;
+  }
+
+  /**
+   * Appends the location to the trace.
+   *
+   * @param location to be recorded
+   * @throws IOException if the underlying stream can't be written to
+   */
+  public synchronized void write(@NonNull Location location) throws IOException {
+    writeHeader();
+    long time = location.getTime();
+    long latitude = Math.round(location.getLatitude() * COORDINATE_PRECISION);
+    long longitude = Math.round(location.getLongitude() * COORDINATE_PRECISION);
+    writeSignedVarint(outputStream, time - lastTime);
+    writeSignedVarint(outputStream, latitude - lastLatitude);
+    writeSignedVarint(outputStream, longitude - lastLongitude);
+    if ((channels & CHANNEL_SPEED) != 0) {
+      writeChannel(location.hasSpeed(), location.getSpeed(), SPEED_PRECISION);
+    }
+    if ((channels & CHANNEL_BEARING) != 0) {
+      writeChannel(location.hasBearing(), location.getBearing(), BEARING_PRECISION);
+    }
+    if ((channels & CHANNEL_ACCURACY) != 0) {
+      writeChannel(location.hasAccuracy(), location.getAccuracy(), ACCURACY_PRECISION);
+    }
+    lastTime = time;
+    lastLatitude = latitude;
+    lastLongitude = longitude;
+  }
+
+  /**
+   * Writes any buffered locations to the underlying stream.
+   *
+   * @throws IOException if the underlying stream can't be written to
+   */
+  public synchronized void flush() throws IOException {
+    outputStream.flush();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    writeHeader();
+    outputStream.close();
+  }
+
+  private void writeHeader() throws IOException {
+    if (isHeaderWritten) {
+      return;
+    }
+    outputStream.writeInt(MAGIC);
+    outputStream.writeByte(VERSION);
+    outputStream.writeByte(channels);
+    isHeaderWritten = true;
+  }
+
+  private void writeChannel(boolean hasValue, float value, float precision) throws IOException {
+    if (!hasValue || value < 0) {
+      writeVarint(outputStream, NO_VALUE);
+      return;
+    }
+    writeVarint(outputStream, Math.round(value * precision) + 1L);
+  }
+}
@@ -0,0 +1,9 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+class SystemReplayClock implements ReplayClock {
+
+  @Override
+  public long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+}
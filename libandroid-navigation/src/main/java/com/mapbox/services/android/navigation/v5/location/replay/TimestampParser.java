@@ -0,0 +1,115 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import java.text.ParseException;
+
+/**
+ * Allocation-free parser for the ISO 8601 timestamps found in recorded traces, i.e.
+ * {@code 2009-10-17T18:37:26Z} or {@code 2018-06-25T18:16:11.005+0000}.
+ * <p>
+ * Used instead of {@link java.text.SimpleDateFormat}, which is slow and not thread safe, as
+ * every single location of a trace carries a timestamp.
+ */
+class TimestampParser {
+
+  private static final long ONE_SECOND_IN_MILLISECONDS = 1000L;
+  private static final long ONE_MINUTE_IN_SECONDS = 60L;
+  private static final long ONE_HOUR_IN_SECONDS = 3600L;
+  private static final long ONE_DAY_IN_SECONDS = 86400L;
+  private static final String INVALID_TIMESTAMP = "Invalid timestamp: ";
+
+  long parse(String timestamp) throws ParseException {
+    if (timestamp == null) {
+      throw new ParseException(INVALID_TIMESTAMP + null, 0);
+    }
+    String value = timestamp.trim();
+    int year = readDigits(value, 0, 4);
+    expect(value, 4, '-');
+    int month = readDigits(value, 5, 2);
+    expect(value, 7, '-');
+    int day = readDigits(value, 8, 2);
+    expect(value, 10, 'T');
+    int hour = readDigits(value, 11, 2);
+    expect(value, 13, ':');
+    int minute = readDigits(value, 14, 2);
+    expect(value, 16, ':');
+    int second = readDigits(value, 17, 2);
+
+    int index = 19;
+    long millis = 0;
+    if (index < value.length() && value.charAt(index) == '.') {
+      index++;
+      int fractionStart = index;
+      while (index < value.length() && Character.isDigit(value.charAt(index))) {
+        if (index - fractionStart < 3) {
+          millis = millis * 10 + (value.charAt(index) - '0');
+        }
+        index++;
+      }
+      for (int digits = index - fractionStart; digits < 3; digits++) {
+        millis *= 10;
+      }
+    }
+    long offsetInSeconds = readOffset(value, index);
+
+    long epochSeconds = daysFromCivil(year, month, day) * ONE_DAY_IN_SECONDS
+      + hour * ONE_HOUR_IN_SECONDS + minute * ONE_MINUTE_IN_SECONDS + second - offsetInSeconds;
+    return epochSeconds * ONE_SECOND_IN_MILLISECONDS + millis;
+  }
+
+  private long readOffset(String value, int index) throws ParseException {
+    if (index == value.length()) {
+      return 0;
+    }
+    char designator = value.charAt(index);
+    if (designator == 'Z' && index == value.length() - 1) {
+      return 0;
+    }
+    if (designator != '+' && designator != '-') {
+      throw new ParseException(INVALID_TIMESTAMP + value, index);
+    }
+    int hours = readDigits(value, index + 1, 2);
+    int minutesIndex = index + 3;
+    if (minutesIndex < value.length() && value.charAt(minutesIndex) == ':') {
+      minutesIndex++;
+    }
+    int minutes = readDigits(value, minutesIndex, 2);
+    if (minutesIndex + 2 != value.length()) {
+      throw new ParseException(INVALID_TIMESTAMP + value, minutesIndex + 2);
+    }
+    long offset = hours * ONE_HOUR_IN_SECONDS + minutes * ONE_MINUTE_IN_SECONDS;
+    return designator == '-' ? -offset : offset;
+  }
+
+  private int readDigits(String value, int start, int count) throws ParseException {
+    if (start + count > value.length()) {
+      throw new ParseException(INVALID_TIMESTAMP + value, start);
+    }
+    int result = 0;
+    for (int i = start; i < start + count; i++) {
+      char character = value.charAt(i);
+      if (character < '0' || character > '9') {
+        throw new ParseException(INVALID_TIMESTAMP + value, i);
+      }
+      result = result * 10 + (character - '0');
+    }
+    return result;
+  }
+
+  private void expect(String value, int index, char expected) throws ParseException {
+    if (index >= value.length() || value.charAt(index) != expected) {
+      throw new ParseException(INVALID_TIMESTAMP + value, index);
+    }
+  }
+
+  /**
+   * Days since 1970-01-01 in the proleptic Gregorian calendar.
+   */
+  private long daysFromCivil(int year, int month, int day) {
+    long adjustedYear = month <= 2 ? year - 1 : year;
+    long era = (adjustedYear >= 0 ? adjustedYear : adjustedYear - 399) / 400;
+    long yearOfEra = adjustedYear - era * 400;
+    long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - 719468;
+  }
+}
@@ -0,0 +1,63 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+/**
+ * Clock running in the time domain of the replayed locations.
+ * <p>
+ * It is anchored to the time of the last dispatched location and advances
+ * {@link #retrieveRate()} times faster than the underlying {@link ReplayClock}.
+ * When replaying as fast as possible, time only advances with each dispatched location.
+ */
+class VirtualReplayClock implements ReplayClock {
+
+  static final float DEFAULT_RATE = 1f;
+  private static final long NOT_ANCHORED = -1L;
+  private final ReplayClock clock;
+  private float rate = DEFAULT_RATE;
+  private long virtualAnchor = NOT_ANCHORED;
+  private long realAnchor;
+
+  VirtualReplayClock(ReplayClock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public synchronized long currentTimeMillis() {
+    if (virtualAnchor == NOT_ANCHORED) {
+      return clock.currentTimeMillis();
+    }
+    if (Float.isInfinite(rate)) {
+      return virtualAnchor;
+    }
+    long realElapsed = clock.currentTimeMillis() - realAnchor;
+    return virtualAnchor + (long) (realElapsed * rate);
+  }
+
+  synchronized void anchorTo(long virtualTime) {
+    virtualAnchor = virtualTime;
+    realAnchor = clock.currentTimeMillis();
+  }
+
+  synchronized void updateRate(float rate) {
+    if (virtualAnchor != NOT_ANCHORED) {
+      anchorTo(currentTimeMillis());
+    }
+    this.rate = rate;
+  }
+
+  synchronized float retrieveRate() {
+    return rate;
+  }
+
+  /**
+   * Converts a delay in the replayed time domain to the real delay it should be scheduled with.
+   *
+   * @param virtualDelayInMillis delay between two replayed locations
+   * @return delay to wait in real time
+   */
+  synchronized long toRealDelay(long virtualDelayInMillis) {
+    if (Float.isInfinite(rate) || virtualDelayInMillis <= 0) {
+      return 0L;
+    }
+    return (long) (virtualDelayInMillis / rate);
+  }
+}
@@ -1,21 +1,32 @@
 package com.mapbox.services.android.navigation.v5.milestone;
 
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
 import com.mapbox.navigator.VoiceInstruction;
 import com.mapbox.services.android.navigation.v5.instruction.Instruction;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
+import java.util.List;
+
 /**
  * A default milestone that is added to {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation}
  * when default milestones are enabled.
  * <p>
  * Please note, this milestone has a custom trigger based on location progress along a route.  If you
  * set custom triggers, they will be ignored in favor of this logic.
+ * <p>
+ * With {@link #updateAnnouncementLeadDistance(double)}, announcements are triggered ahead of their
+ * distance along the step, so the time it takes to start playing them is accounted for.
  */
 public class VoiceInstructionMilestone extends Milestone {
 
   private static final String EMPTY_STRING = "";
+  private static final double NO_LEAD_DISTANCE = 0d;
   private String announcement = EMPTY_STRING;
   private String ssmlAnnouncement = EMPTY_STRING;
+  private volatile double announcementLeadDistance = NO_LEAD_DISTANCE;
+  private VoiceInstructions earlyVoiceInstruction;
 
   VoiceInstructionMilestone(Builder builder) {
     super(builder);
@@ -23,7 +34,10 @@ public class VoiceInstructionMilestone extends Milestone {
 
   @Override
   public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
-    return updateCurrentAnnouncement(routeProgress);
+    if (updateCurrentAnnouncement(routeProgress)) {
+      return true;
+    }
+    return updateEarlyAnnouncement(routeProgress);
   }
 
   @Override
@@ -61,6 +75,19 @@ public class VoiceInstructionMilestone extends Milestone {
     return announcement;
   }
 
+  /**
+   * Triggers announcements this many meters before their distance along the step.
+   * <p>
+   * This is usually the distance travelled at the current speed while an announcement is
+   * being prepared, so it starts playing where it's meant to.  Can be called from any thread.
+   *
+   * @param announcementLeadDistance in meters, 0 to trigger announcements at their distance
+   * @since 0.24.0
+   */
+  public void updateAnnouncementLeadDistance(double announcementLeadDistance) {
+    this.announcementLeadDistance = Math.max(NO_LEAD_DISTANCE, announcementLeadDistance);
+  }
+
   public static final class Builder extends Milestone.Builder {
 
     private Trigger.Statement trigger;
@@ -89,10 +116,59 @@ public class VoiceInstructionMilestone extends Milestone {
   private boolean updateCurrentAnnouncement(RouteProgress routeProgress) {
     VoiceInstruction currentVoiceInstruction = routeProgress.voiceInstruction();
     if (currentVoiceInstruction != null) {
+      if (isEarlyAnnouncement(currentVoiceInstruction)) {
+        earlyVoiceInstruction = null;
+        return false;
+      }
       announcement = currentVoiceInstruction.getAnnouncement();
       ssmlAnnouncement = currentVoiceInstruction.getSsmlAnnouncement();
       return true;
     }
     return false;
   }
+
+  /**
+   * The upcoming instruction of the current step is triggered once it's within the lead distance.
+   * It's remembered, so it isn't triggered again when the navigator reaches its distance.
+   */
+  private boolean updateEarlyAnnouncement(RouteProgress routeProgress) {
+    double leadDistance = announcementLeadDistance;
+    if (leadDistance <= NO_LEAD_DISTANCE) {
+      return false;
+    }
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    if (legProgress == null || legProgress.currentStepProgress() == null) {
+      return false;
+    }
+    LegStep currentStep = legProgress.currentStep();
+    List<VoiceInstructions> voiceInstructions = currentStep.voiceInstructions();
+    if (voiceInstructions == null) {
+      return false;
+    }
+    double stepDistanceRemaining = legProgress.currentStepProgress().distanceRemaining();
+    for (VoiceInstructions voiceInstruction : voiceInstructions) {
+      Double distanceAlongGeometry = voiceInstruction.distanceAlongGeometry();
+      if (distanceAlongGeometry == null || stepDistanceRemaining <= distanceAlongGeometry) {
+        continue;
+      }
+      if (stepDistanceRemaining - leadDistance > distanceAlongGeometry) {
+        // Instructions are ordered by decreasing distance, none of the next ones are within reach either
+        return false;
+      }
+      if (voiceInstruction.equals(earlyVoiceInstruction)) {
+        return false;
+      }
+      earlyVoiceInstruction = voiceInstruction;
+      announcement = voiceInstruction.announcement();
+      ssmlAnnouncement = voiceInstruction.ssmlAnnouncement();
+      return true;
+    }
+    return false;
+  }
+
+  private boolean isEarlyAnnouncement(VoiceInstruction currentVoiceInstruction) {
+    return earlyVoiceInstruction != null
+      && currentVoiceInstruction.getAnnouncement() != null
+      && currentVoiceInstruction.getAnnouncement().equals(earlyVoiceInstruction.announcement());
+  }
 }
\ No newline at end of file
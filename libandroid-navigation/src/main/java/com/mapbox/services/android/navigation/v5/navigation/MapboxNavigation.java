@@ -14,6 +14,8 @@ import com.mapbox.android.core.location.LocationEnginePriority;
 import com.mapbox.android.core.location.LocationEngineProvider;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.navigator.Navigator;
+import com.mapbox.services.android.navigation.v5.location.replay.ReplayRouteLocationEngine;
+import com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceWriter;
 import com.mapbox.services.android.navigation.v5.milestone.BannerInstructionMilestone;
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
 import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListener;
@@ -59,6 +61,7 @@ public class MapboxNavigation implements ServiceConnection {
   private DirectionsRoute directionsRoute;
   private MapboxNavigationOptions options;
   private LocationEngine locationEngine = null;
+  private ReplayTraceWriter traceWriter;
   private Set<Milestone> milestones;
   private final String accessToken;
   private Context applicationContext;
@@ -252,6 +255,19 @@ public class MapboxNavigation implements ServiceConnection {
     Timber.w("No milestone found with the specified identifier.");
   }
 
+  /**
+   * Returns the milestones currently added to navigation, including the default milestones
+   * unless {@link MapboxNavigationOptions#defaultMilestonesEnabled()} is set to false.
+   * Changes to the returned list aren't applied to navigation.
+   *
+   * @return a copy of the added milestones
+   * @since 0.24.0
+   */
+  @SuppressWarnings("WeakerAccess") // Public exposed for usage outside SDK
+  public List<Milestone> getMilestones() {
+    return new ArrayList<>(milestones);
+  }
+
   /**
    * Navigation needs an instance of location engine in order to acquire user location information
    * and handle events based off of the current information. By default, a LOST location engine is
@@ -283,6 +299,7 @@ public class MapboxNavigation implements ServiceConnection {
    */
   public void setLocationEngine(@NonNull LocationEngine locationEngine) {
     this.locationEngine = locationEngine;
+    updateNavigatorClock();
     // Setup telemetry with new engine
     navigationTelemetry.updateLocationEngine(locationEngine);
     // Notify service to get new location engine.
@@ -715,6 +732,26 @@ public class MapboxNavigation implements ServiceConnection {
     mapboxNavigator.toggleHistory(isEnabled);
   }
 
+  /**
+   * Records every raw location received from the {@link LocationEngine} into a compact binary trace,
+   * which can later be replayed with {@link ReplayRouteLocationEngine#assignBinaryTrace(java.io.File)}.
+   * <p>
+   * Only one trace is recorded at a time, a previous writer is replaced but not closed.
+   *
+   * @param traceWriter the locations are written to
+   */
+  public void startTraceRecording(@NonNull ReplayTraceWriter traceWriter) {
+    updateTraceWriter(traceWriter);
+  }
+
+  /**
+   * Stops recording raw locations. The {@link ReplayTraceWriter} passed to
+   * {@link #startTraceRecording(ReplayTraceWriter)} is not closed, as it's owned by the caller.
+   */
+  public void stopTraceRecording() {
+    updateTraceWriter(null);
+  }
+
   public String retrieveSsmlAnnouncementInstruction(int index) {
     return mapboxNavigator.retrieveVoiceInstruction(index).getSsmlAnnouncement();
   }
@@ -743,10 +780,6 @@ public class MapboxNavigation implements ServiceConnection {
     return directionsRoute;
   }
 
-  List<Milestone> getMilestones() {
-    return new ArrayList<>(milestones);
-  }
-
   MapboxNavigationOptions options() {
     return options;
   }
@@ -763,6 +796,30 @@ public class MapboxNavigation implements ServiceConnection {
     return mapboxNavigator;
   }
 
+  @Nullable
+  ReplayTraceWriter retrieveTraceWriter() {
+    return traceWriter;
+  }
+
+  /**
+   * Called when the service failed to write to the trace writer, so it isn't given to the service
+   * again when it's rebound.
+   *
+   * @param failedTraceWriter which stopped recording
+   */
+  void onTraceRecordingFailed(ReplayTraceWriter failedTraceWriter) {
+    if (traceWriter == failedTraceWriter) {
+      traceWriter = null;
+    }
+  }
+
+  private void updateTraceWriter(@Nullable ReplayTraceWriter traceWriter) {
+    this.traceWriter = traceWriter;
+    if (isServiceAvailable()) {
+      navigationService.updateTraceWriter(traceWriter);
+    }
+  }
+
   private void initializeForTest() {
     // Initialize event dispatcher and add internal listeners
     navigationEventDispatcher = new NavigationEventDispatcher();
@@ -828,6 +885,22 @@ public class MapboxNavigation implements ServiceConnection {
     locationEngine.setFastestInterval(1000);
     locationEngine.setInterval(0);
     locationEngine.activate();
+    updateNavigatorClock();
+  }
+
+  /**
+   * A {@link ReplayRouteLocationEngine} may replay faster than real time, in which case the navigator
+   * needs to follow the time domain of the replayed locations rather than the system clock.
+   */
+  private void updateNavigatorClock() {
+    if (mapboxNavigator == null) {
+      return;
+    }
+    if (locationEngine instanceof ReplayRouteLocationEngine) {
+      mapboxNavigator.updateReplayClock(((ReplayRouteLocationEngine) locationEngine).obtainReplayClock());
+    } else {
+      mapboxNavigator.updateReplayClock(null);
+    }
   }
 
   private LocationEngine obtainLocationEngine() {
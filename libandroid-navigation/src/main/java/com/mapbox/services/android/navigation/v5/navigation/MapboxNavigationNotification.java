@@ -10,6 +10,7 @@ import android.content.Intent;
 import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.os.Build;
+import android.os.SystemClock;
 import android.support.annotation.Nullable;
 import android.support.v4.app.NotificationCompat;
 import android.text.SpannableString;
@@ -33,19 +34,33 @@ import static com.mapbox.services.android.navigation.v5.utils.time.TimeFormatter
 
 /**
  * This is in charge of creating the persistent navigation session notification and updating it.
+ * <p>
+ * The notification views are kept across updates and the notification is only posted when a visible
+ * text or icon changes, with the arrival time refreshed at most every 30 seconds.
+ * {@link RemoteViews} keep every action applied to them and send all of them with each post, so they're
+ * rebuilt from the current values once enough updates have piled up.
  */
 class MapboxNavigationNotification implements NavigationNotification {
 
   private static final String END_NAVIGATION_ACTION = "com.mapbox.intent.action.END_NAVIGATION";
+  private static final long ETA_REFRESH_INTERVAL_MILLIS = 30000;
+  static final int MAX_UPDATES_BEFORE_REBUILD = 20;
+  private static final int NO_MANEUVER = 0;
   private NotificationManager notificationManager;
+  private NotificationCompat.Builder notificationBuilder;
   private Notification notification;
   private RemoteViews collapsedNotificationRemoteViews;
   private RemoteViews expandedNotificationRemoteViews;
   private MapboxNavigation mapboxNavigation;
   private SpannableString currentDistanceText;
+  private double currentDistance;
   private DistanceFormatter distanceFormatter;
   private String instructionText;
-  private int currentManeuverId;
+  private String arrivalText;
+  private long lastArrivalTimeRefresh;
+  private int currentManeuverId = NO_MANEUVER;
+  private int updatesSinceRebuild;
+  private final Calendar arrivalTime = Calendar.getInstance();
   private boolean isTwentyFourHourFormat;
   private String etaFormat;
   private final Context applicationContext;
@@ -60,7 +75,15 @@ class MapboxNavigationNotification implements NavigationNotification {
   };
 
   MapboxNavigationNotification(Context applicationContext, MapboxNavigation mapboxNavigation) {
+    this(applicationContext, mapboxNavigation,
+      (NotificationManager) applicationContext.getSystemService(Context.NOTIFICATION_SERVICE));
+  }
+
+  // Package private (no modifier) for testing purposes
+  MapboxNavigationNotification(Context applicationContext, MapboxNavigation mapboxNavigation,
+                               NotificationManager notificationManager) {
     this.applicationContext = applicationContext;
+    this.notificationManager = notificationManager;
     initialize(applicationContext, mapboxNavigation);
   }
 
@@ -88,7 +111,6 @@ class MapboxNavigationNotification implements NavigationNotification {
     this.mapboxNavigation = mapboxNavigation;
     etaFormat = applicationContext.getString(R.string.eta_format);
     initializeDistanceFormatter(applicationContext, mapboxNavigation);
-    notificationManager = (NotificationManager) applicationContext.getSystemService(Context.NOTIFICATION_SERVICE);
     isTwentyFourHourFormat = DateFormat.is24HourFormat(applicationContext);
 
     pendingOpenIntent = createPendingOpenIntent(applicationContext);
@@ -96,7 +118,9 @@ class MapboxNavigationNotification implements NavigationNotification {
 
     registerReceiver(applicationContext);
     createNotificationChannel(applicationContext);
-    notification = buildNotification(applicationContext);
+    buildRemoteViews();
+    notificationBuilder = buildNotificationBuilder(applicationContext);
+    notification = notificationBuilder.build();
   }
 
   private void initializeDistanceFormatter(Context applicationContext, MapboxNavigation mapboxNavigation) {
@@ -122,7 +146,7 @@ class MapboxNavigationNotification implements NavigationNotification {
     }
   }
 
-  private Notification buildNotification(Context applicationContext) {
+  private NotificationCompat.Builder buildNotificationBuilder(Context applicationContext) {
     String channelId = NAVIGATION_NOTIFICATION_CHANNEL;
     NotificationCompat.Builder builder = new NotificationCompat.Builder(applicationContext, channelId)
       .setCategory(NotificationCompat.CATEGORY_SERVICE)
@@ -135,7 +159,7 @@ class MapboxNavigationNotification implements NavigationNotification {
     if (pendingOpenIntent != null) {
       builder.setContentIntent(pendingOpenIntent);
     }
-    return builder.build();
+    return builder;
   }
 
   private void buildRemoteViews() {
@@ -169,19 +193,47 @@ class MapboxNavigationNotification implements NavigationNotification {
   }
 
   private void updateNotificationViews(RouteProgress routeProgress) {
-    buildRemoteViews();
-    updateInstructionText(routeProgress.currentLegProgress().currentStep());
-    updateDistanceText(routeProgress);
-    updateArrivalTime(routeProgress);
+    boolean isInstructionUpdated = updateInstructionText(routeProgress.currentLegProgress().currentStep());
+    boolean isUpdated = isInstructionUpdated;
+    isUpdated |= updateDistanceText(routeProgress);
+    isUpdated |= updateArrivalTime(routeProgress, isInstructionUpdated);
     LegStep step = routeProgress.currentLegProgress().upComingStep() != null
       ? routeProgress.currentLegProgress().upComingStep()
       : routeProgress.currentLegProgress().currentStep();
-    updateManeuverImage(step);
+    isUpdated |= updateManeuverImage(step);
+    if (!isUpdated) {
+      return;
+    }
 
-    notification = buildNotification(applicationContext);
+    if (++updatesSinceRebuild > MAX_UPDATES_BEFORE_REBUILD) {
+      rebuildRemoteViews();
+    }
+    notification = notificationBuilder.build();
     notificationManager.notify(NAVIGATION_NOTIFICATION_ID, notification);
   }
 
+  private void rebuildRemoteViews() {
+    updatesSinceRebuild = 0;
+    buildRemoteViews();
+    setTextViewText(R.id.notificationInstructionText, instructionText);
+    setTextViewText(R.id.notificationDistanceText, currentDistanceText);
+    setTextViewText(R.id.notificationArrivalText, arrivalText);
+    if (currentManeuverId != NO_MANEUVER) {
+      collapsedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, currentManeuverId);
+      expandedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, currentManeuverId);
+    }
+    notificationBuilder
+      .setCustomContentView(collapsedNotificationRemoteViews)
+      .setCustomBigContentView(expandedNotificationRemoteViews);
+  }
+
+  private void setTextViewText(int viewId, CharSequence text) {
+    if (text != null) {
+      collapsedNotificationRemoteViews.setTextViewText(viewId, text);
+      expandedNotificationRemoteViews.setTextViewText(viewId, text);
+    }
+  }
+
   private void unregisterReceiver(Context applicationContext) {
     if (applicationContext != null) {
       applicationContext.unregisterReceiver(endNavigationBtnReceiver);
@@ -191,12 +243,13 @@ class MapboxNavigationNotification implements NavigationNotification {
     }
   }
 
-  private void updateInstructionText(LegStep step) {
+  private boolean updateInstructionText(LegStep step) {
     if (hasInstructions(step) && (instructionText == null || newInstructionText(step))) {
       instructionText = step.bannerInstructions().get(0).primary().text();
-      collapsedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
-      expandedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
+      setTextViewText(R.id.notificationInstructionText, instructionText);
+      return true;
     }
+    return false;
   }
 
   private boolean hasInstructions(LegStep step) {
@@ -207,43 +260,51 @@ class MapboxNavigationNotification implements NavigationNotification {
     return !instructionText.equals(step.bannerInstructions().get(0).primary().text());
   }
 
-  private void updateDistanceText(RouteProgress routeProgress) {
-    if (currentDistanceText == null || newDistanceText(routeProgress)) {
-      currentDistanceText = distanceFormatter.formatDistance(
-        routeProgress.currentLegProgress().currentStepProgress().distanceRemaining());
-      collapsedNotificationRemoteViews.setTextViewText(R.id.notificationDistanceText, currentDistanceText);
-      expandedNotificationRemoteViews.setTextViewText(R.id.notificationDistanceText, currentDistanceText);
+  private boolean updateDistanceText(RouteProgress routeProgress) {
+    double distanceRemaining = routeProgress.currentLegProgress().currentStepProgress().distanceRemaining();
+    if (currentDistanceText != null && distanceFormatter.formatsToSameDistance(currentDistance, distanceRemaining)) {
+      return false;
     }
+    currentDistance = distanceRemaining;
+    currentDistanceText = distanceFormatter.formatDistance(distanceRemaining);
+    setTextViewText(R.id.notificationDistanceText, currentDistanceText);
+    return true;
   }
 
-  private boolean newDistanceText(RouteProgress routeProgress) {
-    return currentDistanceText != null
-      && !currentDistanceText.toString().equals(distanceFormatter.formatDistance(
-      routeProgress.currentLegProgress().currentStepProgress().distanceRemaining()).toString());
-  }
-
-  private void updateArrivalTime(RouteProgress routeProgress) {
+  /**
+   * The arrival time changes by the minute, so it's only formatted again after the refresh interval,
+   * or right away when the step changes.
+   */
+  private boolean updateArrivalTime(RouteProgress routeProgress, boolean isStepChanged) {
+    long now = SystemClock.elapsedRealtime();
+    boolean isRefreshDue = now - lastArrivalTimeRefresh >= ETA_REFRESH_INTERVAL_MILLIS;
+    if (arrivalText != null && !isRefreshDue && !isStepChanged) {
+      return false;
+    }
+    lastArrivalTimeRefresh = now;
     MapboxNavigationOptions options = mapboxNavigation.options();
-    Calendar time = Calendar.getInstance();
+    arrivalTime.setTimeInMillis(System.currentTimeMillis());
     double durationRemaining = routeProgress.durationRemaining();
     int timeFormatType = options.timeFormatType();
-    String arrivalTime = formatTime(time, durationRemaining, timeFormatType, isTwentyFourHourFormat);
-    String formattedArrivalTime = String.format(etaFormat, arrivalTime);
-    collapsedNotificationRemoteViews.setTextViewText(R.id.notificationArrivalText, formattedArrivalTime);
-    expandedNotificationRemoteViews.setTextViewText(R.id.notificationArrivalText, formattedArrivalTime);
-  }
-
-  private void updateManeuverImage(LegStep step) {
-    if (newManeuverId(step)) {
-      int maneuverResource = ManeuverUtils.getManeuverResource(step);
-      currentManeuverId = maneuverResource;
-      collapsedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
-      expandedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
+    String formattedTime = formatTime(arrivalTime, durationRemaining, timeFormatType, isTwentyFourHourFormat);
+    String formattedArrivalTime = String.format(etaFormat, formattedTime);
+    if (formattedArrivalTime.equals(arrivalText)) {
+      return false;
     }
+    arrivalText = formattedArrivalTime;
+    setTextViewText(R.id.notificationArrivalText, arrivalText);
+    return true;
   }
 
-  private boolean newManeuverId(LegStep step) {
-    return currentManeuverId != ManeuverUtils.getManeuverResource(step);
+  private boolean updateManeuverImage(LegStep step) {
+    int maneuverResource = ManeuverUtils.getManeuverResource(step);
+    if (currentManeuverId == maneuverResource) {
+      return false;
+    }
+    currentManeuverId = maneuverResource;
+    collapsedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
+    expandedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
+    return true;
   }
 
   private void onEndNavigationBtnClick() {
@@ -1,18 +1,21 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.location.Location;
+import android.support.annotation.Nullable;
 
 import com.mapbox.geojson.Point;
 import com.mapbox.navigator.FixLocation;
 import com.mapbox.navigator.NavigationStatus;
 import com.mapbox.navigator.Navigator;
 import com.mapbox.navigator.VoiceInstruction;
+import com.mapbox.services.android.navigation.v5.location.replay.ReplayClock;
 
 import java.util.Date;
 
 class MapboxNavigator {
 
   private final Navigator navigator;
+  private ReplayClock replayClock;
 
   MapboxNavigator(Navigator navigator) {
     this.navigator = navigator;
@@ -23,6 +26,23 @@ class MapboxNavigator {
     navigator.setRoute(routeJson, 0, 0);
   }
 
+  /**
+   * When replaying locations (possibly faster than real time), the navigator follows the
+   * {@link ReplayClock} and the replayed location timestamps instead of the system clock.
+   *
+   * @param replayClock clock of the replay time domain, null to use the system clock
+   */
+  synchronized void updateReplayClock(@Nullable ReplayClock replayClock) {
+    this.replayClock = replayClock;
+  }
+
+  synchronized Date retrieveCurrentDate() {
+    if (replayClock == null) {
+      return new Date();
+    }
+    return new Date(replayClock.currentTimeMillis());
+  }
+
   synchronized NavigationStatus retrieveStatus(Date date, long lagInMilliseconds) {
     // We ask for a point slightly in the future to account for lag in location services
     if (lagInMilliseconds > 0) {
@@ -65,8 +85,8 @@ class MapboxNavigator {
     return navigator.getVoiceInstruction(index);
   }
 
-  FixLocation buildFixLocationFromLocation(Location location) {
-    Date time = new Date();
+  synchronized FixLocation buildFixLocationFromLocation(Location location) {
+    Date time = replayClock == null ? new Date() : new Date(location.getTime());
     Point rawPoint = Point.fromLngLat(location.getLongitude(), location.getLatitude());
     Float speed = checkFor(location.getSpeed());
     Float bearing = checkFor(location.getBearing());
@@ -2,18 +2,28 @@ package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.annotation.SuppressLint;
 import android.location.Location;
+import android.support.annotation.Nullable;
 
 import com.mapbox.android.core.location.LocationEngine;
 import com.mapbox.android.core.location.LocationEngineListener;
+import com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceWriter;
+
+import java.io.IOException;
+
+import timber.log.Timber;
 
 class NavigationLocationEngineListener implements LocationEngineListener {
 
   private final RouteProcessorBackgroundThread thread;
   private final LocationEngine locationEngine;
+  private final MapboxNavigation mapboxNavigation;
+  private ReplayTraceWriter traceWriter;
 
-  NavigationLocationEngineListener(RouteProcessorBackgroundThread thread, LocationEngine locationEngine) {
+  NavigationLocationEngineListener(RouteProcessorBackgroundThread thread, LocationEngine locationEngine,
+                                   MapboxNavigation mapboxNavigation) {
     this.thread = thread;
     this.locationEngine = locationEngine;
+    this.mapboxNavigation = mapboxNavigation;
   }
 
   @Override
@@ -27,6 +37,24 @@ class NavigationLocationEngineListener implements LocationEngineListener {
   public void onLocationChanged(Location location) {
     if (location != null) {
       thread.updateRawLocation(location);
+      recordLocation(location);
+    }
+  }
+
+  void updateTraceWriter(@Nullable ReplayTraceWriter traceWriter) {
+    this.traceWriter = traceWriter;
+  }
+
+  private void recordLocation(Location location) {
+    if (traceWriter == null) {
+      return;
+    }
+    try {
+      traceWriter.write(location);
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to record location, trace recording stopped.");
+      mapboxNavigation.onTraceRecordingFailed(traceWriter);
+      traceWriter = null;
     }
   }
 
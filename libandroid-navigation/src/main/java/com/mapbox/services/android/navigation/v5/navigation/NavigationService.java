@@ -10,6 +10,7 @@ import android.support.annotation.Nullable;
 
 import com.mapbox.android.core.location.LocationEngine;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceWriter;
 import com.mapbox.services.android.navigation.v5.navigation.notification.NavigationNotification;
 import com.mapbox.services.android.navigation.v5.route.FasterRoute;
 import com.mapbox.services.android.navigation.v5.route.RouteFetcher;
@@ -32,6 +33,7 @@ public class NavigationService extends Service {
   private final IBinder localBinder = new LocalBinder();
   private RouteProcessorBackgroundThread thread;
   private NavigationLocationEngineUpdater locationUpdater;
+  private NavigationLocationEngineListener locationEngineListener;
   private RouteFetcher routeFetcher;
   private NavigationNotificationProvider notificationProvider;
 
@@ -86,6 +88,18 @@ public class NavigationService extends Service {
     locationUpdater.updateLocationEngine(locationEngine);
   }
 
+  /**
+   * Called with {@link MapboxNavigation#startTraceRecording(ReplayTraceWriter)}.
+   * Updates this service with the writer raw locations are recorded to.
+   *
+   * @param traceWriter to record to, null to stop recording
+   */
+  void updateTraceWriter(@Nullable ReplayTraceWriter traceWriter) {
+    if (locationEngineListener != null) {
+      locationEngineListener.updateTraceWriter(traceWriter);
+    }
+  }
+
   private void initialize(MapboxNavigation mapboxNavigation) {
     NavigationEventDispatcher dispatcher = mapboxNavigation.getEventDispatcher();
     String accessToken = mapboxNavigation.obtainAccessToken();
@@ -119,8 +133,9 @@ public class NavigationService extends Service {
 
   private void initializeLocationProvider(MapboxNavigation mapboxNavigation) {
     LocationEngine locationEngine = mapboxNavigation.getLocationEngine();
-    NavigationLocationEngineListener listener = new NavigationLocationEngineListener(thread, locationEngine);
-    locationUpdater = new NavigationLocationEngineUpdater(locationEngine, listener);
+    locationEngineListener = new NavigationLocationEngineListener(thread, locationEngine, mapboxNavigation);
+    locationEngineListener.updateTraceWriter(mapboxNavigation.retrieveTraceWriter());
+    locationUpdater = new NavigationLocationEngineUpdater(locationEngine, locationEngineListener);
   }
 
   private void startForegroundNotification(NavigationNotification navigationNotification) {
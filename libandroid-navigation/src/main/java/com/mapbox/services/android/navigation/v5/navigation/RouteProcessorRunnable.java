@@ -14,7 +14,6 @@ import com.mapbox.services.android.navigation.v5.snap.Snap;
 import com.mapbox.services.android.navigation.v5.snap.SnapToRoute;
 
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 class RouteProcessorRunnable implements Runnable {
@@ -53,7 +52,7 @@ class RouteProcessorRunnable implements Runnable {
     MapboxNavigationOptions options = navigation.options();
     DirectionsRoute route = navigation.getRoute();
 
-    NavigationStatus status = mapboxNavigator.retrieveStatus(new Date(),
+    NavigationStatus status = mapboxNavigator.retrieveStatus(mapboxNavigator.retrieveCurrentDate(),
       options.navigationLocationEngineIntervalLagInMilliseconds());
     RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(status, route);
 
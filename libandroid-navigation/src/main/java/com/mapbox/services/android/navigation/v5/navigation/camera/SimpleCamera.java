@@ -32,12 +32,13 @@ public class SimpleCamera extends Camera {
     return DEFAULT_ZOOM;
   }
 
+  /**
+   * The route geometry is only decoded when the route changes, so the same list is returned for
+   * every overview of a route.
+   */
   @Override
   public List<Point> overview(RouteInformation routeInformation) {
-    boolean invalidCoordinates = routeCoordinates == null || routeCoordinates.isEmpty();
-    if (invalidCoordinates) {
-      buildRouteCoordinatesFromRouteData(routeInformation);
-    }
+    buildRouteCoordinatesFromRouteData(routeInformation);
     return routeCoordinates;
   }
 
@@ -50,7 +51,7 @@ public class SimpleCamera extends Camera {
   }
 
   private void setupLineStringAndBearing(DirectionsRoute route) {
-    if (route.equals(initialRoute)) {
+    if (route == initialRoute) {
       return; //no need to recalculate these values
     }
     initialRoute = route;
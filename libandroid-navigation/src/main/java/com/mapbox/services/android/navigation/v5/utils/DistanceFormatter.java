@@ -6,6 +6,7 @@ import android.location.Location;
 import android.support.annotation.NonNull;
 import android.text.SpannableString;
 import android.text.Spanned;
+import android.text.SpannedString;
 import android.text.style.RelativeSizeSpan;
 import android.text.style.StyleSpan;
 
@@ -20,6 +21,7 @@ import com.mapbox.turf.TurfMeasurement;
 
 import java.text.NumberFormat;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -28,13 +30,41 @@ import static com.mapbox.turf.TurfConstants.UNIT_KILOMETERS;
 import static com.mapbox.turf.TurfConstants.UNIT_METERS;
 import static com.mapbox.turf.TurfConstants.UNIT_MILES;
 
+/**
+ * Formats distances for display.
+ * <p>
+ * A distance is first rounded to what's displayed, so distances that look the same can be compared
+ * with {@link #formatsToSameDistance(double, double)} without formatting them, and the formatted
+ * text of recently displayed distances is copied instead of being built again.
+ * <p>
+ * The formatted distances are shared by all threads using this formatter, so they're accessed while
+ * holding their lock.
+ */
 public class DistanceFormatter {
 
   private static final int LARGE_UNIT_THRESHOLD = 10;
   private static final int SMALL_UNIT_THRESHOLD = 401;
+  private static final int TENTHS = 10;
+  private static final int MAX_FORMATTED_DISTANCES = 32;
+  private static final String SPACE = " ";
+  // Displayed distances are rounded either in the small unit, to tenths of the large unit or to the large unit
+  private static final int SMALL_UNIT_KIND = 0;
+  private static final int LARGE_UNIT_TENTHS_KIND = 1;
+  private static final int LARGE_UNIT_KIND = 2;
+  private static final int UNIT_KINDS = 3;
   @NavigationConstants.RoundingIncrement
   private final int roundingIncrement;
   private final Map<String, String> unitStrings = new HashMap<>();
+  // Spans don't hold any state, so the same instances are shared by all formatted distances
+  private final StyleSpan boldSpan = new StyleSpan(Typeface.BOLD);
+  private final RelativeSizeSpan unitSizeSpan = new RelativeSizeSpan(0.65f);
+  private final Map<Long, SpannedString> formattedDistances =
+    new LinkedHashMap<Long, SpannedString>(MAX_FORMATTED_DISTANCES, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, SpannedString> eldest) {
+        return size() > MAX_FORMATTED_DISTANCES;
+      }
+    };
   private final NumberFormat numberFormat;
   private final String largeUnit;
   private final String smallUnit;
@@ -84,27 +114,37 @@ public class DistanceFormatter {
 
   /**
    * Returns a formatted SpannableString with bold and size formatting. I.e., "10 mi", "350 m"
+   * <p>
+   * Each call returns a new copy, which can be modified by the caller.
    *
    * @param distance in meters
    * @return SpannableString representation which has a bolded number and units which have a
    * relative size of .65 times the size of the number
    */
   public SpannableString formatDistance(double distance) {
-    double distanceSmallUnit = TurfConversion.convertLength(distance, TurfConstants.UNIT_METERS, smallUnit);
-    double distanceLargeUnit = TurfConversion.convertLength(distance, TurfConstants.UNIT_METERS, largeUnit);
-
-    // If the distance is greater than 10 miles/kilometers, then round to nearest mile/kilometer
-    if (distanceLargeUnit > LARGE_UNIT_THRESHOLD) {
-      return getDistanceString(roundToDecimalPlace(distanceLargeUnit, 0), largeUnit);
-      // If the distance is less than 401 feet/meters, round by fifty feet/meters
-    } else if (distanceSmallUnit < SMALL_UNIT_THRESHOLD) {
-      return getDistanceString(roundToClosestIncrement(distanceSmallUnit), smallUnit);
-      // If the distance is between 401 feet/meters and 10 miles/kilometers, then round to one decimal place
-    } else {
-      return getDistanceString(roundToDecimalPlace(distanceLargeUnit, 1), largeUnit);
+    long displayedDistance = roundToDisplayedDistance(distance);
+    synchronized (formattedDistances) {
+      SpannedString formattedDistance = formattedDistances.get(displayedDistance);
+      if (formattedDistance == null) {
+        formattedDistance = new SpannedString(buildDistanceString(displayedDistance));
+        formattedDistances.put(displayedDistance, formattedDistance);
+      }
+      return new SpannableString(formattedDistance);
     }
   }
 
+  /**
+   * Checks if two distances would be displayed the same, without formatting them.
+   *
+   * @param distance      in meters
+   * @param otherDistance in meters
+   * @return true if both distances are formatted to the same text, false otherwise
+   * @since 0.24.0
+   */
+  public boolean formatsToSameDistance(double distance, double otherDistance) {
+    return roundToDisplayedDistance(distance) == roundToDisplayedDistance(otherDistance);
+  }
+
   /**
    * Method that can be used to check if an instance of {@link DistanceFormatter}
    * needs to be updated based on the passed language / unitType.
@@ -118,6 +158,33 @@ public class DistanceFormatter {
       || !(this.roundingIncrement == roundingIncrement);
   }
 
+  /**
+   * Rounds the distance to the value displayed, encoded along with the kind of unit it's displayed in.
+   *
+   * @param distance in meters
+   * @return rounded distance multiplied by the number of unit kinds, plus the unit kind
+   */
+  private long roundToDisplayedDistance(double distance) {
+    double distanceSmallUnit = TurfConversion.convertLength(distance, TurfConstants.UNIT_METERS, smallUnit);
+    double distanceLargeUnit = TurfConversion.convertLength(distance, TurfConstants.UNIT_METERS, largeUnit);
+
+    // If the distance is greater than 10 miles/kilometers, then round to nearest mile/kilometer
+    if (distanceLargeUnit > LARGE_UNIT_THRESHOLD) {
+      return Math.round(distanceLargeUnit) * UNIT_KINDS + LARGE_UNIT_KIND;
+      // If the distance is less than 401 feet/meters, round by fifty feet/meters
+    } else if (distanceSmallUnit < SMALL_UNIT_THRESHOLD) {
+      return roundToClosestIncrement(distanceSmallUnit) * UNIT_KINDS + SMALL_UNIT_KIND;
+      // If the distance is between 401 feet/meters and 10 miles/kilometers, then round to one decimal place
+    } else {
+      long tenths = Math.round(distanceLargeUnit * TENTHS);
+      // Whole numbers are displayed without a decimal place, the same as when rounded to the large unit
+      if (tenths % TENTHS == 0) {
+        return tenths / TENTHS * UNIT_KINDS + LARGE_UNIT_KIND;
+      }
+      return tenths * UNIT_KINDS + LARGE_UNIT_TENTHS_KIND;
+    }
+  }
+
   /**
    * Returns number rounded to closest specified rounding increment, unless the number is less than
    * the rounding increment, then the rounding increment is returned
@@ -125,20 +192,32 @@ public class DistanceFormatter {
    * @param distance to round to closest specified rounding increment
    * @return number rounded to closest rounding increment, or rounding increment if distance is less
    */
-  private String roundToClosestIncrement(double distance) {
+  private int roundToClosestIncrement(double distance) {
     int roundedNumber = ((int) Math.round(distance)) / roundingIncrement * roundingIncrement;
 
-    return String.valueOf(roundedNumber < roundingIncrement ? roundingIncrement : roundedNumber);
+    return roundedNumber < roundingIncrement ? roundingIncrement : roundedNumber;
+  }
+
+  private SpannableString buildDistanceString(long displayedDistance) {
+    long roundedDistance = displayedDistance / UNIT_KINDS;
+    switch ((int) (displayedDistance % UNIT_KINDS)) {
+      case LARGE_UNIT_KIND:
+        return getDistanceString(formatToDecimalPlace(roundedDistance, 0), largeUnit);
+      case LARGE_UNIT_TENTHS_KIND:
+        return getDistanceString(formatToDecimalPlace((double) roundedDistance / TENTHS, 1), largeUnit);
+      default:
+        return getDistanceString(String.valueOf(roundedDistance), smallUnit);
+    }
   }
 
   /**
-   * Rounds given number to the given decimal place
+   * Formats the given number, already rounded, to the given decimal place
    *
-   * @param distance     to round
-   * @param decimalPlace number of decimal places to round
-   * @return distance rounded to given decimal places
+   * @param distance     to format
+   * @param decimalPlace number of decimal places to format
+   * @return distance formatted to given decimal places
    */
-  private String roundToDecimalPlace(double distance, int decimalPlace) {
+  private String formatToDecimalPlace(double distance, int decimalPlace) {
     numberFormat.setMaximumFractionDigits(decimalPlace);
 
     return numberFormat.format(distance);
@@ -153,10 +232,10 @@ public class DistanceFormatter {
    * @return String with bolded distance and shrunken units
    */
   private SpannableString getDistanceString(String distance, String unit) {
-    SpannableString spannableString = new SpannableString(String.format("%s %s", distance, unitStrings.get(unit)));
+    SpannableString spannableString = new SpannableString(distance + SPACE + unitStrings.get(unit));
 
-    spannableString.setSpan(new StyleSpan(Typeface.BOLD), 0, distance.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-    spannableString.setSpan(new RelativeSizeSpan(0.65f), distance.length() + 1,
+    spannableString.setSpan(boldSpan, 0, distance.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+    spannableString.setSpan(unitSizeSpan, distance.length() + 1,
       spannableString.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
 
     return spannableString;
@@ -0,0 +1,104 @@
+package com.mapbox.services.android.navigation.v5.utils.abbreviation;
+
+/**
+ * Replaces whole words with their abbreviation in a single pass.
+ * <p>
+ * Words are matched the same way as a case insensitive <tt>\b...\b</tt> regular expression: runs of
+ * letters, digits and underscores, with ASCII case folding.  Each word is walked down the trie one
+ * character at a time, so nothing is allocated unless a word is replaced.
+ */
+final class AbbreviationTrie {
+
+  private static final int ALPHABET_SIZE = 26;
+
+  private final Node root = new Node();
+
+  AbbreviationTrie(AbbreviationArray abbreviations) {
+    for (int i = 0; i < abbreviations.size(); i++) {
+      AbbreviationArray.Abbreviation abbreviation = abbreviations.valueAt(i);
+      add(abbreviation.string, abbreviation.abbreviatedString);
+    }
+  }
+
+  String abbreviate(String input) {
+    StringBuilder abbreviated = null;
+    int copiedUntil = 0;
+    int length = input.length();
+    int index = 0;
+    while (index < length) {
+      if (!isWordCharacter(input.charAt(index))) {
+        index++;
+        continue;
+      }
+      int wordStart = index;
+      Node node = root;
+      while (index < length && isWordCharacter(input.charAt(index))) {
+        if (node != null) {
+          node = node.next(input.charAt(index));
+        }
+        index++;
+      }
+      if (node != null && node.abbreviation != null) {
+        if (abbreviated == null) {
+          abbreviated = new StringBuilder(length);
+        }
+        abbreviated.append(input, copiedUntil, wordStart).append(node.abbreviation);
+        copiedUntil = index;
+      }
+    }
+    if (abbreviated == null) {
+      return input;
+    }
+    return abbreviated.append(input, copiedUntil, length).toString();
+  }
+
+  /**
+   * The first abbreviation added for a word wins, like replacing them one after the other would.
+   */
+  private void add(String word, String abbreviation) {
+    Node node = root;
+    for (int i = 0; i < word.length(); i++) {
+      int letter = toLetterIndex(word.charAt(i));
+      if (letter < 0) {
+        throw new IllegalArgumentException("Abbreviated words can only contain ASCII letters: " + word);
+      }
+      if (node.children[letter] == null) {
+        node.children[letter] = new Node();
+      }
+      node = node.children[letter];
+    }
+    if (node.abbreviation == null) {
+      node.abbreviation = abbreviation;
+    }
+  }
+
+  /**
+   * Same word characters as the <tt>\b</tt> boundary of {@link java.util.regex.Pattern}.
+   */
+  private static boolean isWordCharacter(char character) {
+    return Character.isLetterOrDigit(character)
+      || character == '_'
+      || Character.getType(character) == Character.NON_SPACING_MARK;
+  }
+
+  private static int toLetterIndex(char character) {
+    if (character >= 'a' && character <= 'z') {
+      return character - 'a';
+    }
+    if (character >= 'A' && character <= 'Z') {
+      return character - 'A';
+    }
+    return -1;
+  }
+
+  private static class Node {
+
+    private final Node[] children = new Node[ALPHABET_SIZE];
+    private String abbreviation;
+
+    Node next(char character) {
+      int letter = toLetterIndex(character);
+      return letter < 0 ? null : children[letter];
+    }
+  }
+}
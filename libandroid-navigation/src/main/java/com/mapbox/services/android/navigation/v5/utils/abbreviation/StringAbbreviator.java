@@ -1,34 +1,42 @@
 package com.mapbox.services.android.navigation.v5.utils.abbreviation;
 
 import android.text.TextUtils;
+import android.util.LruCache;
+
+import java.util.regex.Pattern;
 
 public class StringAbbreviator {
 
-  private static final String REGEX_IGNORE_CASE_START = "(?i)\\b";
-  private static final String REGEX_IGNORE_CASE_END = "\\b";
-  private static final String REGEX_COLON_SEMICOLON_COMMA = "[:;,]";
+  private static final Pattern COLON_SEMICOLON_COMMA = Pattern.compile("[:;,]");
+  private static final String SLASH = "/";
+  private static final int MIN_LENGTH_TO_ABBREVIATE = 25;
+  private static final int MAX_ABBREVIATED_NAMES = 128;
+  // Built once, the abbreviations don't depend on the locale
+  private static final AbbreviationTrie ABBREVIATIONS = new AbbreviationTrie(new AbbreviationArray());
+  // Road names repeat across banners, notifications and instruction lists
+  private static final LruCache<String, String> ABBREVIATED_NAMES = new LruCache<>(MAX_ABBREVIATED_NAMES);
 
   public static String abbreviate(String inputStr) {
     if (!TextUtils.isEmpty(inputStr)) {
-      if (inputStr.length() < 25) {
+      if (inputStr.length() < MIN_LENGTH_TO_ABBREVIATE) {
         return inputStr;
       }
 
-      AbbreviationArray abbreviations = new AbbreviationArray();
-      for (int i = 0; i < abbreviations.size(); i++) {
-        AbbreviationArray.Abbreviation abbv = abbreviations.get(i);
-        inputStr = inputStr.replaceAll(REGEX_IGNORE_CASE_START + abbv.string + REGEX_IGNORE_CASE_END,
-          abbv.abbreviatedString);
+      String abbreviated = ABBREVIATED_NAMES.get(inputStr);
+      if (abbreviated == null) {
+        abbreviated = ABBREVIATIONS.abbreviate(inputStr);
+        ABBREVIATED_NAMES.put(inputStr, abbreviated);
       }
+      return abbreviated;
     }
     return inputStr;
   }
 
   public static String deliminator(String inputStr) {
-    return inputStr.replaceAll(REGEX_COLON_SEMICOLON_COMMA, "/");
+    return COLON_SEMICOLON_COMMA.matcher(inputStr).replaceAll(SLASH);
   }
 
   public static String[] splitter(String inputStr) {
-    return inputStr.split(REGEX_COLON_SEMICOLON_COMMA);
+    return COLON_SEMICOLON_COMMA.split(inputStr);
   }
-}
\ No newline at end of file
+}
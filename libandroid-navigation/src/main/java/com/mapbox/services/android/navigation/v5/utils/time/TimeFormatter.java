@@ -15,23 +15,92 @@ import com.mapbox.services.android.navigation.v5.utils.span.TextSpanItem;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import timber.log.Timber;
 
+/**
+ * Formats arrival times and durations for display.
+ * <p>
+ * Durations are displayed by the minute, so the formatted text of recently displayed durations is
+ * reused instead of being built again, and durations that look the same can be compared with
+ * {@link #formatsToSameTimeRemaining(double, double)} without formatting them.
+ */
 public class TimeFormatter {
 
   private static final String TIME_STRING_FORMAT = " %s ";
+  private static final int HALF_MINUTE_IN_SECONDS = 30;
+  private static final int MAX_FORMATTED_TIMES = 16;
+  private static final int DAYS_SHIFT = 16;
+  private static final int HOURS_SHIFT = 8;
+  // The chains don't hold any state once set up, so they're shared by all calls
+  private static final TimeFormatResolver TWELVE_HOUR_DEVICE_CHAIN = new TimeFormattingChain().setup(false);
+  private static final TimeFormatResolver TWENTY_FOUR_HOUR_DEVICE_CHAIN = new TimeFormattingChain().setup(true);
+  private static final Map<Long, SpannableStringBuilder> FORMATTED_TIMES_REMAINING =
+    new LinkedHashMap<Long, SpannableStringBuilder>(MAX_FORMATTED_TIMES, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, SpannableStringBuilder> eldest) {
+        return size() > MAX_FORMATTED_TIMES;
+      }
+    };
+  private static String formattedHourString;
+  private static String formattedMinuteString;
 
   public static String formatTime(Calendar time, double routeDuration, @NavigationTimeFormat.Type int type,
                                   boolean isDeviceTwentyFourHourFormat) {
     time.add(Calendar.SECOND, (int) routeDuration);
-    TimeFormattingChain chain = new TimeFormattingChain();
-    return chain.setup(isDeviceTwentyFourHourFormat).obtainTimeFormatted(type, time);
+    TimeFormatResolver chain = isDeviceTwentyFourHourFormat ? TWENTY_FOUR_HOUR_DEVICE_CHAIN : TWELVE_HOUR_DEVICE_CHAIN;
+    return chain.obtainTimeFormatted(type, time);
   }
 
+  /**
+   * Formats the duration in days, hours and minutes, rounded to the closest minute.
+   * <p>
+   * Durations which are displayed the same return the same instance, which shouldn't be modified.
+   *
+   * @param context       for the localized units
+   * @param routeDuration in seconds
+   * @return bolded numbers followed by their units
+   */
   public static SpannableStringBuilder formatTimeRemaining(Context context, double routeDuration) {
+    long displayedTime = roundToDisplayedTime(routeDuration);
+    String hourString = context.getString(R.string.hr);
+    String minuteString = context.getString(R.string.min);
+    synchronized (FORMATTED_TIMES_REMAINING) {
+      // Units are only localized again when the locale changes
+      if (!isSameString(minuteString, formattedMinuteString) || !isSameString(hourString, formattedHourString)) {
+        FORMATTED_TIMES_REMAINING.clear();
+        formattedHourString = hourString;
+        formattedMinuteString = minuteString;
+      }
+      SpannableStringBuilder formattedTime = FORMATTED_TIMES_REMAINING.get(displayedTime);
+      if (formattedTime == null) {
+        formattedTime = buildTimeRemaining(context, displayedTime);
+        FORMATTED_TIMES_REMAINING.put(displayedTime, formattedTime);
+      }
+      return formattedTime;
+    }
+  }
+
+  /**
+   * Checks if two durations would be displayed the same, without formatting them.
+   *
+   * @param routeDuration      in seconds
+   * @param otherRouteDuration in seconds
+   * @return true if both durations are formatted to the same text, false otherwise
+   * @since 0.24.0
+   */
+  public static boolean formatsToSameTimeRemaining(double routeDuration, double otherRouteDuration) {
+    return roundToDisplayedTime(routeDuration) == roundToDisplayedTime(otherRouteDuration);
+  }
+
+  /**
+   * @return the displayed days, hours and minutes packed in a single value
+   */
+  private static long roundToDisplayedTime(double routeDuration) {
     long seconds = (long) routeDuration;
 
     if (seconds < 0) {
@@ -46,9 +115,20 @@ public class TimeFormatter {
     long minutes = TimeUnit.SECONDS.toMinutes(seconds);
     seconds -= TimeUnit.MINUTES.toSeconds(minutes);
 
-    if (seconds >= 30) {
+    if (seconds >= HALF_MINUTE_IN_SECONDS) {
       minutes = minutes + 1;
     }
+    return (days << DAYS_SHIFT) | (hours << HOURS_SHIFT) | minutes;
+  }
+
+  private static boolean isSameString(String string, String otherString) {
+    return string == null ? otherString == null : string.equals(otherString);
+  }
+
+  private static SpannableStringBuilder buildTimeRemaining(Context context, long displayedTime) {
+    long days = displayedTime >>> DAYS_SHIFT;
+    long hours = (displayedTime >>> HOURS_SHIFT) & ((1 << (DAYS_SHIFT - HOURS_SHIFT)) - 1);
+    long minutes = displayedTime & ((1 << HOURS_SHIFT) - 1);
 
     List<SpanItem> textSpanItems = new ArrayList<>();
     Resources resources = context.getResources();
@@ -0,0 +1,90 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import com.google.gson.GsonBuilder;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+@RunWith(RobolectricTestRunner.class)
+public class JsonLocationReaderTest {
+
+  private static final double DELTA = 1e-15;
+  private static final String REROUTE_JSON = "reroute.json";
+
+  @Test
+  public void nextLocation_readsFirstLocation() throws IOException {
+    JsonLocationReader reader = new JsonLocationReader(buildInputStream(REROUTE_JSON));
+
+    Location firstLocation = reader.nextLocation();
+
+    assertEquals(11.579233823791801, firstLocation.getLongitude(), DELTA);
+    assertEquals(48.1776966801359, firstLocation.getLatitude(), DELTA);
+    assertEquals(40f, firstLocation.getAccuracy(), DELTA);
+    assertEquals((float) 277.0355517432898, firstLocation.getBearing(), DELTA);
+    assertEquals((float) 14.704089336389941, firstLocation.getSpeed(), DELTA);
+    assertEquals(1529950571005L, firstLocation.getTime());
+  }
+
+  @Test
+  public void nextLocation_readsAllLocations() throws IOException {
+    JsonLocationReader reader = new JsonLocationReader(buildInputStream(REROUTE_JSON));
+    int count = 0;
+
+    while (reader.nextLocation() != null) {
+      count++;
+    }
+
+    ReplayJsonRouteDto routeFromJson = new GsonBuilder().create().fromJson(
+      new InputStreamReader(buildInputStream(REROUTE_JSON), "UTF-8"), ReplayJsonRouteDto.class);
+    assertEquals(routeFromJson.getLocations().size(), count);
+  }
+
+  @Test
+  public void nextLocation_returnsNullWithoutLocations() throws IOException {
+    String json = "{\"route\": \"https://api.mapbox.com\"}";
+    JsonLocationReader reader = new JsonLocationReader(new ByteArrayInputStream(json.getBytes("UTF-8")));
+
+    assertNull(reader.nextLocation());
+  }
+
+  @Test
+  public void nextLocation_skipsValuesBeforeLocations() throws IOException {
+    String json = "{\"route\": \"https://api.mapbox.com\", \"locations\": [{\"lat\": 1.0, \"lng\": 2.0}]}";
+    JsonLocationReader reader = new JsonLocationReader(new ByteArrayInputStream(json.getBytes("UTF-8")));
+
+    Location location = reader.nextLocation();
+
+    assertEquals(1.0, location.getLatitude(), DELTA);
+    assertEquals(2.0, location.getLongitude(), DELTA);
+    assertNull(reader.nextLocation());
+  }
+
+  @Test
+  public void nextLocation_skipsLocationWithInvalidTimestamp() throws IOException {
+    String json = "{\"locations\": [{\"lat\": 1.0, \"lng\": 2.0, \"timestamp\": \"yesterday\"},"
+      + " {\"lat\": 3.0, \"lng\": 4.0, \"timestamp\": \"2018-06-25T18:16:11.005+0000\"}]}";
+    JsonLocationReader reader = new JsonLocationReader(new ByteArrayInputStream(json.getBytes("UTF-8")));
+
+    Location location = reader.nextLocation();
+
+    assertEquals(3.0, location.getLatitude(), DELTA);
+    assertEquals(1529950571005L, location.getTime());
+    assertNull(reader.nextLocation());
+  }
+
+  private InputStream buildInputStream(String fileName) {
+    ClassLoader classLoader = getClass().getClassLoader();
+    return classLoader.getResourceAsStream(fileName);
+  }
+}
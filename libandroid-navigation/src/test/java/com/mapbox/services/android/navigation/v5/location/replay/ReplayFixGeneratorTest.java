@@ -0,0 +1,124 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+import com.mapbox.turf.TurfMisc;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class ReplayFixGeneratorTest extends BaseTest {
+
+  private static final int SPEED_IN_KM_PER_HOUR = 45;
+  private static final int DELAY_IN_SECONDS = 1;
+  private static final long START_TIME = 1000L;
+
+  @Test
+  public void generate_sameSeedGeneratesSameFixes() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    ReplayNoiseOptions options = ReplayNoiseOptions.builder().seed(42L).build();
+
+    List<Location> first = new ReplayFixGenerator(options).generate(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS, START_TIME);
+    List<Location> second = new ReplayFixGenerator(options).generate(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS, START_TIME);
+
+    assertEquals(first.size(), second.size());
+    for (int i = 0; i < first.size(); i++) {
+      assertEquals(first.get(i).getLatitude(), second.get(i).getLatitude());
+      assertEquals(first.get(i).getLongitude(), second.get(i).getLongitude());
+      assertEquals(first.get(i).getTime(), second.get(i).getTime());
+    }
+  }
+
+  @Test
+  public void generate_withoutNoiseFixesAreOnRoute() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    ReplayNoiseOptions options = buildNoiselessOptions().build();
+
+    List<Location> fixes = new ReplayFixGenerator(options).generate(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS, START_TIME);
+
+    LineString line = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+    for (Location fix : fixes) {
+      Point point = Point.fromLngLat(fix.getLongitude(), fix.getLatitude());
+      Point snapped = (Point) TurfMisc.nearestPointOnLine(point, line.coordinates()).geometry();
+      assertTrue(TurfMeasurement.distance(point, snapped, TurfConstants.UNIT_METERS) < 1d);
+    }
+  }
+
+  @Test
+  public void generate_fixesAreSpacedByDelay() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    ReplayNoiseOptions options = buildNoiselessOptions().build();
+
+    List<Location> fixes = new ReplayFixGenerator(options).generate(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS, START_TIME);
+
+    assertEquals(START_TIME, fixes.get(0).getTime());
+    for (int i = 1; i < fixes.size(); i++) {
+      assertEquals(1000L, fixes.get(i).getTime() - fixes.get(i - 1).getTime());
+    }
+  }
+
+  @Test
+  public void generate_dropoutsLeaveGapsBetweenFixes() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    ReplayNoiseOptions options = buildNoiselessOptions()
+      .dropoutProbability(0.1d)
+      .dropoutDurationSeconds(10)
+      .build();
+
+    List<Location> fixes = new ReplayFixGenerator(options).generate(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS, START_TIME);
+
+    long largestGap = 0;
+    for (int i = 1; i < fixes.size(); i++) {
+      largestGap = Math.max(largestGap, fixes.get(i).getTime() - fixes.get(i - 1).getTime());
+    }
+    assertTrue(largestGap > 10000L);
+  }
+
+  @Test
+  public void generate_lineFixesAreOnLine() {
+    LineString line = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.0366, 38.8977), Point.fromLngLat(-77.0336, 38.8977)));
+    ReplayNoiseOptions options = buildNoiselessOptions().build();
+
+    List<Location> fixes = new ReplayFixGenerator(options).generate(line, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS, START_TIME);
+
+    assertTrue(fixes.size() > 1);
+    assertEquals(START_TIME, fixes.get(0).getTime());
+    for (Location fix : fixes) {
+      Point point = Point.fromLngLat(fix.getLongitude(), fix.getLatitude());
+      Point snapped = (Point) TurfMisc.nearestPointOnLine(point, line.coordinates()).geometry();
+      assertTrue(TurfMeasurement.distance(point, snapped, TurfConstants.UNIT_METERS) < 1d);
+    }
+  }
+
+  private ReplayNoiseOptions.Builder buildNoiselessOptions() {
+    return ReplayNoiseOptions.builder()
+      .positionNoiseMeters(0d)
+      .accuracyVariationMeters(0f)
+      .multipathProbability(0d)
+      .dropoutProbability(0d)
+      .useAnnotationSpeeds(false);
+  }
+}
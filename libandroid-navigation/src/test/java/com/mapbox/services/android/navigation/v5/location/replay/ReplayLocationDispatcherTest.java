@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static junit.framework.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -65,6 +66,59 @@ public class ReplayLocationDispatcherTest {
     verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), eq(1000L));
   }
 
+  @Test
+  public void checksNextDispatchScaledWithReplayRate() {
+    List<Location> anyLocations = new ArrayList<>(2);
+    Location firstLocation = createALocation();
+    when(firstLocation.getTime()).thenReturn(1000L);
+    Location secondLocation = createALocation();
+    when(secondLocation.getTime()).thenReturn(2000L);
+    anyLocations.add(firstLocation);
+    anyLocations.add(secondLocation);
+    Handler aHandler = mock(Handler.class);
+    VirtualReplayClock clock = new VirtualReplayClock(mock(ReplayClock.class));
+    clock.updateRate(10f);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler, clock);
+
+    theReplayLocationDispatcher.run();
+
+    verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), eq(100L));
+  }
+
+  @Test
+  public void checksNextDispatchNotDelayedWhenReplayingAsFastAsPossible() {
+    List<Location> anyLocations = new ArrayList<>(2);
+    Location firstLocation = createALocation();
+    when(firstLocation.getTime()).thenReturn(1000L);
+    Location secondLocation = createALocation();
+    when(secondLocation.getTime()).thenReturn(2000L);
+    anyLocations.add(firstLocation);
+    anyLocations.add(secondLocation);
+    Handler aHandler = mock(Handler.class);
+    VirtualReplayClock clock = new VirtualReplayClock(mock(ReplayClock.class));
+    clock.updateRate(ReplayRouteLocationEngine.REPLAY_AS_FAST_AS_POSSIBLE);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler, clock);
+
+    theReplayLocationDispatcher.run();
+
+    verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), eq(0L));
+  }
+
+  @Test
+  public void checksClockAnchoredToDispatchedLocationTime() {
+    List<Location> anyLocations = new ArrayList<>(1);
+    Location aLocation = createALocation();
+    when(aLocation.getTime()).thenReturn(5000L);
+    anyLocations.add(aLocation);
+    Handler aHandler = mock(Handler.class);
+    VirtualReplayClock clock = new VirtualReplayClock(mock(ReplayClock.class));
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler, clock);
+
+    theReplayLocationDispatcher.run();
+
+    assertEquals(5000L, clock.currentTimeMillis());
+  }
+
   @Test
   public void checksNextDispatchNotScheduledWhenLocationsIsEmpty() {
     List<Location> anyLocations = new ArrayList<>(1);
@@ -156,6 +210,53 @@ public class ReplayLocationDispatcherTest {
     verify(anyLocations, times(1)).addAll(eq(locationsToReplay));
   }
 
+  @Test
+  public void checksPendingDispatchKeptWhenAdd() {
+    List<Location> anyLocations = new ArrayList<>();
+    anyLocations.add(createALocation());
+    anyLocations.add(createALocation());
+    Handler aHandler = mock(Handler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    theReplayLocationDispatcher.run();
+    List<Location> locationsToReplay = new ArrayList<>();
+    locationsToReplay.add(createALocation());
+
+    theReplayLocationDispatcher.add(locationsToReplay);
+
+    verify(aHandler, never()).removeCallbacks(eq(theReplayLocationDispatcher));
+    verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), anyLong());
+  }
+
+  @Test
+  public void checksNextDispatchScheduledWhenAddAfterLocationsRanOut() {
+    List<Location> anyLocations = new ArrayList<>();
+    anyLocations.add(createALocation());
+    Handler aHandler = mock(Handler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    theReplayLocationDispatcher.run();
+    List<Location> locationsToReplay = new ArrayList<>();
+    locationsToReplay.add(createALocation());
+
+    theReplayLocationDispatcher.add(locationsToReplay);
+
+    verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), anyLong());
+  }
+
+  @Test
+  public void checksLocationNotDispatchedAgainWhenRunAfterLocationsRanOut() {
+    List<Location> anyLocations = new ArrayList<>();
+    anyLocations.add(createALocation());
+    Handler aHandler = mock(Handler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    ReplayLocationListener aListener = mock(ReplayLocationListener.class);
+    theReplayLocationDispatcher.addReplayLocationListener(aListener);
+    theReplayLocationDispatcher.run();
+
+    theReplayLocationDispatcher.run();
+
+    verify(aListener, times(1)).onLocationReplay(any(Location.class));
+  }
+
   private Location createALocation() {
     Location location = mock(Location.class);
     return location;
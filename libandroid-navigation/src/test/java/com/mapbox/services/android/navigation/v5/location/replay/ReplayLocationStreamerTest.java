@@ -0,0 +1,93 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.os.Handler;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReplayLocationStreamerTest {
+
+  @Test
+  public void onChunkRead_locationsAreDelivered() throws Exception {
+    Handler readerHandler = mock(Handler.class);
+    Handler responseHandler = mock(Handler.class);
+    ReplayLocationStreamer.Listener listener = mock(ReplayLocationStreamer.Listener.class);
+    ReplayLocationStreamer streamer = new ReplayLocationStreamer(buildReader(), responseHandler,
+      readerHandler, listener);
+    streamer.start();
+
+    captureFirst(readerHandler).run();
+    runResponse(responseHandler);
+
+    verify(listener).onLocationsRead(anyList());
+    verify(listener).onReadComplete();
+  }
+
+  @Test
+  public void stop_chunkBeingReadIsNotDelivered() throws Exception {
+    Handler readerHandler = mock(Handler.class);
+    Handler responseHandler = mock(Handler.class);
+    ReplayLocationStreamer.Listener listener = mock(ReplayLocationStreamer.Listener.class);
+    ReplayLocationStreamer streamer = new ReplayLocationStreamer(buildReader(), responseHandler,
+      readerHandler, listener);
+    streamer.start();
+    Runnable readChunk = captureFirst(readerHandler);
+
+    streamer.stop();
+    readChunk.run();
+    runResponse(responseHandler);
+
+    verify(listener, never()).onLocationsRead(anyList());
+    verify(listener, never()).onReadComplete();
+  }
+
+  @Test
+  public void stop_readErrorIsNotDelivered() throws Exception {
+    Handler readerHandler = mock(Handler.class);
+    Handler responseHandler = mock(Handler.class);
+    ReplayLocationStreamer.Listener listener = mock(ReplayLocationStreamer.Listener.class);
+    ReplayLocationReader reader = mock(ReplayLocationReader.class);
+    when(reader.nextLocation()).thenThrow(new IOException());
+    ReplayLocationStreamer streamer = new ReplayLocationStreamer(reader, responseHandler, readerHandler, listener);
+    streamer.start();
+    Runnable readChunk = captureFirst(readerHandler);
+
+    streamer.stop();
+    readChunk.run();
+    runResponse(responseHandler);
+
+    verify(listener, never()).onReadError(any(Exception.class));
+  }
+
+  private ReplayLocationReader buildReader() throws Exception {
+    ReplayLocationReader reader = mock(ReplayLocationReader.class);
+    when(reader.nextLocation()).thenReturn(mock(Location.class), (Location) null);
+    return reader;
+  }
+
+  private Runnable captureFirst(Handler handler) {
+    ArgumentCaptor<Runnable> runnable = ArgumentCaptor.forClass(Runnable.class);
+    verify(handler, atLeastOnce()).post(runnable.capture());
+    return runnable.getAllValues().get(0);
+  }
+
+  private void runResponse(Handler responseHandler) {
+    ArgumentCaptor<Runnable> runnable = ArgumentCaptor.forClass(Runnable.class);
+    verify(responseHandler, atLeastOnce()).postAtTime(runnable.capture(), any(), anyLong());
+    for (Runnable response : runnable.getAllValues()) {
+      response.run();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class ReplayRouteLocationConverterTest extends BaseTest {
+
+  private static final int SPEED_IN_KM_PER_HOUR = 36;
+  private static final int DELAY_IN_SECONDS = 1;
+  private static final double TEN_METERS = 10d;
+
+  @Test
+  public void sliceRoute_pointsAreEvenlySpaced() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    ReplayRouteLocationConverter converter = buildConverter(route);
+    LineString line = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+
+    List<Point> points = converter.sliceRoute(line);
+
+    double length = TurfMeasurement.length(line, TurfConstants.UNIT_METERS);
+    assertEquals((int) Math.ceil(length / TEN_METERS), points.size());
+    assertEquals(line.coordinates().get(0), points.get(0));
+    for (int i = 1; i < points.size(); i++) {
+      double expectedLatitude = TurfMeasurement.along(line, i * TEN_METERS, TurfConstants.UNIT_METERS)
+        .latitude();
+      assertEquals(expectedLatitude, points.get(i).latitude(), 1e-6);
+    }
+  }
+
+  @Test
+  public void sliceRoute_emptyForZeroLengthLine() throws IOException {
+    ReplayRouteLocationConverter converter = buildConverter(buildTestDirectionsRoute());
+    List<Point> coordinates = new ArrayList<>();
+    coordinates.add(Point.fromLngLat(1.0, 1.0));
+    coordinates.add(Point.fromLngLat(1.0, 1.0));
+
+    List<Point> points = converter.sliceRoute(LineString.fromLngLats(coordinates));
+
+    assertTrue(points.isEmpty());
+  }
+
+  @Test
+  public void calculateMockLocations_bearingSetUntilLastLocation() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    ReplayRouteLocationConverter converter = buildConverter(route);
+    LineString line = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+
+    List<Location> locations = converter.calculateMockLocations(converter.sliceRoute(line));
+
+    for (int i = 0; i < locations.size() - 1; i++) {
+      assertTrue(locations.get(i).hasBearing());
+    }
+    assertFalse(locations.get(locations.size() - 1).hasBearing());
+  }
+
+  @Test
+  public void calculateMockLocations_timeAdvancesByDelay() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    ReplayRouteLocationConverter converter = buildConverter(route);
+    converter.initializeTime(0L);
+    LineString line = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+
+    List<Location> locations = converter.calculateMockLocations(converter.sliceRoute(line));
+
+    assertEquals(0L, locations.get(0).getTime());
+    assertEquals(1000L, locations.get(1).getTime());
+  }
+
+  @Test
+  public void toAllLocations_convertsEveryStep() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    ReplayRouteLocationConverter converter = buildConverter(route);
+    int expectedSize = 0;
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        LineString line = LineString.fromPolyline(step.geometry(), Constants.PRECISION_6);
+        expectedSize += converter.sliceRoute(line).size();
+      }
+    }
+
+    List<Location> locations = converter.toAllLocations();
+
+    assertEquals(expectedSize, locations.size());
+  }
+
+  private ReplayRouteLocationConverter buildConverter(DirectionsRoute route) {
+    return new ReplayRouteLocationConverter(route, SPEED_IN_KM_PER_HOUR, DELAY_IN_SECONDS);
+  }
+}
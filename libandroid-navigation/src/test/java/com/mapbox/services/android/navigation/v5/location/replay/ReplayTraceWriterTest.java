@@ -0,0 +1,98 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class ReplayTraceWriterTest {
+
+  private static final double COORDINATE_DELTA = 1e-7;
+  private static final double CHANNEL_DELTA = 1e-2;
+
+  @Test
+  public void write_locationsAreReadBack() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ReplayTraceWriter writer = new ReplayTraceWriter(outputStream);
+    Location first = buildLocation(1529950571005L, 48.1776966801359, 11.579233823791801);
+    first.setSpeed(14.7f);
+    first.setBearing(277.03f);
+    first.setAccuracy(40f);
+    Location second = buildLocation(1529950572026L, 48.17771306903845, 11.579037109773616);
+
+    writer.write(first);
+    writer.write(second);
+    writer.close();
+
+    BinaryTraceLocationReader reader = new BinaryTraceLocationReader(ByteBuffer.wrap(outputStream.toByteArray()));
+    Location firstRead = reader.nextLocation();
+    assertEquals(1529950571005L, firstRead.getTime());
+    assertEquals(48.1776966801359, firstRead.getLatitude(), COORDINATE_DELTA);
+    assertEquals(11.579233823791801, firstRead.getLongitude(), COORDINATE_DELTA);
+    assertEquals(14.7f, firstRead.getSpeed(), CHANNEL_DELTA);
+    assertEquals(277.03f, firstRead.getBearing(), CHANNEL_DELTA);
+    assertEquals(40f, firstRead.getAccuracy(), CHANNEL_DELTA);
+    Location secondRead = reader.nextLocation();
+    assertEquals(1529950572026L, secondRead.getTime());
+    assertEquals(48.17771306903845, secondRead.getLatitude(), COORDINATE_DELTA);
+    assertEquals(11.579037109773616, secondRead.getLongitude(), COORDINATE_DELTA);
+    assertFalse(secondRead.hasSpeed());
+    assertFalse(secondRead.hasBearing());
+    assertNull(reader.nextLocation());
+  }
+
+  @Test
+  public void write_disabledChannelsAreNotRecorded() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ReplayTraceWriter writer = new ReplayTraceWriter(outputStream, ReplayTraceWriter.CHANNEL_SPEED);
+    Location location = buildLocation(1000L, 1.0, 2.0);
+    location.setSpeed(10f);
+    location.setBearing(90f);
+
+    writer.write(location);
+    writer.close();
+
+    BinaryTraceLocationReader reader = new BinaryTraceLocationReader(ByteBuffer.wrap(outputStream.toByteArray()));
+    Location read = reader.nextLocation();
+    assertTrue(read.hasSpeed());
+    assertFalse(read.hasBearing());
+  }
+
+  @Test
+  public void write_consecutiveLocationsAreCompact() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ReplayTraceWriter writer = new ReplayTraceWriter(outputStream, 0);
+    writer.write(buildLocation(1529950571000L, 48.1776966, 11.5792338));
+    writer.flush();
+    int sizeAfterFirst = outputStream.size();
+
+    writer.write(buildLocation(1529950572000L, 48.1777130, 11.5790371));
+    writer.flush();
+
+    assertTrue(outputStream.size() - sizeAfterFirst <= 8);
+  }
+
+  @Test(expected = IOException.class)
+  public void read_invalidTraceThrows() throws IOException {
+    new BinaryTraceLocationReader(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6}));
+  }
+
+  private Location buildLocation(long time, double latitude, double longitude) {
+    Location location = new Location("test");
+    location.setTime(time);
+    location.setLatitude(latitude);
+    location.setLongitude(longitude);
+    return location;
+  }
+}
@@ -0,0 +1,44 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+
+import static junit.framework.Assert.assertEquals;
+
+public class TimestampParserTest {
+
+  @Test
+  public void parse_utcTimestamp() throws ParseException {
+    TimestampParser parser = new TimestampParser();
+
+    long time = parser.parse("2009-10-17T18:37:26Z");
+
+    assertEquals(1255804646000L, time);
+  }
+
+  @Test
+  public void parse_timestampWithMillisecondsAndOffset() throws ParseException {
+    TimestampParser parser = new TimestampParser();
+
+    long time = parser.parse("2018-06-25T18:16:11.005+0000");
+
+    assertEquals(1529950571005L, time);
+  }
+
+  @Test
+  public void parse_timestampWithNegativeOffsetAndColon() throws ParseException {
+    TimestampParser parser = new TimestampParser();
+
+    long time = parser.parse("2018-02-28T23:16:11.5-01:30");
+
+    assertEquals(1519865171500L, time);
+  }
+
+  @Test(expected = ParseException.class)
+  public void parse_invalidTimestampThrows() throws ParseException {
+    TimestampParser parser = new TimestampParser();
+
+    parser.parse("17/10/2009 18:37:26");
+  }
+}
@@ -0,0 +1,67 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class VirtualReplayClockTest {
+
+  @Test
+  public void currentTimeMillis_followsClockWhenNotAnchored() {
+    ReplayClock clock = mock(ReplayClock.class);
+    when(clock.currentTimeMillis()).thenReturn(1234L);
+    VirtualReplayClock virtualClock = new VirtualReplayClock(clock);
+
+    assertEquals(1234L, virtualClock.currentTimeMillis());
+  }
+
+  @Test
+  public void currentTimeMillis_advancesWithReplayRate() {
+    ReplayClock clock = mock(ReplayClock.class);
+    when(clock.currentTimeMillis()).thenReturn(0L);
+    VirtualReplayClock virtualClock = new VirtualReplayClock(clock);
+    virtualClock.updateRate(100f);
+    virtualClock.anchorTo(10000L);
+
+    when(clock.currentTimeMillis()).thenReturn(50L);
+
+    assertEquals(15000L, virtualClock.currentTimeMillis());
+  }
+
+  @Test
+  public void currentTimeMillis_staysAtAnchorWhenReplayingAsFastAsPossible() {
+    ReplayClock clock = mock(ReplayClock.class);
+    when(clock.currentTimeMillis()).thenReturn(0L);
+    VirtualReplayClock virtualClock = new VirtualReplayClock(clock);
+    virtualClock.updateRate(ReplayRouteLocationEngine.REPLAY_AS_FAST_AS_POSSIBLE);
+    virtualClock.anchorTo(10000L);
+
+    when(clock.currentTimeMillis()).thenReturn(50L);
+
+    assertEquals(10000L, virtualClock.currentTimeMillis());
+  }
+
+  @Test
+  public void updateRate_keepsVirtualTimeContinuous() {
+    ReplayClock clock = mock(ReplayClock.class);
+    when(clock.currentTimeMillis()).thenReturn(0L);
+    VirtualReplayClock virtualClock = new VirtualReplayClock(clock);
+    virtualClock.anchorTo(10000L);
+    when(clock.currentTimeMillis()).thenReturn(1000L);
+
+    virtualClock.updateRate(10f);
+    when(clock.currentTimeMillis()).thenReturn(2000L);
+
+    assertEquals(21000L, virtualClock.currentTimeMillis());
+  }
+
+  @Test
+  public void toRealDelay_isScaledByReplayRate() {
+    VirtualReplayClock virtualClock = new VirtualReplayClock(mock(ReplayClock.class));
+    virtualClock.updateRate(10f);
+
+    assertEquals(100L, virtualClock.toRealDelay(1000L));
+  }
+}
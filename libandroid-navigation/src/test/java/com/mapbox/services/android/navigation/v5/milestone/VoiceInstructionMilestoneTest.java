@@ -1,14 +1,19 @@
 package com.mapbox.services.android.navigation.v5.milestone;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
 import com.mapbox.navigator.VoiceInstruction;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -95,6 +100,82 @@ public class VoiceInstructionMilestoneTest {
     assertEquals("", milestone.getSsmlAnnouncement());
   }
 
+  @Test
+  public void onInstructionWithinLeadDistance_milestoneTriggersEarly() {
+    RouteProgress routeProgress = buildStepProgress(520d, "turn left");
+    VoiceInstructionMilestone milestone = buildVoiceInstructionMilestone();
+    milestone.updateAnnouncementLeadDistance(30d);
+
+    boolean isOccurring = milestone.isOccurring(routeProgress, routeProgress);
+
+    assertTrue(isOccurring);
+    assertEquals("turn left", milestone.getAnnouncement());
+  }
+
+  @Test
+  public void onInstructionOutsideLeadDistance_milestoneDoesNotTrigger() {
+    RouteProgress routeProgress = buildStepProgress(540d, "turn left");
+    VoiceInstructionMilestone milestone = buildVoiceInstructionMilestone();
+    milestone.updateAnnouncementLeadDistance(30d);
+
+    boolean isOccurring = milestone.isOccurring(routeProgress, routeProgress);
+
+    assertFalse(isOccurring);
+  }
+
+  @Test
+  public void onNoLeadDistance_milestoneDoesNotTriggerEarly() {
+    RouteProgress routeProgress = buildStepProgress(520d, "turn left");
+    VoiceInstructionMilestone milestone = buildVoiceInstructionMilestone();
+
+    boolean isOccurring = milestone.isOccurring(routeProgress, routeProgress);
+
+    assertFalse(isOccurring);
+  }
+
+  @Test
+  public void onEarlyInstruction_milestoneDoesNotTriggerTwice() {
+    RouteProgress earlyProgress = buildStepProgress(520d, "turn left");
+    RouteProgress laterProgress = buildStepProgress(510d, "turn left");
+    VoiceInstructionMilestone milestone = buildVoiceInstructionMilestone();
+    milestone.updateAnnouncementLeadDistance(30d);
+
+    milestone.isOccurring(earlyProgress, earlyProgress);
+    boolean isOccurring = milestone.isOccurring(earlyProgress, laterProgress);
+
+    assertFalse(isOccurring);
+  }
+
+  @Test
+  public void onNavigatorReachingEarlyInstruction_milestoneDoesNotTriggerTwice() {
+    RouteProgress earlyProgress = buildStepProgress(520d, "turn left");
+    RouteProgress navigatorProgress = buildStepProgress(499d, "turn left");
+    VoiceInstruction voiceInstruction = mock(VoiceInstruction.class);
+    when(voiceInstruction.getAnnouncement()).thenReturn("turn left");
+    when(navigatorProgress.voiceInstruction()).thenReturn(voiceInstruction);
+    VoiceInstructionMilestone milestone = buildVoiceInstructionMilestone();
+    milestone.updateAnnouncementLeadDistance(30d);
+
+    milestone.isOccurring(earlyProgress, earlyProgress);
+    boolean isOccurring = milestone.isOccurring(earlyProgress, navigatorProgress);
+
+    assertFalse(isOccurring);
+  }
+
+  private RouteProgress buildStepProgress(double stepDistanceRemaining, String announcement) {
+    RouteProgress routeProgress = mock(RouteProgress.class, RETURNS_DEEP_STUBS);
+    when(routeProgress.voiceInstruction()).thenReturn(null);
+    List<VoiceInstructions> voiceInstructions = new ArrayList<>();
+    voiceInstructions.add(VoiceInstructions.builder()
+      .distanceAlongGeometry(1000d).announcement("continue").ssmlAnnouncement("continue").build());
+    voiceInstructions.add(VoiceInstructions.builder()
+      .distanceAlongGeometry(500d).announcement(announcement).ssmlAnnouncement(announcement).build());
+    when(routeProgress.currentLegProgress().currentStep().voiceInstructions()).thenReturn(voiceInstructions);
+    when(routeProgress.currentLegProgress().currentStepProgress().distanceRemaining())
+      .thenReturn(stepDistanceRemaining);
+    return routeProgress;
+  }
+
   private VoiceInstructionMilestone buildVoiceInstructionMilestone() {
     return (VoiceInstructionMilestone) new VoiceInstructionMilestone.Builder().setIdentifier(1234).build();
   }
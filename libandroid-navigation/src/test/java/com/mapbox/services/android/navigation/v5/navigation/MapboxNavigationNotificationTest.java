@@ -1,13 +1,20 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
+import android.app.Notification;
 import android.app.NotificationManager;
 import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.RemoteViews;
+import android.widget.TextView;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.BuildConfig;
+import com.mapbox.services.android.navigation.R;
 import com.mapbox.services.android.navigation.v5.BaseTest;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
@@ -16,12 +23,31 @@ import junit.framework.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
 
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.NAVIGATION_NOTIFICATION_ID;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, manifest = Config.DEFAULT_MANIFEST_NAME)
 public class MapboxNavigationNotificationTest extends BaseTest {
 
   private static final String DIRECTIONS_ROUTE_FIXTURE = "directions_v5_precision_6.json";
+  private static final double ONE_MILE_IN_METERS = 1609.344;
 
   @Mock
   NotificationManager notificationManager;
@@ -35,6 +61,7 @@ public class MapboxNavigationNotificationTest extends BaseTest {
       .registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
     DirectionsResponse response = gson.fromJson(json, DirectionsResponse.class);
     route = response.routes().get(0);
+    MockitoAnnotations.initMocks(this);
   }
 
   @Ignore
@@ -61,4 +88,95 @@ public class MapboxNavigationNotificationTest extends BaseTest {
     //    notificationManager.getActiveNotifications()[0].getNotification().contentView;
     //    verify(notificationManager, times(1)).getActiveNotifications()[0];
   }
+
+  @Test
+  public void updateNotification_unchangedProgressIsNotPosted() throws Exception {
+    MapboxNavigationNotification mapboxNavigationNotification = buildNotification();
+    RouteProgress routeProgress = buildProgress(ONE_MILE_IN_METERS);
+
+    mapboxNavigationNotification.updateNotification(routeProgress);
+    mapboxNavigationNotification.updateNotification(routeProgress);
+
+    verify(notificationManager, times(1)).notify(eq(NAVIGATION_NOTIFICATION_ID), any(Notification.class));
+  }
+
+  @Test
+  public void updateNotification_changedDistanceIsPosted() throws Exception {
+    MapboxNavigationNotification mapboxNavigationNotification = buildNotification();
+
+    mapboxNavigationNotification.updateNotification(buildProgress(ONE_MILE_IN_METERS));
+    mapboxNavigationNotification.updateNotification(buildProgress(2 * ONE_MILE_IN_METERS));
+
+    verify(notificationManager, times(2)).notify(eq(NAVIGATION_NOTIFICATION_ID), any(Notification.class));
+  }
+
+  @Test
+  public void updateNotification_changedInstructionIsPosted() throws Exception {
+    MapboxNavigationNotification mapboxNavigationNotification = buildNotification();
+
+    mapboxNavigationNotification.updateNotification(buildTestRouteProgress(route, ONE_MILE_IN_METERS,
+      ONE_MILE_IN_METERS, ONE_MILE_IN_METERS, 0, 0));
+    mapboxNavigationNotification.updateNotification(buildTestRouteProgress(route, ONE_MILE_IN_METERS,
+      ONE_MILE_IN_METERS, ONE_MILE_IN_METERS, 1, 0));
+
+    verify(notificationManager, times(2)).notify(eq(NAVIGATION_NOTIFICATION_ID), any(Notification.class));
+  }
+
+  @Test
+  public void updateNotification_viewsAreKeptBeforeMaxUpdates() throws Exception {
+    MapboxNavigationNotification mapboxNavigationNotification = buildNotification();
+    mapboxNavigationNotification.updateNotification(buildProgress(ONE_MILE_IN_METERS));
+    RemoteViews firstViews = mapboxNavigationNotification.getNotification().contentView;
+
+    for (int update = 2; update <= MapboxNavigationNotification.MAX_UPDATES_BEFORE_REBUILD; update++) {
+      mapboxNavigationNotification.updateNotification(buildProgress(update * ONE_MILE_IN_METERS));
+    }
+
+    assertSame(firstViews, mapboxNavigationNotification.getNotification().contentView);
+  }
+
+  @Test
+  public void updateNotification_viewsAreRebuiltWithCurrentValuesAfterMaxUpdates() throws Exception {
+    MapboxNavigationNotification mapboxNavigationNotification = buildNotification();
+    mapboxNavigationNotification.updateNotification(buildProgress(ONE_MILE_IN_METERS));
+    RemoteViews firstViews = mapboxNavigationNotification.getNotification().contentView;
+    RouteProgress lastProgress = null;
+
+    for (int update = 2; update <= MapboxNavigationNotification.MAX_UPDATES_BEFORE_REBUILD + 1; update++) {
+      lastProgress = buildProgress(update * ONE_MILE_IN_METERS);
+      mapboxNavigationNotification.updateNotification(lastProgress);
+    }
+
+    RemoteViews rebuiltViews = mapboxNavigationNotification.getNotification().contentView;
+    assertNotSame(firstViews, rebuiltViews);
+    MapboxNavigationNotification freshNotification = buildNotification();
+    freshNotification.updateNotification(lastProgress);
+    View rebuiltView = applyViews(rebuiltViews);
+    View freshView = applyViews(freshNotification.getNotification().contentView);
+    assertEquals(retrieveText(freshView, R.id.notificationInstructionText),
+      retrieveText(rebuiltView, R.id.notificationInstructionText));
+    assertEquals(retrieveText(freshView, R.id.notificationDistanceText),
+      retrieveText(rebuiltView, R.id.notificationDistanceText));
+  }
+
+  private MapboxNavigationNotification buildNotification() {
+    MapboxNavigation mapboxNavigation = mock(MapboxNavigation.class);
+    when(mapboxNavigation.getRoute()).thenReturn(route);
+    when(mapboxNavigation.options()).thenReturn(MapboxNavigationOptions.builder().build());
+    return new MapboxNavigationNotification(RuntimeEnvironment.application, mapboxNavigation,
+      notificationManager);
+  }
+
+  private RouteProgress buildProgress(double stepDistanceRemaining) throws Exception {
+    return buildTestRouteProgress(route, stepDistanceRemaining, stepDistanceRemaining, stepDistanceRemaining, 0, 0);
+  }
+
+  private View applyViews(RemoteViews remoteViews) {
+    Context context = RuntimeEnvironment.application;
+    return remoteViews.apply(context, new FrameLayout(context));
+  }
+
+  private String retrieveText(View view, int textViewId) {
+    return ((TextView) view.findViewById(textViewId)).getText().toString();
+  }
 }
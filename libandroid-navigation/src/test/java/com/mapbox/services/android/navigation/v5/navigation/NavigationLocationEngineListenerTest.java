@@ -3,10 +3,15 @@ package com.mapbox.services.android.navigation.v5.navigation;
 import android.location.Location;
 
 import com.mapbox.android.core.location.LocationEngine;
+import com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceWriter;
 
 import org.junit.Test;
 
+import java.io.IOException;
+
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -30,7 +35,7 @@ public class NavigationLocationEngineListenerTest {
     when(locationEngine.getLastLocation()).thenReturn(location);
     RouteProcessorBackgroundThread thread = mock(RouteProcessorBackgroundThread.class);
     NavigationLocationEngineListener listener = new NavigationLocationEngineListener(
-      thread, locationEngine
+      thread, locationEngine, mock(MapboxNavigation.class)
     );
 
     listener.onConnected();
@@ -44,7 +49,7 @@ public class NavigationLocationEngineListenerTest {
     when(locationEngine.getLastLocation()).thenReturn(null);
     RouteProcessorBackgroundThread thread = mock(RouteProcessorBackgroundThread.class);
     NavigationLocationEngineListener listener = new NavigationLocationEngineListener(
-      thread, locationEngine
+      thread, locationEngine, mock(MapboxNavigation.class)
     );
 
     listener.onConnected();
@@ -63,11 +68,54 @@ public class NavigationLocationEngineListenerTest {
     verify(thread).updateRawLocation(location);
   }
 
+  @Test
+  public void queueValidLocationUpdate_traceWriterRecordsUpdate() throws IOException {
+    NavigationLocationEngineListener listener = buildListener(mock(RouteProcessorBackgroundThread.class));
+    ReplayTraceWriter traceWriter = mock(ReplayTraceWriter.class);
+    listener.updateTraceWriter(traceWriter);
+    Location location = mock(Location.class);
+
+    listener.onLocationChanged(location);
+
+    verify(traceWriter).write(location);
+  }
+
+  @Test
+  public void traceWriterFailure_recordingIsStopped() throws IOException {
+    NavigationLocationEngineListener listener = buildListener(mock(RouteProcessorBackgroundThread.class));
+    ReplayTraceWriter traceWriter = mock(ReplayTraceWriter.class);
+    Location location = mock(Location.class);
+    doThrow(new IOException()).when(traceWriter).write(location);
+    listener.updateTraceWriter(traceWriter);
+
+    listener.onLocationChanged(location);
+    listener.onLocationChanged(location);
+
+    verify(traceWriter, times(1)).write(location);
+  }
+
+  @Test
+  public void traceWriterFailure_navigationDropsTheWriter() throws IOException {
+    MapboxNavigation mapboxNavigation = mock(MapboxNavigation.class);
+    NavigationLocationEngineListener listener = new NavigationLocationEngineListener(
+      mock(RouteProcessorBackgroundThread.class), mock(LocationEngine.class), mapboxNavigation
+    );
+    ReplayTraceWriter traceWriter = mock(ReplayTraceWriter.class);
+    Location location = mock(Location.class);
+    doThrow(new IOException()).when(traceWriter).write(location);
+    listener.updateTraceWriter(traceWriter);
+
+    listener.onLocationChanged(location);
+
+    verify(mapboxNavigation).onTraceRecordingFailed(traceWriter);
+  }
+
   private NavigationLocationEngineListener buildListener(RouteProcessorBackgroundThread thread) {
-    return new NavigationLocationEngineListener(thread, mock(LocationEngine.class));
+    return new NavigationLocationEngineListener(thread, mock(LocationEngine.class), mock(MapboxNavigation.class));
   }
 
   private NavigationLocationEngineListener buildListener(LocationEngine locationEngine) {
-    return new NavigationLocationEngineListener(mock(RouteProcessorBackgroundThread.class), locationEngine);
+    return new NavigationLocationEngineListener(mock(RouteProcessorBackgroundThread.class), locationEngine,
+      mock(MapboxNavigation.class));
   }
 }
\ No newline at end of file
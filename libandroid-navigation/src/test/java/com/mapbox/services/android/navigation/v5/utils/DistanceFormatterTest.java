@@ -4,6 +4,9 @@ import android.content.Context;
 import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.os.LocaleList;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.style.UnderlineSpan;
 
 import com.mapbox.api.directions.v5.DirectionsCriteria;
 import com.mapbox.services.android.navigation.R;
@@ -125,6 +128,62 @@ public class DistanceFormatterTest {
     assertOutput(LARGE_SMALL_UNIT, Locale.FRANCE, DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY,"100 m");
   }
 
+  @Test
+  public void formatDistance_sameDisplayedDistanceIsReused() {
+    DistanceFormatter distanceFormatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY);
+
+    SpannableString firstDistance = distanceFormatter.formatDistance(MEDIUM_LARGE_UNIT);
+    SpannableString secondDistance = distanceFormatter.formatDistance(MEDIUM_LARGE_UNIT + 1);
+
+    Assert.assertEquals(firstDistance.toString(), secondDistance.toString());
+  }
+
+  @Test
+  public void formatDistance_modifiedDistanceIsNotShared() {
+    DistanceFormatter distanceFormatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY);
+    SpannableString firstDistance = distanceFormatter.formatDistance(MEDIUM_LARGE_UNIT);
+
+    firstDistance.setSpan(new UnderlineSpan(), 0, firstDistance.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+    SpannableString secondDistance = distanceFormatter.formatDistance(MEDIUM_LARGE_UNIT);
+
+    Assert.assertNotSame(firstDistance, secondDistance);
+    Assert.assertEquals(0, secondDistance.getSpans(0, secondDistance.length(), UnderlineSpan.class).length);
+  }
+
+  @Test
+  public void formatsToSameDistance_sameIncrement() {
+    DistanceFormatter distanceFormatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY);
+
+    Assert.assertTrue(distanceFormatter.formatsToSameDistance(LARGE_SMALL_UNIT, LARGE_SMALL_UNIT + 10));
+  }
+
+  @Test
+  public void formatsToSameDistance_differentIncrement() {
+    DistanceFormatter distanceFormatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY);
+
+    Assert.assertFalse(distanceFormatter.formatsToSameDistance(LARGE_SMALL_UNIT, LARGE_SMALL_UNIT + 50));
+  }
+
+  @Test
+  public void formatsToSameDistance_differentUnit() {
+    DistanceFormatter distanceFormatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY);
+
+    Assert.assertFalse(distanceFormatter.formatsToSameDistance(LARGE_SMALL_UNIT, MEDIUM_LARGE_UNIT));
+  }
+
+  @Test
+  public void formatsToSameDistance_wholeLargeUnit() {
+    DistanceFormatter distanceFormatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY);
+
+    Assert.assertTrue(distanceFormatter.formatsToSameDistance(9980, 10020));
+  }
+
   private void assertOutput(double distance, Locale locale, String unitType, int roundIncrement, String output) {
     Assert.assertEquals(output,
       new DistanceFormatter(context, locale.getLanguage(), unitType, roundIncrement).formatDistance(distance).toString());
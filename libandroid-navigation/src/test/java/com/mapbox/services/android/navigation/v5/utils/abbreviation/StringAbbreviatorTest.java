@@ -0,0 +1,90 @@
+package com.mapbox.services.android.navigation.v5.utils.abbreviation;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+public class StringAbbreviatorTest {
+
+  @Test
+  public void abbreviate_shortNamesAreNotAbbreviated() {
+    String shortName = "North Main Street";
+
+    String abbreviated = StringAbbreviator.abbreviate(shortName);
+
+    assertSame(shortName, abbreviated);
+  }
+
+  @Test
+  public void abbreviate_wholeWordsAreAbbreviated() {
+    String abbreviated = StringAbbreviator.abbreviate("Northwest Pennsylvania Avenue Extension");
+
+    assertEquals("NW Pennsylvania Ave Extension", abbreviated);
+  }
+
+  @Test
+  public void abbreviate_matchingIgnoresCase() {
+    String abbreviated = StringAbbreviator.abbreviate("SAINT james PLACE and the MOUNTAIN road");
+
+    assertEquals("St james Pl and the Mtn Rd", abbreviated);
+  }
+
+  @Test
+  public void abbreviate_partialWordsAreNotAbbreviated() {
+    String abbreviated = StringAbbreviator.abbreviate("Northern Streets Roadhouse_Drive 5street");
+
+    assertEquals("Northern Streets Roadhouse_Drive 5street", abbreviated);
+  }
+
+  @Test
+  public void abbreviate_punctuationSeparatesWords() {
+    String abbreviated = StringAbbreviator.abbreviate("Martin Luther King Jr. Boulevard-North;Highway");
+
+    assertEquals("Martin Luther King Jr. Blvd-N;Hwy", abbreviated);
+  }
+
+  @Test
+  public void abbreviate_repeatedNameReturnsSameResult() {
+    String roadName = "International Drive and Memorial Parkway";
+
+    String first = StringAbbreviator.abbreviate(roadName);
+    String second = StringAbbreviator.abbreviate(roadName);
+
+    assertEquals("Int’l Dr and Mem Pky", first);
+    assertSame(first, second);
+  }
+
+  @Test
+  public void abbreviate_matchesReplacingEachAbbreviation() {
+    String input = "Southeast Crossing at the Old Downtown Market Station Road, Lake Junction";
+    String expected = input;
+    AbbreviationArray abbreviations = new AbbreviationArray();
+    for (int i = 0; i < abbreviations.size(); i++) {
+      AbbreviationArray.Abbreviation abbreviation = abbreviations.get(i);
+      expected = expected.replaceAll("(?i)\\b" + abbreviation.string + "\\b", abbreviation.abbreviatedString);
+    }
+
+    String abbreviated = StringAbbreviator.abbreviate(input);
+
+    assertEquals(expected, abbreviated);
+  }
+
+  @Test
+  public void deliminator_separatorsAreReplacedWithSlashes() {
+    String delimited = StringAbbreviator.deliminator("I 95;US 1:Main,Elm");
+
+    assertEquals("I 95/US 1/Main/Elm", delimited);
+  }
+
+  @Test
+  public void splitter_separatorsSplitTheInput() {
+    String[] split = StringAbbreviator.splitter("I 95;US 1:Main,Elm");
+
+    assertEquals(4, split.length);
+    assertEquals("US 1", split[1]);
+  }
+}
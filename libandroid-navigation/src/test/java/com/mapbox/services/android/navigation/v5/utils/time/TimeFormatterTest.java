@@ -5,6 +5,8 @@ import org.junit.Test;
 import java.util.Calendar;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TimeFormatterTest {
 
@@ -87,4 +89,24 @@ public class TimeFormatterTest {
 
     assertEquals("18:29", formattedTime);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void formatsToSameTimeRemaining_sameMinute() {
+    double tenMinutes = 600;
+    double tenMinutesAndTwentySeconds = 620;
+
+    boolean isSame = TimeFormatter.formatsToSameTimeRemaining(tenMinutes, tenMinutesAndTwentySeconds);
+
+    assertTrue(isSame);
+  }
+
+  @Test
+  public void formatsToSameTimeRemaining_roundedToNextMinute() {
+    double tenMinutes = 600;
+    double tenMinutesAndFortySeconds = 640;
+
+    boolean isSame = TimeFormatter.formatsToSameTimeRemaining(tenMinutes, tenMinutesAndFortySeconds);
+
+    assertFalse(isSame);
+  }
+}